@@ -9,10 +9,79 @@ repositories {
     mavenCentral()
 }
 
+val jmhVersion = "1.37"
+
+sourceSets {
+    create("jmh") {
+        compileClasspath += sourceSets.main.get().output
+        runtimeClasspath += sourceSets.main.get().output
+    }
+}
+
 dependencies {
     testImplementation("org.junit.jupiter:junit-jupiter:5.10.0")
+
+    "jmhImplementation"("org.openjdk.jmh:jmh-core:$jmhVersion")
+    "jmhAnnotationProcessor"("org.openjdk.jmh:jmh-generator-annprocess:$jmhVersion")
+}
+
+tasks.withType<JavaCompile> {
+    options.encoding = "UTF-8"
 }
 
 tasks.test {
     useJUnitPlatform()
-}
\ No newline at end of file
+}
+
+// ------------------ Benchmarks ------------------
+
+// gradle jmh                      -> every benchmark
+// gradle jmh -Pjmh.args="Rent -prof gc"  -> any JMH command line
+tasks.register<JavaExec>("jmh") {
+    group = "benchmark"
+    description = "Runs the JMH benchmarks in src/jmh."
+    mainClass.set("org.openjdk.jmh.Main")
+    classpath = sourceSets["jmh"].runtimeClasspath
+    val extra = (project.findProperty("jmh.args") as String?)?.trim()
+    if (!extra.isNullOrEmpty()) args(extra.split(Regex("\\s+")))
+}
+
+// A steady-state turn in a quiet engine must not allocate. JMH's gc.alloc.rate.norm
+// carries sub-byte measurement noise, while any real allocation is at least one
+// object header (16 bytes); half a byte per turn separates the two.
+val allocationLimitBytesPerOp = 0.5
+val allocationResults = layout.buildDirectory.file("jmh/allocation.json")
+
+val jmhAllocationGate = tasks.register<JavaExec>("jmhAllocationGate") {
+    group = "verification"
+    description = "Fails when the quiet engine's turn benchmark allocates (JMH -prof gc)."
+    mainClass.set("org.openjdk.jmh.Main")
+    classpath = sourceSets["jmh"].runtimeClasspath
+    inputs.files(sourceSets["jmh"].runtimeClasspath)
+    outputs.file(allocationResults)
+    args(
+        "monopoly.bench.TurnAllocationBenchmark",
+        "-prof", "gc",
+        "-f", "1", "-wi", "3", "-w", "1s", "-i", "3", "-r", "1s",
+        "-rf", "json", "-rff", allocationResults.get().asFile.absolutePath
+    )
+    doLast {
+        @Suppress("UNCHECKED_CAST")
+        val runs = groovy.json.JsonSlurper().parse(allocationResults.get().asFile) as List<Map<String, Any?>>
+        if (runs.isEmpty()) throw GradleException("Allocation gate produced no JMH results.")
+        for (run in runs) {
+            val metrics = run["secondaryMetrics"] as Map<*, *>
+            val norm = metrics["gc.alloc.rate.norm"] as Map<*, *>?
+                ?: throw GradleException("No gc.alloc.rate.norm for ${run["benchmark"]}; was -prof gc dropped?")
+            val bytes = (norm["score"] as Number).toDouble()
+            logger.lifecycle("${run["benchmark"]}: ${"%.3f".format(bytes)} B/op")
+            if (bytes > allocationLimitBytesPerOp) {
+                throw GradleException("${run["benchmark"]} allocates ${"%.1f".format(bytes)} B/op; the steady-state turn must be allocation-free.")
+            }
+        }
+    }
+}
+
+tasks.check {
+    dependsOn(jmhAllocationGate)
+}
@@ -0,0 +1,133 @@
+package monopoly.bench;
+
+import monopoly.ai.BuildAdvisor;
+import monopoly.ai.RentExposure;
+import monopoly.engine.ActionResult;
+import monopoly.engine.GameAction;
+import monopoly.engine.GameEngine;
+import monopoly.engine.GameState;
+import monopoly.engine.TurnPhase;
+import monopoly.engine.trade.TradeAdvisor;
+import monopoly.engine.trade.TradeOffer;
+import monopoly.rules.DeedTable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The advisors and checks the AI calls every decision, swept over each live seat of the
+ * fixture (one engine per seat, with that seat to move in MANAGEMENT). Scores are per
+ * sweep.
+ *
+ * {@link #validateTradeOffer} checks the advisor's suggestions plus one synthetic
+ * swap-and-cash offer per ordered pair of live seats, so every stage has offers that
+ * pass and offers that fail.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AdvisorBenchmark {
+
+    @Param({"EARLY", "MID", "LATE"})
+    public Fixtures.Stage stage;
+
+    private GameEngine[] seats;
+    private int[] deedTiles;
+    private TradeOffer[] offers;
+    private final BuildAdvisor buildAdvisor = new BuildAdvisor();
+    private final RentExposure exposure = new RentExposure();
+
+    @Setup
+    public void setup() {
+        GameEngine fixture = Fixtures.create(stage);
+        GameState base = fixture.getState();
+        DeedTable deeds = fixture.getDeeds();
+
+        List<GameEngine> live = new ArrayList<>();
+        for (int p = 0; p < base.getPlayers().size(); p++) {
+            if (base.getPlayers().get(p).isBankrupt()) continue;
+            GameEngine seat = fixture.fork(new Random(p));
+            seat.getState().setCurrentPlayerIndex(p);
+            seat.getState().setPhase(TurnPhase.MANAGEMENT);
+            live.add(seat);
+        }
+        seats = live.toArray(new GameEngine[0]);
+
+        deedTiles = new int[Long.bitCount(deeds.getDeedMask())];
+        int n = 0;
+        for (long m = deeds.getDeedMask(); m != 0; m &= m - 1) deedTiles[n++] = Long.numberOfTrailingZeros(m);
+
+        List<TradeOffer> all = new ArrayList<>();
+        for (GameEngine seat : seats) {
+            all.addAll(TradeAdvisor.suggestTradesForCurrentPlayer(seat.getState(), deeds));
+        }
+        for (GameEngine a : seats) {
+            for (GameEngine b : seats) {
+                int from = a.getState().getCurrentPlayerIndex();
+                int to = b.getState().getCurrentPlayerIndex();
+                if (from == to) continue;
+                long mineA = base.getOwnedMask(from);
+                long mineB = base.getOwnedMask(to);
+                if (mineA == 0 || mineB == 0) continue;
+                all.add(new TradeOffer(from, to,
+                        Set.of(Long.numberOfTrailingZeros(mineA)), Set.of(Long.numberOfTrailingZeros(mineB)),
+                        50, 0, 0, 0, 0, 0, Map.of(), Map.of()));
+            }
+        }
+        offers = all.toArray(new TradeOffer[0]);
+    }
+
+    @Benchmark
+    public int estimateMaxBidHeuristic() {
+        int total = 0;
+        for (GameEngine seat : seats) {
+            int me = seat.getState().getCurrentPlayerIndex();
+            for (int tile : deedTiles) total += seat.estimateMaxBidHeuristic(me, tile);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public void maybeBuild(Blackhole bh) {
+        for (GameEngine seat : seats) {
+            GameAction build = buildAdvisor.maybeBuild(seat.getState(), seat);
+            bh.consume(build);
+        }
+    }
+
+    @Benchmark
+    public void suggestTrades(Blackhole bh) {
+        for (GameEngine seat : seats) {
+            bh.consume(TradeAdvisor.suggestTradesForCurrentPlayer(seat.getState(), seat.getDeeds()));
+        }
+    }
+
+    @Benchmark
+    public double rentExposure() {
+        return exposure.update(seats[0]).expectedNet(0);
+    }
+
+    @Benchmark
+    public int validateTradeOffer() {
+        GameEngine engine = seats[0];
+        int ok = 0;
+        for (TradeOffer offer : offers) {
+            ActionResult r = engine.validateTradeOffer(offer);
+            if (r.isOk()) ok++;
+        }
+        return ok;
+    }
+}
@@ -0,0 +1,131 @@
+package monopoly.bench;
+
+import monopoly.engine.ActionResult;
+import monopoly.engine.GameAction;
+import monopoly.engine.GameActionType;
+import monopoly.engine.GameEngine;
+import monopoly.engine.GameState;
+import monopoly.engine.GameStatus;
+import monopoly.engine.TurnPhase;
+import monopoly.engine.trade.TradeAdvisor;
+import monopoly.engine.trade.TradeOffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of one {@link GameEngine#apply} per action type.
+ *
+ * Setup plays games out from the fixture with {@link BenchPolicy} (plus the odd
+ * {@link TradeAdvisor} proposal) and snapshots the engine whenever {@code type} is legal,
+ * up to {@link #SAMPLES} positions. Each invocation restores the next snapshot into a
+ * work engine and applies the action, so the score includes one
+ * {@link GameEngine#copyInto}; {@link #restoreOnly()} measures that part alone.
+ *
+ * COUNTER_TRADE and CANCEL_TRADE are left out: a counter needs an offer the generator
+ * cannot invent, and only the proposer may cancel, who never holds the turn while a
+ * trade is pending.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ApplyBenchmark {
+
+    private static final int SAMPLES = 64;
+    private static final int MAX_GAMES = 400;
+    private static final int MAX_TURNS_PER_GAME = 500;
+
+    @Param({"EARLY", "MID", "LATE"})
+    public Fixtures.Stage stage;
+
+    @Param({"ROLL_DICE", "BUY_PROPERTY", "START_AUCTION", "AUCTION_BID", "AUCTION_PASS",
+            "BUILD_HOUSE", "BUILD_HOTEL", "SELL_HOUSE", "SELL_HOTEL", "USE_GET_OUT_OF_JAIL_FREE",
+            "MORTGAGE", "UNMORTGAGE", "PROPOSE_TRADE", "ACCEPT_TRADE", "REJECT_TRADE", "END_TURN"})
+    public GameActionType type;
+
+    private GameEngine[] positions;
+    private GameAction[] actions;
+    private int count;
+    private int next;
+    private GameEngine work;
+
+    @Setup
+    public void setup() {
+        GameEngine fixture = Fixtures.create(stage);
+        positions = new GameEngine[SAMPLES];
+        actions = new GameAction[SAMPLES];
+        count = 0;
+        next = 0;
+
+        GameEngine engine = fixture.fork(new Random(3));
+        BenchPolicy policy = new BenchPolicy(engine, 5);
+        Random rng = new Random(9);
+
+        for (int game = 0; game < MAX_GAMES && count < SAMPLES; game++) {
+            fixture.copyInto(engine);
+            GameState state = engine.getState();
+            for (int turn = 0; turn < MAX_TURNS_PER_GAME && count < SAMPLES; turn++) {
+                if (state.getStatus() != GameStatus.RUNNING) break;
+                engine.startTurnIfNeeded();
+                while (state.getStatus() == GameStatus.RUNNING && count < SAMPLES) {
+                    if (state.getPhase() == TurnPhase.MANAGEMENT && rng.nextInt(4) == 0 && propose(engine, rng)) continue;
+
+                    int n = policy.legalActions(engine);
+                    if (n == 0) break;
+                    GameAction sample = policy.find(type, n);
+                    if (sample != null) keep(engine, sample);
+
+                    GameAction chosen = state.getPhase() == TurnPhase.TRADE_RESPONSE
+                            ? policy.actions()[rng.nextInt(n)]
+                            : policy.choose(engine, n);
+                    engine.apply(chosen);
+                    if (state.getPhase() == TurnPhase.START_TURN) break;
+                }
+            }
+        }
+        if (count == 0) {
+            throw new IllegalStateException("No position with a legal " + type + " reached from the " + stage + " fixture.");
+        }
+        work = fixture.fork(new Random(13));
+    }
+
+    /** Proposes a suggested trade (sampled when PROPOSE_TRADE is the type under test). */
+    private boolean propose(GameEngine engine, Random rng) {
+        List<TradeOffer> offers = TradeAdvisor.suggestTradesForCurrentPlayer(engine.getState(), engine.getDeeds());
+        if (offers.isEmpty()) return false;
+        GameAction action = GameAction.withPayload(GameActionType.PROPOSE_TRADE, offers.get(rng.nextInt(offers.size())));
+        if (type == GameActionType.PROPOSE_TRADE) keep(engine, action);
+        return engine.apply(action).isOk();
+    }
+
+    private void keep(GameEngine engine, GameAction action) {
+        positions[count] = engine.fork(new Random(count));
+        actions[count] = action;
+        count++;
+    }
+
+    @Benchmark
+    public ActionResult apply() {
+        int i = next;
+        next = i + 1 == count ? 0 : i + 1;
+        positions[i].copyInto(work);
+        return work.apply(actions[i]);
+    }
+
+    @Benchmark
+    public GameEngine restoreOnly() {
+        int i = next;
+        next = i + 1 == count ? 0 : i + 1;
+        positions[i].copyInto(work);
+        return work;
+    }
+}
@@ -0,0 +1,97 @@
+package monopoly.bench;
+
+import monopoly.engine.GameAction;
+import monopoly.engine.GameActionType;
+import monopoly.engine.GameEngine;
+import monopoly.engine.GameState;
+import monopoly.engine.GameStatus;
+import monopoly.engine.TurnPhase;
+
+import java.util.Random;
+
+/**
+ * Allocation-free policy over {@link GameEngine#legalActions(GameAction[])} shared by the
+ * benchmarks: buy when comfortable, bid while below list price, build when rich, raise
+ * cash when in debt. Pending trades are answered with the first legal response.
+ */
+final class BenchPolicy {
+
+    private static final int MAX_STEPS_PER_TURN = 200;
+
+    private final GameAction[] buf;
+    private final Random rng;
+
+    BenchPolicy(GameEngine engine, long seed) {
+        this.buf = new GameAction[engine.maxLegalActions()];
+        this.rng = new Random(seed);
+    }
+
+    /** Plays the current player's turn to its end (next START_TURN or game over). */
+    void playTurn(GameEngine engine) {
+        GameState state = engine.getState();
+        engine.startTurnIfNeeded();
+        for (int step = 0; step < MAX_STEPS_PER_TURN; step++) {
+            int n = engine.legalActions(buf);
+            if (n == 0) break;
+            engine.apply(choose(engine, n));
+            if (state.getPhase() == TurnPhase.START_TURN || state.getStatus() != GameStatus.RUNNING) break;
+        }
+    }
+
+    /** Picks one of the {@code n} actions last written by {@link #legalActions}. */
+    GameAction choose(GameEngine engine, int n) {
+        GameState state = engine.getState();
+        int cash = state.getCurrentPlayer().getCash();
+        switch (state.getPhase()) {
+            case LANDED_DECISION -> {
+                GameAction buy = find(GameActionType.BUY_PROPERTY, n);
+                if (buy != null && cash - engine.getPurchasePrice(state.getLandedTileIndex()) >= 100) return buy;
+                GameAction auction = find(GameActionType.START_AUCTION, n);
+                return auction != null ? auction : buf[0];
+            }
+            case AUCTION_ACTIVE -> {
+                GameAction bid = find(GameActionType.AUCTION_BID, n);
+                boolean cheap = state.getAuctionHighBid() < engine.getPurchasePrice(state.getAuctionTileIndex());
+                if (bid != null && cheap && rng.nextInt(3) != 0) return bid;
+                return find(GameActionType.AUCTION_PASS, n);
+            }
+            case MUST_RESOLVE_DEBT -> {
+                for (int i = 0; i < n; i++) {
+                    if (buf[i].type() != GameActionType.END_TURN) return buf[i];
+                }
+                return buf[0];
+            }
+            case MANAGEMENT, TURN_END -> {
+                if (cash > 600) {
+                    GameAction build = find(GameActionType.BUILD_HOUSE, n);
+                    if (build == null) build = find(GameActionType.BUILD_HOTEL, n);
+                    if (build != null) return build;
+                }
+                GameAction end = find(GameActionType.END_TURN, n);
+                return end != null ? end : buf[0];
+            }
+            default -> {
+                GameAction card = find(GameActionType.USE_GET_OUT_OF_JAIL_FREE, n);
+                if (card != null && cash < 200) return card;
+                GameAction roll = find(GameActionType.ROLL_DICE, n);
+                return roll != null ? roll : buf[0];
+            }
+        }
+    }
+
+    /** Legal actions from the last {@link #legalActions} call. */
+    GameAction[] actions() {
+        return buf;
+    }
+
+    int legalActions(GameEngine engine) {
+        return engine.legalActions(buf);
+    }
+
+    GameAction find(GameActionType type, int n) {
+        for (int i = 0; i < n; i++) {
+            if (buf[i].type() == type) return buf[i];
+        }
+        return null;
+    }
+}
@@ -0,0 +1,127 @@
+package monopoly.bench;
+
+import monopoly.engine.Dice;
+import monopoly.engine.GameConfig;
+import monopoly.engine.GameEngine;
+import monopoly.engine.GameState;
+import monopoly.engine.TurnPhase;
+import monopoly.model.Player;
+import monopoly.rules.DeedTable;
+import monopoly.rules.Rules;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Canonical four-player positions for the benchmarks, laid out by hand so results stay
+ * comparable across engine changes (a seeded playout would drift with every rule fix).
+ *
+ * Every fixture is a quiet engine at START_TURN with P1 to move.
+ * - EARLY: a few scattered deeds each, no sets, plenty of cash.
+ * - MID:   most deeds owned, three developed sets, some mortgages, tight cash.
+ * - LATE:  one player bankrupt (their deeds back with the bank), hotels, a player in jail.
+ */
+public final class Fixtures {
+
+    public enum Stage { EARLY, MID, LATE }
+
+    private static final long SEED = 2024;
+
+    private Fixtures() {}
+
+    public static GameEngine create(Stage stage) {
+        return switch (stage) {
+            case EARLY -> early();
+            case MID -> mid();
+            case LATE -> late();
+        };
+    }
+
+    private static GameEngine early() {
+        GameEngine engine = newEngine(1240, 1310, 1275, 1360);
+        GameState s = engine.getState();
+        own(engine, 0, 0, 1, 6, 15);
+        own(engine, 1, 0, 3, 8, 11, 25);
+        own(engine, 2, 0, 16, 19, 28);
+        own(engine, 3, 0, 5, 21, 37);
+        position(s, 14, 9, 22, 31);
+        return engine;
+    }
+
+    private static GameEngine mid() {
+        GameEngine engine = newEngine(350, 620, 900, 240);
+        GameState s = engine.getState();
+        own(engine, 0, 3, 16, 18, 19);
+        own(engine, 0, 0, 5, 11, 13);
+        own(engine, 1, 4, 6, 8, 9);
+        own(engine, 1, 0, 1, 14, 35);
+        own(engine, 2, 0, 3, 15, 25, 26, 27, 31);
+        own(engine, 3, 2, 21, 23);
+        own(engine, 3, 1, 24);
+        own(engine, 3, 0, 12, 28, 29, 32);
+        mortgage(engine, 3, 31);
+        position(s, 24, 39, 6, 17);
+        return engine;
+    }
+
+    private static GameEngine late() {
+        GameEngine engine = newEngine(180, 1450, 520, 0);
+        GameState s = engine.getState();
+        own(engine, 0, 5, 16, 18, 19);
+        own(engine, 0, 4, 11, 13, 14);
+        own(engine, 0, 0, 21, 23, 24);
+        own(engine, 1, 5, 1, 3, 6, 8, 9);
+        own(engine, 1, 3, 37, 39);
+        own(engine, 1, 0, 28);
+        own(engine, 2, 4, 31, 32, 34);
+        own(engine, 2, 0, 5, 15, 25, 35, 26, 27);
+        mortgage(engine, 21, 23, 24, 26, 27);
+        position(s, 28, 2, 10, 0);
+        s.getPlayers().get(2).sendToJail(2);
+        s.getPlayers().get(3).setBankrupt(true);
+        return engine;
+    }
+
+    // ------------------ Layout helpers ------------------
+
+    private static GameEngine newEngine(int... cash) {
+        Rules rules = Rules.ukClassic();
+        GameConfig config = GameConfig.ukDefaults();
+        Random rng = new Random(SEED);
+
+        List<Player> players = new ArrayList<>();
+        for (int i = 0; i < cash.length; i++) players.add(new Player("P" + (i + 1), cash[i]));
+
+        GameState state = rules.newGameState(players, rng);
+        GameEngine engine = new GameEngine(config, new Dice(rng), state, rules);
+        engine.setQuiet(true);
+        state.setPhase(TurnPhase.START_TURN);
+        return engine;
+    }
+
+    /** Gives {@code tiles} to {@code seat}, each with {@code buildings} (5 = hotel) taken from the bank. */
+    private static void own(GameEngine engine, int seat, int buildings, int... tiles) {
+        GameState s = engine.getState();
+        DeedTable deeds = engine.getDeeds();
+        for (int tile : tiles) {
+            if (!deeds.isDeed(tile)) throw new IllegalArgumentException("Tile " + tile + " is not a deed.");
+            if (buildings > 0 && !deeds.isStreet(tile)) throw new IllegalArgumentException("Tile " + tile + " cannot be built on.");
+            s.setOwner(tile, seat);
+            if (buildings == 5) {
+                s.takeHotelFromBank();
+            } else {
+                s.takeHousesFromBank(buildings);
+            }
+            s.setBuildings(tile, buildings);
+        }
+    }
+
+    private static void mortgage(GameEngine engine, int... tiles) {
+        for (int tile : tiles) engine.getState().setMortgaged(tile, true);
+    }
+
+    private static void position(GameState s, int... tiles) {
+        for (int i = 0; i < tiles.length; i++) s.getPlayers().get(i).setPosition(tiles[i]);
+    }
+}
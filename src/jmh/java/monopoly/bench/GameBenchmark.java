@@ -0,0 +1,55 @@
+package monopoly.bench;
+
+import monopoly.engine.GameEngine;
+import monopoly.engine.GameState;
+import monopoly.engine.GameStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A whole game played by {@link BenchPolicy} from the fixture's START_TURN until a
+ * winner is left or the turn cap is hit (the simulator's default cap). The dice keep
+ * running across invocations, so every invocation plays a different game.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GameBenchmark {
+
+    private static final int MAX_TURNS = 1000;
+
+    @Param({"EARLY", "MID", "LATE"})
+    public Fixtures.Stage stage;
+
+    private GameEngine fixture;
+    private GameEngine engine;
+    private BenchPolicy policy;
+
+    @Setup
+    public void setup() {
+        fixture = Fixtures.create(stage);
+        engine = fixture.fork(new Random(17));
+        policy = new BenchPolicy(engine, 19);
+    }
+
+    @Benchmark
+    public int playout() {
+        fixture.copyInto(engine);
+        GameState state = engine.getState();
+        int turns = 0;
+        while (state.getStatus() == GameStatus.RUNNING && turns < MAX_TURNS) {
+            policy.playTurn(engine);
+            turns++;
+        }
+        return turns;
+    }
+}
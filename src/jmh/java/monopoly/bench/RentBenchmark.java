@@ -0,0 +1,63 @@
+package monopoly.bench;
+
+import monopoly.engine.GameEngine;
+import monopoly.engine.GameState;
+import monopoly.rules.DeedTable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link GameEngine#computeRent} over every owned deed of one kind in the fixture;
+ * the score is per sweep, not per tile. Utilities are priced at a roll of 7.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RentBenchmark {
+
+    @Param({"EARLY", "MID", "LATE"})
+    public Fixtures.Stage stage;
+
+    @Param({"STREET", "STATION", "UTILITY"})
+    public DeedTable.Kind kind;
+
+    private GameEngine engine;
+    private int[] tiles;
+
+    @Setup
+    public void setup() {
+        engine = Fixtures.create(stage);
+        GameState state = engine.getState();
+        DeedTable deeds = engine.getDeeds();
+        state.setLastRollTotal(7);
+
+        long mask = switch (kind) {
+            case STREET -> deeds.getStreetMask();
+            case STATION -> deeds.getStationMask();
+            case UTILITY -> deeds.getUtilityMask();
+            case NONE -> 0L;
+        };
+        long owned = 0L;
+        for (int p = 0; p < state.getPlayers().size(); p++) owned |= state.getOwnedMask(p);
+        mask &= owned;
+
+        tiles = new int[Long.bitCount(mask)];
+        int n = 0;
+        for (long m = mask; m != 0; m &= m - 1) tiles[n++] = Long.numberOfTrailingZeros(m);
+    }
+
+    @Benchmark
+    public int rentSweep() {
+        int total = 0;
+        for (int tile : tiles) total += engine.computeRent(tile);
+        return total;
+    }
+}
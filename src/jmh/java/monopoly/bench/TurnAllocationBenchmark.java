@@ -0,0 +1,73 @@
+package monopoly.bench;
+
+import monopoly.engine.Dice;
+import monopoly.engine.GameConfig;
+import monopoly.engine.GameEngine;
+import monopoly.engine.GameState;
+import monopoly.engine.GameStatus;
+import monopoly.model.Player;
+import monopoly.rules.Rules;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One full turn (roll, move, rent / buy / auction, build, end turn) on a quiet engine,
+ * driven by {@link BenchPolicy}.
+ *
+ * The allocation gate in build.gradle.kts runs this with {@code -prof gc} and fails the
+ * build if {@code gc.alloc.rate.norm} is above 0.5 B/op: a steady-state turn must not
+ * allocate, and the limit only absorbs JMH's sub-byte measurement noise.
+ * Finished (or very long) games are reset in place with {@link GameEngine#copyInto}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TurnAllocationBenchmark {
+
+    private static final int MAX_TURNS_PER_GAME = 500;
+
+    private GameEngine start;
+    private GameEngine engine;
+    private BenchPolicy policy;
+    private int turns;
+
+    @Setup
+    public void setup() {
+        Rules rules = Rules.ukClassic();
+        GameConfig config = GameConfig.ukDefaults();
+        Random rng = new Random(42);
+
+        List<Player> players = new ArrayList<>();
+        for (int i = 0; i < 4; i++) players.add(new Player("P" + (i + 1), config.getStartingCash()));
+
+        GameState state = rules.newGameState(players, rng);
+        start = new GameEngine(config, new Dice(rng), state, rules);
+        start.setQuiet(true);
+
+        engine = start.fork(new Random(7));
+        policy = new BenchPolicy(engine, 11);
+    }
+
+    @Benchmark
+    public int turn() {
+        GameState state = engine.getState();
+        if (state.getStatus() != GameStatus.RUNNING || turns >= MAX_TURNS_PER_GAME) {
+            start.copyInto(engine);
+            turns = 0;
+        }
+        turns++;
+
+        policy.playTurn(engine);
+        return state.getCurrentPlayerIndex();
+    }
+}
@@ -0,0 +1,28 @@
+package monopoly.ai;
+
+import monopoly.engine.AuctionFormat;
+import monopoly.engine.GameEngine;
+import monopoly.engine.GameState;
+
+/**
+ * A bidder's reservation price for a tile, asked once per auction so the auction can be
+ * settled in one step ({@link GameEngine#resolveAuction}) instead of bid by bid.
+ *
+ * Must not depend on the auction's progress (high bid, who has passed): the answer is
+ * taken to hold for every turn of the auction. As for {@link SealedBidPolicy}, a driver
+ * may ask several seats at once, on a copy of the game.
+ */
+public interface AuctionPolicy extends SealedBidPolicy {
+    /** The most {@code bidderIdx} would bid for {@code tileIdx}; below the high bid means pass. */
+    int maxBid(GameState state, GameEngine engine, int bidderIdx, int tileIdx);
+
+    /**
+     * The one bid to submit in a sealed-bid auction; 0 or less passes. Defaults to
+     * {@link #maxBid}: the best bid in a second-price auction, a break-even one in a
+     * first-price auction.
+     */
+    @Override
+    default int sealedBid(GameState state, GameEngine engine, int bidderIdx, int tileIdx, AuctionFormat format) {
+        return maxBid(state, engine, bidderIdx, tileIdx);
+    }
+}
@@ -4,40 +4,32 @@ import monopoly.engine.GameAction;
 import monopoly.engine.GameActionType;
 import monopoly.engine.GameEngine;
 import monopoly.engine.GameState;
-import monopoly.engine.PropertyState;
-import monopoly.setup.ColourGroup;
-import monopoly.setup.DeedProfiles;
-import monopoly.setup.DeedProfiles.StreetDeed;
-
-import java.util.*;
+import monopoly.rules.DeedTable;
+import monopoly.rules.LandingModel;
 
 /**
  * Simple heuristic advisor:
  * - Only builds when player owns full colour set
  * - Obeys even-building rule
- * - Uses a basic EV test: expected incremental rent over a short horizon
+ * - Uses a basic EV test: expected incremental rent over a short horizon,
+ *   with per-tile landing rates from the engine's LandingModel
  * - Keeps a cash safety reserve
  *
  */
 public final class BuildAdvisor {
 
-    // Deed Map
-    private static final Map<Integer, Object> DEEDS = DeedProfiles.ukClassic2017ByIndex();
-
     // Tuning knobs (easy to tweak / learn later)
     private final int safetyReserve;          // keep this much cash after building
     private final int horizonTurns;           // short EV horizon
-    private final double pLandingPerTurn;     // placeholder landing prob
     private final double minRoi;              // EV/Cost threshold
 
     public BuildAdvisor() {
-        this(200, 20, 1.0 / 40.0, 0.7);
+        this(200, 20, 0.7);
     }
 
-    public BuildAdvisor(int safetyReserve, int horizonTurns, double pLandingPerTurn, double minRoi) {
+    public BuildAdvisor(int safetyReserve, int horizonTurns, double minRoi) {
         this.safetyReserve = safetyReserve;
         this.horizonTurns = horizonTurns;
-        this.pLandingPerTurn = pLandingPerTurn;
         this.minRoi = minRoi;
     }
 
@@ -47,6 +39,9 @@ public final class BuildAdvisor {
     public GameAction maybeBuild(GameState state, GameEngine engine) {
         int me = state.getCurrentPlayerIndex();
         int cash = state.getCurrentPlayer().getCash();
+        DeedTable deeds = engine.getDeeds();
+        LandingModel landing = engine.getLandingModel();
+        long myStreets = state.getOwnedMask(me) & deeds.getStreetMask();
 
         // Count opponents still alive
         int opponents = 0;
@@ -59,36 +54,33 @@ public final class BuildAdvisor {
         BuildCandidate best = null;
 
         // 1) Consider house builds
-        for (var e : DEEDS.entrySet()) {
-            if (!(e.getValue() instanceof StreetDeed sd)) continue;
-
-            int idx = sd.index;
-            PropertyState ps = state.getPropertyState(idx);
+        for (long m = myStreets; m != 0; m &= m - 1) {
+            int idx = Long.numberOfTrailingZeros(m);
+            long group = deeds.getGroupMaskOf(idx);
 
-            if (ps.getOwnerPlayerIndex() == null || ps.getOwnerPlayerIndex() != me) continue;
-            if (ps.isMortgaged()) continue;
-            if (ps.hasHotel()) continue;
-            if (ps.getHouses() >= 4) continue;
+            if (state.isMortgaged(idx)) continue;
+            if (state.hasHotel(idx)) continue;
+            if (state.getHouses(idx) >= 4) continue;
 
             // must own full colour group
-            if (!ownsFullGroup(state, me, sd.group)) continue;
+            if (!state.ownsAll(me, group)) continue;
 
             // even-building rule: target house count after build must keep max-min <= 1 across group
-            int newHouseCount = ps.getHouses() + 1;
-            if (!respectsEvenBuilding(state, sd.group, idx, newHouseCount)) continue;
+            int newHouseCount = state.getHouses(idx) + 1;
+            if (!respectsEvenBuilding(state, group, idx, newHouseCount)) continue;
 
             // bank house supply
             if (state.getHousesRemaining() <= 0) continue;
 
-            int cost = sd.houseCost;
+            int cost = deeds.getHouseCost(idx);
             if (cash - cost < safetyReserve) continue;
 
-            int currentRent = sd.rents[ps.getBuildings()]; // buildings 0..4 -> rent index matches
-            int nextRent = sd.rents[ps.getBuildings() + 1];
+            int currentRent = deeds.getRent(idx, state.getBuildings(idx)); // buildings 0..4 -> rent level matches
+            int nextRent = deeds.getRent(idx, state.getBuildings(idx) + 1);
 
             int deltaRent = Math.max(0, nextRent - currentRent);
 
-            double ev = opponents * horizonTurns * pLandingPerTurn * deltaRent;
+            double ev = opponents * horizonTurns * landing.landingProbability(idx) * deltaRent;
             double roi = cost == 0 ? 0 : (ev / cost);
 
             if (roi >= minRoi) {
@@ -98,31 +90,28 @@ public final class BuildAdvisor {
         }
 
         // 2) Consider hotel builds (only when entire group is at 4 houses, then upgrade one)
-        for (var e : DEEDS.entrySet()) {
-            if (!(e.getValue() instanceof StreetDeed sd)) continue;
+        for (long m = myStreets; m != 0; m &= m - 1) {
+            int idx = Long.numberOfTrailingZeros(m);
+            long group = deeds.getGroupMaskOf(idx);
 
-            int idx = sd.index;
-            PropertyState ps = state.getPropertyState(idx);
+            if (state.isMortgaged(idx)) continue;
+            if (state.hasHotel(idx)) continue;
+            if (state.getHouses(idx) != 4) continue;
 
-            if (ps.getOwnerPlayerIndex() == null || ps.getOwnerPlayerIndex() != me) continue;
-            if (ps.isMortgaged()) continue;
-            if (ps.hasHotel()) continue;
-            if (ps.getHouses() != 4) continue;
-
-            if (!ownsFullGroup(state, me, sd.group)) continue;
-            if (!groupAllHaveFourHouses(state, sd.group)) continue;
+            if (!state.ownsAll(me, group)) continue;
+            if (!groupAllHaveFourHouses(state, group)) continue;
 
             // bank hotel supply
             if (state.getHotelsRemaining() <= 0) continue;
 
-            int cost = sd.houseCost;
+            int cost = deeds.getHouseCost(idx);
             if (cash - cost < safetyReserve) continue;
 
-            int currentRent = sd.rents[4];
-            int nextRent = sd.rents[5];
+            int currentRent = deeds.getRent(idx, 4);
+            int nextRent = deeds.getRent(idx, 5);
             int deltaRent = Math.max(0, nextRent - currentRent);
 
-            double ev = opponents * horizonTurns * pLandingPerTurn * deltaRent;
+            double ev = opponents * horizonTurns * landing.landingProbability(idx) * deltaRent;
             double roi = cost == 0 ? 0 : (ev / cost);
 
             if (roi >= minRoi) {
@@ -143,36 +132,22 @@ public final class BuildAdvisor {
 
     // ---- group helpers ----
 
-    private boolean ownsFullGroup(GameState state, int ownerIdx, ColourGroup group) {
-        for (var e : DEEDS.entrySet()) {
-            if (e.getValue() instanceof StreetDeed sd && sd.group == group) {
-                PropertyState ps = state.getPropertyState(sd.index);
-                if (ps.getOwnerPlayerIndex() == null || ps.getOwnerPlayerIndex() != ownerIdx) return false;
-            }
-        }
-        return true;
-    }
-
-    private boolean respectsEvenBuilding(GameState state, ColourGroup group, int tileIdx, int newHousesOnTile) {
+    private boolean respectsEvenBuilding(GameState state, long group, int tileIdx, int newHousesOnTile) {
         int min = Integer.MAX_VALUE;
         int max = Integer.MIN_VALUE;
 
-        for (var e : DEEDS.entrySet()) {
-            if (e.getValue() instanceof StreetDeed sd && sd.group == group) {
-                int houses = state.getPropertyState(sd.index).getHouses();
-                if (sd.index == tileIdx) houses = newHousesOnTile;
-                min = Math.min(min, houses);
-                max = Math.max(max, houses);
-            }
+        for (long m = group; m != 0; m &= m - 1) {
+            int t = Long.numberOfTrailingZeros(m);
+            int houses = (t == tileIdx) ? newHousesOnTile : state.getHouses(t);
+            min = Math.min(min, houses);
+            max = Math.max(max, houses);
         }
         return (max - min) <= 1;
     }
 
-    private boolean groupAllHaveFourHouses(GameState state, ColourGroup group) {
-        for (var e : DEEDS.entrySet()) {
-            if (e.getValue() instanceof StreetDeed sd && sd.group == group) {
-                if (state.getPropertyState(sd.index).getHouses() != 4) return false;
-            }
+    private boolean groupAllHaveFourHouses(GameState state, long group) {
+        for (long m = group; m != 0; m &= m - 1) {
+            if (state.getHouses(Long.numberOfTrailingZeros(m)) != 4) return false;
         }
         return true;
     }
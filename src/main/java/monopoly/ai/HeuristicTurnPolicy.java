@@ -0,0 +1,123 @@
+package monopoly.ai;
+
+import monopoly.engine.GameAction;
+import monopoly.engine.GameActionType;
+import monopoly.engine.GameEngine;
+import monopoly.engine.GameState;
+
+import java.util.Random;
+
+/**
+ * The bots' rule-of-thumb play, over {@link GameEngine#legalActions(GameAction[])}:
+ * - in debt: mortgage the lowest mortgageable tile, else end the turn (bankruptcy),
+ * - in jail: use a Get Out of Jail Free card when under £100, else roll,
+ * - landed on an unowned deed: buy if allowed, otherwise auction,
+ * - in an auction: raise by £10 while under {@link GameEngine#estimateMaxBidHeuristic}
+ *   (in a sealed-bid auction, bid that cap once),
+ * - managing: build what the {@link BuildAdvisor} suggests; once per turn, try one
+ *   random legal house (the "panic build"); then end the turn.
+ *
+ * Holds the panic-build flag and a legal-action buffer, so give each concurrent game its
+ * own instance; seats of one game may share it. Allocation-free once warm.
+ */
+public final class HeuristicTurnPolicy implements TurnPolicy, AuctionPolicy {
+
+    public static final int BID_STEP = 10;
+    public static final int JAIL_CARD_CASH_BELOW = 100;
+
+    private final BuildAdvisor buildAdvisor;
+    private final Random rng;
+
+    private GameAction[] buf = new GameAction[0];
+    private boolean panicTried;
+
+    public HeuristicTurnPolicy(Random rng) {
+        this(new BuildAdvisor(), rng);
+    }
+
+    public HeuristicTurnPolicy(BuildAdvisor buildAdvisor, Random rng) {
+        this.buildAdvisor = buildAdvisor;
+        this.rng = rng;
+    }
+
+    /** The same cap the bid-by-bid rule uses, so both auction modes end alike. Thread-safe. */
+    @Override
+    public int maxBid(GameState state, GameEngine engine, int bidderIdx, int tileIdx) {
+        return engine.estimateMaxBidHeuristic(bidderIdx, tileIdx);
+    }
+
+    @Override
+    public GameAction chooseAction(GameState state, GameEngine engine) {
+        if (buf.length < engine.maxLegalActions()) buf = new GameAction[engine.maxLegalActions()];
+        int n = engine.legalActions(buf);
+        int cash = state.getCurrentPlayer().getCash();
+
+        switch (state.getPhase()) {
+            case MUST_RESOLVE_DEBT -> {
+                GameAction mortgage = find(GameActionType.MORTGAGE, n);
+                return mortgage != null ? mortgage : endTurn();
+            }
+            case IN_JAIL_DECISION -> {
+                GameAction card = find(GameActionType.USE_GET_OUT_OF_JAIL_FREE, n);
+                if (card != null && cash < JAIL_CARD_CASH_BELOW) return card;
+                return GameAction.simple(GameActionType.ROLL_DICE);
+            }
+            case LANDED_DECISION -> {
+                GameAction buy = find(GameActionType.BUY_PROPERTY, n);
+                return buy != null ? buy : GameAction.simple(GameActionType.START_AUCTION);
+            }
+            case AUCTION_ACTIVE -> {
+                int bidder = state.getAuctionCurrentBidderIndex();
+                int cap = engine.estimateMaxBidHeuristic(bidder, state.getAuctionTileIndex());
+                if (engine.getAuctionFormat().isSealed()) {
+                    int bid = Math.min(cap, state.getPlayers().get(bidder).getCash());
+                    return bid > 0 ? GameAction.bid(bid) : GameAction.simple(GameActionType.AUCTION_PASS);
+                }
+                int next = state.getAuctionHighBid() + BID_STEP;
+                return next <= cap ? GameAction.bid(next) : GameAction.simple(GameActionType.AUCTION_PASS);
+            }
+            case MANAGEMENT, TURN_END -> {
+                GameAction build = buildAdvisor.maybeBuild(state, engine);
+                if (build != null) return build;
+                if (!panicTried) {
+                    panicTried = true;
+                    GameAction panic = pick(GameActionType.BUILD_HOUSE, n);
+                    if (panic != null) return panic;
+                }
+                return endTurn();
+            }
+            case TRADE_RESPONSE -> {
+                return GameAction.simple(GameActionType.REJECT_TRADE);
+            }
+            default -> {
+                return GameAction.simple(GameActionType.ROLL_DICE);
+            }
+        }
+    }
+
+    private GameAction endTurn() {
+        panicTried = false;
+        return GameAction.simple(GameActionType.END_TURN);
+    }
+
+    private GameAction find(GameActionType type, int n) {
+        for (int i = 0; i < n; i++) {
+            if (buf[i].type() == type) return buf[i];
+        }
+        return null;
+    }
+
+    /** A uniformly random legal action of {@code type}, or null. */
+    private GameAction pick(GameActionType type, int n) {
+        int count = 0;
+        for (int i = 0; i < n; i++) {
+            if (buf[i].type() == type) count++;
+        }
+        if (count == 0) return null;
+        int k = rng.nextInt(count);
+        for (int i = 0; i < n; i++) {
+            if (buf[i].type() == type && k-- == 0) return buf[i];
+        }
+        return null;
+    }
+}
@@ -0,0 +1,22 @@
+package monopoly.ai;
+
+import monopoly.engine.GameAction;
+import monopoly.engine.GameActionType;
+import monopoly.engine.GameState;
+import monopoly.engine.trade.TradeOffer;
+
+/** Never proposes a trade and rejects every offer. Stateless; one instance can serve every seat. */
+public final class RejectingTradePolicy implements TradePolicy {
+
+    public static final RejectingTradePolicy INSTANCE = new RejectingTradePolicy();
+
+    @Override
+    public TradeOffer maybePropose(GameState state) {
+        return null;
+    }
+
+    @Override
+    public GameAction respond(GameState state, TradeOffer pending) {
+        return GameAction.simple(GameActionType.REJECT_TRADE);
+    }
+}
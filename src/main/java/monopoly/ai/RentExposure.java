@@ -0,0 +1,75 @@
+package monopoly.ai;
+
+import monopoly.engine.GameEngine;
+import monopoly.engine.GameState;
+import monopoly.model.Board;
+import monopoly.model.Player;
+import monopoly.rules.DeedTable;
+import monopoly.rules.LandingModel;
+
+import java.util.Arrays;
+
+/**
+ * Expected rent flows over the next turn of every live player, from the state's
+ * rent-if-landed vector and the engine's {@link LandingModel}:
+ * - cost(p):   rent p expects to pay on their own next turn, from where p stands now
+ *   (including jail),
+ * - income(p): rent p expects to collect over the next turn of each opponent.
+ *
+ * Utilities are valued at the average roll (7). The card-forced double station rent
+ * and 10x utility rent are valued as ordinary landings.
+ *
+ * Reusable: {@link #update} overwrites the previous figures and does not allocate once
+ * sized for the player count.
+ */
+public final class RentExposure {
+
+    private static final double AVERAGE_ROLL = 7.0;
+
+    private final double[] visits = new double[Board.SIZE];
+    private double[] cost = new double[0];
+    private double[] income = new double[0];
+
+    public RentExposure update(GameEngine engine) {
+        GameState state = engine.getState();
+        DeedTable deeds = engine.getDeeds();
+        LandingModel landing = engine.getLandingModel();
+
+        int n = state.getPlayers().size();
+        if (cost.length != n) {
+            cost = new double[n];
+            income = new double[n];
+        } else {
+            Arrays.fill(cost, 0);
+            Arrays.fill(income, 0);
+        }
+
+        for (int i = 0; i < n; i++) {
+            Player p = state.getPlayers().get(i);
+            if (p.isBankrupt()) continue;
+            landing.expectedVisits(landing.stateOf(p), 1, visits);
+
+            for (long m = deeds.getDeedMask(); m != 0; m &= m - 1) {
+                int t = Long.numberOfTrailingZeros(m);
+                int rent = state.getRentIfLanded(t);
+                if (rent == 0) continue;
+                int owner = state.getOwner(t);
+                if (owner == i) continue;
+
+                double perLanding = deeds.getKind(t) == DeedTable.Kind.UTILITY ? rent * AVERAGE_ROLL : rent;
+                double expected = visits[t] * perLanding;
+                cost[i] += expected;
+                income[owner] += expected;
+            }
+        }
+        return this;
+    }
+
+    /** Rent {@code player} expects to pay on their next turn. */
+    public double expectedCost(int player) { return cost[player]; }
+
+    /** Rent {@code player} expects to collect over the opponents' next turns. */
+    public double expectedIncome(int player) { return income[player]; }
+
+    public double expectedNet(int player) { return income[player] - cost[player]; }
+}
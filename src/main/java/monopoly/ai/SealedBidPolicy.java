@@ -0,0 +1,17 @@
+package monopoly.ai;
+
+import monopoly.engine.AuctionFormat;
+import monopoly.engine.GameEngine;
+import monopoly.engine.GameState;
+
+/**
+ * A bidder's one bid in a sealed-bid auction, asked of every active bidder in one round
+ * (see {@link GameEngine#setAuctionFormat}).
+ *
+ * A driver may ask several seats at once, on a copy of the game, so implementations
+ * must be thread-safe and only read the state (forking it is fine).
+ */
+public interface SealedBidPolicy {
+    /** The bid {@code bidderIdx} submits for {@code tileIdx}; 0 or less passes. */
+    int sealedBid(GameState state, GameEngine engine, int bidderIdx, int tileIdx, AuctionFormat format);
+}
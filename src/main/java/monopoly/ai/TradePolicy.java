@@ -1,5 +1,6 @@
 package monopoly.ai;
 
+import monopoly.engine.GameEngine;
 import monopoly.engine.GameState;
 import monopoly.engine.GameAction;
 import monopoly.engine.trade.TradeOffer;
@@ -10,5 +11,17 @@ public interface TradePolicy {
 
     // For the responder: accept/reject/counter
     GameAction respond(GameState state, TradeOffer pending);
-}
 
+    /**
+     * As {@link #maybePropose(GameState)}, for policies that also consult the engine
+     * (forks, trade validation, landing model). Drivers call this one.
+     */
+    default TradeOffer maybePropose(GameState state, GameEngine engine) {
+        return maybePropose(state);
+    }
+
+    /** As {@link #respond(GameState, TradeOffer)}, with the engine. Drivers call this one. */
+    default GameAction respond(GameState state, TradeOffer pending, GameEngine engine) {
+        return respond(state, pending);
+    }
+}
@@ -3,6 +3,9 @@ package monopoly.ai;
 import monopoly.engine.*;
 
 public interface TurnPolicy {
-    GameAction chooseAction(GameState state);
+    /**
+     * The next action for the seat the engine is waiting on. {@code engine} runs
+     * {@code state}, so policies can consult legal actions, bid caps and advisors.
+     */
+    GameAction chooseAction(GameState state, GameEngine engine);
 }
-
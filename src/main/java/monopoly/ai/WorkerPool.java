@@ -0,0 +1,62 @@
+package monopoly.ai;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Fixed daemon threads for searches that split one decision into tasks. With one thread
+ * the tasks run in order on the caller's thread. Call {@link #close} to stop the threads
+ * (they are daemons, so forgetting to does not keep the JVM alive).
+ */
+public final class WorkerPool implements AutoCloseable {
+
+    private final String task;
+    private final ExecutorService pool;   // null when single-threaded
+
+    /**
+     * @param threadName name of every worker thread
+     * @param task       what the tasks do, for failure messages ("Search worker failed.")
+     */
+    public WorkerPool(int threads, String threadName, String task) {
+        if (threads <= 0) throw new IllegalArgumentException("threads must be > 0.");
+        this.task = task;
+        this.pool = threads == 1 ? null : Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, threadName);
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * Runs every task and returns their results in task order. A failed task or an
+     * interrupt becomes an IllegalStateException (the interrupt flag is kept).
+     */
+    public <T> List<T> invokeAll(List<? extends Callable<T>> tasks) {
+        List<T> results = new ArrayList<>(tasks.size());
+        try {
+            if (pool == null) {
+                for (Callable<T> task : tasks) results.add(task.call());
+            } else {
+                for (Future<T> f : pool.invokeAll(tasks)) results.add(f.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(task + " interrupted.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(task + " worker failed.", e.getCause());
+        } catch (Exception e) {
+            throw new IllegalStateException(task + " worker failed.", e);
+        }
+        return results;
+    }
+
+    @Override
+    public void close() {
+        if (pool != null) pool.shutdownNow();
+    }
+}
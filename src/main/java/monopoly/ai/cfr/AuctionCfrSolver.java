@@ -0,0 +1,275 @@
+package monopoly.ai.cfr;
+
+import monopoly.ai.cfr.AuctionStrategyTable.Payment;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import static monopoly.ai.cfr.AuctionStrategyTable.BID_LEVELS;
+import static monopoly.ai.cfr.AuctionStrategyTable.MAX_BIDDERS;
+import static monopoly.ai.cfr.AuctionStrategyTable.MIN_BIDDERS;
+import static monopoly.ai.cfr.AuctionStrategyTable.VALUE_BUCKETS;
+
+/**
+ * Offline solver for {@link AuctionStrategyTable}: CFR+ (regret matching with regrets
+ * floored at zero, linearly weighted averages) on the abstracted auction, one game per
+ * payment rule and bidder count.
+ *
+ * Each game is one-shot and symmetric: every bidder draws a value bucket and a cash
+ * level, independently and uniformly, and submits one bid level it can afford. The
+ * highest bid wins, ties split evenly, and nobody wins if all pass. The winner pays
+ * their own bid (FIRST_PRICE) or the runner-up's (SECOND_PRICE; the lowest level if
+ * nobody else bid). All bidders share one strategy, updated in self-play. Against
+ * bidders who draw independently, a bid's win chance and expected payment depend only
+ * on the opponents' overall bid distribution, so an iteration costs O(sets x levels).
+ *
+ * Games are independent and run in parallel on a fork-join pool. Nothing is random, so
+ * the tables are the same for any thread count.
+ */
+public final class AuctionCfrSolver {
+
+    public static final int DEFAULT_ITERATIONS = 20_000;
+
+    private static final int SETS = VALUE_BUCKETS * BID_LEVELS; // (value bucket, cash level)
+
+    private final int iterations;
+    private final double[] exploitability = new double[Payment.values().length * (MAX_BIDDERS - MIN_BIDDERS + 1)];
+
+    public AuctionCfrSolver(int iterations) {
+        if (iterations <= 0) throw new IllegalArgumentException("iterations must be > 0.");
+        this.iterations = iterations;
+    }
+
+    public AuctionStrategyTable solve(int parallelism) {
+        if (parallelism <= 0) throw new IllegalArgumentException("parallelism must be > 0.");
+        byte[] cdf = new byte[AuctionStrategyTable.SIZE];
+
+        List<Callable<Void>> games = new ArrayList<>();
+        for (Payment payment : Payment.values()) {
+            for (int bidders = MIN_BIDDERS; bidders <= MAX_BIDDERS; bidders++) {
+                Game game = new Game(payment, bidders);
+                games.add(() -> {
+                    game.run(iterations);
+                    exploitability[slot(game.payment, game.bidders)] = game.exploitability();
+                    game.writeTo(cdf);
+                    return null;
+                });
+            }
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            // each game writes its own rows of cdf
+            for (Future<Void> f : pool.invokeAll(games)) f.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while solving.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Solver failed.", e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+        return new AuctionStrategyTable(cdf);
+    }
+
+    /**
+     * After {@link #solve}: how much one bidder could gain, per auction and in units of
+     * the list price, by deviating from the solved strategy. 0 at an exact equilibrium.
+     */
+    public double exploitability(Payment payment, int bidders) {
+        return exploitability[slot(payment, bidders)];
+    }
+
+    private static int slot(Payment payment, int bidders) {
+        return payment.ordinal() * (MAX_BIDDERS - MIN_BIDDERS + 1) + bidders - MIN_BIDDERS;
+    }
+
+    // ------------------ One game ------------------
+
+    static final class Game {
+        final Payment payment;
+        final int bidders;
+
+        private final double[] regret = new double[SETS * BID_LEVELS];
+        private final double[] strategy = new double[SETS * BID_LEVELS];
+        private final double[] average = new double[SETS * BID_LEVELS];
+
+        // per iteration: opponents' bid distribution, then win chance and payment per level
+        private final double[] below = new double[BID_LEVELS + 1];
+        private final double[] win = new double[BID_LEVELS];
+        private final double[] pay = new double[BID_LEVELS];
+
+        Game(Payment payment, int bidders) {
+            this.payment = payment;
+            this.bidders = bidders;
+            for (int set = 0; set < SETS; set++) regretMatch(set);
+        }
+
+        void run(int iterations) {
+            double[] u = new double[BID_LEVELS];
+            for (int t = 1; t <= iterations; t++) {
+                outcomes(strategy);
+                for (int set = 0; set < SETS; set++) {
+                    int base = set * BID_LEVELS;
+                    int cash = set % BID_LEVELS;
+                    double ev = utilities(set / BID_LEVELS, cash, u);
+                    for (int a = 0; a <= cash; a++) {
+                        average[base + a] += t * strategy[base + a];
+                        regret[base + a] = Math.max(0, regret[base + a] + u[a] - ev);
+                    }
+                }
+                for (int set = 0; set < SETS; set++) regretMatch(set);
+            }
+        }
+
+        /** Gain of the best response to the averaged strategy (everyone else playing it). */
+        double exploitability() {
+            double[] avg = normalisedAverage();
+            outcomes(avg);
+            double[] u = new double[BID_LEVELS];
+            double total = 0;
+            for (int set = 0; set < SETS; set++) {
+                int cash = set % BID_LEVELS;
+                utilities(set / BID_LEVELS, cash, u);
+                double best = 0;
+                double played = 0;
+                for (int a = 0; a <= cash; a++) {
+                    best = Math.max(best, u[a]);
+                    played += avg[set * BID_LEVELS + a] * u[a];
+                }
+                total += best - played;
+            }
+            return total / SETS;
+        }
+
+        void writeTo(byte[] cdf) {
+            double[] avg = normalisedAverage();
+            for (int set = 0; set < SETS; set++) {
+                int value = set / BID_LEVELS;
+                int cash = set % BID_LEVELS;
+                int row = AuctionStrategyTable.row(payment, bidders, value, cash);
+                double cumulative = 0;
+                for (int a = 0; a < BID_LEVELS; a++) {
+                    cumulative += avg[set * BID_LEVELS + a];
+                    int q = a >= cash ? 255 : (int) Math.min(255, Math.round(cumulative * 255));
+                    cdf[row + a] = (byte) q;
+                }
+            }
+        }
+
+        private double[] normalisedAverage() {
+            double[] avg = new double[average.length];
+            for (int set = 0; set < SETS; set++) {
+                int base = set * BID_LEVELS;
+                double sum = 0;
+                for (int a = 0; a < BID_LEVELS; a++) sum += average[base + a];
+                for (int a = 0; a < BID_LEVELS; a++) avg[base + a] = sum > 0 ? average[base + a] / sum : strategy[base + a];
+            }
+            return avg;
+        }
+
+        /** Regret matching over the affordable levels (uniform when no regret is positive). */
+        private void regretMatch(int set) {
+            int base = set * BID_LEVELS;
+            int cash = set % BID_LEVELS;
+            double sum = 0;
+            for (int a = 0; a <= cash; a++) sum += regret[base + a];
+            for (int a = 0; a < BID_LEVELS; a++) {
+                strategy[base + a] = a > cash ? 0 : sum > 0 ? regret[base + a] / sum : 1.0 / (cash + 1);
+            }
+        }
+
+        /** From everyone playing {@code sigma}: win chance and expected payment of each bid level. */
+        private void outcomes(double[] sigma) {
+            double[] q = new double[BID_LEVELS];
+            for (int i = 0; i < sigma.length; i++) q[i % BID_LEVELS] += sigma[i];
+            for (int a = 0; a < BID_LEVELS; a++) q[a] /= SETS;
+
+            below[0] = 0; // below[a] = P(an opponent bids a lower level)
+            for (int a = 0; a < BID_LEVELS; a++) below[a + 1] = below[a] + q[a];
+
+            int m = bidders - 1;
+            win[0] = 0;
+            pay[0] = 0;
+            double lowerPaid = 0; // second price: sum over b < a of P(highest rival bid = b) * price(b)
+            for (int a = 1; a < BID_LEVELS; a++) {
+                double lo = below[a];
+                double hi = Math.min(1, below[a + 1]);
+                // P(win) with k of m rivals tied at a, each tie won with chance 1/(k+1)
+                win[a] = q[a] > 1e-12 ? (Math.pow(hi, m + 1) - Math.pow(lo, m + 1)) / ((m + 1) * q[a]) : Math.pow(lo, m);
+
+                double bid = level(a);
+                if (payment == Payment.FIRST_PRICE) {
+                    pay[a] = win[a] * bid;
+                } else {
+                    int b = a - 1;
+                    double topIsB = Math.pow(below[b + 1], m) - Math.pow(below[b], m);
+                    lowerPaid += topIsB * (b == 0 ? level(1) : level(b));
+                    double tiedWin = win[a] - Math.pow(lo, m);
+                    pay[a] = lowerPaid + tiedWin * bid;
+                }
+            }
+        }
+
+        /** Fills u with each level's payoff for a bidder of this type; returns the strategy's payoff. */
+        private double utilities(int valueBucket, int cash, double[] u) {
+            double value = (valueBucket + 0.5) / VALUE_BUCKETS;
+            double ev = 0;
+            int base = (valueBucket * BID_LEVELS + cash) * BID_LEVELS;
+            for (int a = 0; a <= cash; a++) {
+                u[a] = value * win[a] - pay[a];
+                ev += strategy[base + a] * u[a];
+            }
+            return ev;
+        }
+
+        private static double level(int a) {
+            return (double) a / (BID_LEVELS - 1);
+        }
+    }
+
+    // ------------------ CLI ------------------
+
+    /**
+     * Usage: AuctionCfrSolver --out FILE [--iterations N] [--threads T]
+     */
+    public static void main(String[] args) throws IOException {
+        int iterations = DEFAULT_ITERATIONS;
+        int threads = Runtime.getRuntime().availableProcessors();
+        Path out = null;
+
+        for (int i = 0; i < args.length; i++) {
+            String key = args[i];
+            if (i + 1 >= args.length) throw new IllegalArgumentException("Missing value for " + key);
+            String value = args[++i];
+            switch (key) {
+                case "--iterations" -> iterations = Integer.parseInt(value);
+                case "--threads" -> threads = Integer.parseInt(value);
+                case "--out" -> out = Path.of(value);
+                default -> throw new IllegalArgumentException("Unknown option " + key);
+            }
+        }
+        if (out == null) throw new IllegalArgumentException("--out is required.");
+
+        AuctionCfrSolver solver = new AuctionCfrSolver(iterations);
+        long t0 = System.nanoTime();
+        AuctionStrategyTable table = solver.solve(threads);
+        double secs = (System.nanoTime() - t0) / 1e9;
+        table.save(out);
+
+        System.out.printf("%d iterations, %d threads, %.2fs%n", iterations, threads, secs);
+        for (Payment payment : Payment.values()) {
+            for (int bidders = MIN_BIDDERS; bidders <= MAX_BIDDERS; bidders++) {
+                System.out.printf("  %-12s %d bidders | exploitability %.5f x price%n",
+                        payment, bidders, solver.exploitability(payment, bidders));
+            }
+        }
+        System.out.println("Wrote " + out);
+    }
+}
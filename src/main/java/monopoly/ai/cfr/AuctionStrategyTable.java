@@ -0,0 +1,140 @@
+package monopoly.ai.cfr;
+
+import monopoly.engine.AuctionFormat;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Bidding strategies for an abstracted auction, as solved by {@link AuctionCfrSolver}.
+ *
+ * The abstraction measures money in units of the tile's list price. A bidder's value
+ * for the tile falls in one of {@link #VALUE_BUCKETS} buckets over [0, price] (the last
+ * one open-ended), and a bid is one of {@link #BID_LEVELS} levels from a pass (0) up to
+ * the full price. Cash becomes the highest level the bidder can afford. An information
+ * set is therefore (payment rule, bidders, value bucket, cash level), and each holds a
+ * mixed strategy over bid levels, stored as a cumulative distribution in 255ths.
+ *
+ * All tables together take 40 KB; a lookup is a short scan of one row. Immutable, so
+ * one instance can serve every seat and thread.
+ */
+public final class AuctionStrategyTable {
+
+    public static final int VALUE_BUCKETS = 16;
+    public static final int BID_LEVELS = 16;
+    public static final int MIN_BIDDERS = 2;
+    public static final int MAX_BIDDERS = 6;
+
+    /** What the winner pays. English auctions clear at about the runner-up's limit, so they use SECOND_PRICE. */
+    public enum Payment {
+        SECOND_PRICE,
+        FIRST_PRICE;
+
+        public static Payment of(AuctionFormat format) {
+            return format == AuctionFormat.SEALED_FIRST_PRICE ? FIRST_PRICE : SECOND_PRICE;
+        }
+    }
+
+    static final int ROW = BID_LEVELS;
+    static final int SIZE = Payment.values().length * (MAX_BIDDERS - MIN_BIDDERS + 1) * VALUE_BUCKETS * BID_LEVELS * ROW;
+
+    private static final int MAGIC = 0x4D434652; // "MCFR"
+    private static final int VERSION = 1;
+
+    private final byte[] cdf; // [payment][bidders][value][cash] rows of BID_LEVELS cumulative 255ths
+
+    AuctionStrategyTable(byte[] cdf) {
+        if (cdf.length != SIZE) throw new IllegalArgumentException("Expected " + SIZE + " entries, got " + cdf.length);
+        this.cdf = cdf;
+    }
+
+    /** Offset of the row for one information set; {@code bidders} is clamped to the solved range. */
+    static int row(Payment payment, int bidders, int valueBucket, int cashLevel) {
+        int b = Math.max(MIN_BIDDERS, Math.min(MAX_BIDDERS, bidders)) - MIN_BIDDERS;
+        int set = ((payment.ordinal() * (MAX_BIDDERS - MIN_BIDDERS + 1) + b) * VALUE_BUCKETS + valueBucket) * BID_LEVELS + cashLevel;
+        return set * ROW;
+    }
+
+    /** The bid level to play; {@code draw} in [0, 255) picks from the mixed strategy. */
+    public int level(Payment payment, int bidders, int valueBucket, int cashLevel, int draw) {
+        int base = row(payment, bidders, valueBucket, cashLevel);
+        for (int a = 0; a < cashLevel; a++) {
+            if (draw < (cdf[base + a] & 0xFF)) return a;
+        }
+        return cashLevel; // the last affordable level always closes the distribution
+    }
+
+    /** Probability of {@code level} in one information set (to within 1/255). */
+    public double probability(Payment payment, int bidders, int valueBucket, int cashLevel, int level) {
+        int base = row(payment, bidders, valueBucket, cashLevel);
+        int below = level == 0 ? 0 : cdf[base + level - 1] & 0xFF;
+        return ((cdf[base + level] & 0xFF) - below) / 255.0;
+    }
+
+    // ------------------ Abstraction ------------------
+
+    public static int valueBucket(int value, int price) {
+        if (value <= 0) return 0;
+        return (int) Math.min(VALUE_BUCKETS - 1, (long) value * VALUE_BUCKETS / price);
+    }
+
+    /** The highest level whose {@link #amount} is within {@code cash}. */
+    public static int cashLevel(int cash, int price) {
+        if (cash <= 0) return 0;
+        int level = (int) Math.min(BID_LEVELS - 1, (long) cash * (BID_LEVELS - 1) / price);
+        // amount() rounds down, so the next level can still fit (e.g. £26 at a £200 price)
+        return level < BID_LEVELS - 1 && amount(level + 1, price) <= cash ? level + 1 : level;
+    }
+
+    /** The bid in £ for a level, rounded down. */
+    public static int amount(int level, int price) {
+        return (int) ((long) level * price / (BID_LEVELS - 1));
+    }
+
+    // ------------------ Storage ------------------
+
+    public void write(OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeInt(VERSION);
+        data.writeInt(VALUE_BUCKETS);
+        data.writeInt(BID_LEVELS);
+        data.writeInt(MIN_BIDDERS);
+        data.writeInt(MAX_BIDDERS);
+        data.write(cdf);
+        data.flush();
+    }
+
+    public static AuctionStrategyTable read(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        if (data.readInt() != MAGIC) throw new IOException("Not an auction strategy table.");
+        int version = data.readInt();
+        if (version != VERSION) throw new IOException("Unsupported auction strategy table version " + version);
+        if (data.readInt() != VALUE_BUCKETS || data.readInt() != BID_LEVELS
+                || data.readInt() != MIN_BIDDERS || data.readInt() != MAX_BIDDERS) {
+            throw new IOException("Auction strategy table was solved for a different abstraction.");
+        }
+        byte[] cdf = new byte[SIZE];
+        data.readFully(cdf);
+        return new AuctionStrategyTable(cdf);
+    }
+
+    public void save(Path file) throws IOException {
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file))) {
+            write(out);
+        }
+    }
+
+    public static AuctionStrategyTable load(Path file) throws IOException {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+            return read(in);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package monopoly.ai.cfr;
+
+import monopoly.ai.AuctionPolicy;
+import monopoly.ai.HeuristicTurnPolicy;
+import monopoly.ai.TurnPolicy;
+import monopoly.ai.cfr.AuctionStrategyTable.Payment;
+import monopoly.engine.AuctionFormat;
+import monopoly.engine.GameAction;
+import monopoly.engine.GameActionType;
+import monopoly.engine.GameEngine;
+import monopoly.engine.GameState;
+import monopoly.engine.SplitMix64;
+import monopoly.engine.TurnPhase;
+import monopoly.model.Player;
+
+/**
+ * Bids from a solved {@link AuctionStrategyTable} and leaves every other decision to a
+ * delegate TurnPolicy.
+ *
+ * The bidder's value is {@link GameEngine#estimateTileValueHeuristic}, but never less than
+ * the mortgage value, which owning the deed raises at once. The bidders are the players
+ * still in the game. Both stay fixed for the whole auction. English auctions use
+ * the SECOND_PRICE strategy as a limit, raised by {@link HeuristicTurnPolicy#BID_STEP};
+ * sealed ones submit the strategy's bid once.
+ *
+ * Mixed strategies are played with a draw hashed from the situation (tile, seat, cash,
+ * bidders), so a game stays repeatable for its seed and the policy is thread-safe as long
+ * as the delegate is.
+ */
+public final class CfrAuctionPolicy implements TurnPolicy, AuctionPolicy {
+
+    private final TurnPolicy delegate;
+    private final AuctionStrategyTable table;
+
+    public CfrAuctionPolicy(TurnPolicy delegate, AuctionStrategyTable table) {
+        this.delegate = delegate;
+        this.table = table;
+    }
+
+    @Override
+    public GameAction chooseAction(GameState state, GameEngine engine) {
+        if (state.getPhase() != TurnPhase.AUCTION_ACTIVE) return delegate.chooseAction(state, engine);
+
+        int bidder = state.getAuctionCurrentBidderIndex();
+        int tileIdx = state.getAuctionTileIndex();
+        if (engine.getAuctionFormat().isSealed()) {
+            int bid = sealedBid(state, engine, bidder, tileIdx, engine.getAuctionFormat());
+            return bid > 0 ? GameAction.bid(bid) : GameAction.simple(GameActionType.AUCTION_PASS);
+        }
+        int next = state.getAuctionHighBid() + HeuristicTurnPolicy.BID_STEP;
+        return next <= maxBid(state, engine, bidder, tileIdx) ? GameAction.bid(next) : GameAction.simple(GameActionType.AUCTION_PASS);
+    }
+
+    @Override
+    public int maxBid(GameState state, GameEngine engine, int bidderIdx, int tileIdx) {
+        return bid(state, engine, bidderIdx, tileIdx, Payment.SECOND_PRICE);
+    }
+
+    @Override
+    public int sealedBid(GameState state, GameEngine engine, int bidderIdx, int tileIdx, AuctionFormat format) {
+        return bid(state, engine, bidderIdx, tileIdx, Payment.of(format));
+    }
+
+    private int bid(GameState state, GameEngine engine, int bidderIdx, int tileIdx, Payment payment) {
+        int price = engine.getPurchasePrice(tileIdx);
+        int cash = state.getPlayers().get(bidderIdx).getCash();
+        int bidders = 0;
+        for (Player p : state.getPlayers()) {
+            if (!p.isBankrupt()) bidders++;
+        }
+
+        int worth = Math.max(engine.estimateTileValueHeuristic(bidderIdx, tileIdx), engine.getDeeds().getMortgage(tileIdx));
+        int value = AuctionStrategyTable.valueBucket(worth, price);
+        int cashLevel = AuctionStrategyTable.cashLevel(cash, price);
+        int level = table.level(payment, bidders, value, cashLevel, draw(tileIdx, bidderIdx, cash, bidders));
+        return level == 0 ? 0 : Math.min(cash, AuctionStrategyTable.amount(level, price));
+    }
+
+    /** Uniform in [0, 255), fixed per situation (SplitMix64 finaliser). */
+    private static int draw(int tileIdx, int bidderIdx, int cash, int bidders) {
+        long z = ((long) tileIdx << 48) ^ ((long) bidderIdx << 40) ^ ((long) bidders << 32) ^ (cash & 0xFFFF_FFFFL);
+        return (int) ((SplitMix64.mix(z + SplitMix64.GAMMA) >>> 1) % 255);
+    }
+}
@@ -0,0 +1,63 @@
+package monopoly.ai.search;
+
+import monopoly.ai.RentExposure;
+import monopoly.engine.GameEngine;
+import monopoly.engine.GameState;
+import monopoly.engine.GameStatus;
+import monopoly.model.Player;
+import monopoly.rules.DeedTable;
+
+/**
+ * Scores a position for every seat at once, in [0, 1]:
+ * - finished game: 1 for the winner, 0 for everyone else,
+ * - otherwise each live player's share of the total worth: cash, deeds at list price
+ *   (less the redemption cost if mortgaged), buildings at cost, plus
+ *   {@link #RENT_ROUNDS} rounds of expected net rent from {@link RentExposure}.
+ *
+ * Assets at cost keep a fair purchase neutral, so the rent it earns decides.
+ *
+ * Bankrupt players score 0. Reusable; does not allocate once sized.
+ */
+final class Evaluator {
+
+    static final int RENT_ROUNDS = 5;
+
+    private final RentExposure exposure = new RentExposure();
+
+    void evaluate(GameEngine engine, double[] out) {
+        GameState state = engine.getState();
+        int n = state.getPlayers().size();
+
+        if (state.getStatus() == GameStatus.FINISHED) {
+            int winner = state.getWinnerIndex();
+            for (int i = 0; i < n; i++) out[i] = i == winner ? 1 : 0;
+            return;
+        }
+
+        DeedTable deeds = engine.getDeeds();
+        exposure.update(engine);
+        double total = 0;
+        int live = 0;
+        for (int i = 0; i < n; i++) {
+            Player p = state.getPlayers().get(i);
+            if (p.isBankrupt()) {
+                out[i] = 0;
+                continue;
+            }
+            double worth = p.getCash();
+            for (long m = state.getOwnedMask(i); m != 0; m &= m - 1) {
+                int t = Long.numberOfTrailingZeros(m);
+                worth += deeds.getPrice(t);
+                if (state.isMortgaged(t)) worth -= deeds.getMortgage(t) * 1.1;
+                worth += state.getBuildings(t) * deeds.getHouseCost(t);
+            }
+            worth += RENT_ROUNDS * exposure.expectedNet(i);
+            out[i] = Math.max(1, worth);
+            total += out[i];
+            live++;
+        }
+        for (int i = 0; i < n; i++) {
+            if (out[i] > 0) out[i] = live == 1 ? 1 : out[i] / total;
+        }
+    }
+}
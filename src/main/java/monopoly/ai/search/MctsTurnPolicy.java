@@ -0,0 +1,242 @@
+package monopoly.ai.search;
+
+import monopoly.ai.SealedBidPolicy;
+import monopoly.ai.TurnPolicy;
+import monopoly.ai.WorkerPool;
+import monopoly.engine.AuctionFormat;
+import monopoly.engine.GameAction;
+import monopoly.engine.GameActionType;
+import monopoly.engine.GameEngine;
+import monopoly.engine.GameState;
+import monopoly.engine.GameStatus;
+import monopoly.engine.SplitMix64;
+import monopoly.engine.TurnPhase;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Monte Carlo Tree Search over every decision the engine offers: buy or auction, bids,
+ * builds, sales, mortgages, jail, trade answers and ending the turn.
+ *
+ * Root parallelisation: each thread grows its own {@link SearchTree} from the same root
+ * position with its own dice and determinizations, sharing nothing while it runs; the
+ * root statistics are summed afterwards and the most visited action is played. The
+ * only shared structure is a lock-free {@link TranspositionTable} of best actions,
+ * kept for the policy's lifetime, so playouts per second scale with the thread count.
+ *
+ * A playout descends the tree with UCT, expands one node, finishes with
+ * {@link RolloutPolicy} until {@code horizonTurns} turns after the root have ended (or
+ * the game does), and scores the position with {@link Evaluator}.
+ *
+ * The root is a quiet {@link GameEngine#fork} of the real engine, so it keeps the
+ * auction format. English auctions offer bids of +10, +50 and +100 over the high bid;
+ * sealed-bid auctions offer 10 and quarters of the list price, and every bid the
+ * searching seat could not have seen is replaced by the rival's
+ * {@link GameEngine#estimateMaxBidHeuristic} ({@link GameEngine#hideSealedBids}). As a
+ * {@link SealedBidPolicy} the driver may ask every seat for its sealed bid at once;
+ * the statistics getters then describe whichever search finished last.
+ *
+ * A search also stops, and plays the best action found so far, when its threads are
+ * interrupted: a driver that cancels a late sealed bid frees the workers at once.
+ *
+ * Call {@link #close} to stop the worker threads (they are daemons, so forgetting to
+ * does not keep the JVM alive).
+ */
+public final class MctsTurnPolicy implements TurnPolicy, SealedBidPolicy, AutoCloseable {
+
+    public static final double DEFAULT_EXPLORATION = 0.3;
+    public static final int DEFAULT_HORIZON_TURNS = 12;
+    public static final int DEFAULT_TABLE_ENTRIES = 1 << 18;
+
+    private static final int[] SEARCH_BID_INCREMENTS = {10, 50, 100};
+
+    private final SearchBudget budget;
+    private final int threads;
+    private final double exploration;
+    private final int horizonTurns;
+    private final long seed;
+    private final WorkerPool pool;
+    private final TranspositionTable table = new TranspositionTable(DEFAULT_TABLE_ENTRIES);
+
+    private final AtomicLong decisions = new AtomicLong();
+    private volatile int lastPlayouts;
+    private volatile long lastNanos;
+
+    public MctsTurnPolicy(SearchBudget budget, int threads) {
+        this(budget, threads, DEFAULT_EXPLORATION, DEFAULT_HORIZON_TURNS, System.nanoTime());
+    }
+
+    public MctsTurnPolicy(SearchBudget budget, int threads, double exploration, int horizonTurns, long seed) {
+        if (budget == null) throw new IllegalArgumentException("budget must not be null.");
+        if (threads <= 0) throw new IllegalArgumentException("threads must be > 0.");
+        if (exploration < 0) throw new IllegalArgumentException("exploration must be >= 0.");
+        if (horizonTurns <= 0) throw new IllegalArgumentException("horizonTurns must be > 0.");
+        this.budget = budget;
+        this.threads = threads;
+        this.exploration = exploration;
+        this.horizonTurns = horizonTurns;
+        this.seed = seed;
+        this.pool = new WorkerPool(threads, "mcts-worker", "Search");
+    }
+
+    @Override
+    public GameAction chooseAction(GameState state, GameEngine engine) {
+        if (state.getStatus() != GameStatus.RUNNING) return GameAction.simple(GameActionType.END_TURN);
+
+        long decision = decisions.getAndIncrement();
+        GameEngine root = searchRoot(engine, decision);
+        if (root.getState().getPhase() == TurnPhase.START_TURN) root.startTurnIfNeeded();
+        root.hideSealedBids(root.decidingPlayerIndex(), seat -> guessBid(root, seat));
+        return decide(root, decision);
+    }
+
+    /**
+     * Searches from the bidder's own view: earlier bidders' bids are guessed, and those
+     * guesses are submitted on a fork until it is {@code bidderIdx}'s turn.
+     */
+    @Override
+    public int sealedBid(GameState state, GameEngine engine, int bidderIdx, int tileIdx, AuctionFormat format) {
+        long decision = decisions.getAndIncrement();
+        GameEngine root = searchRoot(engine, decision);
+        GameState rootState = root.getState();
+        root.hideSealedBids(bidderIdx, seat -> guessBid(root, seat));
+        while (rootState.isAuctionInProgress() && rootState.isAuctionBidderActive(bidderIdx)
+                && rootState.getAuctionCurrentBidderIndex() != bidderIdx) {
+            int guess = guessBid(root, rootState.getAuctionCurrentBidderIndex());
+            if (guess <= 0 || !root.apply(GameAction.bid(guess)).isOk()) {
+                if (!root.apply(GameAction.simple(GameActionType.AUCTION_PASS)).isOk()) return 0;
+            }
+        }
+        if (!rootState.isAuctionInProgress() || !rootState.isAuctionBidderActive(bidderIdx)) return 0;
+
+        GameAction action = decide(root, decision);
+        return action.type() == GameActionType.AUCTION_BID ? action.amount() : 0;
+    }
+
+    /** A quiet fork of {@code engine} offering the search's bid sizes. */
+    private GameEngine searchRoot(GameEngine engine, long decision) {
+        GameEngine root = engine.fork(new Random(mix(seed, decision, -1)));
+        root.setQuiet(true);
+        GameState state = root.getState();
+        if (root.getAuctionFormat().isSealed() && state.isAuctionInProgress()) {
+            root.setLegalBidIncrements(sealedBidGrid(root.getPurchasePrice(state.getAuctionTileIndex())));
+        } else {
+            root.setLegalBidIncrements(SEARCH_BID_INCREMENTS);
+        }
+        return root;
+    }
+
+    /** 10 (the sealed opening price) and each quarter of {@code price}, ascending and distinct. */
+    private static int[] sealedBidGrid(int price) {
+        int[] grid = new int[5];
+        int n = 0;
+        grid[n++] = SEARCH_BID_INCREMENTS[0];
+        for (int q = 1; q <= 4; q++) {
+            int bid = price * q / 4;
+            if (bid > grid[n - 1]) grid[n++] = bid;
+        }
+        return Arrays.copyOf(grid, n);
+    }
+
+    /** What the search assumes {@code seat} bid in a sealed auction it cannot see into. */
+    private static int guessBid(GameEngine root, int seat) {
+        GameState state = root.getState();
+        return Math.min(root.estimateMaxBidHeuristic(seat, state.getAuctionTileIndex()), state.getPlayers().get(seat).getCash());
+    }
+
+    private GameAction decide(GameEngine root, long decision) {
+        GameAction[] legal = new GameAction[root.maxLegalActions()];
+        int n = root.legalActions(legal);
+        if (n == 0) return GameAction.simple(GameActionType.END_TURN);
+        if (n == 1) {
+            lastPlayouts = 0;
+            lastNanos = 0;
+            return legal[0];
+        }
+
+        long start = System.nanoTime();
+        long deadline = budget.getNanos() == 0 ? Long.MAX_VALUE : start + budget.getNanos();
+        List<SearchTree> trees = search(root, decision, deadline);
+        lastNanos = System.nanoTime() - start;
+
+        int playouts = 0;
+        for (SearchTree tree : trees) playouts += tree.playouts();
+        lastPlayouts = playouts;
+        return mostVisited(legal, n, trees);
+    }
+
+    /**
+     * The most visited of the {@code n} legal actions, summed over every tree (ties go to
+     * the better mean reward). Trees are matched by action, not index: a root hinted by
+     * the transposition table has its hint moved to the front, and a worker that starts
+     * late can see a hint the others did not.
+     */
+    static GameAction mostVisited(GameAction[] legal, int n, List<SearchTree> trees) {
+        Map<GameAction, Integer> index = new HashMap<>(2 * n);
+        for (int a = 0; a < n; a++) index.put(legal[a], a);
+        long[] visits = new long[n];
+        double[] reward = new double[n];
+        for (SearchTree tree : trees) {
+            GameAction[] actions = tree.rootActions();
+            for (int i = 0; i < actions.length; i++) {
+                int a = index.get(actions[i]);
+                visits[a] += tree.rootVisits(i);
+                reward[a] += tree.rootReward(i);
+            }
+        }
+
+        int best = 0;
+        for (int a = 1; a < n; a++) {
+            if (visits[a] > visits[best]
+                    || (visits[a] == visits[best] && visits[a] > 0 && reward[a] / visits[a] > reward[best] / visits[best])) {
+                best = a;
+            }
+        }
+        return legal[best];
+    }
+
+    private List<SearchTree> search(GameEngine root, long decision, long deadline) {
+        List<Callable<SearchTree>> workers = new ArrayList<>(threads);
+        int total = budget.getPlayouts();
+        for (int w = 0; w < threads; w++) {
+            int share = total == 0 ? Integer.MAX_VALUE : total / threads + (w < total % threads ? 1 : 0);
+            long workerSeed = mix(seed, decision, w);
+            workers.add(() -> {
+                SearchTree tree = new SearchTree(root, new Random(workerSeed), exploration, horizonTurns, table);
+                // an interrupt (a sealed bid the driver gave up on) ends the search like the budget
+                for (int i = 0; i < share && System.nanoTime() < deadline && !Thread.currentThread().isInterrupted(); i++) {
+                    tree.playout();
+                }
+                return tree;
+            });
+        }
+        return pool.invokeAll(workers);
+    }
+
+    /** Playouts run by the last searched decision (0 if it had a single legal action). */
+    public int getLastPlayouts() { return lastPlayouts; }
+
+    /** Wall-clock time of the last search, in nanoseconds. */
+    public long getLastSearchNanos() { return lastNanos; }
+
+    public int getThreads() { return threads; }
+
+    public SearchBudget getBudget() { return budget; }
+
+    @Override
+    public void close() {
+        pool.close();
+    }
+
+    /** SplitMix64 finaliser over (seed, decision, worker). */
+    private static long mix(long seed, long decision, int worker) {
+        return SplitMix64.mix(seed + (decision + 1) * SplitMix64.GAMMA + (worker + 1L) * 0xD1B54A32D192ED03L);
+    }
+}
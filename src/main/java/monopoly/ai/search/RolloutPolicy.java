@@ -0,0 +1,130 @@
+package monopoly.ai.search;
+
+import monopoly.engine.GameAction;
+import monopoly.engine.GameActionType;
+import monopoly.engine.GameEngine;
+import monopoly.engine.GameState;
+import monopoly.engine.GameStatus;
+import monopoly.engine.TurnPhase;
+
+import java.util.Random;
+
+/**
+ * Fast default policy for playouts, over {@link GameEngine#legalActions(GameAction[])}:
+ * - buy when the price leaves a (randomised) cash reserve, otherwise auction,
+ * - bid the smallest legal raise while under {@link GameEngine#estimateMaxBidHeuristic}
+ *   (in a sealed-bid auction, the largest legal bid under it, once),
+ * - build when rich, raise cash when in debt, reject trades,
+ * - use a Get Out of Jail Free card when short of cash.
+ *
+ * Allocation-free; the randomness keeps playouts from the same node apart.
+ */
+final class RolloutPolicy {
+
+    private static final int MAX_STEPS_PER_TURN = 200;
+
+    private final GameAction[] buf;
+    private final Random rng;
+
+    RolloutPolicy(GameEngine engine, Random rng) {
+        this.buf = new GameAction[engine.maxLegalActions()];
+        this.rng = rng;
+    }
+
+    /**
+     * Plays until {@code turns} more turns have ended or the game is over; returns the
+     * number of turns that ended.
+     */
+    int play(GameEngine engine, int turns) {
+        GameState state = engine.getState();
+        int ended = 0;
+        int steps = 0;
+        while (ended < turns && state.getStatus() == GameStatus.RUNNING && steps++ < turns * MAX_STEPS_PER_TURN) {
+            int n = engine.legalActions(buf);
+            if (n == 0) {
+                if (state.getPhase() != TurnPhase.START_TURN) break;
+                engine.startTurnIfNeeded(); // bankrupt seat: skip it
+            } else {
+                engine.apply(choose(engine, n));
+            }
+            if (state.getPhase() == TurnPhase.START_TURN) ended++;
+        }
+        return ended;
+    }
+
+    private GameAction choose(GameEngine engine, int n) {
+        GameState state = engine.getState();
+        int cash = state.getCurrentPlayer().getCash();
+        switch (state.getPhase()) {
+            case LANDED_DECISION -> {
+                GameAction buy = find(GameActionType.BUY_PROPERTY, n);
+                int reserve = 50 * rng.nextInt(6);
+                if (buy != null && cash - engine.getPurchasePrice(state.getLandedTileIndex()) >= reserve) return buy;
+                GameAction auction = find(GameActionType.START_AUCTION, n);
+                return auction != null ? auction : buf[0];
+            }
+            case AUCTION_ACTIVE -> {
+                int cap = engine.estimateMaxBidHeuristic(state.getAuctionCurrentBidderIndex(), state.getAuctionTileIndex());
+                if (engine.getAuctionFormat().isSealed()) {
+                    GameAction best = find(GameActionType.AUCTION_PASS, n);
+                    for (int i = 0; i < n; i++) {
+                        if (buf[i].type() == GameActionType.AUCTION_BID && buf[i].amount() <= cap
+                                && (best.type() != GameActionType.AUCTION_BID || buf[i].amount() > best.amount())) {
+                            best = buf[i];
+                        }
+                    }
+                    return best;
+                }
+                GameAction bid = find(GameActionType.AUCTION_BID, n);
+                if (bid != null && bid.amount() <= cap) return bid;
+                return find(GameActionType.AUCTION_PASS, n);
+            }
+            case MUST_RESOLVE_DEBT -> {
+                GameAction raise = find(GameActionType.MORTGAGE, n);
+                if (raise == null) raise = find(GameActionType.SELL_HOUSE, n);
+                if (raise == null) raise = find(GameActionType.SELL_HOTEL, n);
+                return raise != null ? raise : buf[0];
+            }
+            case MANAGEMENT, TURN_END -> {
+                if (cash > 300 + 50 * rng.nextInt(8)) {
+                    GameAction build = pick(GameActionType.BUILD_HOUSE, n);
+                    if (build == null) build = pick(GameActionType.BUILD_HOTEL, n);
+                    if (build != null) return build;
+                }
+                GameAction end = find(GameActionType.END_TURN, n);
+                return end != null ? end : buf[0];
+            }
+            case TRADE_RESPONSE -> {
+                GameAction reject = find(GameActionType.REJECT_TRADE, n);
+                return reject != null ? reject : buf[0];
+            }
+            default -> {
+                GameAction card = find(GameActionType.USE_GET_OUT_OF_JAIL_FREE, n);
+                if (card != null && cash < 200) return card;
+                GameAction roll = find(GameActionType.ROLL_DICE, n);
+                return roll != null ? roll : buf[0];
+            }
+        }
+    }
+
+    private GameAction find(GameActionType type, int n) {
+        for (int i = 0; i < n; i++) {
+            if (buf[i].type() == type) return buf[i];
+        }
+        return null;
+    }
+
+    /** A uniformly random legal action of {@code type}, or null. */
+    private GameAction pick(GameActionType type, int n) {
+        int count = 0;
+        for (int i = 0; i < n; i++) {
+            if (buf[i].type() == type) count++;
+        }
+        if (count == 0) return null;
+        int k = rng.nextInt(count);
+        for (int i = 0; i < n; i++) {
+            if (buf[i].type() == type && k-- == 0) return buf[i];
+        }
+        return null;
+    }
+}
@@ -0,0 +1,49 @@
+package monopoly.ai.search;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * How long one decision may search: a playout count, a wall-clock limit, or both
+ * (whichever runs out first). Playouts are split evenly across the search threads.
+ * With one thread, a playout-only budget gives the same answer for the same seed and
+ * the same earlier decisions. With more, the threads share one transposition table,
+ * so the order they try actions in, and so the answer, depends on thread timing.
+ */
+public final class SearchBudget {
+
+    private final int playouts;   // 0 = no playout limit
+    private final long nanos;     // 0 = no time limit
+
+    private SearchBudget(int playouts, long nanos) {
+        if (playouts < 0) throw new IllegalArgumentException("playouts must be >= 0.");
+        if (nanos < 0) throw new IllegalArgumentException("time limit must be >= 0.");
+        if (playouts == 0 && nanos == 0) throw new IllegalArgumentException("A budget needs a playout or time limit.");
+        this.playouts = playouts;
+        this.nanos = nanos;
+    }
+
+    public static SearchBudget playouts(int playouts) {
+        return new SearchBudget(playouts, 0);
+    }
+
+    public static SearchBudget millis(long millis) {
+        return new SearchBudget(0, TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+
+    /** Stops at {@code playouts} or after {@code millis}, whichever comes first. */
+    public static SearchBudget of(int playouts, long millis) {
+        return new SearchBudget(playouts, TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+
+    /** Total playouts per decision, or 0 if only time-limited. */
+    public int getPlayouts() { return playouts; }
+
+    /** Wall-clock limit per decision in nanoseconds, or 0 if only playout-limited. */
+    public long getNanos() { return nanos; }
+
+    @Override public String toString() {
+        if (nanos == 0) return playouts + " playouts";
+        long ms = TimeUnit.NANOSECONDS.toMillis(nanos);
+        return playouts == 0 ? ms + " ms" : playouts + " playouts / " + ms + " ms";
+    }
+}
@@ -0,0 +1,277 @@
+package monopoly.ai.search;
+
+import monopoly.engine.GameAction;
+import monopoly.engine.GameEngine;
+import monopoly.engine.GameState;
+import monopoly.engine.GameStatus;
+import monopoly.engine.TurnPhase;
+import monopoly.model.Player;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * One worker's UCT tree over every seat's decisions (max^n: each node maximises the
+ * reward of the seat acting there).
+ *
+ * Chance is sampled, not enumerated: an action's children are keyed by the position it
+ * led to ({@link #outcomeKey}), so a roll grows one child per distinct dice / card
+ * result and a deterministic action grows exactly one. Playouts run from a private
+ * engine reset to the root with {@link GameEngine#copyInto} and a fresh determinization
+ * ({@link GameState#resampleHidden}): the unseen cards of each deck are reshuffled, the
+ * drawn ones stay put, so the search neither reads the real draw order nor forgets
+ * which cards have already gone by.
+ *
+ * Progressive widening: a node's actions are ordered by {@link #prior} and only the
+ * first {@code 1 + WIDENING * sqrt(visits)} are searched, so the handful of sensible
+ * moves (end the turn, buy, build) get the early playouts and long tails of
+ * mortgage / sell permutations only open up as a node proves worth the effort.
+ *
+ * Shared knowledge: nodes are keyed by {@link GameState#getZobristHash()} in a
+ * {@link TranspositionTable} that every worker reads and writes. A node that has
+ * gathered {@link #TT_MIN_VISITS} playouts publishes its most visited action there; a
+ * new node for a position already in the table searches that action first, so the
+ * workers converge on (and transpositions reuse) each other's best lines.
+ *
+ * Not thread-safe; {@link MctsTurnPolicy} runs one tree per thread.
+ */
+final class SearchTree {
+
+    static final double WIDENING = 0.5;
+    static final int TT_MIN_VISITS = 8;
+
+    private final GameEngine root;
+    private final GameEngine sim;
+    private final RolloutPolicy rollout;
+    private final Evaluator evaluator = new Evaluator();
+    private final TranspositionTable table;   // may be null
+    private final double exploration;
+    private final int horizonTurns;
+
+    private final GameAction[] buf;
+    private final double[] reward;
+    private final Node top;
+
+    // path of the current playout: node and chosen action per step
+    private final List<Node> pathNodes = new ArrayList<>();
+    private int[] pathActions = new int[64];
+
+    private int playouts;
+
+    /** {@code root} is only read, so one root may be shared by trees on other threads. */
+    SearchTree(GameEngine root, Random rng, double exploration, int horizonTurns, TranspositionTable table) {
+        this.root = root;
+        this.table = table;
+        this.sim = root.fork(rng);
+        this.rollout = new RolloutPolicy(sim, rng);
+        this.exploration = exploration;
+        this.horizonTurns = horizonTurns;
+        this.buf = new GameAction[sim.maxLegalActions()];
+        this.reward = new double[sim.getState().getPlayers().size()];
+        this.top = newNode();
+    }
+
+    /** One selection / expansion / rollout / backup pass. */
+    void playout() {
+        reset();
+        GameState state = sim.getState();
+        pathNodes.clear();
+
+        Node node = top;
+        int turns = 0;
+        while (node.actions.length > 0) {
+            int a = select(node);
+            push(node, a);
+            sim.apply(node.actions[a]);
+            if (state.getPhase() == TurnPhase.START_TURN) turns++;
+            if (turns >= horizonTurns || state.getStatus() != GameStatus.RUNNING) break;
+
+            long key = outcomeKey(state);
+            Node child = node.child(a, key);
+            if (child == null) {
+                node.addChild(a, key, newNode());
+                turns += rollout.play(sim, horizonTurns - turns);
+                break;
+            }
+            node = child;
+        }
+
+        evaluator.evaluate(sim, reward);
+        for (int i = 0; i < pathNodes.size(); i++) {
+            Node n = pathNodes.get(i);
+            int a = pathActions[i];
+            n.visits++;
+            n.actionVisits[a]++;
+            n.actionReward[a] += reward[n.actor];
+            if (table != null && n.visits >= TT_MIN_VISITS && (n.visits & (n.visits - 1)) == 0) publish(n);
+        }
+        playouts++;
+    }
+
+    int playouts() { return playouts; }
+
+    /**
+     * Root actions in the order of {@link #rootVisits} / {@link #rootReward}. The root
+     * takes table hints too, so trees of one search can order it differently.
+     */
+    GameAction[] rootActions() { return top.actions; }
+
+    int rootVisits(int action) { return top.actionVisits[action]; }
+
+    double rootReward(int action) { return top.actionReward[action]; }
+
+    // ------------------ Playout helpers ------------------
+
+    private void reset() {
+        root.copyInto(sim);
+        sim.getState().resampleHidden();
+    }
+
+    private int select(Node node) {
+        int best = 0;
+        double bestScore = Double.NEGATIVE_INFINITY;
+        double logN = Math.log(Math.max(1, node.visits));
+        int width = Math.min(node.actions.length, 1 + (int) (WIDENING * Math.sqrt(node.visits)));
+        for (int a = 0; a < width; a++) {
+            int n = node.actionVisits[a];
+            if (n == 0) return a; // try everything once
+            double score = node.actionReward[a] / n + exploration * Math.sqrt(logN / n);
+            if (score > bestScore) {
+                bestScore = score;
+                best = a;
+            }
+        }
+        return best;
+    }
+
+    /** Stores the node's most visited action; depth is log2 of its visits. */
+    private void publish(Node node) {
+        int best = 0;
+        for (int a = 1; a < node.actions.length; a++) {
+            if (node.actionVisits[a] > node.actionVisits[best]) best = a;
+        }
+        float value = (float) (node.actionReward[best] / node.actionVisits[best]);
+        // publish the index in prior order, before this node's own hint moved it
+        int canonical = node.hinted == 0 || best > node.hinted ? best : best == 0 ? node.hinted : best - 1;
+        table.store(node.hash, value, canonical, 31 - Integer.numberOfLeadingZeros(node.visits));
+    }
+
+    private void push(Node node, int action) {
+        int depth = pathNodes.size();
+        if (depth == pathActions.length) pathActions = Arrays.copyOf(pathActions, depth * 2);
+        pathNodes.add(node);
+        pathActions[depth] = action;
+    }
+
+    /** Node for the engine's current position; seats with nothing to decide are skipped first. */
+    private Node newNode() {
+        GameState state = sim.getState();
+        while (state.getStatus() == GameStatus.RUNNING && state.getPhase() == TurnPhase.START_TURN
+                && state.getCurrentPlayer().isBankrupt()) {
+            sim.startTurnIfNeeded();
+        }
+        int n = state.getStatus() == GameStatus.RUNNING ? sim.legalActions(buf) : 0;
+        int actor = state.getPhase() == TurnPhase.AUCTION_ACTIVE
+                ? state.getAuctionCurrentBidderIndex()
+                : state.getCurrentPlayerIndex();
+        GameAction[] actions = Arrays.copyOf(buf, n);
+        TurnPhase phase = state.getPhase();
+        Arrays.sort(actions, (x, y) -> Integer.compare(prior(x, phase), prior(y, phase))); // stable
+        long hash = state.getZobristHash();
+        int hinted = 0;
+        if (table != null) {
+            // a hint only: the same hash can come with a different action list
+            int best = TranspositionTable.bestAction(table.probe(hash));
+            if (best > 0 && best < n) {
+                GameAction first = actions[best];
+                System.arraycopy(actions, 0, actions, 1, best);
+                actions[0] = first;
+                hinted = best;
+            }
+        }
+        return new Node(actor, actions, hash, hinted);
+    }
+
+    /**
+     * Search order (lower first): the moves a sound player usually makes, then the ones
+     * that give value away. Raising cash comes first only when in debt, where END_TURN
+     * means declaring bankruptcy.
+     */
+    static int prior(GameAction action, TurnPhase phase) {
+        boolean debt = phase == TurnPhase.MUST_RESOLVE_DEBT;
+        return switch (action.type()) {
+            case END_TURN -> debt ? 4 : 0;
+            case MORTGAGE -> debt ? 0 : 3;
+            case SELL_HOUSE, SELL_HOTEL -> debt ? 1 : 3;
+            case ROLL_DICE, BUY_PROPERTY, AUCTION_BID, AUCTION_PASS, REJECT_TRADE -> 0;
+            case BUILD_HOUSE, BUILD_HOTEL, USE_GET_OUT_OF_JAIL_FREE, ACCEPT_TRADE, START_AUCTION -> 1;
+            case UNMORTGAGE -> 2;
+            default -> 3;
+        };
+    }
+
+    /**
+     * Identifies the position an action led to, so repeated samples of the same dice or
+     * card result share a child. Covers everything a roll or card can change.
+     */
+    static long outcomeKey(GameState state) {
+        long h = state.getPhase().ordinal();
+        h = mix(h, state.getCurrentPlayerIndex());
+        h = mix(h, state.getDoublesThisTurn());
+        h = mix(h, state.getLastRollTotal() == null ? -1 : state.getLastRollTotal());
+        h = mix(h, state.getLandedTileIndex() == null ? -1 : state.getLandedTileIndex());
+        h = mix(h, state.getMortgagedMask());
+        for (int i = 0; i < state.getPlayers().size(); i++) {
+            Player p = state.getPlayers().get(i);
+            h = mix(h, p.getPosition());
+            h = mix(h, p.getCash());
+            h = mix(h, p.isInJail() ? p.getJailTurnsRemaining() + 1 : 0);
+            h = mix(h, p.hasGetOutOfJailFreeCard() ? 1 : 0);
+            h = mix(h, state.getOwnedMask(i));
+        }
+        return h;
+    }
+
+    private static long mix(long h, long v) {
+        long z = (h ^ v) * 0x9E3779B97F4A7C15L;
+        return z ^ (z >>> 29);
+    }
+
+    // ------------------ Tree ------------------
+
+    private static final class Node {
+        final int actor;
+        final long hash;
+        final int hinted;              // prior-order index moved to the front, or 0
+        final GameAction[] actions;
+        final int[] actionVisits;
+        final double[] actionReward;   // sum of the actor's rewards
+        final Outcome[] outcomes;      // per action: sampled results, most recent first
+        int visits;
+
+        Node(int actor, GameAction[] actions, long hash, int hinted) {
+            this.actor = actor;
+            this.hash = hash;
+            this.hinted = hinted;
+            this.actions = actions;
+            this.actionVisits = new int[actions.length];
+            this.actionReward = new double[actions.length];
+            this.outcomes = new Outcome[actions.length];
+        }
+
+        Node child(int action, long key) {
+            for (Outcome o = outcomes[action]; o != null; o = o.next) {
+                if (o.key == key) return o.node;
+            }
+            return null;
+        }
+
+        void addChild(int action, long key, Node child) {
+            outcomes[action] = new Outcome(key, child, outcomes[action]);
+        }
+    }
+
+    private record Outcome(long key, Node node, Outcome next) {}
+}
@@ -0,0 +1,114 @@
+package monopoly.ai.search;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Fixed-size hash table from {@link monopoly.engine.GameState#getZobristHash()} to a
+ * value, a best action and a depth, shared by search threads without locks.
+ *
+ * Open addressing over one {@code long[]}: each entry is two longs, {@code key ^ data}
+ * and {@code data}, in buckets of {@link #BUCKET} entries. A reader accepts an entry only
+ * if the two XOR back to its key, so an entry torn by a concurrent writer reads as a
+ * miss instead of as someone else's data. Lost updates are possible and harmless: the
+ * table is a cache, not a source of truth.
+ *
+ * {@code data} packs the value (float bits, low 32), the best action index (16 bits),
+ * the depth (15 bits) and a valid bit, so {@link #probe} returns 0 for a miss and a hit
+ * is decoded with the static accessors. No allocation after construction.
+ */
+public final class TranspositionTable {
+
+    public static final int BUCKET = 4;
+    public static final int NO_ACTION = 0xFFFF;
+    public static final int MAX_DEPTH = 0x7FFF;
+
+    private static final long VALID = 1L << 63;
+    private static final VarHandle SLOTS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private final long[] slots;   // [2 * entry] = key ^ data, [2 * entry + 1] = data
+    private final int bucketMask;
+
+    /** Room for at least {@code entries} entries, rounded up to a power of two. */
+    public TranspositionTable(int entries) {
+        if (entries <= 0) throw new IllegalArgumentException("entries must be > 0.");
+        int need = (entries + BUCKET - 1) / BUCKET;
+        int buckets = need <= 1 ? 1 : Integer.highestOneBit(need - 1) << 1;
+        if (buckets <= 0 || (long) buckets * BUCKET * 2 > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Too many entries: " + entries);
+        }
+        this.slots = new long[buckets * BUCKET * 2];
+        this.bucketMask = buckets - 1;
+    }
+
+    public int capacity() { return slots.length / 2; }
+
+    /** Packed data for {@code key}, or 0 if it is not in the table. */
+    public long probe(long key) {
+        int base = bucket(key);
+        for (int i = 0; i < BUCKET; i++) {
+            int slot = base + 2 * i;
+            long check = (long) SLOTS.getOpaque(slots, slot);
+            long data = (long) SLOTS.getOpaque(slots, slot + 1);
+            if (data != 0 && (check ^ data) == key) return data;
+        }
+        return 0;
+    }
+
+    /**
+     * Stores an entry for {@code key}. Replaces the key's own entry (whatever its depth),
+     * else an empty one, else the shallowest in the bucket unless that is deeper than
+     * {@code depth}.
+     */
+    public void store(long key, float value, int bestAction, int depth) {
+        long data = pack(value, bestAction, depth);
+        int base = bucket(key);
+        int victim = -1;
+        int victimDepth = Integer.MAX_VALUE;
+        boolean free = false; // the key's own slot or an empty one: no depth check
+        for (int i = 0; i < BUCKET; i++) {
+            int slot = base + 2 * i;
+            long check = (long) SLOTS.getOpaque(slots, slot);
+            long old = (long) SLOTS.getOpaque(slots, slot + 1);
+            if (old == 0 || (check ^ old) == key) {
+                victim = slot;
+                free = true;
+                break;
+            }
+            int d = depth(old);
+            if (d < victimDepth) {
+                victimDepth = d;
+                victim = slot;
+            }
+        }
+        if (!free && victimDepth > depth) return;
+        SLOTS.setOpaque(slots, victim, key ^ data);
+        SLOTS.setOpaque(slots, victim + 1, data);
+    }
+
+    /** Empties the table. Not atomic with respect to concurrent readers and writers. */
+    public void clear() {
+        for (int i = 0; i < slots.length; i++) SLOTS.setOpaque(slots, i, 0L);
+    }
+
+    private int bucket(long key) {
+        // the low bits pick the bucket; mix the high bits in so both halves count
+        int h = (int) (key ^ (key >>> 32));
+        return (h & bucketMask) * BUCKET * 2;
+    }
+
+    // ------------------ Packed data ------------------
+
+    static long pack(float value, int bestAction, int depth) {
+        if (bestAction < 0 || bestAction > NO_ACTION) throw new IllegalArgumentException("bestAction out of range: " + bestAction);
+        long d = Math.max(0, Math.min(MAX_DEPTH, depth));
+        return VALID | (d << 48) | ((long) bestAction << 32) | (Float.floatToRawIntBits(value) & 0xFFFF_FFFFL);
+    }
+
+    public static float value(long data) { return Float.intBitsToFloat((int) data); }
+
+    /** Index of the best action in the position's action order, or {@link #NO_ACTION}. */
+    public static int bestAction(long data) { return (int) (data >>> 32) & 0xFFFF; }
+
+    public static int depth(long data) { return (int) (data >>> 48) & MAX_DEPTH; }
+}
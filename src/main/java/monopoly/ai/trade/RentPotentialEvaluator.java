@@ -0,0 +1,100 @@
+package monopoly.ai.trade;
+
+import monopoly.engine.GameEngine;
+import monopoly.engine.GameState;
+import monopoly.model.Player;
+import monopoly.rules.DeedTable;
+import monopoly.rules.LandingModel;
+import monopoly.setup.ColourGroup;
+
+/**
+ * The default {@link TradeEvaluator}: a player's worth less {@code rivalry} times the
+ * average opponent's, so a deal that hands a partner a colour set costs the giver too.
+ * At rivalry 1 every two-player trade would be zero-sum and never worth making; the
+ * default of 0.5 lets both sides of a deal that creates rent come out ahead.
+ *
+ * Worth is cash, the mortgage value of each deed (less the 10% redemption fee if it is
+ * mortgaged), {@link #DEFAULT_CARD_VALUE} per Get Out of Jail Free card, and the rent the
+ * deeds should collect over {@code horizonTurns} turns of every opponent at the
+ * {@link LandingModel}'s long-run landing rates. A street in a complete set is valued at
+ * the better of its current rent and {@link #DEVELOPED_HOUSES} houses (less the houses
+ * still to buy), which is what makes a set worth trading for. Utilities are valued at the
+ * average roll (7).
+ *
+ * Stateless; one instance can serve every seat and thread.
+ */
+public final class RentPotentialEvaluator implements TradeEvaluator {
+
+    public static final int DEFAULT_HORIZON_TURNS = 20;
+    public static final int DEFAULT_CARD_VALUE = 50;
+    public static final double DEFAULT_RIVALRY = 0.5;
+    public static final int DEVELOPED_HOUSES = 3;
+
+    private static final double AVERAGE_ROLL = 7.0;
+
+    private final int horizonTurns;
+    private final int cardValue;
+    private final double rivalry;
+
+    public RentPotentialEvaluator() {
+        this(DEFAULT_HORIZON_TURNS, DEFAULT_CARD_VALUE, DEFAULT_RIVALRY);
+    }
+
+    public RentPotentialEvaluator(int horizonTurns, int cardValue, double rivalry) {
+        if (horizonTurns <= 0) throw new IllegalArgumentException("horizonTurns must be > 0.");
+        if (cardValue < 0) throw new IllegalArgumentException("cardValue must be >= 0.");
+        if (rivalry < 0 || rivalry > 1) throw new IllegalArgumentException("rivalry must be in [0, 1].");
+        this.horizonTurns = horizonTurns;
+        this.cardValue = cardValue;
+        this.rivalry = rivalry;
+    }
+
+    @Override
+    public double value(GameEngine engine, int playerIdx) {
+        GameState state = engine.getState();
+        int n = state.getPlayers().size();
+        int live = 0;
+        for (Player p : state.getPlayers()) {
+            if (!p.isBankrupt()) live++;
+        }
+        if (state.getPlayers().get(playerIdx).isBankrupt()) return 0;
+        if (live == 1) return worth(engine, playerIdx, 0);
+
+        double opponents = 0;
+        for (int i = 0; i < n; i++) {
+            if (i != playerIdx && !state.getPlayers().get(i).isBankrupt()) opponents += worth(engine, i, live - 1);
+        }
+        return worth(engine, playerIdx, live - 1) - rivalry * opponents / (live - 1);
+    }
+
+    private double worth(GameEngine engine, int playerIdx, int opponents) {
+        GameState state = engine.getState();
+        DeedTable deeds = engine.getDeeds();
+        LandingModel landing = engine.getLandingModel();
+        Player p = state.getPlayers().get(playerIdx);
+
+        long owned = state.getOwnedMask(playerIdx);
+        long sets = 0;
+        for (ColourGroup g : ColourGroup.values()) {
+            long mask = deeds.getGroupMask(g);
+            if ((owned & mask) == mask) sets |= mask;
+        }
+
+        double landings = (double) horizonTurns * opponents;
+        double worth = p.getCash() + (double) cardValue * p.getOutOfJailFreeCount();
+        for (long m = owned; m != 0; m &= m - 1) {
+            int t = Long.numberOfTrailingZeros(m);
+            worth += state.isMortgaged(t) ? -0.1 * deeds.getMortgage(t) : deeds.getMortgage(t);
+
+            double rate = landings * landing.landingProbability(t);
+            int rent = state.getRentIfLanded(t);
+            double rentValue = rate * (deeds.getKind(t) == DeedTable.Kind.UTILITY ? rent * AVERAGE_ROLL : rent);
+            if ((sets & (1L << t)) != 0) {
+                int toBuy = Math.max(0, DEVELOPED_HOUSES - state.getBuildings(t));
+                rentValue = Math.max(rentValue, rate * deeds.getRent(t, DEVELOPED_HOUSES) - toBuy * deeds.getHouseCost(t));
+            }
+            worth += rentValue;
+        }
+        return worth;
+    }
+}
@@ -0,0 +1,62 @@
+package monopoly.ai.trade;
+
+import monopoly.ai.TradePolicy;
+import monopoly.engine.GameAction;
+import monopoly.engine.GameActionType;
+import monopoly.engine.GameEngine;
+import monopoly.engine.GameState;
+import monopoly.engine.trade.TradeOffer;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Proposes the best trade {@link TradeSearch} finds and answers offers with the same
+ * evaluator: an offer is accepted when it raises this seat's value by at least the
+ * search's margin, which is exactly what the search leaves its partners.
+ *
+ * Needs the engine; the state-only methods never propose and reject everything. Safe to
+ * share between seats as long as the search is not run from two threads at once.
+ */
+public final class SearchTradePolicy implements TradePolicy {
+
+    private static final GameAction REJECT = GameAction.simple(GameActionType.REJECT_TRADE);
+    private static final GameAction ACCEPT = GameAction.simple(GameActionType.ACCEPT_TRADE);
+
+    private final TradeSearch search;
+
+    public SearchTradePolicy(TradeSearch search) {
+        if (search == null) throw new IllegalArgumentException("search must not be null.");
+        this.search = search;
+    }
+
+    @Override
+    public TradeOffer maybePropose(GameState state) {
+        return null;
+    }
+
+    @Override
+    public GameAction respond(GameState state, TradeOffer pending) {
+        return REJECT;
+    }
+
+    @Override
+    public TradeOffer maybePropose(GameState state, GameEngine engine) {
+        List<TradeSearch.ScoredTrade> best = search.search(engine, 1);
+        return best.isEmpty() ? null : best.get(0).offer();
+    }
+
+    @Override
+    public GameAction respond(GameState state, TradeOffer pending, GameEngine engine) {
+        int me = state.getCurrentPlayerIndex();
+        TradeEvaluator evaluator = search.getEvaluator();
+        double before = evaluator.value(engine, me);
+
+        GameEngine fork = engine.fork(new Random(0));
+        fork.setQuiet(true);
+        if (!fork.apply(ACCEPT).isOk()) return REJECT;
+        return evaluator.value(fork, me) - before >= search.getMargin() ? ACCEPT : REJECT;
+    }
+
+    public TradeSearch getSearch() { return search; }
+}
@@ -0,0 +1,16 @@
+package monopoly.ai.trade;
+
+import monopoly.engine.GameEngine;
+
+/**
+ * Values a position for one player, in £. Trades are judged by how much the value moves,
+ * so only differences matter.
+ *
+ * {@link TradeSearch} calls this from several threads at once, each with its own engine,
+ * so implementations must not keep per-call state in fields.
+ */
+@FunctionalInterface
+public interface TradeEvaluator {
+
+    double value(GameEngine engine, int playerIdx);
+}
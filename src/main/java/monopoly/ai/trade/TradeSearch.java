@@ -0,0 +1,360 @@
+package monopoly.ai.trade;
+
+import monopoly.ai.WorkerPool;
+import monopoly.engine.ActionResult;
+import monopoly.engine.CardType;
+import monopoly.engine.GameAction;
+import monopoly.engine.GameActionType;
+import monopoly.engine.GameEngine;
+import monopoly.engine.GameState;
+import monopoly.engine.GameStatus;
+import monopoly.engine.TurnPhase;
+import monopoly.engine.trade.TradeOffer;
+import monopoly.model.Player;
+import monopoly.rules.DeedTable;
+import monopoly.setup.ColourGroup;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Finds trades for the current player: tile swaps with every live opponent, balanced with
+ * cash and, when cash runs short, a Get Out of Jail Free card.
+ *
+ * Candidates are pairs of tile sets (up to {@link #MAX_TILES_PER_SIDE} each way, at
+ * least one tile in all) picked with ownership masks:
+ * - only deeds without buildings, outside sets their owner already holds complete,
+ * - only deeds the receiver already has a partner for (same colour, or another station
+ *   or utility),
+ * - after the swap, one side must hold a colour set it did not hold before,
+ * - each side can pay the 10% fee on the mortgaged deeds it receives.
+ * Smaller swaps come first.
+ *
+ * Each candidate is played on a fork of the game (PROPOSE_TRADE, ACCEPT_TRADE, then
+ * undone) and scored by the change in the {@link TradeEvaluator}'s value for both sides.
+ * Cash then moves whichever way leaves the responder {@code margin} better off, sized
+ * from a second probe of the evaluator's value per £ (exact when the value is linear in
+ * cash) and capped by what the payer holds once the trade's mortgage fees are paid. If
+ * the proposer cannot pay enough, a card they hold is added and the cash sized again.
+ * The final offer is played once more to confirm both gains; the engine checks every
+ * offer, so only legal trades come back.
+ *
+ * Workers take candidates from a shared counter, each on its own fork, until the list
+ * or the time budget runs out. Without a budget cut the result is the same for any
+ * thread count. Call {@link #close} to stop the worker threads (they are daemons).
+ */
+public final class TradeSearch implements AutoCloseable {
+
+    public static final int MAX_TILES_PER_SIDE = 2;
+    public static final int DEFAULT_MARGIN = 25;
+
+    private static final int CASH_PROBE = 100;
+    private static final GameAction ACCEPT = GameAction.simple(GameActionType.ACCEPT_TRADE);
+
+    /** An offer from the current player, with the evaluator's gain for each side. */
+    public record ScoredTrade(TradeOffer offer, double proposerGain, double responderGain) {}
+
+    private record Candidate(int to, long give, long take) {}
+
+    /** One played offer: both gains, and both players' cash after it. */
+    private record Outcome(TradeOffer offer, double proposerGain, double responderGain, int proposerCash, int responderCash) {}
+
+    private final TradeEvaluator evaluator;
+    private final int threads;
+    private final long budgetNanos;      // 0 = no limit
+    private final int margin;
+    private final WorkerPool pool;
+
+    private int lastCandidates;
+    private int lastEvaluated;
+    private long lastNanos;
+
+    public TradeSearch(TradeEvaluator evaluator, int threads, long budgetMillis) {
+        this(evaluator, threads, budgetMillis, DEFAULT_MARGIN);
+    }
+
+    /**
+     * @param budgetMillis wall-clock limit per search, 0 for none
+     * @param margin       the least gain, in the evaluator's £, that makes a trade worth
+     *                     proposing or accepting
+     */
+    public TradeSearch(TradeEvaluator evaluator, int threads, long budgetMillis, int margin) {
+        if (evaluator == null) throw new IllegalArgumentException("evaluator must not be null.");
+        if (threads <= 0) throw new IllegalArgumentException("threads must be > 0.");
+        if (budgetMillis < 0) throw new IllegalArgumentException("budgetMillis must be >= 0.");
+        if (margin < 0) throw new IllegalArgumentException("margin must be >= 0.");
+        this.evaluator = evaluator;
+        this.threads = threads;
+        this.budgetNanos = budgetMillis * 1_000_000L;
+        this.margin = margin;
+        this.pool = new WorkerPool(threads, "trade-search-worker", "Trade search");
+    }
+
+    /**
+     * Up to {@code limit} offers the current player could propose now, best first (by
+     * the proposer's gain). Every one gains both sides at least {@code margin}. Empty
+     * when no trade can be proposed in the current phase.
+     */
+    public List<ScoredTrade> search(GameEngine engine, int limit) {
+        long start = System.nanoTime();
+        lastCandidates = 0;
+        lastEvaluated = 0;
+        lastNanos = 0;
+
+        GameState state = engine.getState();
+        if (state.getStatus() != GameStatus.RUNNING || state.hasPendingTrade()
+                || state.getPhase() == TurnPhase.AUCTION_ACTIVE || state.getPhase() == TurnPhase.TRADE_RESPONSE) {
+            return List.of();
+        }
+
+        List<Candidate> candidates = candidates(state, engine.getDeeds());
+        lastCandidates = candidates.size();
+        if (candidates.isEmpty()) return List.of();
+
+        int n = state.getPlayers().size();
+        double[] before = new double[n];
+        for (int i = 0; i < n; i++) {
+            if (!state.getPlayers().get(i).isBankrupt()) before[i] = evaluator.value(engine, i);
+        }
+
+        long deadline = budgetNanos == 0 ? Long.MAX_VALUE : start + budgetNanos;
+        ScoredTrade[] results = new ScoredTrade[candidates.size()];
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger evaluated = new AtomicInteger();
+
+        int me = state.getCurrentPlayerIndex();
+        int workers = Math.min(threads, candidates.size());
+        List<Callable<Void>> tasks = new ArrayList<>(workers);
+        for (int w = 0; w < workers; w++) {
+            GameEngine fork = engine.fork(new Random(0)); // forked here: workers never touch the caller's state
+            fork.setQuiet(true);
+            fork.enableUndo();
+            tasks.add(() -> {
+                int i;
+                while (System.nanoTime() < deadline && (i = next.getAndIncrement()) < results.length) {
+                    results[i] = evaluate(fork, me, candidates.get(i), before);
+                    evaluated.incrementAndGet();
+                }
+                return null;
+            });
+        }
+
+        pool.invokeAll(tasks);
+
+        // results[] is filled in candidate order, so a stable sort breaks ties by it
+        List<ScoredTrade> found = new ArrayList<>();
+        for (ScoredTrade r : results) {
+            if (r != null) found.add(r);
+        }
+        found.sort(Comparator.comparingDouble(ScoredTrade::proposerGain).reversed());
+
+        lastEvaluated = evaluated.get();
+        lastNanos = System.nanoTime() - start;
+        return found.size() > limit ? List.copyOf(found.subList(0, limit)) : found;
+    }
+
+    /** Candidates generated by the last search. */
+    public int getLastCandidates() { return lastCandidates; }
+
+    /** Candidates the last search played before finishing or running out of time. */
+    public int getLastEvaluated() { return lastEvaluated; }
+
+    /** Wall-clock time of the last search, in nanoseconds. */
+    public long getLastSearchNanos() { return lastNanos; }
+
+    public TradeEvaluator getEvaluator() { return evaluator; }
+
+    public int getMargin() { return margin; }
+
+    public int getThreads() { return threads; }
+
+    @Override
+    public void close() {
+        pool.close();
+    }
+
+    // ------------------ Candidates ------------------
+
+    private static List<Candidate> candidates(GameState state, DeedTable deeds) {
+        int me = state.getCurrentPlayerIndex();
+        long mine = state.getOwnedMask(me);
+        long mySets = completeSets(mine, deeds);
+        long myTradable = tradable(state, deeds, mine) & ~mySets;
+        int myCash = state.getPlayers().get(me).getCash();
+
+        List<Candidate> out = new ArrayList<>();
+        for (int o = 0; o < state.getPlayers().size(); o++) {
+            if (o == me || state.getPlayers().get(o).isBankrupt()) continue;
+            long theirs = state.getOwnedMask(o);
+            long theirSets = completeSets(theirs, deeds);
+            int theirCash = state.getPlayers().get(o).getCash();
+
+            long take = tradable(state, deeds, theirs) & ~theirSets & partners(mine, deeds);
+            long give = myTradable & partners(theirs, deeds);
+            if (take == 0 && give == 0) continue;
+
+            List<Long> takes = subsets(take);
+            List<Long> gives = subsets(give);
+            for (long t : takes) {
+                for (long g : gives) {
+                    if (t == 0 && g == 0) continue;
+                    if (mortgageFees(state, deeds, t) > myCash || mortgageFees(state, deeds, g) > theirCash) continue;
+                    long mineAfter = (mine & ~g) | t;
+                    long theirsAfter = (theirs & ~t) | g;
+                    if ((completeSets(mineAfter, deeds) & ~mySets) == 0
+                            && (completeSets(theirsAfter, deeds) & ~theirSets) == 0) {
+                        continue;
+                    }
+                    out.add(new Candidate(o, g, t));
+                }
+            }
+        }
+        out.sort(Comparator.comparingInt(c -> Long.bitCount(c.give) + Long.bitCount(c.take)));
+        return out;
+    }
+
+    /** Deeds in {@code owned} without buildings. */
+    private static long tradable(GameState state, DeedTable deeds, long owned) {
+        long out = owned & deeds.getDeedMask();
+        for (long m = out; m != 0; m &= m - 1) {
+            int t = Long.numberOfTrailingZeros(m);
+            if (state.getBuildings(t) > 0) out &= ~(1L << t);
+        }
+        return out;
+    }
+
+    /** The 10% fee a receiver pays at once on the mortgaged deeds in {@code tiles}. */
+    private static int mortgageFees(GameState state, DeedTable deeds, long tiles) {
+        int fees = 0;
+        for (long m = tiles & state.getMortgagedMask(); m != 0; m &= m - 1) {
+            fees += (deeds.getMortgage(Long.numberOfTrailingZeros(m)) + 9) / 10;
+        }
+        return fees;
+    }
+
+    /** Tiles of every colour set entirely inside {@code owned}. */
+    private static long completeSets(long owned, DeedTable deeds) {
+        long out = 0;
+        for (ColourGroup g : ColourGroup.values()) {
+            long mask = deeds.getGroupMask(g);
+            if ((owned & mask) == mask) out |= mask;
+        }
+        return out;
+    }
+
+    /** Deeds that would join something in {@code owned}: its colours, stations, utilities. */
+    private static long partners(long owned, DeedTable deeds) {
+        long out = 0;
+        for (ColourGroup g : ColourGroup.values()) {
+            long mask = deeds.getGroupMask(g);
+            if ((owned & mask) != 0) out |= mask;
+        }
+        if ((owned & deeds.getStationMask()) != 0) out |= deeds.getStationMask();
+        if ((owned & deeds.getUtilityMask()) != 0) out |= deeds.getUtilityMask();
+        return out & ~owned;
+    }
+
+    /** Subsets of {@code mask} with at most {@link #MAX_TILES_PER_SIDE} tiles, the empty one first. */
+    private static List<Long> subsets(long mask) {
+        List<Long> out = new ArrayList<>();
+        out.add(0L);
+        for (long a = mask; a != 0; a &= a - 1) out.add(a & -a);
+        for (long a = mask; a != 0; a &= a - 1) {
+            for (long b = a & (a - 1); b != 0; b &= b - 1) out.add((a & -a) | (b & -b));
+        }
+        return out;
+    }
+
+    // ------------------ Scoring ------------------
+
+    private ScoredTrade evaluate(GameEngine fork, int me, Candidate c, double[] before) {
+        Outcome base = play(fork, offer(me, c, 0, 0, null), before);
+        if (base == null) return null;
+        Outcome best = balance(fork, me, c, base, null, before);
+
+        if (best == null) {
+            Player p = fork.getState().getPlayers().get(me);
+            CardType card = p.countGetOutOfJailFree(CardType.CHANCE) > 0 ? CardType.CHANCE
+                    : p.countGetOutOfJailFree(CardType.COMMUNITY_CHEST) > 0 ? CardType.COMMUNITY_CHEST : null;
+            if (card == null) return null;
+            Outcome sweetened = play(fork, offer(me, c, 0, 0, card), before);
+            if (sweetened != null) best = balance(fork, me, c, sweetened, card, before);
+        }
+
+        if (best == null || best.proposerGain < margin || best.responderGain < margin) return null;
+        return new ScoredTrade(best.offer, best.proposerGain, best.responderGain);
+    }
+
+    /**
+     * Adds cash to {@code base} (a cash-free offer) so that the responder gains
+     * {@code margin}; null if that cannot be paid. Asks the responder for any surplus.
+     */
+    private Outcome balance(GameEngine fork, int me, Candidate c, Outcome base, CardType card, double[] before) {
+        double need = margin - base.responderGain;
+        if (need > 0) {
+            int probe = Math.min(CASH_PROBE, base.proposerCash);
+            if (probe <= 0) return null;
+            Outcome probed = play(fork, offer(me, c, probe, 0, card), before);
+            if (probed == null) return null;
+            double perPound = (probed.responderGain - base.responderGain) / probe;
+            if (perPound <= 0) return null;
+            double pay = Math.ceil(need / perPound);
+            if (pay > base.proposerCash) return null;
+            return pay == probe ? probed : play(fork, offer(me, c, (int) pay, 0, card), before);
+        }
+
+        int probe = Math.min(CASH_PROBE, base.responderCash);
+        if (probe <= 0) return base;
+        Outcome probed = play(fork, offer(me, c, 0, probe, card), before);
+        if (probed == null) return base;
+        double perPound = (base.responderGain - probed.responderGain) / probe;
+        if (perPound <= 0) return base;
+        int ask = (int) Math.min(base.responderCash, Math.floor(-need / perPound));
+        if (ask <= 0) return base;
+        if (ask == probe) return probed;
+        Outcome asked = play(fork, offer(me, c, 0, ask, card), before);
+        return asked != null && asked.responderGain >= margin ? asked : base;
+    }
+
+    /** Proposes and accepts {@code offer} on the fork, scores it, and undoes both steps. Null if the engine refuses. */
+    private Outcome play(GameEngine fork, TradeOffer offer, double[] before) {
+        int a = offer.getFromPlayerIndex();
+        int b = offer.getToPlayerIndex();
+        GameState s = fork.getState();
+
+        ActionResult proposed = fork.apply(GameAction.withPayload(GameActionType.PROPOSE_TRADE, offer));
+        if (!proposed.isOk()) {
+            fork.undo();
+            return null;
+        }
+        ActionResult accepted = fork.apply(ACCEPT);
+        Outcome out = !accepted.isOk() ? null : new Outcome(offer,
+                evaluator.value(fork, a) - before[a],
+                evaluator.value(fork, b) - before[b],
+                s.getPlayers().get(a).getCash(),
+                s.getPlayers().get(b).getCash());
+        fork.undo();
+        fork.undo();
+        return out;
+    }
+
+    private static TradeOffer offer(int me, Candidate c, int cashToThem, int cashToMe, CardType card) {
+        return new TradeOffer(me, c.to, tiles(c.give), tiles(c.take), cashToThem, cashToMe,
+                card == CardType.CHANCE ? 1 : 0, card == CardType.COMMUNITY_CHEST ? 1 : 0,
+                0, 0,
+                Map.of(), Map.of());
+    }
+
+    private static Set<Integer> tiles(long mask) {
+        Set<Integer> out = new LinkedHashSet<>();
+        for (long m = mask; m != 0; m &= m - 1) out.add(Long.numberOfTrailingZeros(m));
+        return out;
+    }
+}
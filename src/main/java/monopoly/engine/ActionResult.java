@@ -1,24 +1,61 @@
 package monopoly.engine;
 
+import java.util.ArrayList;
 import java.util.List;
 
 public class ActionResult {
+    private static final ActionResult OK = new ActionResult(true, List.of());
+    private static final ActionResult FAILED = new ActionResult(false, List.of());
+
     private final boolean ok;
-    private final List<String> events;
+    private final List<GameEvent> events;
 
-    private ActionResult(boolean ok, List<String> events) {
+    private ActionResult(boolean ok, List<GameEvent> events) {
         this.ok = ok;
         this.events = events;
     }
 
+    /** Success with no events (shared instance). */
+    public static ActionResult ok() {
+        return OK;
+    }
+
+    /** Success with the given events; null entries are skipped. */
+    public static ActionResult ok(GameEvent... events) {
+        List<GameEvent> list = new ArrayList<>(events.length);
+        for (GameEvent e : events) {
+            if (e != null) list.add(e);
+        }
+        return new ActionResult(true, List.copyOf(list));
+    }
+
+    public static ActionResult ok(List<GameEvent> events) {
+        return new ActionResult(true, List.copyOf(events));
+    }
+
     public static ActionResult ok(String... events) {
-        return new ActionResult(true, List.of(events));
+        List<GameEvent> list = new ArrayList<>(events.length);
+        for (String e : events) list.add(new GameEvent.Message(e));
+        return new ActionResult(true, List.copyOf(list));
     }
 
     public static ActionResult fail(String message) {
-        return new ActionResult(false, List.of(message));
+        return new ActionResult(false, List.of(new GameEvent.Message(message)));
+    }
+
+    /** Failure with no message (shared instance; used by quiet engines). */
+    public static ActionResult failed() {
+        return FAILED;
     }
 
     public boolean isOk() { return ok; }
-    public List<String> getEvents() { return events; }
+
+    public List<GameEvent> getGameEvents() { return events; }
+
+    /** Events rendered as text. Rendering happens here, not when the result is built. */
+    public List<String> getEvents() {
+        List<String> out = new ArrayList<>(events.size());
+        for (GameEvent e : events) out.add(e.render());
+        return out;
+    }
 }
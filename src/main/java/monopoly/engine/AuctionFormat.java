@@ -0,0 +1,13 @@
+package monopoly.engine;
+
+/** How {@link GameEngine} runs an auction; see {@link GameEngine#setAuctionFormat}. */
+public enum AuctionFormat {
+    /** Open ascending bids in turn order until one bidder is left (the default). */
+    ENGLISH,
+    /** Every player bids once, unseen; the highest bid wins and pays itself. */
+    SEALED_FIRST_PRICE,
+    /** Every player bids once, unseen; the highest bid wins and pays the second-highest. */
+    SEALED_SECOND_PRICE;
+
+    public boolean isSealed() { return this != ENGLISH; }
+}
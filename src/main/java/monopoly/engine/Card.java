@@ -1,20 +1,74 @@
 package monopoly.engine;
 
+import java.util.Arrays;
+
 public class Card {
     private final CardType type;
     private final String text;
     private final CardEffect effect;
     private final boolean isGetOutOfJailFree;
+    private final Move move;
 
     public Card(CardType type, String text, CardEffect effect, boolean isGetOutOfJailFree) {
+        this(type, text, effect, isGetOutOfJailFree, Move.NONE);
+    }
+
+    public Card(CardType type, String text, CardEffect effect, boolean isGetOutOfJailFree, Move move) {
         this.type = type;
         this.text = text;
         this.effect = effect;
         this.isGetOutOfJailFree = isGetOutOfJailFree;
+        this.move = move;
     }
 
     public CardType getType() { return type; }
     public String getText() { return text; }
     public CardEffect getEffect() { return effect; }
     public boolean isGetOutOfJailFree() { return isGetOutOfJailFree; }
+
+    /** Where the effect sends the player; lets models (e.g. LandingModel) reason about cards without running them. */
+    public Move getMove() { return move; }
+
+    /**
+     * Declared movement of a card. It must agree with the card's effect; money and
+     * rent side effects are not described here.
+     */
+    public static final class Move {
+
+        public enum Kind {
+            NONE,             // stays put
+            RELATIVE,         // value spaces (negative = backwards)
+            ABSOLUTE,         // to tile value
+            NEAREST,          // first of tiles() ahead of the player
+            JAIL,             // straight to jail
+            JAIL_BELOW_ROLL   // rolls 2d6: below value -> jail, else stays put
+        }
+
+        public static final Move NONE = new Move(Kind.NONE, 0, new int[0]);
+        private static final Move JAIL = new Move(Kind.JAIL, 0, new int[0]);
+
+        private final Kind kind;
+        private final int value;
+        private final int[] tiles;
+
+        private Move(Kind kind, int value, int[] tiles) {
+            this.kind = kind;
+            this.value = value;
+            this.tiles = tiles;
+        }
+
+        public static Move relative(int spaces) { return new Move(Kind.RELATIVE, spaces, new int[0]); }
+        public static Move to(int tile) { return new Move(Kind.ABSOLUTE, tile, new int[0]); }
+        public static Move nearest(int... tiles) { return new Move(Kind.NEAREST, 0, tiles.clone()); }
+        public static Move jail() { return JAIL; }
+        public static Move jailBelowRoll(int threshold) { return new Move(Kind.JAIL_BELOW_ROLL, threshold, new int[0]); }
+
+        public Kind kind() { return kind; }
+        public int value() { return value; }
+        public int[] tiles() { return tiles.clone(); }
+
+        @Override public String toString() {
+            return kind == Kind.NEAREST ? kind + Arrays.toString(tiles) : kind + "(" + value + ")";
+        }
+    }
 }
@@ -1,50 +1,233 @@
 package monopoly.engine;
 
-import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Random;
 
+/**
+ * A face-down pile drawn from the top, with drawn cards going to the bottom.
+ *
+ * Every draw since the last shuffle is public, so the deck also tracks how many cards
+ * at the top are still unseen: only their order is hidden from the players, while the
+ * seen cards below them sit in the order they were drawn (or returned).
+ * {@link #shuffleUnseen()} resamples just that hidden part, which is what a search
+ * should do instead of a full {@link #reshuffle()}.
+ */
 public class CardDeck<T> {
-    private final ArrayDeque<T> queue = new ArrayDeque<>();
-    private final List<T> allCards;
+
+    /** Called before the deck changes; GameState uses it to journal deck order. */
+    public interface ChangeListener {
+        /** A plain top-to-bottom rotation, undone by {@link CardDeck#undoDraw()}. */
+        void beforeDraw(CardDeck<?> deck);
+        /** Anything else (reshuffle, card removed or returned). */
+        void beforeReorder(CardDeck<?> deck);
+    }
+
+    private final List<T> allCards;   // cards in circulation (held GOJF cards are removed)
     private final Random random;
 
+    // Draw order as a ring buffer: top of the deck at head, bottom at head + size - 1.
+    private Object[] order;
+    private int head;
+    private int size;
+    private int unseen;   // top cards whose order nobody has seen
+
+    private ChangeListener listener;
+
     public CardDeck(List<T> cards, Random random) {
         this.allCards = new ArrayList<>(cards);
         this.random = random;
+        this.order = new Object[Math.max(1, cards.size())];
         reshuffle();
     }
 
+    private CardDeck(CardDeck<T> source, Random random) {
+        this.allCards = new ArrayList<>(source.allCards.size());
+        this.random = random;
+        this.order = new Object[source.order.length];
+        copyFrom(source);
+    }
+
     public void reshuffle() {
+        if (listener != null) listener.beforeReorder(this);
         List<T> temp = new ArrayList<>(allCards);
         Collections.shuffle(temp, random);
-        queue.clear();
-        queue.addAll(temp);
+        ensureCapacity(temp.size());
+        Arrays.fill(order, null);
+        head = 0;
+        size = 0;
+        for (T card : temp) order[size++] = card;
+        unseen = size;
+    }
+
+    /**
+     * Shuffles the unseen cards at the top among themselves; the seen cards below keep
+     * their order. Consistent with every draw so far and with cards held out of the
+     * deck (they are not in circulation). Allocation-free.
+     */
+    public void shuffleUnseen() {
+        if (unseen < 2) return;
+        if (listener != null) listener.beforeReorder(this);
+        for (int i = unseen - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int a = (head + i) % order.length;
+            int b = (head + j) % order.length;
+            Object tmp = order[a];
+            order[a] = order[b];
+            order[b] = tmp;
+        }
+    }
+
+    /**
+     * Writes the cards the next draw could be into {@code out} and returns how many:
+     * every unseen card (equally likely), or just the top card once all are seen.
+     */
+    public int nextCandidates(T[] out) {
+        if (size == 0) return 0;
+        int n = Math.max(1, unseen);
+        for (int i = 0; i < n; i++) out[i] = at(i);
+        return n;
+    }
+
+    /**
+     * Makes {@code card}, one of {@link #nextCandidates}, the next card drawn by swapping
+     * it with the top card; only unseen cards move, so the deck stays consistent with
+     * what has been seen. Throws if the card cannot be next.
+     */
+    public void stackOnTop(T card) {
+        int n = Math.min(size, Math.max(1, unseen));
+        for (int i = 0; i < n; i++) {
+            if (!card.equals(at(i))) continue;
+            if (i == 0) return;
+            if (listener != null) listener.beforeReorder(this);
+            int a = head;
+            int b = (head + i) % order.length;
+            Object tmp = order[a];
+            order[a] = order[b];
+            order[b] = tmp;
+            return;
+        }
+        throw new IllegalArgumentException("Card cannot be drawn next: " + card);
     }
 
     public T drawTop() {
-        if (queue.isEmpty()) reshuffle();
-        T card = queue.removeFirst();
-        queue.addLast(card); // put on bottom
+        if (size == 0) reshuffle();
+        if (size == 0) throw new NoSuchElementException("Deck is empty.");
+        if (listener != null) listener.beforeDraw(this);
+        T card = at(0);
+        // put on bottom: with a full ring this is just moving head
+        order[head] = null;
+        head = (head + 1) % order.length;
+        order[(head + size - 1) % order.length] = card;
+        if (unseen > 0) unseen--;
         return card;
     }
 
     /** Removes a specific card from circulation (e.g., GOJF is held by a player). */
     public boolean removeFromDeck(T card) {
-        boolean removed = allCards.remove(card);
-        if (removed) queue.remove(card);
-        return removed;
+        if (!allCards.contains(card)) return false;
+        if (listener != null) listener.beforeReorder(this);
+        allCards.remove(card);
+        removeFromOrder(card);
+        return true;
     }
 
     /** Returns a card to the deck (e.g., GOJF used). */
     public void returnToBottom(T card) {
+        if (listener != null) listener.beforeReorder(this);
         if (!allCards.contains(card)) {
             allCards.add(card);
         }
-        queue.remove(card);
-        queue.addLast(card);
+        removeFromOrder(card);
+        ensureCapacity(size + 1);
+        order[(head + size) % order.length] = card;
+        size++;
+    }
+
+    public int size() { return size; }
+
+    /** Cards at the top whose order has not been revealed since the last shuffle. */
+    public int unseenCount() { return unseen; }
+
+    public void setChangeListener(ChangeListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Reverses one {@link #drawTop()} rotation: the bottom card goes back on top.
+     * {@code unseenBefore} is {@link #unseenCount()} as it was before that draw.
+     */
+    void undoDraw(int unseenBefore) {
+        if (listener != null) listener.beforeDraw(this);
+        int bottom = (head + size - 1) % order.length;
+        Object card = order[bottom];
+        order[bottom] = null;
+        head = (head - 1 + order.length) % order.length;
+        order[head] = card;
+        unseen = unseenBefore;
+    }
+
+    // ------------------ COPY ------------------
+
+    /** Independent copy with the same order and circulation; reshuffles use the same Random. */
+    public CardDeck<T> copy() {
+        return new CardDeck<>(this, random);
+    }
+
+    /** Independent copy with the same order and circulation; reshuffles use {@code random}. */
+    public CardDeck<T> copy(Random random) {
+        return new CardDeck<>(this, random);
+    }
+
+    /**
+     * Overwrites this deck's order and circulation with {@code source}'s.
+     * Keeps this deck's own Random. Allocation-free once capacities have grown.
+     */
+    public void copyFrom(CardDeck<T> source) {
+        if (source == this) return;
+        if (listener != null) listener.beforeReorder(this);
+        allCards.clear();
+        for (int i = 0; i < source.allCards.size(); i++) allCards.add(source.allCards.get(i));
+
+        ensureCapacity(source.size);
+        Arrays.fill(order, null);
+        for (int i = 0; i < source.size; i++) {
+            order[i] = source.order[(source.head + i) % source.order.length];
+        }
+        head = 0;
+        size = source.size;
+        unseen = source.unseen;
+    }
+
+    // ------------------ RING HELPERS ------------------
+
+    @SuppressWarnings("unchecked")
+    private T at(int fromTop) {
+        return (T) order[(head + fromTop) % order.length];
     }
-}
 
+    /** Removes the first occurrence (from the top), closing the gap. */
+    private void removeFromOrder(Object card) {
+        for (int i = 0; i < size; i++) {
+            if (!card.equals(at(i))) continue;
+            if (i < unseen) unseen--;
+            for (int j = i; j < size - 1; j++) {
+                order[(head + j) % order.length] = order[(head + j + 1) % order.length];
+            }
+            order[(head + size - 1) % order.length] = null;
+            size--;
+            return;
+        }
+    }
+
+    private void ensureCapacity(int needed) {
+        if (needed <= order.length) return;
+        Object[] grown = new Object[Math.max(needed, order.length * 2)];
+        for (int i = 0; i < size; i++) grown[i] = order[(head + i) % order.length];
+        order = grown;
+        head = 0;
+    }
+}
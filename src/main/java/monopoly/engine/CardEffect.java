@@ -4,7 +4,7 @@ import java.util.List;
 
 @FunctionalInterface
 public interface CardEffect {
-    /** Apply effect and return list of event strings for logging */
-    List<String> apply(GameEngine engine);
+    /** Apply effect and return the events it produced (empty when the engine is quiet) */
+    List<GameEvent> apply(GameEngine engine);
 }
 
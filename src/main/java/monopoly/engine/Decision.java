@@ -0,0 +1,18 @@
+package monopoly.engine;
+
+/**
+ * Where {@link GameEngine#advanceUntilDecision} stopped: {@code playerIndex} must choose
+ * among the legal actions of {@code phase}. Not a decision (see {@link #isDecision()})
+ * when the game is over ({@code playerIndex} -1) or the turn limit came first (phase
+ * START_TURN, {@code playerIndex} the next player).
+ *
+ * {@code forcedSteps} counts the actions and turn starts run on the way, {@code turnsEnded}
+ * the turns that finished.
+ */
+public record Decision(int playerIndex, TurnPhase phase, int forcedSteps, int turnsEnded) {
+
+    /** True if a player has a real choice to make now. */
+    public boolean isDecision() {
+        return playerIndex >= 0 && phase != TurnPhase.START_TURN;
+    }
+}
@@ -4,20 +4,61 @@ import java.util.Random;
 
 public class Dice {
     private final Random random;
+    private Roll next;   // forced result of the next roll2d6, or null
 
     public Dice(Random random) { this.random = random; }
     public Dice() { this(new Random()); }
 
     public Roll roll2d6() {
+        if (next != null) {
+            Roll r = next;
+            next = null;
+            return r;
+        }
         int d1 = random.nextInt(6) + 1;
         int d2 = random.nextInt(6) + 1;
-        return new Roll(d1, d2);
+        return Roll.of(d1, d2);
+    }
+
+    /** Makes the next {@link #roll2d6()} return {@code roll}; later rolls are random again. */
+    void forceNext(Roll roll) { this.next = roll; }
+
+    void clearForced() { this.next = null; }
+
+    /**
+     * The 21 distinct results of 2d6 (die order does not matter to the rules), each
+     * with {@link #probability}. Shared; do not modify.
+     */
+    public static final Roll[] OUTCOMES;
+    static {
+        OUTCOMES = new Roll[21];
+        int n = 0;
+        for (int d1 = 1; d1 <= 6; d1++) {
+            for (int d2 = d1; d2 <= 6; d2++) OUTCOMES[n++] = Roll.of(d1, d2);
+        }
+    }
+
+    /** Chance of {@code roll} as one of {@link #OUTCOMES}: 1/36 for a double, 2/36 otherwise. */
+    public static double probability(Roll roll) {
+        return roll.isDouble() ? 1.0 / 36 : 2.0 / 36;
     }
 
     public static final class Roll {
+        // all 36 outcomes, shared (rolls are immutable)
+        private static final Roll[] ALL = new Roll[36];
+        static {
+            for (int i = 0; i < 36; i++) ALL[i] = new Roll(i / 6 + 1, i % 6 + 1);
+        }
+
         private final int die1;
         private final int die2;
 
+        /** Shared instance for two dice values 1..6. */
+        public static Roll of(int die1, int die2) {
+            if (die1 < 1 || die1 > 6 || die2 < 1 || die2 > 6) return new Roll(die1, die2);
+            return ALL[(die1 - 1) * 6 + (die2 - 1)];
+        }
+
         public Roll(int die1, int die2) {
             this.die1 = die1;
             this.die2 = die2;
@@ -1,5 +1,7 @@
 package monopoly.engine;
 
+import monopoly.model.Board;
+
 import java.util.Objects;
 
 /**
@@ -17,17 +19,39 @@ public record GameAction(GameActionType type, Integer tileIndex, Integer amount,
     public Integer getTileIndex() { return tileIndex; }
     public Integer getAmount() { return amount; }
 
+    // --- Shared instances (records are immutable, so plain and per-tile actions can be reused) ---
+    private static final GameAction[] SIMPLE = new GameAction[GameActionType.values().length];
+    private static final GameAction[][] ON_TILE = new GameAction[GameActionType.values().length][Board.SIZE];
+    private static final GameAction[] BIDS = new GameAction[4096]; // filled on first use
+
+    static {
+        for (GameActionType t : GameActionType.values()) {
+            SIMPLE[t.ordinal()] = new GameAction(t, null, null, null);
+            for (int i = 0; i < Board.SIZE; i++) {
+                ON_TILE[t.ordinal()][i] = new GameAction(t, i, null, null);
+            }
+        }
+    }
+
     // --- Convenience factories ---
     public static GameAction simple(GameActionType type) {
-        return new GameAction(type, null, null, null);
+        return SIMPLE[type.ordinal()];
     }
 
     public static GameAction onTile(GameActionType type, int tileIndex) {
-        return new GameAction(type, tileIndex, null, null);
+        if (tileIndex < 0 || tileIndex >= Board.SIZE) return new GameAction(type, tileIndex, null, null);
+        return ON_TILE[type.ordinal()][tileIndex];
     }
 
     public static GameAction bid(int amount) {
-        return new GameAction(GameActionType.AUCTION_BID, null, amount, null);
+        if (amount < 0 || amount >= BIDS.length) return new GameAction(GameActionType.AUCTION_BID, null, amount, null);
+        GameAction a = BIDS[amount];
+        if (a == null) {
+            // benign race: records are immutable, so a duplicate instance is harmless
+            a = new GameAction(GameActionType.AUCTION_BID, null, amount, null);
+            BIDS[amount] = a;
+        }
+        return a;
     }
 
     public static GameAction withPayload(GameActionType type, Object payload) {
@@ -3,11 +3,11 @@ package monopoly.engine;
 import monopoly.model.Board;
 import monopoly.model.Player;
 import monopoly.model.Tile;
-import monopoly.setup.DeedProfiles;
-import monopoly.setup.DeedProfiles.RailroadDeed;
-import monopoly.setup.DeedProfiles.StreetDeed;
-import monopoly.setup.DeedProfiles.UtilityDeed;
+import monopoly.rules.DeedTable;
+import monopoly.rules.LandingModel;
+import monopoly.rules.Rules;
 import monopoly.setup.BoardDestinations;
+import monopoly.setup.ColourGroup;
 import monopoly.engine.trade.TradeOffer;
 import monopoly.engine.trade.TradeResponse;
 import monopoly.engine.trade.MortgageTransferChoice;
@@ -15,34 +15,160 @@ import monopoly.engine.trade.MortgageTransferChoice;
 
 import monopoly.model.TileType;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
+import java.util.function.IntUnaryOperator;
 import monopoly.engine.Card;
 import monopoly.engine.CardType;
 
 
 
 
-import java.util.Map;
-
 public class GameEngine {
     private final GameConfig config;
     private final Dice dice;
     private final GameState state;
 
-    // Static economics by board index
-    private final Map<Integer, Object> deedsByIndex = DeedProfiles.ukClassic2017ByIndex();
+    // Static economics by board index (shared, immutable)
+    private final DeedTable deeds;
+
+    // Long-run landing rates for this rule set (shared, immutable)
+    private final LandingModel landing;
+
+    // AUCTION_BID amounts offered by legalActions, as increments over the high bid
+    private int[] legalBidIncrements = {10};
+    private AuctionFormat auctionFormat = AuctionFormat.ENGLISH;
+    private GameAction[] decisionBuf;            // advanceUntilDecision's legal-action buffer
+    private int[] auctionOrder;                  // resolveAuction scratch: bidders in turn order
+    private int[] auctionBids;                   // ... and how many bids each would still top
+
+    // Quiet: no events are created at all (results carry only ok/fail)
+    private boolean quiet = false;
+
+    // Shared prompt events
+    private static final GameEvent PROMPT_END_TURN = new GameEvent.Message("Action: END_TURN");
+    private static final GameEvent PROMPT_MANAGE = new GameEvent.Message("Action: END_TURN (or BUILD/MORTGAGE)");
+    private static final GameEvent PROMPT_MANAGE_UNMORTGAGE = new GameEvent.Message("Action: END_TURN (or BUILD/MORTGAGE/UNMORTGAGE)");
+    private static final GameEvent PROMPT_ROLL = new GameEvent.Message("Action: ROLL_DICE");
+    private static final GameEvent PROMPT_BUY_OR_AUCTION = new GameEvent.Message("Action: BUY_PROPERTY or START_AUCTION");
+    private static final GameEvent PROMPT_BID_OR_PASS = new GameEvent.Message("Action: AUCTION_BID(amount) or AUCTION_PASS");
+    private static final GameEvent PROMPT_TRADE_RESPONSE = new GameEvent.Message("Responder actions: ACCEPT_TRADE / REJECT_TRADE / COUNTER_TRADE. Proposer may CANCEL_TRADE.");
+    private static final GameEvent PROMPT_COUNTER_RESPONSE = new GameEvent.Message("Responder actions: ACCEPT_TRADE / REJECT_TRADE / COUNTER_TRADE / CANCEL_TRADE");
+    private static final GameEvent MUST_RESOLVE_DEBT = new GameEvent.Message("MUST RESOLVE DEBT (MORTGAGE).");
+    private static final GameEvent STILL_IN_DEBT = new GameEvent.Message("Still MUST RESOLVE DEBT.");
+    private static final GameEvent NO_WINNER_YET = new GameEvent.Message("No winner yet.");
+    private static final GameEvent SKIPPING_BANKRUPT = new GameEvent.Message("Skipping bankrupt player.");
+    private static final GameEvent TRADE_CANCELLED = new GameEvent.Message("Trade cancelled by proposer.");
+    private static final GameEvent TRADE_REJECTED = new GameEvent.Message("Trade rejected.");
 
     public GameEngine(GameConfig config, Dice dice, GameState state) {
+        this(config, dice, state, Rules.ukClassic());
+    }
+
+    public GameEngine(GameConfig config, Dice dice, GameState state, Rules rules) {
+        this(config, dice, state, rules.getDeeds(), LandingModel.of(rules, config));
+    }
+
+    private GameEngine(GameConfig config, Dice dice, GameState state, DeedTable deeds, LandingModel landing) {
         this.config = config;
         this.dice = dice;
         this.state = state;
+        this.deeds = deeds;
+        this.landing = landing;
+        state.setDeeds(deeds);
+    }
+
+    /**
+     * Independent engine over a {@link GameState#fork} of this state.
+     * Dice and deck reshuffles in the fork draw from {@code rng} only.
+     */
+    public GameEngine fork(Random rng) {
+        GameEngine copy = new GameEngine(config, new Dice(rng), state.fork(rng), deeds, landing);
+        copy.lastDrawnCard = lastDrawnCard;
+        copy.legalBidIncrements = legalBidIncrements;
+        copy.auctionFormat = auctionFormat;
+        copy.quiet = quiet;
+        return copy;
+    }
+
+    /** Overwrites {@code target}'s state with this one's (see {@link GameState#copyInto}); keeps its dice. */
+    public void copyInto(GameEngine target) {
+        state.copyInto(target.state);
+        target.lastDrawnCard = lastDrawnCard;
     }
 
     public GameState getState() { return state; }
 
+    public DeedTable getDeeds() { return deeds; }
+
+    public LandingModel getLandingModel() { return landing; }
+
+    /**
+     * Quiet mode: handlers create no events, so every result is a shared ok/failed
+     * instance without text. For simulations and search, where nobody reads the log.
+     */
+    public void setQuiet(boolean quiet) { this.quiet = quiet; }
+
+    public boolean isQuiet() { return quiet; }
+
+    private ActionResult fail(String message) {
+        return quiet ? ActionResult.failed() : ActionResult.fail(message);
+    }
+
+    // ------------------ UNDO ------------------
+
+    /**
+     * Starts journaling this engine's state. From now on every {@link #apply} and
+     * {@link #startTurnIfNeeded} is one undoable step.
+     */
+    public void enableUndo() {
+        state.enableJournal().bindEngine(this);
+    }
+
+    public void disableUndo() {
+        state.disableJournal();
+    }
+
+    public boolean canUndo() {
+        UndoJournal j = state.getJournal();
+        return j != null && j.stepCount() > 0;
+    }
+
+    /**
+     * Restores the exact state before the most recent step, in O(changes it made).
+     * Dice and deck RNG streams are not rewound. Returns false if there is nothing to undo.
+     */
+    public boolean undo() {
+        UndoJournal j = state.getJournal();
+        return j != null && j.undoStep();
+    }
+
+    private void beginUndoStep() {
+        UndoJournal j = state.getJournal();
+        if (j != null) j.beginStep();
+    }
+
+    void restoreLastDrawnCard(Card card) {
+        this.lastDrawnCard = card;
+    }
+
+    private void setLastDrawnCard(Card card) {
+        UndoJournal j = state.getJournal();
+        if (j != null) j.record(UndoJournal.LAST_DRAWN_CARD, 0, 0, lastDrawnCard);
+        this.lastDrawnCard = card;
+    }
+
+    // ------------------ TURN FLOW ------------------
+
     public ActionResult startTurnIfNeeded() {
+        beginUndoStep();
+        return startTurn();
+    }
+
+    private ActionResult startTurn() {
         if (state.getStatus() == GameStatus.FINISHED) {
-            return ActionResult.fail("Game is finished.");
+            return fail("Game is finished.");
         }
 
         if (state.getPhase() != TurnPhase.START_TURN) {
@@ -52,30 +178,35 @@ public class GameEngine {
         Player p = state.getCurrentPlayer();
         if (p.isBankrupt()) {
             state.advanceTurnSkippingBankrupt();
-            return ActionResult.ok("Skipping bankrupt player.");
+            return quiet ? ActionResult.ok() : ActionResult.ok(SKIPPING_BANKRUPT);
         }
 
         state.resetDoublesThisTurn();
 
         if (p.isInJail()) {
             state.setPhase(TurnPhase.IN_JAIL_DECISION);
-            return ActionResult.ok(p.getName() + " is in JAIL. Choose: use card (if any) or ROLL_DICE (fine handling is simplified).");
+            return quiet ? ActionResult.ok() : ActionResult.ok(new GameEvent.TurnStarted(p.getName(), true));
         }
 
         state.setPhase(TurnPhase.MUST_ROLL);
-        return ActionResult.ok(p.getName() + " to play. Action: ROLL_DICE.");
+        return quiet ? ActionResult.ok() : ActionResult.ok(new GameEvent.TurnStarted(p.getName(), false));
     }
 
     public ActionResult apply(GameAction action) {
-        startTurnIfNeeded();
+        beginUndoStep();
+        return step(action);
+    }
+
+    private ActionResult step(GameAction action) {
+        startTurn();
 
         if (state.getStatus() == GameStatus.FINISHED) {
             int w = state.getWinnerIndex();
-            return ActionResult.fail("Game over. Winner: " + state.getPlayers().get(w).getName());
+            return quiet ? ActionResult.failed() : ActionResult.fail("Game over. Winner: " + state.getPlayers().get(w).getName());
         }
 
         if (action == null || action.type() == null) {
-            return ActionResult.fail("Action (or action type) is null.");
+            return fail("Action (or action type) is null.");
         }
 
         return switch (action.type()) {
@@ -102,16 +233,479 @@ public class GameEngine {
         };
     }
 
+    // ------------------ CHANCE OUTCOMES ------------------
+    //
+    // Exact alternatives to sampling a roll: enumerate Dice.OUTCOMES (21 results with
+    // Dice.probability), and for a roll that lands on Chance / Community Chest the next
+    // card's candidates (equally likely). Each combination is then played with
+    // applyRoll, typically on a fork or between undo() calls.
+
+    /**
+     * ROLL_DICE with the first roll fixed to {@code roll}, as one undoable step. If
+     * {@code nextCard} is given it is stacked on top of the deck {@link #cardDrawnBy}
+     * names first (see {@link CardDeck#stackOnTop}), so the card drawn by this roll is
+     * that one; it is ignored if the roll draws no card. The deck comes from the roll,
+     * not the card, since a card's type need not match the deck it is shuffled into.
+     *
+     * Only the first roll is fixed: the fine-and-roll jail exit and the rolls of the
+     * utility and gamble cards are still random, and so is a second card drawn after a
+     * card move (see {@link #cardDrawnBy}). Reorders the deck, so use it on search
+     * engines, not on the real game.
+     */
+    public ActionResult applyRoll(Dice.Roll roll, Card nextCard) {
+        CardType drawn = nextCard == null ? null : cardDrawnBy(roll);
+        beginUndoStep();
+        if (drawn != null) deckOf(drawn).stackOnTop(nextCard);
+        dice.forceNext(roll);
+        try {
+            return step(GameAction.simple(GameActionType.ROLL_DICE));
+        } finally {
+            dice.clearForced();
+        }
+    }
+
+    /**
+     * The deck a ROLL_DICE with first roll {@code roll} would draw from right now, or
+     * null if it draws no card (or only after a second, random roll).
+     *
+     * Only the first card is reported. A card that moves the player can land them on
+     * another card tile, which draws again: on the UK board the Chance card that moves
+     * back 3 spaces from tile 36 lands on Community Chest (33) and draws a second card,
+     * at random.
+     */
+    public CardType cardDrawnBy(Dice.Roll roll) {
+        if (state.getStatus() != GameStatus.RUNNING) return null;
+        TurnPhase phase = state.getPhase();
+        if (phase != TurnPhase.START_TURN && rollRejection() != null) return null;
+
+        Player p = state.getCurrentPlayer();
+        if (p.isBankrupt()) return null;
+        if (p.isInJail()) {
+            if (!roll.isDouble()) return null;
+        } else if (roll.isDouble()) {
+            int doubles = phase == TurnPhase.START_TURN ? 0 : state.getDoublesThisTurn();
+            if (doubles + 1 >= 3) return null;
+        }
+
+        int dest = (p.getPosition() + roll.total()) % Board.SIZE;
+        return switch (state.getBoard().tileAt(dest).getType()) {
+            case CHANCE -> CardType.CHANCE;
+            case COMMUNITY_CHEST -> CardType.COMMUNITY_CHEST;
+            default -> null;
+        };
+    }
+
+    /**
+     * Writes the cards the next draw from {@code type}'s deck could be into {@code out}
+     * and returns how many; each is equally likely (see {@link CardDeck#nextCandidates}).
+     * {@code out} needs room for the whole deck.
+     */
+    public int nextCardOutcomes(CardType type, Card[] out) {
+        CardDeck<Card> deck = deckOf(type);
+        return deck == null ? 0 : deck.nextCandidates(out);
+    }
+
+    private CardDeck<Card> deckOf(CardType type) {
+        return type == CardType.CHANCE ? state.getChanceDeck() : state.getCommunityDeck();
+    }
+
+    // ------------------ LEGAL ACTIONS ------------------
+
+    /** Upper bound on {@link #legalActions(GameAction[])} for the current bid increments. */
+    public int maxLegalActions() {
+        // END_TURN + one build, one sell and one (un)mortgage per tile; or PASS + one bid per increment
+        return Math.max(1 + 3 * Board.SIZE, 1 + legalBidIncrements.length);
+    }
+
+    /**
+     * Amounts above the current high bid that {@link #legalActions} offers as AUCTION_BID
+     * (default: +£10 only). Bids the bidder cannot afford are left out.
+     */
+    public void setLegalBidIncrements(int... increments) {
+        if (increments == null || increments.length == 0) {
+            throw new IllegalArgumentException("At least one bid increment is required.");
+        }
+        for (int inc : increments) {
+            if (inc <= 0) throw new IllegalArgumentException("Bid increments must be positive: " + inc);
+        }
+        this.legalBidIncrements = increments.clone();
+    }
+
+    /**
+     * Auction rules (default {@link AuctionFormat#ENGLISH}). In the sealed formats each
+     * active bidder, in turn order, makes one AUCTION_BID (any affordable amount) or
+     * AUCTION_PASS; amounts are not revealed until the last one is in. The highest bid
+     * wins, ties going to the earliest bidder. Second-price winners pay the runner-up's
+     * bid, or the smallest bid increment if nobody else bid (never more than their bid).
+     */
+    public void setAuctionFormat(AuctionFormat auctionFormat) {
+        if (auctionFormat == null) throw new IllegalArgumentException("auctionFormat must not be null.");
+        this.auctionFormat = auctionFormat;
+    }
+
+    public AuctionFormat getAuctionFormat() { return auctionFormat; }
+
+    /** Every action {@link #apply} would currently accept; see {@link #legalActions(GameAction[])}. */
+    public List<GameAction> legalActions() {
+        GameAction[] buf = new GameAction[maxLegalActions()];
+        int n = legalActions(buf);
+        return List.of(Arrays.copyOf(buf, n));
+    }
+
+    /**
+     * Fills {@code out} with every action {@link #apply} would currently accept and returns
+     * how many were written. Does not allocate once warm (tile actions come from
+     * {@link GameAction}'s shared instances).
+     *
+     * In START_TURN the list is for the phase the turn is about to open in (jail decision
+     * or roll), since {@link #apply} starts the turn first. PROPOSE_TRADE / COUNTER_TRADE
+     * are open-ended and never listed; bids are limited to {@link #setLegalBidIncrements}.
+     */
+    public int legalActions(GameAction[] out) {
+        if (out.length < maxLegalActions()) {
+            throw new IllegalArgumentException("Buffer too small: need " + maxLegalActions() + ", got " + out.length + ".");
+        }
+        if (state.getStatus() == GameStatus.FINISHED) return 0;
+
+        TurnPhase phase = state.getPhase();
+        if (phase == TurnPhase.START_TURN) {
+            Player p = state.getCurrentPlayer();
+            if (p.isBankrupt()) return 0; // apply() only skips the seat
+            // the rejection checks read the live phase, so list the opening phase's actions directly
+            out[0] = GameAction.simple(GameActionType.ROLL_DICE);
+            if (p.isInJail() && p.hasGetOutOfJailFreeCard()) {
+                out[1] = GameAction.simple(GameActionType.USE_GET_OUT_OF_JAIL_FREE);
+                return 2;
+            }
+            return 1;
+        }
+
+        int n = 0;
+        switch (phase) {
+            case IN_JAIL_DECISION, MUST_ROLL, CAN_ROLL_AGAIN -> {
+                if (rollRejection() == null) out[n++] = GameAction.simple(GameActionType.ROLL_DICE);
+                if (useJailCardRejection() == null) out[n++] = GameAction.simple(GameActionType.USE_GET_OUT_OF_JAIL_FREE);
+            }
+            case LANDED_DECISION -> {
+                if (buyRejection() == null) out[n++] = GameAction.simple(GameActionType.BUY_PROPERTY);
+                if (startAuctionRejection() == null) out[n++] = GameAction.simple(GameActionType.START_AUCTION);
+            }
+            case AUCTION_ACTIVE -> {
+                if (auctionPassRejection() != null) return 0;
+                out[n++] = GameAction.simple(GameActionType.AUCTION_PASS);
+                int high = state.getAuctionHighBid();
+                int cash = state.getPlayers().get(state.getAuctionCurrentBidderIndex()).getCash();
+                for (int inc : legalBidIncrements) {
+                    int amount = high + inc;
+                    // check cash first: that rejection message is built per call
+                    if (amount <= cash && bidRejection(amount) == null) out[n++] = GameAction.bid(amount);
+                }
+            }
+            case MANAGEMENT, TURN_END, MUST_RESOLVE_DEBT -> {
+                if (endTurnRejection() == null) out[n++] = GameAction.simple(GameActionType.END_TURN);
+                n = legalTileActions(out, n);
+            }
+            case TRADE_RESPONSE -> {
+                if (tradeResponseRejection(TradeResponse.ACCEPT) == null
+                        && validateTradeOffer(state.getPendingTrade()).isOk()) {
+                    out[n++] = GameAction.simple(GameActionType.ACCEPT_TRADE);
+                }
+                if (tradeResponseRejection(TradeResponse.REJECT) == null) out[n++] = GameAction.simple(GameActionType.REJECT_TRADE);
+                if (tradeResponseRejection(TradeResponse.CANCEL) == null) out[n++] = GameAction.simple(GameActionType.CANCEL_TRADE);
+            }
+            default -> { }
+        }
+        return n;
+    }
+
+    private int legalTileActions(GameAction[] out, int n) {
+        int me = state.getCurrentPlayerIndex();
+        Player p = state.getCurrentPlayer();
+        for (long m = state.getOwnedMask(me); m != 0; m &= m - 1) {
+            int t = Long.numberOfTrailingZeros(m);
+            if (!deeds.isDeed(t)) continue;
+            if (buildHouseRejection(t) == null) out[n++] = GameAction.onTile(GameActionType.BUILD_HOUSE, t);
+            if (buildHotelRejection(t) == null) out[n++] = GameAction.onTile(GameActionType.BUILD_HOTEL, t);
+            if (sellHouseRejection(t) == null) out[n++] = GameAction.onTile(GameActionType.SELL_HOUSE, t);
+            if (sellHotelRejection(t) == null) out[n++] = GameAction.onTile(GameActionType.SELL_HOTEL, t);
+            if (mortgageRejection(t) == null) out[n++] = GameAction.onTile(GameActionType.MORTGAGE, t);
+            if (unmortgageRejection(t) == null && p.getCash() >= unmortgageCost(t)) {
+                out[n++] = GameAction.onTile(GameActionType.UNMORTGAGE, t);
+            }
+        }
+        return n;
+    }
+
+    // ------------------ DECISION POINTS ------------------
+
+    /** As {@link #advanceUntilDecision(int)} with no turn limit. */
+    public Decision advanceUntilDecision() {
+        return advanceUntilDecision(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Runs every forced step until some player has a real choice: starts turns, skips
+     * bankrupt seats and applies any action that is the only legal one (a roll with
+     * nothing else to do, END_TURN with nothing to manage, a pass that cannot be raised).
+     * Stops at a decision, when the game ends, or once {@code maxTurnsEnded} turns have
+     * ended (at the next player's START_TURN).
+     *
+     * Each forced action is its own undoable step. The events of forced steps are not
+     * returned, so drivers that print the game should keep using {@link #apply}.
+     */
+    public Decision advanceUntilDecision(int maxTurnsEnded) {
+        int forced = 0;
+        int turns = 0;
+        while (state.getStatus() == GameStatus.RUNNING) {
+            TurnPhase phase = state.getPhase();
+            if (phase == TurnPhase.START_TURN) {
+                if (turns >= maxTurnsEnded) return new Decision(state.getCurrentPlayerIndex(), phase, forced, turns);
+                startTurnIfNeeded();
+                forced++;
+                continue;
+            }
+
+            int n = legalActions(decisionBuffer());
+            if (n != 1) {
+                // n == 0 outside START_TURN means the engine is stuck; let the caller see it
+                return new Decision(decidingPlayerIndex(), phase, forced, turns);
+            }
+            if (!apply(decisionBuf[0]).isOk()) return new Decision(decidingPlayerIndex(), phase, forced, turns);
+            forced++;
+            if (state.getPhase() == TurnPhase.START_TURN) turns++;
+        }
+        return new Decision(-1, state.getPhase(), forced, turns);
+    }
+
+    /** The player whose choice the current phase waits for: the bidder in an auction, else the current player. */
+    public int decidingPlayerIndex() {
+        return state.getPhase() == TurnPhase.AUCTION_ACTIVE
+                ? state.getAuctionCurrentBidderIndex()
+                : state.getCurrentPlayerIndex();
+    }
+
+    private GameAction[] decisionBuffer() {
+        if (decisionBuf == null || decisionBuf.length < maxLegalActions()) decisionBuf = new GameAction[maxLegalActions()];
+        return decisionBuf;
+    }
+
+    // Rejection checks shared by the handlers and the generator: null = allowed, else the reason.
+
+    private String rollRejection() {
+        TurnPhase ph = state.getPhase();
+        if (ph != TurnPhase.MUST_ROLL && ph != TurnPhase.CAN_ROLL_AGAIN && ph != TurnPhase.IN_JAIL_DECISION) {
+            return "Not allowed to roll right now.";
+        }
+        return null;
+    }
+
+    private String useJailCardRejection() {
+        Player p = state.getCurrentPlayer();
+        if (state.getPhase() != TurnPhase.IN_JAIL_DECISION) {
+            return "You can only use a Get Out of Jail Free card while making a jail decision.";
+        }
+        if (!p.isInJail()) return "You are not in jail.";
+        if (!p.hasGetOutOfJailFreeCard()) return "You do not have a Get Out of Jail Free card.";
+        return null;
+    }
+
+    private String buyRejection() {
+        if (state.getPhase() != TurnPhase.LANDED_DECISION) {
+            return "BUY_PROPERTY only allowed immediately after landing on an unowned buyable tile.";
+        }
+        int idx = state.getLandedTileIndex();
+        if (!deeds.isDeed(idx)) return "This tile is not buyable.";
+        if (state.getOwner(idx) != GameState.UNOWNED) return "Tile is already owned.";
+        return null;
+    }
+
+    private String startAuctionRejection() {
+        if (state.getPhase() != TurnPhase.LANDED_DECISION) {
+            return "START_AUCTION only allowed immediately after landing on an unowned buyable tile.";
+        }
+        int idx = state.getLandedTileIndex();
+        if (!deeds.isDeed(idx)) return "This tile is not auctionable.";
+        if (state.getOwner(idx) != GameState.UNOWNED) return "Tile is already owned.";
+        return null;
+    }
+
+    private String auctionPassRejection() {
+        if (state.getPhase() != TurnPhase.AUCTION_ACTIVE || !state.isAuctionInProgress()) {
+            return "No auction is active.";
+        }
+        return null;
+    }
+
+    private String bidRejection(int bidAmount) {
+        String why = auctionPassRejection();
+        if (why != null) return why;
+
+        int bidderIdx = state.getAuctionCurrentBidderIndex();
+        Player bidder = state.getPlayers().get(bidderIdx);
+        if (!state.isAuctionBidderActive(bidderIdx)) return "You have already passed and cannot bid.";
+        if (bidder.isBankrupt()) return "Bankrupt players cannot bid.";
+
+        int currentHigh = state.getAuctionHighBid();
+        if (bidAmount <= currentHigh) return "Bid must be higher than current high bid (£" + currentHigh + ").";
+
+        // Enforce “cannot end turn negative” by never allowing bids that would make cash negative
+        if (bidAmount > bidder.getCash()) return "Bid exceeds bidder cash. Cash: £" + bidder.getCash();
+        return null;
+    }
+
+    private String buildHouseRejection(int idx) {
+        if (state.getPhase() != TurnPhase.MANAGEMENT && state.getPhase() != TurnPhase.TURN_END) {
+            return "BUILD_HOUSE only allowed during your turn (management/end phase).";
+        }
+        if (!deeds.isStreet(idx)) return "BUILD_HOUSE only applies to street properties.";
+        if (!state.isOwnedBy(idx, state.getCurrentPlayerIndex())) return "You do not own this property.";
+        if (state.isMortgaged(idx)) return "Cannot build on a mortgaged property.";
+        if (state.hasHotel(idx)) return "Already has a hotel.";
+        if (state.getHouses(idx) >= 4) return "Already has 4 houses (build hotel instead).";
+
+        // Must own the entire colour set
+        if (!ownsFullStreetGroup(idx)) return "You must own the entire colour group to build houses.";
+
+        // Even-building rule: across the set, max-min <= 1
+        if (!respectsEvenBuilding(idx, state.getHouses(idx) + 1)) {
+            return "Even-building rule violated: build evenly across the set.";
+        }
+
+        // Bank supply limit: 32 houses total
+        if (state.getHousesRemaining() <= 0) return "No houses remaining in the bank (32 house limit reached).";
+        return null;
+    }
+
+    private String buildHotelRejection(int idx) {
+        if (state.getPhase() != TurnPhase.MANAGEMENT && state.getPhase() != TurnPhase.TURN_END) {
+            return "BUILD_HOTEL only allowed during your turn (management/end phase).";
+        }
+        if (!deeds.isStreet(idx)) return "BUILD_HOTEL only applies to street properties.";
+        if (!state.isOwnedBy(idx, state.getCurrentPlayerIndex())) return "You do not own this property.";
+        if (state.isMortgaged(idx)) return "Cannot build on a mortgaged property.";
+        if (state.hasHotel(idx)) return "Already has a hotel.";
+        if (state.getHouses(idx) != 4) return "Must have 4 houses on this property before building a hotel.";
+
+        // Must own the entire colour set
+        if (!ownsFullStreetGroup(idx)) return "You must own the entire colour group to build a hotel.";
+
+        // Even-building requirement for hotels: all in set must have 4 houses before any hotel
+        if (!groupAllHaveFourHouses(idx)) {
+            return "Even-building rule: all properties in the set must have 4 houses before any hotel.";
+        }
+
+        // Bank supply limit: 12 hotels total
+        if (state.getHotelsRemaining() <= 0) return "No hotels remaining in the bank (12 hotel limit reached).";
+        return null;
+    }
+
+    private String sellHouseRejection(int idx) {
+        if (!isOwnTurnPhase()) return "SELL_HOUSE only allowed during your turn.";
+        if (!deeds.isStreet(idx)) return "SELL_HOUSE only applies to street properties.";
+        if (!state.isOwnedBy(idx, state.getCurrentPlayerIndex())) return "You do not own this property.";
+        if (state.isMortgaged(idx)) return "Cannot sell buildings on a mortgaged property.";
+        if (state.hasHotel(idx)) return "This property has a hotel. Use SELL_HOTEL first.";
+        if (state.getHouses(idx) <= 0) return "No houses to sell on this property.";
+
+        // Even-selling rule: across the group, max-min <= 1 must still hold AFTER selling
+        if (!respectsEvenSelling(idx, state.getHouses(idx) - 1)) {
+            return "Even-building rule violated: sell evenly across the set.";
+        }
+        return null;
+    }
+
+    private String sellHotelRejection(int idx) {
+        if (!isOwnTurnPhase()) return "SELL_HOTEL only allowed during your turn.";
+        if (!deeds.isStreet(idx)) return "SELL_HOTEL only applies to street properties.";
+        if (!state.isOwnedBy(idx, state.getCurrentPlayerIndex())) return "You do not own this property.";
+        if (state.isMortgaged(idx)) return "Cannot sell buildings on a mortgaged property.";
+        if (!state.hasHotel(idx)) return "No hotel to sell on this property.";
+
+        // Selling a hotel typically turns it back into 4 houses.
+        // That requires 4 houses to be available in the bank.
+        if (state.getHousesRemaining() < 4) {
+            return "Cannot sell hotel because bank does not have 4 houses available to replace it.";
+        }
+
+        // Even rule: after sale, this tile will have 4 houses; ensure group doesn't violate evenness
+        if (!respectsEvenSelling(idx, 4)) return "Even-building rule violated: sell evenly across the set.";
+        return null;
+    }
+
+    private String mortgageRejection(int idx) {
+        if (!isOwnTurnPhase()) return "MORTGAGE is only allowed during your turn.";
+        if (!deeds.isDeed(idx)) return "Tile is not mortgageable.";
+        if (!state.isOwnedBy(idx, state.getCurrentPlayerIndex())) return "You do not own this tile.";
+        if (state.isMortgaged(idx)) return "Already mortgaged.";
+
+        // Streets: must have no buildings
+        if (deeds.isStreet(idx) && state.getBuildings(idx) > 0) {
+            return "You must sell buildings before mortgaging a street (selling not implemented yet).";
+        }
+        return null;
+    }
+
+    /** Structural checks only; affordability is handled by the caller (the handler moves to debt on failure). */
+    private String unmortgageRejection(int idx) {
+        if (!isOwnTurnPhase()) return "UNMORTGAGE is only allowed during your turn (management/end/debt).";
+        if (!deeds.isDeed(idx)) return "Tile is not a deed and cannot be unmortgaged.";
+        if (!state.isOwnedBy(idx, state.getCurrentPlayerIndex())) return "You do not own this tile.";
+        if (!state.isMortgaged(idx)) return "Tile is not mortgaged.";
+        return null;
+    }
+
+    private int unmortgageCost(int idx) {
+        int mortgageValue = deeds.getMortgage(idx);
+        return mortgageValue + (mortgageValue + 9) / 10; // mortgage + ceil(10%)
+    }
+
+    /** Phase-only END_TURN checks (the handler deals with negative cash first). */
+    private String endTurnPhaseRejection() {
+        switch (state.getPhase()) {
+            case LANDED_DECISION -> { return "You must BUY_PROPERTY or START_AUCTION first."; }
+            case MUST_ROLL, CAN_ROLL_AGAIN -> { return "You must roll (or finish doubles sequence) before ending turn."; }
+            case IN_JAIL_DECISION -> { return "You must resolve your jail turn first (ROLL_DICE / etc.)."; }
+            case AUCTION_ACTIVE -> { return "The auction must finish before the turn can end."; }
+            case TRADE_RESPONSE -> { return "The pending trade must be answered first."; }
+            default -> { return null; }
+        }
+    }
+
+    /** END_TURN as the generator sees it: with negative cash it is only legal as a bankruptcy declaration. */
+    private String endTurnRejection() {
+        if (state.getCurrentPlayer().getCash() < 0) {
+            return canRaiseCashByMortgage() ? "You cannot end your turn with cash below 0. Use MORTGAGE to raise cash." : null;
+        }
+        return endTurnPhaseRejection();
+    }
+
+    private String tradeResponseRejection(TradeResponse response) {
+        if (!state.hasPendingTrade()) return "No pending trade.";
+        if (state.getPhase() != TurnPhase.TRADE_RESPONSE) return "Not currently in TRADE_RESPONSE phase.";
+
+        TradeOffer offer = state.getPendingTrade();
+        int current = state.getCurrentPlayerIndex(); // during TRADE_RESPONSE this is the responder
+        if (response == TradeResponse.CANCEL) {
+            if (current != offer.getFromPlayerIndex()) return "Only the proposer may cancel the trade.";
+        } else if (current != offer.getToPlayerIndex()) {
+            // ACCEPT / REJECT done by receiver
+            return "Only the receiver may accept/reject the trade.";
+        }
+        return null;
+    }
+
+    private boolean isOwnTurnPhase() {
+        TurnPhase ph = state.getPhase();
+        return ph == TurnPhase.MANAGEMENT || ph == TurnPhase.TURN_END || ph == TurnPhase.MUST_RESOLVE_DEBT;
+    }
+
     // ------------------ Core flow: roll -> land -> decision/rent ------------------
 
     private ActionResult handleRoll() {
         Player p = state.getCurrentPlayer();
 
-        if (state.getPhase() != TurnPhase.MUST_ROLL
-                && state.getPhase() != TurnPhase.CAN_ROLL_AGAIN
-                && state.getPhase() != TurnPhase.IN_JAIL_DECISION) {
-            return ActionResult.fail("Not allowed to roll right now.");
-        }
+        String why = rollRejection();
+        if (why != null) return fail(why);
 
         // Jail: simplified (try doubles; after attempts run out, pay fine and leave)
         if (p.isInJail()) {
@@ -122,7 +716,7 @@ public class GameEngine {
                 p.releaseFromJail();
                 movePlayerHandlingGo(p, r.total());
                 state.setLandedTileIndex(p.getPosition());
-                return afterLandingResolveOrPrompt(p, "Rolled " + r + " in jail: doubles -> released and moved.");
+                return afterLandingResolveOrPrompt(p, quiet ? null : new GameEvent.JailRoll(r, null, 0));
             } else {
                 p.decrementJailTurn();
                 if (p.getJailTurnsRemaining() <= 0) {
@@ -135,13 +729,11 @@ public class GameEngine {
                     state.setLandedTileIndex(p.getPosition());
 
                     updateDebtPhaseIfNeeded(p);
-                    return afterLandingResolveOrPrompt(p,
-                            "Rolled " + r + " (no doubles). Out of attempts: paid £" + config.getJailFine()
-                                    + ", rolled " + exit + " and moved.");
+                    return afterLandingResolveOrPrompt(p, quiet ? null : new GameEvent.JailRoll(r, exit, config.getJailFine()));
                 }
 
                 state.setPhase(TurnPhase.TURN_END);
-                return ActionResult.ok("Rolled " + r + " (no doubles). Remains in jail.", "Action: END_TURN");
+                return quiet ? ActionResult.ok() : ActionResult.ok(new GameEvent.JailRoll(r, null, 0), PROMPT_END_TURN);
             }
         }
 
@@ -154,14 +746,14 @@ public class GameEngine {
             if (state.getDoublesThisTurn() >= 3) {
                 p.sendToJail(config.getJailMaxTurns());
                 state.setPhase(TurnPhase.TURN_END);
-                return ActionResult.ok(p.getName() + " rolled " + roll + " (3rd double) -> sent to JAIL.", "Action: END_TURN");
+                return quiet ? ActionResult.ok() : ActionResult.ok(new GameEvent.JailedForDoubles(p.getName(), roll), PROMPT_END_TURN);
             }
         }
 
         movePlayerHandlingGo(p, roll.total());
         state.setLandedTileIndex(p.getPosition());
 
-        ActionResult landing = afterLandingResolveOrPrompt(p, p.getName() + " rolled " + roll + " and moved.");
+        ActionResult landing = afterLandingResolveOrPrompt(p, quiet ? null : new GameEvent.Rolled(p.getName(), roll));
 
         // If doubles and you’re not forced into debt/decision, allow rolling again.
         if (roll.isDouble() && state.getPhase() == TurnPhase.MANAGEMENT && p.getCash() >= 0) {
@@ -182,22 +774,13 @@ public class GameEngine {
     private ActionResult handleUseGetOutOfJailFree() {
         Player p = state.getCurrentPlayer();
 
-        if (state.getPhase() != TurnPhase.IN_JAIL_DECISION) {
-            return ActionResult.fail("You can only use a Get Out of Jail Free card while making a jail decision.");
-        }
-
-        if (!p.isInJail()) {
-            return ActionResult.fail("You are not in jail.");
-        }
-
-        if (!p.hasGetOutOfJailFreeCard()) {
-            return ActionResult.fail("You do not have a Get Out of Jail Free card.");
-        }
+        String why = useJailCardRejection();
+        if (why != null) return fail(why);
 
         // Remove from player and return to correct deck bottom
         Card card = p.useGetOutOfJailFreeCard();
         if (card == null) {
-            return ActionResult.fail("No Get Out of Jail Free card available.");
+            return fail("No Get Out of Jail Free card available.");
         }
 
         if (card.getType() == CardType.CHANCE) {
@@ -210,11 +793,7 @@ public class GameEngine {
         p.releaseFromJail(); // use your existing method name; if it's different, change this one call
         state.setPhase(TurnPhase.MUST_ROLL);
 
-        return ActionResult.ok(
-                p.getName() + " uses a Get Out of Jail Free card (" + card.getType() + ").",
-                "Card returned to bottom of " + card.getType() + " deck.",
-                "Action: ROLL_DICE"
-        );
+        return quiet ? ActionResult.ok() : ActionResult.ok(new GameEvent.JailCardUsed(p.getName(), card.getType()), PROMPT_ROLL);
     }
 
     /**
@@ -223,10 +802,9 @@ public class GameEngine {
      * - else if owned: pay rent (unless mortgaged or self), then maybe debt
      * - else: MANAGEMENT (where build/mortgage is allowed)
      */
-    private ActionResult afterLandingResolveOrPrompt(Player p, String prefixEvent) {
+    private ActionResult afterLandingResolveOrPrompt(Player p, GameEvent prefixEvent) {
         int idx = p.getPosition();
         Tile landedTile = state.getBoard().tileAt(idx);
-        Object deed = deedsByIndex.get(idx);
 
         if (landedTile.getType() == TileType.CHANCE) {
             return resolveChance();
@@ -237,43 +815,35 @@ public class GameEngine {
 
 
         // Not buyable
-        if (deed == null) {
+        if (!deeds.isDeed(idx)) {
             state.setPhase(TurnPhase.MANAGEMENT);
-            return ActionResult.ok(
-                    prefixEvent,
-                    p.getName() + " landed on " + landedTile.getName() + " (tile " + idx + ")",
-                    "Action: END_TURN (or BUILD/MORTGAGE)"
-            );
+            if (quiet) return ActionResult.ok();
+            return ActionResult.ok(prefixEvent, new GameEvent.Landed(p.getName(), idx, landedTile.getName()), PROMPT_MANAGE);
         }
 
-        PropertyState ps = state.getPropertyState(idx);
 
         // Unowned -> must BUY or AUCTION
-        if (ps.getOwnerPlayerIndex() == null) {
+        if (state.getOwner(idx) == GameState.UNOWNED) {
             state.setPhase(TurnPhase.LANDED_DECISION);
-            int price = getPurchasePrice(deed);
-            return ActionResult.ok(
-                    prefixEvent,
-                    p.getName() + " landed on unowned buyable tile " + idx + " (price £" + price + ")",
-                    "Action: BUY_PROPERTY or START_AUCTION"
-            );
+            if (quiet) return ActionResult.ok();
+            return ActionResult.ok(prefixEvent, new GameEvent.LandedUnowned(p.getName(), idx, deeds.getPrice(idx)), PROMPT_BUY_OR_AUCTION);
         }
 
         // Owned by self -> no rent
-        if (ps.getOwnerPlayerIndex() == state.getCurrentPlayerIndex()) {
+        if (state.getOwner(idx) == state.getCurrentPlayerIndex()) {
             state.setPhase(TurnPhase.MANAGEMENT);
-            return ActionResult.ok(prefixEvent, "Landed on owned tile " + idx + " (no rent).", "Action: END_TURN (or BUILD/MORTGAGE)");
+            return quiet ? ActionResult.ok() : ActionResult.ok(prefixEvent, new GameEvent.NoRent(idx, false), PROMPT_MANAGE);
         }
 
         // Mortgaged -> no rent
-        if (ps.isMortgaged()) {
+        if (state.isMortgaged(idx)) {
             state.setPhase(TurnPhase.MANAGEMENT);
-            return ActionResult.ok(prefixEvent, "Landed on mortgaged tile " + idx + " (no rent).", "Action: END_TURN (or BUILD/MORTGAGE)");
+            return quiet ? ActionResult.ok() : ActionResult.ok(prefixEvent, new GameEvent.NoRent(idx, true), PROMPT_MANAGE);
         }
 
         // Pay rent
-        int rent = computeRent(idx, deed, ps);
-        int ownerIdx = ps.getOwnerPlayerIndex();
+        int rent = computeRent(idx);
+        int ownerIdx = state.getOwner(idx);
         Player owner = state.getPlayers().get(ownerIdx);
 
         p.subtractCash(rent);
@@ -282,47 +852,38 @@ public class GameEngine {
         updateDebtPhaseIfNeeded(p);
 
         if (state.getPhase() == TurnPhase.MUST_RESOLVE_DEBT) {
-            return ActionResult.ok(
-                    prefixEvent,
-                    p.getName() + " landed on tile " + idx + " and owes rent £" + rent + " to " + owner.getName(),
-                    p.getName() + " cash is now £" + p.getCash() + " -> MUST RESOLVE DEBT (MORTGAGE)."
-            );
+            if (quiet) return ActionResult.ok();
+            return ActionResult.ok(prefixEvent, new GameEvent.RentPaid(p.getName(), owner.getName(), idx, rent),
+                    new GameEvent.InDebt(p.getName(), p.getCash()));
         }
 
         state.setPhase(TurnPhase.MANAGEMENT);
-        return ActionResult.ok(prefixEvent, p.getName() + " paid rent £" + rent + " to " + owner.getName(),
-                "Action: END_TURN (or BUILD/MORTGAGE)");
+        if (quiet) return ActionResult.ok();
+        return ActionResult.ok(prefixEvent, new GameEvent.RentPaid(p.getName(), owner.getName(), idx, rent), PROMPT_MANAGE);
     }
 
     // ------------------ BUY / AUCTION ------------------
 
     private ActionResult handleBuy() {
-        if (state.getPhase() != TurnPhase.LANDED_DECISION) {
-            return ActionResult.fail("BUY_PROPERTY only allowed immediately after landing on an unowned buyable tile.");
-        }
+        String why = buyRejection();
+        if (why != null) return fail(why);
 
         Player p = state.getCurrentPlayer();
         int idx = state.getLandedTileIndex();
-        Object deed = deedsByIndex.get(idx);
-        PropertyState ps = state.getPropertyState(idx);
 
-        if (deed == null) return ActionResult.fail("This tile is not buyable.");
-        if (ps.getOwnerPlayerIndex() != null) return ActionResult.fail("Tile is already owned.");
-
-        int price = getPurchasePrice(deed);
+        int price = deeds.getPrice(idx);
         p.subtractCash(price);
-        ps.setOwnerPlayerIndex(state.getCurrentPlayerIndex());
+        state.setOwner(idx, state.getCurrentPlayerIndex());
 
         updateDebtPhaseIfNeeded(p);
         if (state.getPhase() == TurnPhase.MUST_RESOLVE_DEBT) {
-            return ActionResult.ok(
-                    p.getName() + " bought tile " + idx + " for £" + price,
-                    "Cash is now £" + p.getCash() + " -> MUST RESOLVE DEBT (MORTGAGE)."
-            );
+            if (quiet) return ActionResult.ok();
+            return ActionResult.ok(new GameEvent.Purchased(p.getName(), idx, price), new GameEvent.InDebt(p.getName(), p.getCash()));
         }
 
         state.setPhase(TurnPhase.MANAGEMENT);
-        return ActionResult.ok(p.getName() + " bought tile " + idx + " for £" + price, "Action: END_TURN (or BUILD/MORTGAGE)");
+        if (quiet) return ActionResult.ok();
+        return ActionResult.ok(new GameEvent.Purchased(p.getName(), idx, price), PROMPT_MANAGE);
     }
 
     /**
@@ -331,54 +892,42 @@ public class GameEngine {
      */
     private ActionResult handleStartAuction() {
         // Allow starting auction when you have just landed on unowned buyable tile
-        if (state.getPhase() != TurnPhase.LANDED_DECISION) {
-            return ActionResult.fail("START_AUCTION only allowed immediately after landing on an unowned buyable tile.");
-        }
+        String why = startAuctionRejection();
+        if (why != null) return fail(why);
 
         int tileIdx = state.getLandedTileIndex();
-        Object deed = deedsByIndex.get(tileIdx);
-        if (deed == null) return ActionResult.fail("This tile is not auctionable.");
-        PropertyState ps = state.getPropertyState(tileIdx);
-        if (ps.getOwnerPlayerIndex() != null) return ActionResult.fail("Tile is already owned.");
 
         state.startAuction(tileIdx, state.getCurrentPlayerIndex());
         state.setPhase(TurnPhase.AUCTION_ACTIVE);
+        for (int i = 0; i < state.getPlayers().size(); i++) {
+            if (state.isAuctionBidderActive(i)) estimateMaxBidHeuristic(i, tileIdx); // caches it
+        }
 
+        if (quiet) return ActionResult.ok();
         int bidder = state.getAuctionCurrentBidderIndex();
-        return ActionResult.ok(
-                "Auction started for tile " + tileIdx + ".",
-                "Current bidder: " + state.getPlayers().get(bidder).getName(),
-                "Action: AUCTION_BID(amount) or AUCTION_PASS"
-        );
+        return ActionResult.ok(new GameEvent.AuctionStarted(tileIdx, state.getPlayers().get(bidder).getName()), PROMPT_BID_OR_PASS);
     }
 
     private ActionResult handleAuctionBid(Integer bidAmount) {
-        if (state.getPhase() != TurnPhase.AUCTION_ACTIVE || !state.isAuctionInProgress()) {
-            return ActionResult.fail("No auction is active.");
+        if (bidAmount == null) {
+            String why = auctionPassRejection();
+            return fail(why != null ? why : "AUCTION_BID requires an amount.");
         }
-        if (bidAmount == null) return ActionResult.fail("AUCTION_BID requires an amount.");
 
         int bidderIdx = state.getAuctionCurrentBidderIndex();
         Player bidder = state.getPlayers().get(bidderIdx);
 
-        if (!state.isAuctionBidderActive(bidderIdx)) {
-            return ActionResult.fail("You have already passed and cannot bid.");
-        }
-        if (bidder.isBankrupt()) {
-            state.auctionPass(bidderIdx);
-            state.advanceToNextActiveBidder();
-            return ActionResult.fail("Bankrupt players cannot bid.");
+        String why = bidRejection(bidAmount);
+        if (why != null) {
+            // a bankrupt bidder who tries to bid is passed for them
+            if (auctionPassRejection() == null && state.isAuctionBidderActive(bidderIdx) && bidder.isBankrupt()) {
+                state.auctionPass(bidderIdx);
+                state.advanceToNextActiveBidder();
+            }
+            return fail(why);
         }
 
-        int currentHigh = state.getAuctionHighBid();
-        if (bidAmount <= currentHigh) {
-            return ActionResult.fail("Bid must be higher than current high bid (£" + currentHigh + ").");
-        }
-
-        // Enforce “cannot end turn negative” by never allowing bids that would make cash negative
-        if (bidAmount > bidder.getCash()) {
-            return ActionResult.fail("Bid exceeds bidder cash. Cash: £" + bidder.getCash());
-        }
+        if (auctionFormat.isSealed()) return handleSealedBid(bidderIdx, bidAmount);
 
         // Accept bid
         state.setAuctionHighBid(bidAmount, bidderIdx);
@@ -391,32 +940,35 @@ public class GameEngine {
             return finalizeAuction();
         }
 
+        if (quiet) return ActionResult.ok();
         return ActionResult.ok(
-                bidder.getName() + " bids £" + bidAmount + " (new high bid).",
-                "Next bidder: " + state.getPlayers().get(next).getName(),
+                new GameEvent.AuctionBid(bidder.getName(), bidAmount, state.getPlayers().get(next).getName()),
                 hintHeuristicForCurrentBidder()
         );
     }
 
     private ActionResult handleAuctionPass() {
-        if (state.getPhase() != TurnPhase.AUCTION_ACTIVE || !state.isAuctionInProgress()) {
-            return ActionResult.fail("No auction is active.");
-        }
+        String why = auctionPassRejection();
+        if (why != null) return fail(why);
 
         int bidderIdx = state.getAuctionCurrentBidderIndex();
         Player bidder = state.getPlayers().get(bidderIdx);
 
         state.auctionPass(bidderIdx);
 
+        // the last sealed bid in settles the auction, whoever passed
+        if (auctionFormat.isSealed() && state.auctionActiveCount() == 0) return settleSealedAuction();
+
         // If nobody left active OR nobody ever bid, handle both cases cleanly
         if (state.auctionActiveCount() == 0) {
             int tileIdx = state.getAuctionTileIndex();
             state.endAuction();
             state.setPhase(TurnPhase.MANAGEMENT);
+            if (quiet) return ActionResult.ok();
             return ActionResult.ok(
-                    bidder.getName() + " passes.",
-                    "All players passed. No sale. Tile " + tileIdx + " remains unowned.",
-                    "Action: END_TURN (or BUILD/MORTGAGE)"
+                    new GameEvent.AuctionPassed(bidder.getName(), null),
+                    new GameEvent.AuctionNoSale(tileIdx, true),
+                    PROMPT_MANAGE
             );
         }
 
@@ -427,16 +979,76 @@ public class GameEngine {
 
         // Otherwise continue to next bidder
         int next = state.advanceToNextActiveBidder();
+        if (quiet) return ActionResult.ok();
         return ActionResult.ok(
-                bidder.getName() + " passes.",
-                "Next bidder: " + state.getPlayers().get(next).getName(),
+                new GameEvent.AuctionPassed(bidder.getName(), state.getPlayers().get(next).getName()),
                 hintHeuristicForCurrentBidder()
         );
     }
+    /** Records the bid unseen; the bidder is then done, like a pass. */
+    private ActionResult handleSealedBid(int bidderIdx, int bidAmount) {
+        state.setAuctionSealedBid(bidderIdx, bidAmount);
+        state.auctionPass(bidderIdx);
+        if (state.auctionActiveCount() == 0) return settleSealedAuction();
+
+        int next = state.advanceToNextActiveBidder();
+        if (quiet) return ActionResult.ok();
+        return ActionResult.ok(
+                new GameEvent.SealedBid(state.getPlayers().get(bidderIdx).getName(), state.getPlayers().get(next).getName()),
+                hintHeuristicForCurrentBidder()
+        );
+    }
+
+    /**
+     * For search forks, which copy the sealed bids already submitted: replaces the bid
+     * (or pass) of every seat but {@code viewer} that has already submitted with
+     * {@code guess.applyAsInt(seat)}, so a search for {@code viewer} only plays against
+     * bids it could have guessed. No effect outside a sealed-bid auction.
+     */
+    public void hideSealedBids(int viewer, IntUnaryOperator guess) {
+        if (!auctionFormat.isSealed() || !state.isAuctionInProgress()) return;
+        List<Player> players = state.getPlayers();
+        for (int i = 0; i < players.size(); i++) {
+            // a live seat no longer active has submitted (bankrupt seats never bid)
+            if (i == viewer || players.get(i).isBankrupt() || state.isAuctionBidderActive(i)) continue;
+            state.setAuctionSealedBid(i, Math.max(0, guess.applyAsInt(i)));
+        }
+    }
+
+    /** Opens the sealed bids, sets the price as the high bid and hands over to finalizeAuction. */
+    private ActionResult settleSealedAuction() {
+        List<Player> players = state.getPlayers();
+        int seats = players.size();
+        int winner = -1;
+        int best = 0;
+        int second = 0;
+        for (int step = 0; step < seats; step++) {
+            // from the player who started the auction, so ties go to the earliest bidder
+            int idx = (state.getCurrentPlayerIndex() + step) % seats;
+            int bid = state.getAuctionSealedBid(idx);
+            if (bid > best) {
+                second = best;
+                best = bid;
+                winner = idx;
+            } else if (bid > second) {
+                second = bid;
+            }
+        }
+
+        if (winner >= 0) {
+            int price = best;
+            if (auctionFormat == AuctionFormat.SEALED_SECOND_PRICE) {
+                int opening = Integer.MAX_VALUE;
+                for (int inc : legalBidIncrements) opening = Math.min(opening, inc);
+                price = Math.min(best, Math.max(second, opening));
+            }
+            state.setAuctionHighBid(price, winner);
+        }
+        return finalizeAuction();
+    }
+
     private ActionResult finalizeAuction() {
         int tileIdx = state.getAuctionTileIndex();
-        Object deed = deedsByIndex.get(tileIdx);
-        PropertyState ps = state.getPropertyState(tileIdx);
 
         Integer winnerIdx = state.getAuctionHighBidderIndex();
         int winningBid = state.getAuctionHighBid();
@@ -445,11 +1057,7 @@ public class GameEngine {
         if (winnerIdx == null) {
             state.endAuction();
             state.setPhase(TurnPhase.MANAGEMENT);
-            return ActionResult.ok(
-                    "Auction ended. No bids placed.",
-                    "Tile " + tileIdx + " remains unowned.",
-                    "Action: END_TURN (or BUILD/MORTGAGE)"
-            );
+            return quiet ? ActionResult.ok() : ActionResult.ok(new GameEvent.AuctionNoSale(tileIdx, false), PROMPT_MANAGE);
         }
 
         Player winner = state.getPlayers().get(winnerIdx);
@@ -459,46 +1067,159 @@ public class GameEngine {
             // If this ever happens, it means cash changed mid-auction (it shouldn't in your current model).
             state.endAuction();
             state.setPhase(TurnPhase.MANAGEMENT);
-            return ActionResult.fail("Auction winner cannot afford winning bid. Auction cancelled.");
+            return fail("Auction winner cannot afford winning bid. Auction cancelled.");
         }
 
         winner.subtractCash(winningBid);
-        ps.setOwnerPlayerIndex(winnerIdx);
+        state.setOwner(tileIdx, winnerIdx);
 
         state.endAuction();
         state.setPhase(TurnPhase.MANAGEMENT);
 
         updateDebtPhaseIfNeeded(winner);
+        if (quiet) return ActionResult.ok();
+        GameEvent won = new GameEvent.AuctionWon(winner.getName(), tileIdx, winningBid);
         if (state.getPhase() == TurnPhase.MUST_RESOLVE_DEBT) {
-            return ActionResult.ok(
-                    "Auction won by " + winner.getName() + " for £" + winningBid + " (tile " + tileIdx + ").",
-                    "Winner cash now £" + winner.getCash() + " -> MUST RESOLVE DEBT (MORTGAGE)."
-            );
+            return ActionResult.ok(won, new GameEvent.InDebt(winner.getName(), winner.getCash()));
         }
 
-        return ActionResult.ok(
-                "Auction won by " + winner.getName() + " for £" + winningBid + " (tile " + tileIdx + ").",
-                "Action: END_TURN (or BUILD/MORTGAGE)"
-        );
+        return ActionResult.ok(won, PROMPT_MANAGE);
+    }
+
+    /**
+     * Resolves the active auction in one undoable step, exactly as if every remaining
+     * bidder, in turn, bid {@code increment} over the high bid while that stayed within
+     * {@code maxBids[bidder]} (and their cash), and passed otherwise.
+     *
+     * Every bid raises the high bid by the same step, so bidder i bids on a turn iff
+     * fewer than floor((max_i - high) / increment) bids have been made. Whole rounds in
+     * which nobody drops out are skipped at once; every other round loses a bidder, so
+     * the cost is O(players^2) whatever the price. The winner pays the second-highest
+     * reservation plus at most one increment, as in the incremental protocol.
+     *
+     * Sorting the limits once would find the price in O(players log players), but not
+     * always the winner. The protocol ends as soon as one bidder is left, so where each
+     * bidder drops out in the turn order can decide the auction. Replaying the drop-outs
+     * keeps the result identical, and with at most a handful of seats the difference
+     * does not matter.
+     *
+     * {@code maxBids} is indexed by seat; entries for inactive bidders are ignored.
+     * English auctions only.
+     */
+    public ActionResult resolveAuction(int[] maxBids, int increment) {
+        beginUndoStep();
+        String why = auctionPassRejection();
+        if (why != null) return fail(why);
+        if (auctionFormat.isSealed()) return fail("Sealed-bid auctions take one bid per player, not a resolution.");
+        if (increment <= 0) throw new IllegalArgumentException("increment must be positive: " + increment);
+
+        List<Player> players = state.getPlayers();
+        int seats = players.size();
+        if (maxBids.length < seats) throw new IllegalArgumentException("Need a maximum bid per seat (" + seats + ").");
+        if (auctionOrder == null || auctionOrder.length < seats) {
+            auctionOrder = new int[seats];
+            auctionBids = new int[seats];
+        }
+        int[] order = auctionOrder;
+        int[] limit = auctionBids;
+
+        int start = state.getAuctionHighBid();
+        int count = 0;
+        for (int step = 0; step < seats; step++) {
+            int idx = (state.getAuctionCurrentBidderIndex() + step) % seats;
+            if (!state.isAuctionBidderActive(idx)) continue;
+            Player p = players.get(idx);
+            // bankrupt bidders are passed; bids above cash are refused
+            int cap = p.isBankrupt() ? -1 : Math.min(maxBids[idx], p.getCash());
+            order[count] = idx;
+            limit[count] = cap < start ? 0 : (cap - start) / increment;
+            count++;
+        }
+
+        Integer high = state.getAuctionHighBidderIndex();
+        int highBidder = high == null ? -1 : high;
+        int bids = 0;
+        int pos = 0; // order[pos] is next to act
+        while (count > 0 && !(count == 1 && highBidder >= 0)) {
+            if (count >= 2) {
+                // full rounds from pos in which every bidder still bids
+                int rounds = Integer.MAX_VALUE;
+                for (int q = 0; q < count; q++) {
+                    int room = limit[(pos + q) % count] - bids - q;
+                    rounds = Math.min(rounds, room <= 0 ? 0 : (room + count - 1) / count);
+                }
+                if (rounds > 0) {
+                    bids += rounds * count;
+                    highBidder = order[(pos + count - 1) % count];
+                }
+            }
+
+            if (bids < limit[pos]) {
+                bids++;
+                highBidder = order[pos];
+                if (count <= 1) break;
+                pos = (pos + 1) % count;
+            } else {
+                // drop order[pos]; the next bidder moves into its slot
+                for (int j = pos; j < count - 1; j++) {
+                    order[j] = order[j + 1];
+                    limit[j] = limit[j + 1];
+                }
+                count--;
+                if (pos == count) pos = 0;
+            }
+        }
+
+        if (bids > 0) state.setAuctionHighBid(start + bids * increment, highBidder);
+        return finalizeAuction();
     }
 
     /** Optional: prints a suggested max bid for the current bidder, using the simple heuristic. */
-    private String hintHeuristicForCurrentBidder() {
+    private GameEvent hintHeuristicForCurrentBidder() {
         int bidderIdx = state.getAuctionCurrentBidderIndex();
         int tileIdx = state.getAuctionTileIndex();
         int suggested = estimateMaxBidHeuristic(bidderIdx, tileIdx);
-        return "Heuristic: " + state.getPlayers().get(bidderIdx).getName() + " maxBid≈£" + suggested
-                + " (current high £" + state.getAuctionHighBid() + ")";
+        return new GameEvent.AuctionHint(state.getPlayers().get(bidderIdx).getName(), suggested, state.getAuctionHighBid());
     }
 
+    /**
+     * A rough cap on what {@code bidderIdx} should pay for {@code tileIdx}: expected rent
+     * over a short horizon, limited by cash above a reserve. For the tile under auction
+     * the answer is cached on the state once per bidder (see
+     * {@link GameState#getAuctionValuation}); the cache is filled when the auction starts.
+     */
     public int estimateMaxBidHeuristic(int bidderIdx, int tileIdx) {
-        Player bidder = state.getPlayers().get(bidderIdx);
-        Object deed = deedsByIndex.get(tileIdx);
-        if (deed == null) return 0;
+        boolean auctioned = state.isAuctionInProgress() && state.getAuctionTileIndex() == tileIdx;
+        if (auctioned) {
+            int cached = state.getAuctionValuation(bidderIdx);
+            if (cached != GameState.NO_VALUATION) return cached;
+        }
+        int cap = computeMaxBidHeuristic(bidderIdx, tileIdx);
+        if (auctioned) state.setAuctionValuation(bidderIdx, cap);
+        return cap;
+    }
+
+    private int computeMaxBidHeuristic(int bidderIdx, int tileIdx) {
+        if (!deeds.isDeed(tileIdx)) return 0;
+        int safetyReserve = 200;    // keep cash buffer; easy to tune
+
+        // Convert to a bid cap:
+        // - never bid more than you can afford while keeping safetyReserve (unless you’re poor already)
+        int capByCash = Math.max(0, state.getPlayers().get(bidderIdx).getCash() - safetyReserve);
+        int capByEV = estimateTileValueHeuristic(bidderIdx, tileIdx);
 
-        // Placeholder landing probability per opponent per turn.
-        // Replace later with Markov-chain landing probabilities.
-        double pLandingPerTurn = 1.0 / 40.0;
+        return Math.max(0, Math.min(capByCash, capByEV));
+    }
+
+    /**
+     * The expected-rent half of {@link #estimateMaxBidHeuristic}, before any cash limit:
+     * what owning {@code tileIdx} is worth to {@code bidderIdx} over a short horizon.
+     */
+    public int estimateTileValueHeuristic(int bidderIdx, int tileIdx) {
+        if (!deeds.isDeed(tileIdx)) return 0;
+
+        // Long-run landings on this tile per opponent turn
+        double pLandingPerTurn = landing.landingProbability(tileIdx);
 
         int opponents = 0;
         for (int i = 0; i < state.getPlayers().size(); i++) {
@@ -506,234 +1227,121 @@ public class GameEngine {
         }
 
         int horizonTurns = 20;      // short horizon; easy to tune
-        int safetyReserve = 200;    // keep cash buffer; easy to tune
 
         double expectedRentPerLanding = 0.0;
 
-        if (deed instanceof StreetDeed sd) {
-            // If bidder would complete the set, value it higher.
-            boolean completesSet = wouldCompleteSetIfOwned(bidderIdx, sd);
-            boolean alreadyHasSet = ownsFullStreetGroupFor(bidderIdx, sd.group);
-
-            // Use site rent normally; if (already has set or completes set) assume 1 house rent potential
-            int rentLevel = 0; // site
-            if (alreadyHasSet || completesSet) rentLevel = 1; // 1 house "potential"
-            expectedRentPerLanding = sd.rents[rentLevel];
-
-            // Add a completion bonus to reflect development potential
-            if (completesSet) expectedRentPerLanding *= 1.35;
-        } else if (deed instanceof RailroadDeed rd) {
-            int owned = countOwnedRailroadsFor(bidderIdx);
-            int after = Math.min(4, owned + 1);
-            expectedRentPerLanding = rd.rentByCount[after - 1];
-        } else if (deed instanceof UtilityDeed ud) {
-            int owned = countOwnedUtilitiesFor(bidderIdx);
-            int after = Math.min(2, owned + 1);
-            int mult = (after >= 2) ? ud.multiplierIfTwo : ud.multiplierIfOne;
-            double avgRoll = 7.0;
-            expectedRentPerLanding = avgRoll * mult;
+        switch (deeds.getKind(tileIdx)) {
+            case STREET -> {
+                // If bidder would complete the set, value it higher.
+                boolean completesSet = wouldCompleteSetIfOwned(bidderIdx, tileIdx);
+                boolean alreadyHasSet = ownsFullStreetGroupFor(bidderIdx, deeds.getGroup(tileIdx));
+
+                // Use site rent normally; if (already has set or completes set) assume 1 house rent potential
+                int rentLevel = 0; // site
+                if (alreadyHasSet || completesSet) rentLevel = 1; // 1 house "potential"
+                expectedRentPerLanding = deeds.getRent(tileIdx, rentLevel);
+
+                // Add a completion bonus to reflect development potential
+                if (completesSet) expectedRentPerLanding *= 1.35;
+            }
+            case STATION -> {
+                int owned = countOwnedRailroads(bidderIdx);
+                int after = Math.min(4, owned + 1);
+                expectedRentPerLanding = deeds.getRent(tileIdx, after - 1);
+            }
+            case UTILITY -> {
+                int owned = countOwnedUtilities(bidderIdx);
+                int after = Math.min(2, owned + 1);
+                int mult = deeds.getRent(tileIdx, after - 1);
+                double avgRoll = 7.0;
+                expectedRentPerLanding = avgRoll * mult;
+            }
+            default -> { }
         }
 
         // expected value over horizon: opponents × turns × P(landing) × rent
         double ev = opponents * horizonTurns * pLandingPerTurn * expectedRentPerLanding;
-
-        // Convert to a bid cap:
-        // - never bid more than you can afford while keeping safetyReserve (unless you’re poor already)
-        int capByCash = Math.max(0, bidder.getCash() - safetyReserve);
-        int capByEV = (int) Math.floor(ev);
-
-        return Math.max(0, Math.min(capByCash, capByEV));
+        return (int) Math.floor(ev);
     }
 
 // --- helpers for heuristic (bidder-specific ownership checks) ---
 
-    private boolean ownsFullStreetGroupFor(int bidderIdx, monopoly.setup.ColourGroup group) {
-        for (var e : deedsByIndex.entrySet()) {
-            Object deed = e.getValue();
-            if (deed instanceof StreetDeed sd && sd.group == group) {
-                PropertyState ps = state.getPropertyState(sd.index);
-                if (ps.getOwnerPlayerIndex() == null || ps.getOwnerPlayerIndex() != bidderIdx) return false;
-            }
-        }
-        return true;
+    private boolean ownsFullStreetGroupFor(int bidderIdx, ColourGroup group) {
+        return state.ownsAll(bidderIdx, deeds.getGroupMask(group));
     }
 
-    private boolean wouldCompleteSetIfOwned(int bidderIdx, StreetDeed target) {
+    private boolean wouldCompleteSetIfOwned(int bidderIdx, int tileIdx) {
         // If bidder already owns all others in the group, then buying this completes it
-        for (var e : deedsByIndex.entrySet()) {
-            Object deed = e.getValue();
-            if (deed instanceof StreetDeed sd && sd.group == target.group) {
-                if (sd.index == target.index) continue;
-                PropertyState ps = state.getPropertyState(sd.index);
-                if (ps.getOwnerPlayerIndex() == null || ps.getOwnerPlayerIndex() != bidderIdx) return false;
-            }
-        }
-        return true;
-    }
-
-    private int countOwnedRailroadsFor(int bidderIdx) {
-        int count = 0;
-        for (var e : deedsByIndex.entrySet()) {
-            if (e.getValue() instanceof RailroadDeed) {
-                PropertyState ps = state.getPropertyState(e.getKey());
-                if (ps.getOwnerPlayerIndex() != null && ps.getOwnerPlayerIndex() == bidderIdx) count++;
-            }
-        }
-        return count;
-    }
-
-    private int countOwnedUtilitiesFor(int bidderIdx) {
-        int count = 0;
-        for (var e : deedsByIndex.entrySet()) {
-            if (e.getValue() instanceof UtilityDeed) {
-                PropertyState ps = state.getPropertyState(e.getKey());
-                if (ps.getOwnerPlayerIndex() != null && ps.getOwnerPlayerIndex() == bidderIdx) count++;
-            }
-        }
-        return count;
+        long others = deeds.getGroupMaskOf(tileIdx) & ~(1L << tileIdx);
+        return state.ownsAll(bidderIdx, others);
     }
 
-
-
     // ------------------ BUILD HOUSES / HOTELS (WITH GROUPS + SUPPLY LIMITS) ------------------
 
     private ActionResult handleBuildHouse(Integer tileIndex) {
-        if (tileIndex == null) return ActionResult.fail("BUILD_HOUSE requires tileIndex.");
-        if (state.getPhase() != TurnPhase.MANAGEMENT && state.getPhase() != TurnPhase.TURN_END) {
-            return ActionResult.fail("BUILD_HOUSE only allowed during your turn (management/end phase).");
-        }
-
+        if (tileIndex == null) return fail("BUILD_HOUSE requires tileIndex.");
         int idx = tileIndex;
-        Object deed = deedsByIndex.get(idx);
-        if (!(deed instanceof StreetDeed sd)) return ActionResult.fail("BUILD_HOUSE only applies to street properties.");
+        String why = buildHouseRejection(idx);
+        if (why != null) return fail(why);
 
-        PropertyState ps = state.getPropertyState(idx);
-        if (ps.getOwnerPlayerIndex() == null || ps.getOwnerPlayerIndex() != state.getCurrentPlayerIndex()) {
-            return ActionResult.fail("You do not own this property.");
-        }
-        if (ps.isMortgaged()) return ActionResult.fail("Cannot build on a mortgaged property.");
-        if (ps.hasHotel()) return ActionResult.fail("Already has a hotel.");
-        if (ps.getHouses() >= 4) return ActionResult.fail("Already has 4 houses (build hotel instead).");
-
-        // Must own the entire colour set
-        if (!ownsFullStreetGroup(sd)) {
-            return ActionResult.fail("You must own the entire colour group to build houses.");
-        }
-
-        // Even-building rule: across the set, max-min <= 1
-        if (!respectsEvenBuilding(sd, idx, ps.getHouses() + 1)) {
-            return ActionResult.fail("Even-building rule violated: build evenly across the set.");
-        }
-
-        // Bank supply limit: 32 houses total
-        if (!state.takeHouseFromBank()) {
-            return ActionResult.fail("No houses remaining in the bank (32 house limit reached).");
-        }
+        int houseCost = deeds.getHouseCost(idx);
+        state.takeHouseFromBank();
 
         Player p = state.getCurrentPlayer();
-        p.subtractCash(sd.houseCost);
-        ps.setBuildings(ps.getBuildings() + 1);
+        p.subtractCash(houseCost);
+        state.setBuildings(idx, state.getBuildings(idx) + 1);
 
         updateDebtPhaseIfNeeded(p);
+        if (quiet) return ActionResult.ok();
+        GameEvent built = new GameEvent.Built(idx, false, houseCost, state.getHouses(idx),
+                state.getHousesRemaining(), state.getHotelsRemaining());
         if (state.getPhase() == TurnPhase.MUST_RESOLVE_DEBT) {
-            return ActionResult.ok(
-                    "Built 1 house on tile " + idx + " for £" + sd.houseCost,
-                    "Cash is now £" + p.getCash() + " -> MUST RESOLVE DEBT (MORTGAGE)."
-            );
+            return ActionResult.ok(built, new GameEvent.InDebt(p.getName(), p.getCash()));
         }
 
-        return ActionResult.ok(
-                "Built 1 house on tile " + idx + " for £" + sd.houseCost,
-                "Houses now: " + ps.getHouses(),
-                "Bank supply now: houses=" + state.getHousesRemaining() + ", hotels=" + state.getHotelsRemaining(),
-                "Action: END_TURN (or BUILD/MORTGAGE)"
-        );
+        return ActionResult.ok(built, PROMPT_MANAGE);
     }
 
     private ActionResult handleBuildHotel(Integer tileIndex) {
-        if (tileIndex == null) return ActionResult.fail("BUILD_HOTEL requires tileIndex.");
-        if (state.getPhase() != TurnPhase.MANAGEMENT && state.getPhase() != TurnPhase.TURN_END) {
-            return ActionResult.fail("BUILD_HOTEL only allowed during your turn (management/end phase).");
-        }
-
+        if (tileIndex == null) return fail("BUILD_HOTEL requires tileIndex.");
         int idx = tileIndex;
-        Object deed = deedsByIndex.get(idx);
-        if (!(deed instanceof StreetDeed sd)) return ActionResult.fail("BUILD_HOTEL only applies to street properties.");
-
-        PropertyState ps = state.getPropertyState(idx);
-        if (ps.getOwnerPlayerIndex() == null || ps.getOwnerPlayerIndex() != state.getCurrentPlayerIndex()) {
-            return ActionResult.fail("You do not own this property.");
-        }
-        if (ps.isMortgaged()) return ActionResult.fail("Cannot build on a mortgaged property.");
-        if (ps.hasHotel()) return ActionResult.fail("Already has a hotel.");
-        if (ps.getHouses() != 4) return ActionResult.fail("Must have 4 houses on this property before building a hotel.");
-
-        // Must own the entire colour set
-        if (!ownsFullStreetGroup(sd)) {
-            return ActionResult.fail("You must own the entire colour group to build a hotel.");
-        }
+        String why = buildHotelRejection(idx);
+        if (why != null) return fail(why);
 
-        // Even-building requirement for hotels: all in set must have 4 houses before any hotel
-        if (!groupAllHaveFourHouses(sd)) {
-            return ActionResult.fail("Even-building rule: all properties in the set must have 4 houses before any hotel.");
-        }
-
-        // Bank supply limit: 12 hotels total
-        if (!state.takeHotelFromBank()) {
-            return ActionResult.fail("No hotels remaining in the bank (12 hotel limit reached).");
-        }
+        int houseCost = deeds.getHouseCost(idx);
+        state.takeHotelFromBank();
 
         // Standard rule: building a hotel returns 4 houses to the bank
         state.returnHousesToBank(4);
 
         Player p = state.getCurrentPlayer();
-        p.subtractCash(sd.houseCost);
-        ps.setBuildings(5); // hotel
+        p.subtractCash(houseCost);
+        state.setBuildings(idx, 5); // hotel
 
         updateDebtPhaseIfNeeded(p);
+        if (quiet) return ActionResult.ok();
+        GameEvent built = new GameEvent.Built(idx, true, houseCost, 0,
+                state.getHousesRemaining(), state.getHotelsRemaining());
         if (state.getPhase() == TurnPhase.MUST_RESOLVE_DEBT) {
-            return ActionResult.ok(
-                    "Built HOTEL on tile " + idx + " for £" + sd.houseCost,
-                    "Cash is now £" + p.getCash() + " -> MUST RESOLVE DEBT (MORTGAGE)."
-            );
+            return ActionResult.ok(built, new GameEvent.InDebt(p.getName(), p.getCash()));
         }
 
-        return ActionResult.ok(
-                "Built HOTEL on tile " + idx + " for £" + sd.houseCost,
-                "Bank supply now: houses=" + state.getHousesRemaining() + ", hotels=" + state.getHotelsRemaining(),
-                "Action: END_TURN (or BUILD/MORTGAGE)"
-        );
+        return ActionResult.ok(built, PROMPT_MANAGE);
     }
 
     private ActionResult handleSellHouse(Integer tileIndex) {
-        if (tileIndex == null) return ActionResult.fail("SELL_HOUSE requires tileIndex.");
-        if (state.getPhase() != TurnPhase.MANAGEMENT && state.getPhase() != TurnPhase.TURN_END && state.getPhase() != TurnPhase.MUST_RESOLVE_DEBT) {
-            return ActionResult.fail("SELL_HOUSE only allowed during your turn.");
-        }
-
+        if (tileIndex == null) return fail("SELL_HOUSE requires tileIndex.");
         int idx = tileIndex;
-        Object deed = deedsByIndex.get(idx);
-        if (!(deed instanceof StreetDeed sd)) return ActionResult.fail("SELL_HOUSE only applies to street properties.");
+        String why = sellHouseRejection(idx);
+        if (why != null) return fail(why);
 
-        PropertyState ps = state.getPropertyState(idx);
-        if (ps.getOwnerPlayerIndex() == null || ps.getOwnerPlayerIndex() != state.getCurrentPlayerIndex()) {
-            return ActionResult.fail("You do not own this property.");
-        }
-        if (ps.isMortgaged()) return ActionResult.fail("Cannot sell buildings on a mortgaged property.");
-        if (ps.hasHotel()) return ActionResult.fail("This property has a hotel. Use SELL_HOTEL first.");
-        if (ps.getHouses() <= 0) return ActionResult.fail("No houses to sell on this property.");
-
-        // Even-selling rule: across the group, max-min <= 1 must still hold AFTER selling
-        int newHouses = ps.getHouses() - 1;
-        if (!respectsEvenSelling(sd.group, idx, newHouses)) {
-            return ActionResult.fail("Even-building rule violated: sell evenly across the set.");
-        }
+        int houseCost = deeds.getHouseCost(idx);
 
         // execute sale
-        ps.setBuildings(ps.getBuildings() - 1);
+        state.setBuildings(idx, state.getBuildings(idx) - 1);
         state.returnHouseToBank();
 
-        int saleValue = sd.houseCost / 2;
+        int saleValue = houseCost / 2;
         Player p = state.getCurrentPlayer();
         p.addCash(saleValue);
 
@@ -742,48 +1350,25 @@ public class GameEngine {
             state.setPhase(TurnPhase.TURN_END);
         }
 
-        return ActionResult.ok(
-                "Sold 1 house on tile " + idx + " for £" + saleValue + ".",
-                "Houses now: " + ps.getHouses(),
-                "Bank supply now: houses=" + state.getHousesRemaining() + ", hotels=" + state.getHotelsRemaining(),
-                "Cash now £" + p.getCash() + "."
-        );
+        if (quiet) return ActionResult.ok();
+        return ActionResult.ok(new GameEvent.Sold(idx, false, saleValue, state.getHouses(idx),
+                state.getHousesRemaining(), state.getHotelsRemaining(), p.getCash()));
     }
 
     private ActionResult handleSellHotel(Integer tileIndex) {
-        if (tileIndex == null) return ActionResult.fail("SELL_HOTEL requires tileIndex.");
-        if (state.getPhase() != TurnPhase.MANAGEMENT && state.getPhase() != TurnPhase.TURN_END && state.getPhase() != TurnPhase.MUST_RESOLVE_DEBT) {
-            return ActionResult.fail("SELL_HOTEL only allowed during your turn.");
-        }
-
+        if (tileIndex == null) return fail("SELL_HOTEL requires tileIndex.");
         int idx = tileIndex;
-        Object deed = deedsByIndex.get(idx);
-        if (!(deed instanceof StreetDeed sd)) return ActionResult.fail("SELL_HOTEL only applies to street properties.");
-
-        PropertyState ps = state.getPropertyState(idx);
-        if (ps.getOwnerPlayerIndex() == null || ps.getOwnerPlayerIndex() != state.getCurrentPlayerIndex()) {
-            return ActionResult.fail("You do not own this property.");
-        }
-        if (ps.isMortgaged()) return ActionResult.fail("Cannot sell buildings on a mortgaged property.");
-        if (!ps.hasHotel()) return ActionResult.fail("No hotel to sell on this property.");
-
-        // Selling a hotel typically turns it back into 4 houses.
-        // That requires 4 houses to be available in the bank.
-        if (state.getHousesRemaining() < 4) {
-            return ActionResult.fail("Cannot sell hotel because bank does not have 4 houses available to replace it.");
-        }
+        String why = sellHotelRejection(idx);
+        if (why != null) return fail(why);
 
-        // Even rule: after sale, this tile will have 4 houses; ensure group doesn't violate evenness
-        if (!respectsEvenSelling(sd.group, idx, 4)) {
-            return ActionResult.fail("Even-building rule violated: sell evenly across the set.");
-        }
+        int houseCost = deeds.getHouseCost(idx);
 
         // execute sale: hotel -> 4 houses
-        ps.setBuildings(4); // replace hotel with 4 houses
+        state.setBuildings(idx, 4); // replace hotel with 4 houses
         state.returnHotelToBank();
         state.takeHousesFromBank(4);
 
-        int saleValue = sd.houseCost / 2;
+        int saleValue = houseCost / 2;
         Player p = state.getCurrentPlayer();
         p.addCash(saleValue);
 
@@ -791,29 +1376,24 @@ public class GameEngine {
             state.setPhase(TurnPhase.TURN_END);
         }
 
-        return ActionResult.ok(
-                "Sold HOTEL on tile " + idx + " for £" + saleValue + " (hotel replaced with 4 houses).",
-                "Bank supply now: houses=" + state.getHousesRemaining() + ", hotels=" + state.getHotelsRemaining(),
-                "Cash now £" + p.getCash() + "."
-        );
+        if (quiet) return ActionResult.ok();
+        return ActionResult.ok(new GameEvent.Sold(idx, true, saleValue, 4,
+                state.getHousesRemaining(), state.getHotelsRemaining(), p.getCash()));
     }
 
     /**
      * Even-selling check: after changing a single tile's house count,
      * the group must still satisfy max-min <= 1.
      */
-    private boolean respectsEvenSelling(monopoly.setup.ColourGroup group, int tileIdx, int newHouseCount) {
+    private boolean respectsEvenSelling(int tileIdx, int newHouseCount) {
         int min = Integer.MAX_VALUE;
         int max = Integer.MIN_VALUE;
 
-        for (var e : deedsByIndex.entrySet()) {
-            Object deed = e.getValue();
-            if (deed instanceof StreetDeed sd && sd.group == group) {
-                int houses = state.getPropertyState(sd.index).getHouses();
-                if (sd.index == tileIdx) houses = newHouseCount;
-                min = Math.min(min, houses);
-                max = Math.max(max, houses);
-            }
+        for (long m = deeds.getGroupMaskOf(tileIdx); m != 0; m &= m - 1) {
+            int t = Long.numberOfTrailingZeros(m);
+            int houses = (t == tileIdx) ? newHouseCount : state.getHouses(t);
+            min = Math.min(min, houses);
+            max = Math.max(max, houses);
         }
         return (max - min) <= 1;
     }
@@ -821,48 +1401,30 @@ public class GameEngine {
     // ------------------ MORTGAGE / DEBT / BANKRUPTCY ------------------
 
     private ActionResult handleMortgage(Integer tileIndex) {
-        if (tileIndex == null) return ActionResult.fail("MORTGAGE requires tileIndex.");
-
-        if (state.getPhase() != TurnPhase.MUST_RESOLVE_DEBT
-                && state.getPhase() != TurnPhase.MANAGEMENT
-                && state.getPhase() != TurnPhase.TURN_END) {
-            return ActionResult.fail("MORTGAGE is only allowed during your turn.");
-        }
-
+        if (tileIndex == null) return fail("MORTGAGE requires tileIndex.");
         int idx = tileIndex;
-        Object deed = deedsByIndex.get(idx);
-        if (deed == null) return ActionResult.fail("Tile is not mortgageable.");
+        String why = mortgageRejection(idx);
+        if (why != null) return fail(why);
 
-        PropertyState ps = state.getPropertyState(idx);
-        if (ps.getOwnerPlayerIndex() == null || ps.getOwnerPlayerIndex() != state.getCurrentPlayerIndex()) {
-            return ActionResult.fail("You do not own this tile.");
-        }
-        if (ps.isMortgaged()) return ActionResult.fail("Already mortgaged.");
-
-        // Streets: must have no buildings
-        if (deed instanceof StreetDeed && ps.getBuildings() > 0) {
-            return ActionResult.fail("You must sell buildings before mortgaging a street (selling not implemented yet).");
-        }
-
-        int mortgageValue = getMortgageValue(deed);
+        int mortgageValue = deeds.getMortgage(idx);
         Player p = state.getCurrentPlayer();
-        ps.setMortgaged(true);
+        state.setMortgaged(idx, true);
         p.addCash(mortgageValue);
 
         if (p.getCash() < 0) {
             state.setPhase(TurnPhase.MUST_RESOLVE_DEBT);
             if (!canRaiseCashByMortgage()) {
                 bankruptCurrentPlayer();
+                GameEvent outcome = winnerIfAny();
+                if (quiet) return ActionResult.ok();
                 return ActionResult.ok(
-                        "Mortgaged tile " + idx + " for £" + mortgageValue,
-                        p.getName() + " still cannot clear debt -> BANKRUPT.",
-                        winnerIfAny()
+                        new GameEvent.Mortgaged(idx, mortgageValue, p.getCash()),
+                        new GameEvent.Bankrupt(p.getName()),
+                        outcome
                 );
             }
-            return ActionResult.ok(
-                    "Mortgaged tile " + idx + " for £" + mortgageValue,
-                    "Cash now £" + p.getCash() + " -> still MUST RESOLVE DEBT."
-            );
+            if (quiet) return ActionResult.ok();
+            return ActionResult.ok(new GameEvent.Mortgaged(idx, mortgageValue, p.getCash()), STILL_IN_DEBT);
         }
 
         // Debt cleared
@@ -870,68 +1432,43 @@ public class GameEngine {
             state.setPhase(TurnPhase.TURN_END);
         }
 
-        return ActionResult.ok(
-                "Mortgaged tile " + idx + " for £" + mortgageValue,
-                "Cash now £" + p.getCash(),
-                "Action: END_TURN (or BUILD/MORTGAGE)"
-        );
+        if (quiet) return ActionResult.ok();
+        return ActionResult.ok(new GameEvent.Mortgaged(idx, mortgageValue, p.getCash()), PROMPT_MANAGE);
     }
 
     private ActionResult handleUnmortgage(Integer tileIndex) {
-        if (tileIndex == null) return ActionResult.fail("UNMORTGAGE requires tileIndex.");
-
-        // Allow during normal turn phases; disallow during auction response phases if you want strictness.
-        if (state.getPhase() != TurnPhase.MANAGEMENT
-                && state.getPhase() != TurnPhase.TURN_END
-                && state.getPhase() != TurnPhase.MUST_RESOLVE_DEBT) {
-            return ActionResult.fail("UNMORTGAGE is only allowed during your turn (management/end/debt).");
-        }
-
+        if (tileIndex == null) return fail("UNMORTGAGE requires tileIndex.");
         int idx = tileIndex;
-        Object deed = deedsByIndex.get(idx);
-        if (deed == null) return ActionResult.fail("Tile is not a deed and cannot be unmortgaged.");
-
-        PropertyState ps = state.getPropertyState(idx);
+        String why = unmortgageRejection(idx);
+        if (why != null) return fail(why);
 
-        // Must own it
-        if (ps.getOwnerPlayerIndex() == null || ps.getOwnerPlayerIndex() != state.getCurrentPlayerIndex()) {
-            return ActionResult.fail("You do not own this tile.");
-        }
-
-        // Must currently be mortgaged
-        if (!ps.isMortgaged()) {
-            return ActionResult.fail("Tile is not mortgaged.");
-        }
-
-        int mortgageValue = getMortgageValue(deed);
+        int mortgageValue = deeds.getMortgage(idx);
 
         // Your rule: pay mortgage + 10% fee (again), even if you paid 10% on transfer earlier.
         int fee10pct = (mortgageValue + 9) / 10; // ceil(10%)
-        int totalCost = mortgageValue + fee10pct;
+        int totalCost = unmortgageCost(idx);
 
         Player p = state.getCurrentPlayer();
 
         // Enforce “no negative cash end of turn”: don't allow action that instantly makes cash negative
         if (p.getCash() - totalCost < 0) {
             state.setPhase(TurnPhase.MUST_RESOLVE_DEBT);
+            if (quiet) return ActionResult.failed();
             return ActionResult.fail(
                     "Cannot unmortgage tile " + idx + ": need £" + totalCost + " (mortgage £" + mortgageValue + " + 10% £" + fee10pct + "), cash £" + p.getCash() + ". Use MORTGAGE to raise cash."
             );
         }
 
         p.subtractCash(totalCost);
-        ps.setMortgaged(false);
+        state.setMortgaged(idx, false);
 
         // If this was part of resolving debt, check if debt cleared
         if (state.getPhase() == TurnPhase.MUST_RESOLVE_DEBT && p.getCash() >= 0) {
             state.setPhase(TurnPhase.TURN_END);
         }
 
-        return ActionResult.ok(
-                "Unmortgaged tile " + idx + " for £" + mortgageValue + " + 10% fee £" + fee10pct + " (total £" + totalCost + ").",
-                "Cash now £" + p.getCash() + ".",
-                "Action: END_TURN (or BUILD/MORTGAGE/UNMORTGAGE)"
-        );
+        if (quiet) return ActionResult.ok();
+        return ActionResult.ok(new GameEvent.Unmortgaged(idx, mortgageValue, fee10pct, p.getCash()), PROMPT_MANAGE_UNMORTGAGE);
     }
 
     private ActionResult handleEndTurn() {
@@ -941,129 +1478,58 @@ public class GameEngine {
             state.setPhase(TurnPhase.MUST_RESOLVE_DEBT);
             if (!canRaiseCashByMortgage()) {
                 bankruptCurrentPlayer();
-                return ActionResult.ok(p.getName() + " cannot clear debt -> BANKRUPT.", winnerIfAny());
+                GameEvent outcome = winnerIfAny();
+                return quiet ? ActionResult.ok() : ActionResult.ok(new GameEvent.Bankrupt(p.getName()), outcome);
             }
-            return ActionResult.fail("You cannot end your turn with cash below 0. Use MORTGAGE to raise cash.");
+            return fail("You cannot end your turn with cash below 0. Use MORTGAGE to raise cash.");
         }
 
-        if (state.getPhase() == TurnPhase.LANDED_DECISION) {
-            return ActionResult.fail("You must BUY_PROPERTY or START_AUCTION first.");
-        }
-        if (state.getPhase() == TurnPhase.MUST_ROLL || state.getPhase() == TurnPhase.CAN_ROLL_AGAIN) {
-            return ActionResult.fail("You must roll (or finish doubles sequence) before ending turn.");
-        }
-        if (state.getPhase() == TurnPhase.IN_JAIL_DECISION) {
-            return ActionResult.fail("You must resolve your jail turn first (ROLL_DICE / etc.).");
-        }
+        String why = endTurnPhaseRejection();
+        if (why != null) return fail(why);
 
-        String msg = p.getName() + " ends turn (cash £" + p.getCash() + ").";
+        GameEvent ended = quiet ? null : new GameEvent.TurnEnded(p.getName(), p.getCash());
         state.advanceTurnSkippingBankrupt();
-        return ActionResult.ok(msg);
+        return quiet ? ActionResult.ok() : ActionResult.ok(ended);
     }
 
 
 
     // ------------------ Rent helpers ------------------
 
-    private int computeRent(int idx, Object deed, PropertyState ps) {
-        if (deed instanceof StreetDeed sd) {
-            int b = ps.getBuildings(); // 0..4 houses, 5 hotel
-            if (b < 0 || b > 5) b = 0;
-            return sd.rents[b];
-        }
-
-        if (deed instanceof RailroadDeed rd) {
-            int ownerIdx = ps.getOwnerPlayerIndex();
-            int ownedRailroads = countOwnedRailroads(ownerIdx);
-            return rd.rentByCount[Math.max(1, Math.min(4, ownedRailroads)) - 1];
-        }
-
-        if (deed instanceof UtilityDeed ud) {
-            int ownerIdx = ps.getOwnerPlayerIndex();
-            int ownedUtilities = countOwnedUtilities(ownerIdx);
-            int roll = state.getLastRollTotal() == null ? 0 : state.getLastRollTotal();
-            int mult = (ownedUtilities >= 2) ? ud.multiplierIfTwo : ud.multiplierIfOne;
-            return roll * mult;
-        }
-
-        return 0;
+    /** Rent a visitor pays on {@code idx} right now (utilities use the last roll); 0 if unowned or mortgaged. */
+    public int computeRent(int idx) {
+        int rent = state.getRentIfLanded(idx); // maintained by GameState
+        if (deeds.getKind(idx) != DeedTable.Kind.UTILITY) return rent;
+        int roll = state.getLastRollTotal() == null ? 0 : state.getLastRollTotal();
+        return roll * rent;
     }
 
     private int countOwnedRailroads(int ownerIdx) {
-        int count = 0;
-        for (var e : deedsByIndex.entrySet()) {
-            if (e.getValue() instanceof RailroadDeed) {
-                PropertyState ps = state.getPropertyState(e.getKey());
-                if (ps.getOwnerPlayerIndex() != null && ps.getOwnerPlayerIndex() == ownerIdx) count++;
-            }
-        }
-        return count;
+        return state.countOwned(ownerIdx, deeds.getStationMask());
     }
 
     private int countOwnedUtilities(int ownerIdx) {
-        int count = 0;
-        for (var e : deedsByIndex.entrySet()) {
-            if (e.getValue() instanceof UtilityDeed) {
-                PropertyState ps = state.getPropertyState(e.getKey());
-                if (ps.getOwnerPlayerIndex() != null && ps.getOwnerPlayerIndex() == ownerIdx) count++;
-            }
-        }
-        return count;
-    }
-
-    public int getPurchasePrice(Object deed) {
-        if (deed instanceof StreetDeed sd) return sd.price;
-        if (deed instanceof RailroadDeed rd) return rd.price;
-        if (deed instanceof UtilityDeed ud) return ud.price;
-        throw new IllegalArgumentException("Unknown deed type.");
+        return state.countOwned(ownerIdx, deeds.getUtilityMask());
     }
 
-    private int getMortgageValue(Object deed) {
-        if (deed instanceof StreetDeed sd) return sd.mortgage;
-        if (deed instanceof RailroadDeed rd) return rd.mortgage;
-        if (deed instanceof UtilityDeed ud) return ud.mortgage;
-        throw new IllegalArgumentException("Unknown deed type.");
+    public int getPurchasePrice(int tileIdx) {
+        if (!deeds.isDeed(tileIdx)) throw new IllegalArgumentException("Tile " + tileIdx + " is not a deed.");
+        return deeds.getPrice(tileIdx);
     }
 
     // ------------------ GROUP RULES (NO REFLECTION) ------------------
 
-    private boolean ownsFullStreetGroup(StreetDeed target) {
-        int current = state.getCurrentPlayerIndex();
-
-        for (var e : deedsByIndex.entrySet()) {
-            Object deed = e.getValue();
-            if (deed instanceof StreetDeed sd && sd.group == target.group) {
-                PropertyState ps = state.getPropertyState(sd.index);
-                if (ps.getOwnerPlayerIndex() == null || ps.getOwnerPlayerIndex() != current) {
-                    return false;
-                }
-            }
-        }
-        return true;
+    private boolean ownsFullStreetGroup(int tileIdx) {
+        return state.ownsAll(state.getCurrentPlayerIndex(), deeds.getGroupMaskOf(tileIdx));
     }
 
-    private boolean respectsEvenBuilding(StreetDeed target, int tileIdx, int newHouseCount) {
-        int min = Integer.MAX_VALUE;
-        int max = Integer.MIN_VALUE;
-
-        for (var e : deedsByIndex.entrySet()) {
-            Object deed = e.getValue();
-            if (deed instanceof StreetDeed sd && sd.group == target.group) {
-                int houses = state.getPropertyState(sd.index).getHouses();
-                if (sd.index == tileIdx) houses = newHouseCount;
-                min = Math.min(min, houses);
-                max = Math.max(max, houses);
-            }
-        }
-        return (max - min) <= 1;
+    private boolean respectsEvenBuilding(int tileIdx, int newHouseCount) {
+        return respectsEvenSelling(tileIdx, newHouseCount);
     }
 
-    private boolean groupAllHaveFourHouses(StreetDeed target) {
-        for (var e : deedsByIndex.entrySet()) {
-            Object deed = e.getValue();
-            if (deed instanceof StreetDeed sd && sd.group == target.group) {
-                if (state.getPropertyState(sd.index).getHouses() != 4) return false;
-            }
+    private boolean groupAllHaveFourHouses(int tileIdx) {
+        for (long m = deeds.getGroupMaskOf(tileIdx); m != 0; m &= m - 1) {
+            if (state.getHouses(Long.numberOfTrailingZeros(m)) != 4) return false;
         }
         return true;
     }
@@ -1077,21 +1543,13 @@ public class GameEngine {
     }
 
     private boolean canRaiseCashByMortgage() {
-        int currentIdx = state.getCurrentPlayerIndex();
-
-        for (var e : deedsByIndex.entrySet()) {
-            int idx = e.getKey();
-            Object deed = e.getValue();
-            PropertyState ps = state.getPropertyState(idx);
+        long candidates = state.getOwnedMask(state.getCurrentPlayerIndex()) & ~state.getMortgagedMask();
 
-            if (ps.getOwnerPlayerIndex() != null
-                    && ps.getOwnerPlayerIndex() == currentIdx
-                    && !ps.isMortgaged()) {
-
-                // streets must have no buildings
-                if (deed instanceof StreetDeed && ps.getBuildings() > 0) continue;
-                return true;
-            }
+        for (long m = candidates; m != 0; m &= m - 1) {
+            int idx = Long.numberOfTrailingZeros(m);
+            // streets must have no buildings
+            if (state.getBuildings(idx) > 0) continue;
+            return true;
         }
         return false;
     }
@@ -1102,28 +1560,26 @@ public class GameEngine {
         p.setBankrupt(true);
 
         // Release all owned properties to unowned (simple first pass)
-        for (var e : deedsByIndex.entrySet()) {
-            int idx = e.getKey();
-            PropertyState ps = state.getPropertyState(idx);
-            if (ps.getOwnerPlayerIndex() != null && ps.getOwnerPlayerIndex() == cur) {
-                ps.setOwnerPlayerIndex(null);
-                ps.setMortgaged(false);
-
-                // Return buildings to bank supply when a player is wiped (simple version)
-                int buildings = ps.getBuildings();
-                if (buildings >= 1 && buildings <= 4) {
-                    state.returnHousesToBank(buildings);
-                } else if (buildings == 5) {
-                    state.returnHotelToBank();
-                    state.returnHousesToBank(4);
-                }
-
-                ps.setBuildings(0);
+        for (long m = state.getOwnedMask(cur); m != 0; m &= m - 1) {
+            int idx = Long.numberOfTrailingZeros(m);
+            state.setOwner(idx, GameState.UNOWNED);
+            state.setMortgaged(idx, false);
+
+            // Return buildings to bank supply when a player is wiped (simple version)
+            int buildings = state.getBuildings(idx);
+            if (buildings >= 1 && buildings <= 4) {
+                state.returnHousesToBank(buildings);
+            } else if (buildings == 5) {
+                state.returnHotelToBank();
+                state.returnHousesToBank(4);
             }
+
+            state.setBuildings(idx, 0);
         }
     }
 
-    private String winnerIfAny() {
+    /** Declares the winner if one player is left, else hands control on; returns the event (null when quiet). */
+    private GameEvent winnerIfAny() {
         int alive = 0;
         int last = -1;
         for (int i = 0; i < state.getPlayers().size(); i++) {
@@ -1134,9 +1590,12 @@ public class GameEngine {
         }
         if (alive == 1) {
             state.setWinner(last);
-            return "WINNER: " + state.getPlayers().get(last).getName();
+            return quiet ? null : new GameEvent.Winner(state.getPlayers().get(last).getName());
         }
-        return "No winner yet.";
+
+        // Bankrupt player can't act any more: hand control to the next solvent player
+        state.advanceTurnSkippingBankrupt();
+        return quiet ? null : NO_WINNER_YET;
     }
 
     // ------------------ Movement ------------------
@@ -1155,7 +1614,7 @@ public class GameEngine {
     }
     // ------------------ CARD HELPERS ------------------
 
-    public List<String> moveCurrentPlayerRelative(int delta, boolean allowGoSalaryIfPass) {
+    public List<GameEvent> moveCurrentPlayerRelative(int delta, boolean allowGoSalaryIfPass) {
         Player p = state.getCurrentPlayer();
         int start = p.getPosition();
         int raw = start + delta;
@@ -1171,11 +1630,11 @@ public class GameEngine {
         p.setPosition(newPos);
         state.setLandedTileIndex(newPos);
 
-        ActionResult res = afterLandingResolveOrPrompt(p, p.getName() + " moved " + delta + " spaces to tile " + newPos + ".");
-        return res.getEvents();
+        ActionResult res = afterLandingResolveOrPrompt(p, quiet ? null : new GameEvent.CardMoved(p.getName(), newPos, delta, null));
+        return res.getGameEvents();
     }
 
-    public List<String> advanceToAbsolute(int destinationIndex, boolean collectGoIfPass) {
+    public List<GameEvent> advanceToAbsolute(int destinationIndex, boolean collectGoIfPass) {
         Player p = state.getCurrentPlayer();
         int start = p.getPosition();
 
@@ -1187,19 +1646,19 @@ public class GameEngine {
         p.setPosition(destinationIndex);
         state.setLandedTileIndex(destinationIndex);
 
-        ActionResult res = afterLandingResolveOrPrompt(p, p.getName() + " advanced to tile " + destinationIndex + ".");
-        return res.getEvents();
+        ActionResult res = afterLandingResolveOrPrompt(p, quiet ? null : new GameEvent.CardMoved(p.getName(), destinationIndex, 0, null));
+        return res.getGameEvents();
     }
 
-    public List<String> goToJailNoGoSalary() {
+    public List<GameEvent> goToJailNoGoSalary() {
         Player p = state.getCurrentPlayer();
         p.sendToJail(config.getJailMaxTurns());
         state.setLandedTileIndex(p.getPosition());
         state.setPhase(TurnPhase.TURN_END);
-        return List.of(p.getName() + " goes straight to JAIL (no GO salary).", "Action: END_TURN");
+        return quiet ? List.of() : List.of(new GameEvent.SentToJail(p.getName()), PROMPT_END_TURN);
     }
 
-    public List<String> awardGetOutOfJailFree(Card card) {
+    public List<GameEvent> awardGetOutOfJailFree(Card card) {
         Player p = state.getCurrentPlayer();
 
         // Remove from the correct deck while held
@@ -1210,7 +1669,7 @@ public class GameEngine {
         }
 
         p.addGetOutOfJailFreeCard(card);
-        return List.of(p.getName() + " receives a Get Out of Jail Free card (" + card.getType() + ").");
+        return quiet ? List.of() : List.of(new GameEvent.JailCardReceived(p.getName(), card.getType()));
     }
 
     private Card lastDrawnCard;
@@ -1219,22 +1678,21 @@ public class GameEngine {
         return lastDrawnCard;
     }
 
-    public List<String> payBank(int amount) {
+    public List<GameEvent> payBank(int amount) {
         Player p = state.getCurrentPlayer();
         p.subtractCash(amount);
         updateDebtPhaseIfNeeded(p);
-        return List.of(p.getName() + " pays the bank £" + amount + ".");
+        return quiet ? List.of() : List.of(new GameEvent.BankPayment(p.getName(), -amount));
     }
 
-    public List<String> receiveBank(int amount) {
+    public List<GameEvent> receiveBank(int amount) {
         Player p = state.getCurrentPlayer();
         p.addCash(amount);
-        return List.of(p.getName() + " receives £" + amount + " from the bank.");
+        return quiet ? List.of() : List.of(new GameEvent.BankPayment(p.getName(), amount));
     }
 
-    public List<String> payEachOtherPlayer(int amountEach) {
+    public List<GameEvent> payEachOtherPlayer(int amountEach) {
         Player p = state.getCurrentPlayer();
-        List<String> ev = new ArrayList<>();
         int payerIdx = state.getCurrentPlayerIndex();
 
         int total = 0;
@@ -1247,13 +1705,11 @@ public class GameEngine {
         }
         p.subtractCash(total);
         updateDebtPhaseIfNeeded(p);
-        ev.add(p.getName() + " pays £" + amountEach + " to each other player (total £" + total + ").");
-        return ev;
+        return quiet ? List.of() : List.of(new GameEvent.PlayersPayment(p.getName(), amountEach, total, false));
     }
 
-    public List<String> collectFromEachOtherPlayer(int amountEach) {
+    public List<GameEvent> collectFromEachOtherPlayer(int amountEach) {
         Player p = state.getCurrentPlayer();
-        List<String> ev = new ArrayList<>();
         int receiverIdx = state.getCurrentPlayerIndex();
 
         int total = 0;
@@ -1266,36 +1722,29 @@ public class GameEngine {
             updateDebtPhaseIfNeeded(other);
         }
         p.addCash(total);
-        ev.add(p.getName() + " collects £" + amountEach + " from each other player (total £" + total + ").");
-        return ev;
+        return quiet ? List.of() : List.of(new GameEvent.PlayersPayment(p.getName(), amountEach, total, true));
     }
 
-    public List<String> payPerBuilding(int perHouse, int perHotel) {
+    public List<GameEvent> payPerBuilding(int perHouse, int perHotel) {
         Player p = state.getCurrentPlayer();
         int playerIdx = state.getCurrentPlayerIndex();
 
         int houses = 0;
         int hotels = 0;
 
-        for (var e : deedsByIndex.entrySet()) {
-            int idx = e.getKey();
-            Object deed = e.getValue();
-            if (!(deed instanceof StreetDeed)) continue;
-
-            PropertyState ps = state.getPropertyState(idx);
-            if (ps.getOwnerPlayerIndex() != null && ps.getOwnerPlayerIndex() == playerIdx) {
-                if (ps.hasHotel()) hotels++;
-                else houses += ps.getHouses();
-            }
+        for (long m = state.getOwnedMask(playerIdx) & deeds.getStreetMask(); m != 0; m &= m - 1) {
+            int idx = Long.numberOfTrailingZeros(m);
+            if (state.hasHotel(idx)) hotels++;
+            else houses += state.getHouses(idx);
         }
 
         int cost = houses * perHouse + hotels * perHotel;
         p.subtractCash(cost);
         updateDebtPhaseIfNeeded(p);
-        return List.of(p.getName() + " pays building repairs: houses=" + houses + " (£" + perHouse + " each), hotels=" + hotels + " (£" + perHotel + " each). Total £" + cost + ".");
+        return quiet ? List.of() : List.of(new GameEvent.Repairs(p.getName(), houses, perHouse, hotels, perHotel, cost));
     }
 
-    public List<String> advanceToNearestStationDoubleRent() {
+    public List<GameEvent> advanceToNearestStationDoubleRent() {
         Player p = state.getCurrentPlayer();
         int start = p.getPosition();
 
@@ -1310,33 +1759,30 @@ public class GameEngine {
         state.setLandedTileIndex(dest);
 
         // If owned by someone else and not mortgaged -> pay double rent
-        Object deed = deedsByIndex.get(dest);
-        PropertyState ps = state.getPropertyState(dest);
-
-        if (deed != null && ps.getOwnerPlayerIndex() != null && ps.getOwnerPlayerIndex() != state.getCurrentPlayerIndex() && !ps.isMortgaged()) {
-            int baseRent = computeRent(dest, deed, ps);
+        if (deeds.isDeed(dest) && state.getOwner(dest) != GameState.UNOWNED && state.getOwner(dest) != state.getCurrentPlayerIndex() && !state.isMortgaged(dest)) {
+            int baseRent = computeRent(dest);
             int doubleRent = baseRent * 2;
 
-            Player owner = state.getPlayers().get(ps.getOwnerPlayerIndex());
+            Player owner = state.getPlayers().get(state.getOwner(dest));
             p.subtractCash(doubleRent);
             owner.addCash(doubleRent);
             updateDebtPhaseIfNeeded(p);
 
             if (state.getPhase() == TurnPhase.MUST_RESOLVE_DEBT) {
-                return List.of(p.getName() + " advanced to nearest Station (" + dest + ") and paid DOUBLE rent £" + doubleRent + " to " + owner.getName() + ".",
-                        "MUST RESOLVE DEBT (MORTGAGE).");
+                if (quiet) return List.of();
+                return List.of(new GameEvent.CardRentPaid(p.getName(), owner.getName(), dest, doubleRent, null), MUST_RESOLVE_DEBT);
             }
 
             state.setPhase(TurnPhase.MANAGEMENT);
-            return List.of(p.getName() + " advanced to nearest Station (" + dest + ") and paid DOUBLE rent £" + doubleRent + " to " + owner.getName() + ".");
+            return quiet ? List.of() : List.of(new GameEvent.CardRentPaid(p.getName(), owner.getName(), dest, doubleRent, null));
         }
 
         // Otherwise treat as normal landing: may buy/auction etc.
-        ActionResult res = afterLandingResolveOrPrompt(p, p.getName() + " advanced to nearest Station (" + dest + ").");
-        return res.getEvents();
+        ActionResult res = afterLandingResolveOrPrompt(p, quiet ? null : new GameEvent.CardMoved(p.getName(), dest, 0, "Station"));
+        return res.getGameEvents();
     }
 
-    public List<String> advanceToNearestUtilitySpecialRent() {
+    public List<GameEvent> advanceToNearestUtilitySpecialRent() {
         Player p = state.getCurrentPlayer();
         int start = p.getPosition();
 
@@ -1349,35 +1795,32 @@ public class GameEngine {
         p.setPosition(dest);
         state.setLandedTileIndex(dest);
 
-        Object deed = deedsByIndex.get(dest);
-        PropertyState ps = state.getPropertyState(dest);
-
         // If owned by someone else and not mortgaged -> pay 10x dice roll
-        if (deed instanceof UtilityDeed ud && ps.getOwnerPlayerIndex() != null && ps.getOwnerPlayerIndex() != state.getCurrentPlayerIndex() && !ps.isMortgaged()) {
+        if (deeds.getKind(dest) == DeedTable.Kind.UTILITY && state.getOwner(dest) != GameState.UNOWNED && state.getOwner(dest) != state.getCurrentPlayerIndex() && !state.isMortgaged(dest)) {
             Dice.Roll roll = dice.roll2d6();
             state.setLastRollTotal(roll.total());
 
             int owed = roll.total() * 10;
-            Player owner = state.getPlayers().get(ps.getOwnerPlayerIndex());
+            Player owner = state.getPlayers().get(state.getOwner(dest));
 
             p.subtractCash(owed);
             owner.addCash(owed);
             updateDebtPhaseIfNeeded(p);
 
             if (state.getPhase() == TurnPhase.MUST_RESOLVE_DEBT) {
-                return List.of(p.getName() + " advanced to utility (" + dest + ") and rolled " + roll + ". Paid £" + owed + " (10x roll) to " + owner.getName() + ".",
-                        "MUST RESOLVE DEBT (MORTGAGE).");
+                if (quiet) return List.of();
+                return List.of(new GameEvent.CardRentPaid(p.getName(), owner.getName(), dest, owed, roll), MUST_RESOLVE_DEBT);
             }
 
             state.setPhase(TurnPhase.MANAGEMENT);
-            return List.of(p.getName() + " advanced to utility (" + dest + ") and rolled " + roll + ". Paid £" + owed + " (10x roll) to " + owner.getName() + ".");
+            return quiet ? List.of() : List.of(new GameEvent.CardRentPaid(p.getName(), owner.getName(), dest, owed, roll));
         }
 
-        ActionResult res = afterLandingResolveOrPrompt(p, p.getName() + " advanced to nearest Utility (" + dest + ").");
-        return res.getEvents();
+        ActionResult res = afterLandingResolveOrPrompt(p, quiet ? null : new GameEvent.CardMoved(p.getName(), dest, 0, "Utility"));
+        return res.getGameEvents();
     }
 
-    public List<String> gambleThenMaybeJail(int threshold, int winAmount, int loseAmountAndJail) {
+    public List<GameEvent> gambleThenMaybeJail(int threshold, int winAmount, int loseAmountAndJail) {
         Player p = state.getCurrentPlayer();
         Dice.Roll roll = dice.roll2d6();
         int total = roll.total();
@@ -1385,16 +1828,16 @@ public class GameEngine {
 
         if (total >= threshold) {
             p.addCash(winAmount);
-            return List.of(p.getName() + " rolled " + roll + " (>= " + threshold + ") and wins £" + winAmount + ".");
+            return quiet ? List.of() : List.of(new GameEvent.Gamble(p.getName(), roll, threshold, winAmount, true));
         } else {
             p.subtractCash(loseAmountAndJail);
             updateDebtPhaseIfNeeded(p);
             p.sendToJail(config.getJailMaxTurns());
             state.setPhase(TurnPhase.TURN_END);
 
-            return List.of(p.getName() + " rolled " + roll + " (< " + threshold + "), pays £" + loseAmountAndJail + " and goes straight to JAIL.",
-                    (p.getCash() < 0 ? "MUST RESOLVE DEBT (MORTGAGE)." : ""),
-                    "Action: END_TURN");
+            if (quiet) return List.of();
+            GameEvent lost = new GameEvent.Gamble(p.getName(), roll, threshold, loseAmountAndJail, false);
+            return p.getCash() < 0 ? List.of(lost, MUST_RESOLVE_DEBT, PROMPT_END_TURN) : List.of(lost, PROMPT_END_TURN);
         }
     }
 
@@ -1414,55 +1857,59 @@ public class GameEngine {
 
     private ActionResult resolveChance() {
         Card c = state.getChanceDeck().drawTop();
-        lastDrawnCard = c;
-
-        var events = new java.util.ArrayList<String>();
-        events.add("CHANCE: " + c.getText());
-        events.addAll(c.getEffect().apply(this));
-        return ActionResult.ok(events.toArray(new String[0]));
+        setLastDrawnCard(c);
+
+        List<GameEvent> effect = c.getEffect().apply(this);
+        if (quiet) return ActionResult.ok();
+        List<GameEvent> events = new ArrayList<>(effect.size() + 1);
+        events.add(new GameEvent.CardDrawn(CardType.CHANCE, c.getText()));
+        events.addAll(effect);
+        return ActionResult.ok(events);
     }
 
 
     private ActionResult resolveCommunityChest() {
         Card c = state.getCommunityDeck().drawTop();
-        lastDrawnCard = c;
-
-        var events = new java.util.ArrayList<String>();
-        events.add("COMMUNITY CHEST: " + c.getText());
-        events.addAll(c.getEffect().apply(this));
-        return ActionResult.ok(events.toArray(new String[0]));
+        setLastDrawnCard(c);
+
+        List<GameEvent> effect = c.getEffect().apply(this);
+        if (quiet) return ActionResult.ok();
+        List<GameEvent> events = new ArrayList<>(effect.size() + 1);
+        events.add(new GameEvent.CardDrawn(CardType.COMMUNITY_CHEST, c.getText()));
+        events.addAll(effect);
+        return ActionResult.ok(events);
     }
 
     // ------------------ TRADING (v2) ------------------
 
     private ActionResult handleProposeTrade(Object payload, boolean isCounter) {
         if (state.getStatus() == GameStatus.FINISHED) {
-            return ActionResult.fail("Game is finished.");
+            return fail("Game is finished.");
         }
 
         if (!(payload instanceof TradeOffer offer)) {
-            return ActionResult.fail((isCounter ? "COUNTER_TRADE" : "PROPOSE_TRADE") + " requires a TradeOffer payload.");
+            return fail(isCounter ? "COUNTER_TRADE requires a TradeOffer payload." : "PROPOSE_TRADE requires a TradeOffer payload.");
         }
 
         // Disallow proposing trades during active auction (optional; remove if you want totally free trading)
         if (state.getPhase() == TurnPhase.AUCTION_ACTIVE) {
-            return ActionResult.fail("Trading is not allowed during an active auction.");
+            return fail("Trading is not allowed during an active auction.");
         }
 
         // If counter: must be in TRADE_RESPONSE and current player must be the receiver of the existing pending trade
         if (isCounter) {
             if (!state.hasPendingTrade() || state.getPhase() != TurnPhase.TRADE_RESPONSE) {
-                return ActionResult.fail("No trade to counter.");
+                return fail("No trade to counter.");
             }
             TradeOffer prev = state.getPendingTrade();
             int current = state.getCurrentPlayerIndex(); // receiver is currently controlling
             if (current != prev.getToPlayerIndex()) {
-                return ActionResult.fail("Only the receiver can counter the pending trade.");
+                return fail("Only the receiver can counter the pending trade.");
             }
 
             // Counter must flip roles (current becomes proposer)
             if (offer.getFromPlayerIndex() != current || offer.getToPlayerIndex() != prev.getFromPlayerIndex()) {
-                return ActionResult.fail("Counter trade must be from receiver to original proposer.");
+                return fail("Counter trade must be from receiver to original proposer.");
             }
 
             // Validate new offer
@@ -1473,21 +1920,21 @@ public class GameEngine {
             state.setPendingTrade(offer);
             state.beginTradeResponse(offer.getFromPlayerIndex(), offer.getToPlayerIndex());
 
-            return ActionResult.ok(
-                    "Counter-trade proposed.",
-                    offer.toString(),
-                    "Responder actions: ACCEPT_TRADE / REJECT_TRADE / COUNTER_TRADE / CANCEL_TRADE"
-            );
+            if (quiet) return ActionResult.ok();
+            return ActionResult.ok(new GameEvent.TradeProposed(
+                    state.getPlayers().get(offer.getFromPlayerIndex()).getName(),
+                    state.getPlayers().get(offer.getToPlayerIndex()).getName(),
+                    offer, true), PROMPT_COUNTER_RESPONSE);
         }
 
         // Normal propose: only the real current player may initiate
         int proposer = state.getCurrentPlayerIndex();
         if (offer.getFromPlayerIndex() != proposer) {
-            return ActionResult.fail("Only the current player may initiate a trade.");
+            return fail("Only the current player may initiate a trade.");
         }
 
         if (state.hasPendingTrade()) {
-            return ActionResult.fail("There is already a pending trade. Resolve it first.");
+            return fail("There is already a pending trade. Resolve it first.");
         }
 
         ActionResult legality = validateTradeOffer(offer);
@@ -1498,42 +1945,28 @@ public class GameEngine {
         // Immediate response: switch control to receiver temporarily
         state.beginTradeResponse(offer.getFromPlayerIndex(), offer.getToPlayerIndex());
 
+        if (quiet) return ActionResult.ok();
         Player a = state.getPlayers().get(offer.getFromPlayerIndex());
         Player b = state.getPlayers().get(offer.getToPlayerIndex());
-
-        return ActionResult.ok(
-                a.getName() + " proposes a trade to " + b.getName() + ".",
-                offer.toString(),
-                "Responder actions: ACCEPT_TRADE / REJECT_TRADE / COUNTER_TRADE. Proposer may CANCEL_TRADE."
-        );
+        return ActionResult.ok(new GameEvent.TradeProposed(a.getName(), b.getName(), offer, false), PROMPT_TRADE_RESPONSE);
     }
 
     private ActionResult handleTradeResponse(TradeResponse response) {
-        if (!state.hasPendingTrade()) return ActionResult.fail("No pending trade.");
+        String why = tradeResponseRejection(response);
+        if (why != null) return fail(why);
 
         TradeOffer offer = state.getPendingTrade();
-        int proposer = offer.getFromPlayerIndex();
-        int receiver = offer.getToPlayerIndex();
-        int current = state.getCurrentPlayerIndex(); // during TRADE_RESPONSE this is the responder
-
-        if (state.getPhase() != TurnPhase.TRADE_RESPONSE) {
-            return ActionResult.fail("Not currently in TRADE_RESPONSE phase.");
-        }
 
         if (response == TradeResponse.CANCEL) {
-            if (current != proposer) return ActionResult.fail("Only the proposer may cancel the trade.");
             state.clearPendingTrade();
             state.endTradeResponse();
-            return ActionResult.ok("Trade cancelled by proposer.");
+            return quiet ? ActionResult.ok() : ActionResult.ok(TRADE_CANCELLED);
         }
 
-        // ACCEPT / REJECT done by receiver
-        if (current != receiver) return ActionResult.fail("Only the receiver may accept/reject the trade.");
-
         if (response == TradeResponse.REJECT) {
             state.clearPendingTrade();
             state.endTradeResponse();
-            return ActionResult.ok("Trade rejected.");
+            return quiet ? ActionResult.ok() : ActionResult.ok(TRADE_REJECTED);
         }
 
         // ACCEPT: revalidate and execute
@@ -1541,28 +1974,33 @@ public class GameEngine {
         if (!legality.isOk()) {
             state.clearPendingTrade();
             state.endTradeResponse();
+            if (quiet) return ActionResult.failed();
             return ActionResult.fail("Trade became illegal: " + String.join(" | ", legality.getEvents()));
         }
 
-        List<String> events = executeTradeWithMortgageRulesAndCards(offer);
+        executeTradeWithMortgageRulesAndCards(offer);
 
         state.clearPendingTrade();
         state.endTradeResponse();
 
-        return ActionResult.ok(events.toArray(new String[0]));
+        if (quiet) return ActionResult.ok();
+        Player a = state.getPlayers().get(offer.getFromPlayerIndex());
+        Player b = state.getPlayers().get(offer.getToPlayerIndex());
+        return ActionResult.ok(new GameEvent.TradeExecuted(offer, a.getName(), a.getCash(), b.getName(), b.getCash()));
     }
 
-    private ActionResult validateTradeOffer(TradeOffer offer) {
+    /** Checks {@code offer} against the current state without applying it. */
+    public ActionResult validateTradeOffer(TradeOffer offer) {
         int aIdx = offer.getFromPlayerIndex();
         int bIdx = offer.getToPlayerIndex();
 
-        if (aIdx < 0 || aIdx >= state.getPlayers().size()) return ActionResult.fail("Invalid proposer index.");
-        if (bIdx < 0 || bIdx >= state.getPlayers().size()) return ActionResult.fail("Invalid receiver index.");
+        if (aIdx < 0 || aIdx >= state.getPlayers().size()) return fail("Invalid proposer index.");
+        if (bIdx < 0 || bIdx >= state.getPlayers().size()) return fail("Invalid receiver index.");
 
         Player a = state.getPlayers().get(aIdx);
         Player b = state.getPlayers().get(bIdx);
 
-        if (a.isBankrupt() || b.isBankrupt()) return ActionResult.fail("Bankrupt players cannot trade.");
+        if (a.isBankrupt() || b.isBankrupt()) return fail("Bankrupt players cannot trade.");
 
         // v2: Properties must be undeveloped to trade (no buildings)
         for (int tile : offer.getTilesFromAtoB()) {
@@ -1575,14 +2013,14 @@ public class GameEngine {
         }
 
         // GOJF availability
-        if (offer.getChanceGojfAtoB() > a.countGetOutOfJailFree(CardType.CHANCE)) return ActionResult.fail("Proposer lacks Chance GOJF.");
-        if (offer.getCommunityGojfAtoB() > a.countGetOutOfJailFree(CardType.COMMUNITY_CHEST)) return ActionResult.fail("Proposer lacks Community GOJF.");
-        if (offer.getChanceGojfBtoA() > b.countGetOutOfJailFree(CardType.CHANCE)) return ActionResult.fail("Receiver lacks Chance GOJF.");
-        if (offer.getCommunityGojfBtoA() > b.countGetOutOfJailFree(CardType.COMMUNITY_CHEST)) return ActionResult.fail("Receiver lacks Community GOJF.");
+        if (offer.getChanceGojfAtoB() > a.countGetOutOfJailFree(CardType.CHANCE)) return fail("Proposer lacks Chance GOJF.");
+        if (offer.getCommunityGojfAtoB() > a.countGetOutOfJailFree(CardType.COMMUNITY_CHEST)) return fail("Proposer lacks Community GOJF.");
+        if (offer.getChanceGojfBtoA() > b.countGetOutOfJailFree(CardType.CHANCE)) return fail("Receiver lacks Chance GOJF.");
+        if (offer.getCommunityGojfBtoA() > b.countGetOutOfJailFree(CardType.COMMUNITY_CHEST)) return fail("Receiver lacks Community GOJF.");
 
         // Cash offered must be affordable
-        if (offer.getCashFromAtoB() > a.getCash()) return ActionResult.fail("Proposer cannot afford cash offered.");
-        if (offer.getCashFromBtoA() > b.getCash()) return ActionResult.fail("Receiver cannot afford cash offered.");
+        if (offer.getCashFromAtoB() > a.getCash()) return fail("Proposer cannot afford cash offered.");
+        if (offer.getCashFromBtoA() > b.getCash()) return fail("Receiver cannot afford cash offered.");
 
         // Mortgage transfer costs:
         // Recipient pays 10% immediately for any mortgaged property received.
@@ -1598,44 +2036,40 @@ public class GameEngine {
                 - offer.getCashFromBtoA() + offer.getCashFromAtoB()
                 - extraCostToB; // B pays costs for mortgaged tiles it receives from A
 
-        if (aCashAfter < 0) return ActionResult.fail("Trade would make proposer cash negative after mortgage fees/repayments.");
-        if (bCashAfter < 0) return ActionResult.fail("Trade would make receiver cash negative after mortgage fees/repayments.");
+        if (aCashAfter < 0) return fail("Trade would make proposer cash negative after mortgage fees/repayments.");
+        if (bCashAfter < 0) return fail("Trade would make receiver cash negative after mortgage fees/repayments.");
 
         boolean exchangesTiles = !offer.getTilesFromAtoB().isEmpty() || !offer.getTilesFromBtoA().isEmpty();
         boolean exchangesCash = offer.getCashFromAtoB() > 0 || offer.getCashFromBtoA() > 0;
         boolean exchangesCards = offer.getChanceGojfAtoB() + offer.getCommunityGojfAtoB() + offer.getChanceGojfBtoA() + offer.getCommunityGojfBtoA() > 0;
 
-        if (!exchangesTiles && !exchangesCash && !exchangesCards) return ActionResult.fail("Trade must exchange something.");
+        if (!exchangesTiles && !exchangesCash && !exchangesCards) return fail("Trade must exchange something.");
 
-        return ActionResult.ok("Trade is legal.");
+        return ActionResult.ok();
     }
 
     private ActionResult validateTransferableTile(int ownerIdx, int tileIndex) {
-        Object deed = deedsByIndex.get(tileIndex);
-        if (deed == null) return ActionResult.fail("Tile " + tileIndex + " is not a tradable deed.");
+        if (!deeds.isDeed(tileIndex)) return quiet ? ActionResult.failed() : ActionResult.fail("Tile " + tileIndex + " is not a tradable deed.");
 
-        PropertyState ps = state.getPropertyState(tileIndex);
-        if (ps.getOwnerPlayerIndex() == null || ps.getOwnerPlayerIndex() != ownerIdx) {
-            return ActionResult.fail("Tile " + tileIndex + " is not owned by the offering player.");
+        if (!state.isOwnedBy(tileIndex, ownerIdx)) {
+            return quiet ? ActionResult.failed() : ActionResult.fail("Tile " + tileIndex + " is not owned by the offering player.");
         }
 
         // Undeveloped only
-        if (deed instanceof StreetDeed) {
-            if (ps.getBuildings() > 0) return ActionResult.fail("Tile " + tileIndex + " has buildings and cannot be traded.");
+        if (deeds.isStreet(tileIndex)) {
+            if (state.getBuildings(tileIndex) > 0) return quiet ? ActionResult.failed() : ActionResult.fail("Tile " + tileIndex + " has buildings and cannot be traded.");
         }
 
         // Mortgaged is allowed in v2 (handled by mortgage transfer rules)
-        return ActionResult.ok("Tile transferable.");
+        return ActionResult.ok();
     }
 
     private int mortgageTransferImmediateCost(java.util.Set<Integer> tilesBeingReceived, boolean goingToB, TradeOffer offer) {
         int total = 0;
         for (int tile : tilesBeingReceived) {
-            PropertyState ps = state.getPropertyState(tile);
-            if (!ps.isMortgaged()) continue;
+            if (!state.isMortgaged(tile)) continue;
 
-            Object deed = deedsByIndex.get(tile);
-            int mortgage = getMortgageValue(deed);
+            int mortgage = deeds.getMortgage(tile);
             int tenPercent = (mortgage + 9) / 10; // ceil(mortgage*0.10)
 
             total += tenPercent;
@@ -1648,74 +2082,62 @@ public class GameEngine {
         return total;
     }
 
-    private List<String> executeTradeWithMortgageRulesAndCards(TradeOffer offer) {
+    private void executeTradeWithMortgageRulesAndCards(TradeOffer offer) {
         int aIdx = offer.getFromPlayerIndex();
         int bIdx = offer.getToPlayerIndex();
 
         Player a = state.getPlayers().get(aIdx);
         Player b = state.getPlayers().get(bIdx);
 
-        List<String> ev = new ArrayList<>();
-        ev.add("Trade executed: " + offer);
-
         // Cash transfer
         if (offer.getCashFromAtoB() > 0) {
             a.subtractCash(offer.getCashFromAtoB());
             b.addCash(offer.getCashFromAtoB());
-            ev.add(a.getName() + " pays £" + offer.getCashFromAtoB() + " to " + b.getName() + ".");
         }
         if (offer.getCashFromBtoA() > 0) {
             b.subtractCash(offer.getCashFromBtoA());
             a.addCash(offer.getCashFromBtoA());
-            ev.add(b.getName() + " pays £" + offer.getCashFromBtoA() + " to " + a.getName() + ".");
         }
 
         // Tiles A->B
         for (int tile : offer.getTilesFromAtoB()) {
             handleMortgageTransferOnReceive(tile, b, true, offer);
-            state.getPropertyState(tile).setOwnerPlayerIndex(bIdx);
-            ev.add("Tile " + tile + " transferred A->B.");
+            state.setOwner(tile, bIdx);
         }
 
         // Tiles B->A
         for (int tile : offer.getTilesFromBtoA()) {
             handleMortgageTransferOnReceive(tile, a, false, offer);
-            state.getPropertyState(tile).setOwnerPlayerIndex(aIdx);
-            ev.add("Tile " + tile + " transferred B->A.");
+            state.setOwner(tile, aIdx);
         }
 
         // GOJF cards
         for (int i = 0; i < offer.getChanceGojfAtoB(); i++) {
             Card c = a.removeOneGetOutOfJailFree(CardType.CHANCE);
-            if (c != null) { b.addGetOutOfJailFreeCard(c); ev.add("Chance GOJF transferred A->B."); }
+            if (c != null) b.addGetOutOfJailFreeCard(c);
         }
         for (int i = 0; i < offer.getCommunityGojfAtoB(); i++) {
             Card c = a.removeOneGetOutOfJailFree(CardType.COMMUNITY_CHEST);
-            if (c != null) { b.addGetOutOfJailFreeCard(c); ev.add("Community GOJF transferred A->B."); }
+            if (c != null) b.addGetOutOfJailFreeCard(c);
         }
         for (int i = 0; i < offer.getChanceGojfBtoA(); i++) {
             Card c = b.removeOneGetOutOfJailFree(CardType.CHANCE);
-            if (c != null) { a.addGetOutOfJailFreeCard(c); ev.add("Chance GOJF transferred B->A."); }
+            if (c != null) a.addGetOutOfJailFreeCard(c);
         }
         for (int i = 0; i < offer.getCommunityGojfBtoA(); i++) {
             Card c = b.removeOneGetOutOfJailFree(CardType.COMMUNITY_CHEST);
-            if (c != null) { a.addGetOutOfJailFreeCard(c); ev.add("Community GOJF transferred B->A."); }
+            if (c != null) a.addGetOutOfJailFreeCard(c);
         }
 
         // Safety: debt phase (your engine rules already prohibit ending negative; trades shouldn’t create negatives)
         updateDebtPhaseIfNeeded(a);
         updateDebtPhaseIfNeeded(b);
-
-        ev.add(a.getName() + " cash now £" + a.getCash() + "; " + b.getName() + " cash now £" + b.getCash() + ".");
-        return ev;
     }
 
     private void handleMortgageTransferOnReceive(int tile, Player receiver, boolean goingToB, TradeOffer offer) {
-        PropertyState ps = state.getPropertyState(tile);
-        if (!ps.isMortgaged()) return;
+        if (!state.isMortgaged(tile)) return;
 
-        Object deed = deedsByIndex.get(tile);
-        int mortgage = getMortgageValue(deed);
+        int mortgage = deeds.getMortgage(tile);
         int tenPercent = (mortgage + 9) / 10;
 
         // recipient must pay 10% immediately
@@ -1725,9 +2147,9 @@ public class GameEngine {
 
         if (choice == MortgageTransferChoice.PAY_OFF_NOW) {
             receiver.subtractCash(mortgage);
-            ps.setMortgaged(false);
+            state.setMortgaged(tile, false);
         } else {
-            ps.setMortgaged(true);
+            state.setMortgaged(tile, true);
         }
     }
 
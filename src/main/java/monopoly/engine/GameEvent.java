@@ -0,0 +1,248 @@
+package monopoly.engine;
+
+import monopoly.engine.trade.TradeOffer;
+
+/**
+ * Something that happened while applying an action.
+ *
+ * Events are small immutable records holding the raw values (names, tiles, amounts);
+ * text is only built when {@link #render()} is called, e.g. by
+ * {@link ActionResult#getEvents()}. A quiet engine creates none at all.
+ */
+public sealed interface GameEvent {
+
+    String render();
+
+    // ------------------ General ------------------
+
+    /** Fixed text: prompts, notes and rejection reasons. */
+    record Message(String text) implements GameEvent {
+        public String render() { return text; }
+    }
+
+    record TurnStarted(String player, boolean inJail) implements GameEvent {
+        public String render() {
+            return inJail
+                    ? player + " is in JAIL. Choose: use card (if any) or ROLL_DICE (fine handling is simplified)."
+                    : player + " to play. Action: ROLL_DICE.";
+        }
+    }
+
+    record TurnEnded(String player, int cash) implements GameEvent {
+        public String render() { return player + " ends turn (cash £" + cash + ")."; }
+    }
+
+    // ------------------ Dice / jail ------------------
+
+    record Rolled(String player, Dice.Roll roll) implements GameEvent {
+        public String render() { return player + " rolled " + roll + " and moved."; }
+    }
+
+    record JailedForDoubles(String player, Dice.Roll roll) implements GameEvent {
+        public String render() { return player + " rolled " + roll + " (3rd double) -> sent to JAIL."; }
+    }
+
+    /** A roll from jail; {@code exitRoll} is set when attempts ran out and the fine was paid. */
+    record JailRoll(Dice.Roll roll, Dice.Roll exitRoll, int finePaid) implements GameEvent {
+        public String render() {
+            if (roll.isDouble()) return "Rolled " + roll + " in jail: doubles -> released and moved.";
+            if (exitRoll == null) return "Rolled " + roll + " (no doubles). Remains in jail.";
+            return "Rolled " + roll + " (no doubles). Out of attempts: paid £" + finePaid
+                    + ", rolled " + exitRoll + " and moved.";
+        }
+    }
+
+    record JailCardUsed(String player, CardType deck) implements GameEvent {
+        public String render() {
+            return player + " uses a Get Out of Jail Free card (" + deck + "). Card returned to bottom of " + deck + " deck.";
+        }
+    }
+
+    record SentToJail(String player) implements GameEvent {
+        public String render() { return player + " goes straight to JAIL (no GO salary)."; }
+    }
+
+    // ------------------ Landing / rent ------------------
+
+    record Landed(String player, int tile, String tileName) implements GameEvent {
+        public String render() { return player + " landed on " + tileName + " (tile " + tile + ")"; }
+    }
+
+    record LandedUnowned(String player, int tile, int price) implements GameEvent {
+        public String render() { return player + " landed on unowned buyable tile " + tile + " (price £" + price + ")"; }
+    }
+
+    record NoRent(int tile, boolean mortgaged) implements GameEvent {
+        public String render() {
+            return "Landed on " + (mortgaged ? "mortgaged" : "owned") + " tile " + tile + " (no rent).";
+        }
+    }
+
+    record RentPaid(String payer, String owner, int tile, int amount) implements GameEvent {
+        public String render() { return payer + " paid rent £" + amount + " to " + owner + " (tile " + tile + ")"; }
+    }
+
+    /** The player is below £0 and must mortgage or sell before ending the turn. */
+    record InDebt(String player, int cash) implements GameEvent {
+        public String render() { return player + " cash is now £" + cash + " -> MUST RESOLVE DEBT (MORTGAGE)."; }
+    }
+
+    // ------------------ Buying / auctions ------------------
+
+    record Purchased(String player, int tile, int price) implements GameEvent {
+        public String render() { return player + " bought tile " + tile + " for £" + price; }
+    }
+
+    record AuctionStarted(int tile, String firstBidder) implements GameEvent {
+        public String render() { return "Auction started for tile " + tile + ". Current bidder: " + firstBidder; }
+    }
+
+    record AuctionBid(String bidder, int amount, String nextBidder) implements GameEvent {
+        public String render() { return bidder + " bids £" + amount + " (new high bid). Next bidder: " + nextBidder; }
+    }
+
+    /** Sealed formats: the amount stays hidden until the auction is settled. */
+    record SealedBid(String bidder, String nextBidder) implements GameEvent {
+        public String render() { return bidder + " submits a sealed bid. Next bidder: " + nextBidder; }
+    }
+
+    /** {@code nextBidder} is null when the pass ended the auction. */
+    record AuctionPassed(String bidder, String nextBidder) implements GameEvent {
+        public String render() {
+            return nextBidder == null ? bidder + " passes." : bidder + " passes. Next bidder: " + nextBidder;
+        }
+    }
+
+    record AuctionHint(String bidder, int suggestedMaxBid, int highBid) implements GameEvent {
+        public String render() {
+            return "Heuristic: " + bidder + " maxBid≈£" + suggestedMaxBid + " (current high £" + highBid + ")";
+        }
+    }
+
+    record AuctionWon(String winner, int tile, int amount) implements GameEvent {
+        public String render() { return "Auction won by " + winner + " for £" + amount + " (tile " + tile + ")."; }
+    }
+
+    /** {@code allPassed} distinguishes "everyone passed" from "ended without bids". */
+    record AuctionNoSale(int tile, boolean allPassed) implements GameEvent {
+        public String render() {
+            return (allPassed ? "All players passed. No sale." : "Auction ended. No bids placed.")
+                    + " Tile " + tile + " remains unowned.";
+        }
+    }
+
+    // ------------------ Buildings / mortgages ------------------
+
+    record Built(int tile, boolean hotel, int cost, int housesOnTile, int bankHouses, int bankHotels) implements GameEvent {
+        public String render() {
+            String what = hotel ? "HOTEL" : "1 house";
+            String now = hotel ? "" : "Houses now: " + housesOnTile + ". ";
+            return "Built " + what + " on tile " + tile + " for £" + cost + ". "
+                    + now + "Bank supply now: houses=" + bankHouses + ", hotels=" + bankHotels;
+        }
+    }
+
+    record Sold(int tile, boolean hotel, int value, int housesOnTile, int bankHouses, int bankHotels, int cash) implements GameEvent {
+        public String render() {
+            String what = hotel ? "HOTEL" : "1 house";
+            String now = hotel ? " (hotel replaced with 4 houses)" : ". Houses now: " + housesOnTile;
+            return "Sold " + what + " on tile " + tile + " for £" + value + now
+                    + ". Bank supply now: houses=" + bankHouses + ", hotels=" + bankHotels + ". Cash now £" + cash + ".";
+        }
+    }
+
+    record Mortgaged(int tile, int value, int cash) implements GameEvent {
+        public String render() { return "Mortgaged tile " + tile + " for £" + value + ". Cash now £" + cash; }
+    }
+
+    record Unmortgaged(int tile, int mortgage, int fee, int cash) implements GameEvent {
+        public String render() {
+            return "Unmortgaged tile " + tile + " for £" + mortgage + " + 10% fee £" + fee
+                    + " (total £" + (mortgage + fee) + "). Cash now £" + cash + ".";
+        }
+    }
+
+    // ------------------ Bankruptcy ------------------
+
+    record Bankrupt(String player) implements GameEvent {
+        public String render() { return player + " cannot clear debt -> BANKRUPT."; }
+    }
+
+    record Winner(String player) implements GameEvent {
+        public String render() { return "WINNER: " + player; }
+    }
+
+    // ------------------ Cards ------------------
+
+    record CardDrawn(CardType deck, String text) implements GameEvent {
+        public String render() { return (deck == CardType.CHANCE ? "CHANCE: " : "COMMUNITY CHEST: ") + text; }
+    }
+
+    /** Card movement; {@code via} names the target kind ("Station", "Utility") or is null for a plain move. */
+    record CardMoved(String player, int tile, int spaces, String via) implements GameEvent {
+        public String render() {
+            if (via != null) return player + " advanced to nearest " + via + " (" + tile + ").";
+            if (spaces != 0) return player + " moved " + spaces + " spaces to tile " + tile + ".";
+            return player + " advanced to tile " + tile + ".";
+        }
+    }
+
+    /** Rent forced by a card: double station rent, or 10x a fresh roll for utilities. */
+    record CardRentPaid(String payer, String owner, int tile, int amount, Dice.Roll roll) implements GameEvent {
+        public String render() {
+            if (roll == null) {
+                return payer + " advanced to nearest Station (" + tile + ") and paid DOUBLE rent £" + amount + " to " + owner + ".";
+            }
+            return payer + " advanced to utility (" + tile + ") and rolled " + roll + ". Paid £" + amount + " (10x roll) to " + owner + ".";
+        }
+    }
+
+    record JailCardReceived(String player, CardType type) implements GameEvent {
+        public String render() { return player + " receives a Get Out of Jail Free card (" + type + ")."; }
+    }
+
+    /** Payment between the player and the bank; positive = received, negative = paid. */
+    record BankPayment(String player, int amount) implements GameEvent {
+        public String render() {
+            return amount >= 0
+                    ? player + " receives £" + amount + " from the bank."
+                    : player + " pays the bank £" + (-amount) + ".";
+        }
+    }
+
+    record PlayersPayment(String player, int amountEach, int total, boolean collects) implements GameEvent {
+        public String render() {
+            return player + (collects ? " collects £" + amountEach + " from" : " pays £" + amountEach + " to")
+                    + " each other player (total £" + total + ").";
+        }
+    }
+
+    record Repairs(String player, int houses, int perHouse, int hotels, int perHotel, int total) implements GameEvent {
+        public String render() {
+            return player + " pays building repairs: houses=" + houses + " (£" + perHouse + " each), hotels="
+                    + hotels + " (£" + perHotel + " each). Total £" + total + ".";
+        }
+    }
+
+    record Gamble(String player, Dice.Roll roll, int threshold, int amount, boolean won) implements GameEvent {
+        public String render() {
+            return won
+                    ? player + " rolled " + roll + " (>= " + threshold + ") and wins £" + amount + "."
+                    : player + " rolled " + roll + " (< " + threshold + "), pays £" + amount + " and goes straight to JAIL.";
+        }
+    }
+
+    // ------------------ Trading ------------------
+
+    record TradeProposed(String from, String to, TradeOffer offer, boolean counter) implements GameEvent {
+        public String render() {
+            return (counter ? "Counter-trade proposed: " : from + " proposes a trade to " + to + ": ") + offer;
+        }
+    }
+
+    record TradeExecuted(TradeOffer offer, String a, int aCash, String b, int bCash) implements GameEvent {
+        public String render() {
+            return "Trade executed: " + offer + ". " + a + " cash now £" + aCash + "; " + b + " cash now £" + bCash + ".";
+        }
+    }
+}
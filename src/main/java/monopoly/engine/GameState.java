@@ -2,10 +2,12 @@ package monopoly.engine;
 
 import monopoly.model.Board;
 import monopoly.model.Player;
+import monopoly.rules.DeedTable;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
+import java.util.Random;
 
 public class GameState {
     private final Board board;
@@ -19,7 +21,20 @@ public class GameState {
     private Integer lastRollTotal = null;
     private Integer landedTileIndex = null;
 
-    private final Map<Integer, PropertyState> propertyStates = new HashMap<>();
+    // ------------------ PROPERTY STORE ------------------
+    // Struct-of-arrays, indexed by tile. Non-deed tiles simply stay unowned.
+    public static final int UNOWNED = -1;
+
+    private final byte[] owner = new byte[Board.SIZE];       // player index, or UNOWNED
+    private final byte[] buildings = new byte[Board.SIZE];   // 0..4 houses, 5 = hotel
+    private long mortgagedMask = 0L;                          // bit i set = tile i mortgaged
+    private final long[] ownedMask;                           // per player: bit i set = owns tile i
+    private PropertyState[] propertyViews;                    // created on first getPropertyState
+
+    // Rent a visitor pays right now, kept in step with owner / buildings / mortgages
+    private final int[] rent = new int[Board.SIZE];
+    private DeedTable deeds;                                  // null until bound: no rent tracking
+    // ---------------------------------------------------
 
     private GameStatus status = GameStatus.RUNNING;
     private Integer winnerIndex = null;
@@ -36,15 +51,63 @@ public class GameState {
     private Integer auctionTileIndex = null;
     private int auctionHighBid = 0;
     private Integer auctionHighBidderIndex = null;
-    private boolean[] auctionActive;                 // who is still in
+    private final boolean[] auctionActive;           // who is still in (only meaningful while in progress)
     private int auctionCurrentBidderIndex = 0;       // whose turn to act in auction
+    private final int[] auctionSealedBids;           // sealed formats: each seat's bid, 0 = none
+    private final int[] auctionValuations;           // cached bid caps, see getAuctionValuation
+    private boolean auctionValuationsSet;
+    public static final int NO_VALUATION = -1;
+    // ---------------------------------------------------
+
+    // ------------------ ZOBRIST HASH ------------------
+    // Board, phase, current player and doubles are folded in by their setters. Player
+    // fields change behind Player's own setters, so those only mark the seat dirty and
+    // getZobristHash() re-folds dirty seats.
+    private long hash;
+    private final long[] playerHash;                 // each seat's component as folded into hash
+    private long dirtySeats;                         // bit s set = playerHash[s] is stale
     // ---------------------------------------------------
 
+    private UndoJournal journal;                     // null unless journaling is enabled
+    private final ChangeHooks hooks = new ChangeHooks();
+
     public GameState(Board board, List<Player> players) {
         if (players == null || players.size() < 2) throw new IllegalArgumentException("Need at least 2 players.");
         this.board = board;
         this.players = players;
         this.currentPlayerIndex = 0;
+        this.ownedMask = new long[players.size()];
+        this.auctionActive = new boolean[players.size()];
+        this.auctionSealedBids = new int[players.size()];
+        this.auctionValuations = new int[players.size()];
+        Arrays.fill(auctionValuations, NO_VALUATION);
+        this.playerHash = new long[players.size()];
+
+        Arrays.fill(owner, (byte) UNOWNED);
+        this.hash = Zobrist.phase(phase) ^ Zobrist.current(currentPlayerIndex);
+        this.dirtySeats = allSeats();
+        attachPlayerHooks();
+    }
+
+    /** Fork constructor: same board, copied players and decks; everything else via copyInto. */
+    private GameState(GameState source, Random deckRandom) {
+        this.board = source.board;
+        this.players = new ArrayList<>(source.players.size());
+        for (Player p : source.players) players.add(p.copy());
+        this.ownedMask = new long[players.size()];
+        this.auctionActive = new boolean[players.size()];
+        this.auctionSealedBids = new int[players.size()];
+        this.auctionValuations = new int[players.size()];
+        Arrays.fill(auctionValuations, NO_VALUATION);
+        this.playerHash = new long[players.size()];
+        attachPlayerHooks();
+        if (source.chanceDeck != null) {
+            this.chanceDeck = deckRandom == null ? source.chanceDeck.copy() : source.chanceDeck.copy(deckRandom);
+        }
+        if (source.communityDeck != null) {
+            this.communityDeck = deckRandom == null ? source.communityDeck.copy() : source.communityDeck.copy(deckRandom);
+        }
+        source.copyInto(this);
     }
 
     public Board getBoard() { return board; }
@@ -54,26 +117,158 @@ public class GameState {
     public int getCurrentPlayerIndex() { return currentPlayerIndex; }
 
     public TurnPhase getPhase() { return phase; }
-    public void setPhase(TurnPhase phase) { this.phase = phase; }
+    public void setPhase(TurnPhase phase) {
+        if (journal != null) journal.record(UndoJournal.PHASE, 0, 0, this.phase);
+        hash ^= Zobrist.phase(this.phase) ^ Zobrist.phase(phase);
+        this.phase = phase;
+    }
 
     public int getDoublesThisTurn() { return doublesThisTurn; }
-    public void resetDoublesThisTurn() { this.doublesThisTurn = 0; }
-    public void incrementDoublesThisTurn() { this.doublesThisTurn++; }
+    public void resetDoublesThisTurn() { setDoubles(0); }
+    public void incrementDoublesThisTurn() { setDoubles(doublesThisTurn + 1); }
+
+    private void setDoubles(int doubles) {
+        if (journal != null) journal.record(UndoJournal.DOUBLES, 0, doublesThisTurn, null);
+        hash ^= Zobrist.doubles(doublesThisTurn) ^ Zobrist.doubles(doubles);
+        this.doublesThisTurn = doubles;
+    }
 
     public Integer getLastRollTotal() { return lastRollTotal; }
-    public void setLastRollTotal(Integer lastRollTotal) { this.lastRollTotal = lastRollTotal; }
+    public void setLastRollTotal(Integer lastRollTotal) {
+        if (journal != null) journal.record(UndoJournal.LAST_ROLL, 0, 0, this.lastRollTotal);
+        this.lastRollTotal = lastRollTotal;
+    }
 
     public Integer getLandedTileIndex() { return landedTileIndex; }
-    public void setLandedTileIndex(Integer landedTileIndex) { this.landedTileIndex = landedTileIndex; }
+    public void setLandedTileIndex(Integer landedTileIndex) {
+        if (journal != null) journal.record(UndoJournal.LANDED_TILE, 0, 0, this.landedTileIndex);
+        this.landedTileIndex = landedTileIndex;
+    }
 
+    /** Compatibility view over the property arrays; no allocation, valid for any tile. */
     public PropertyState getPropertyState(int tileIndex) {
-        return propertyStates.computeIfAbsent(tileIndex, k -> new PropertyState());
+        if (propertyViews == null) {
+            propertyViews = new PropertyState[Board.SIZE];
+            for (int i = 0; i < Board.SIZE; i++) propertyViews[i] = new PropertyState(this, i);
+        }
+        return propertyViews[tileIndex];
+    }
+
+    // ------------------ PROPERTY METHODS ------------------
+    /** Owning player index, or {@link #UNOWNED}. */
+    public int getOwner(int tileIndex) { return owner[tileIndex]; }
+    public boolean isOwnedBy(int tileIndex, int playerIdx) { return owner[tileIndex] == playerIdx; }
+
+    public void setOwner(int tileIndex, int playerIdx) {
+        int previous = owner[tileIndex];
+        if (journal != null) journal.record(UndoJournal.OWNER, tileIndex, previous, null);
+        if (previous != UNOWNED) ownedMask[previous] &= ~(1L << tileIndex);
+        if (playerIdx != UNOWNED) ownedMask[playerIdx] |= 1L << tileIndex;
+        hash ^= Zobrist.owner(tileIndex, previous) ^ Zobrist.owner(tileIndex, playerIdx);
+        owner[tileIndex] = (byte) playerIdx;
+        clearAuctionValuations();
+        refreshRent(tileIndex);
+    }
+
+    /** Bit i set = player owns tile i. */
+    public long getOwnedMask(int playerIdx) { return ownedMask[playerIdx]; }
+
+    /** True if the player owns every tile in the mask (e.g. a colour group). */
+    public boolean ownsAll(int playerIdx, long tileMask) {
+        return (ownedMask[playerIdx] & tileMask) == tileMask;
+    }
+
+    /** Number of tiles in the mask the player owns (e.g. stations). */
+    public int countOwned(int playerIdx, long tileMask) {
+        return Long.bitCount(ownedMask[playerIdx] & tileMask);
+    }
+
+    public boolean isMortgaged(int tileIndex) { return (mortgagedMask & (1L << tileIndex)) != 0; }
+    public long getMortgagedMask() { return mortgagedMask; }
+
+    public void setMortgaged(int tileIndex, boolean mortgaged) {
+        if (journal != null) journal.record(UndoJournal.MORTGAGED, tileIndex, isMortgaged(tileIndex) ? 1 : 0, null);
+        hash ^= Zobrist.mortgaged(tileIndex, isMortgaged(tileIndex)) ^ Zobrist.mortgaged(tileIndex, mortgaged);
+        if (mortgaged) mortgagedMask |= 1L << tileIndex;
+        else mortgagedMask &= ~(1L << tileIndex);
+        refreshRent(tileIndex);
+    }
+
+    /** 0..4 houses, 5 = hotel. */
+    public int getBuildings(int tileIndex) { return buildings[tileIndex]; }
+    public int getHouses(int tileIndex) { return Math.min(buildings[tileIndex], 4); }
+    public boolean hasHotel(int tileIndex) { return buildings[tileIndex] == 5; }
+
+    public void setBuildings(int tileIndex, int count) {
+        if (journal != null) journal.record(UndoJournal.BUILDINGS, tileIndex, buildings[tileIndex], null);
+        hash ^= Zobrist.buildings(tileIndex, buildings[tileIndex]) ^ Zobrist.buildings(tileIndex, count);
+        buildings[tileIndex] = (byte) count;
+        refreshRent(tileIndex);
+    }
+
+    // ------------------ RENT VECTOR ------------------
+
+    /** Binds the deed economics behind {@link #getRentIfLanded}; Rules and the engine do this. */
+    public void setDeeds(DeedTable deeds) {
+        if (this.deeds == deeds) return;
+        this.deeds = deeds;
+        Arrays.fill(rent, 0);
+        if (deeds == null) return;
+        for (long m = deeds.getDeedMask(); m != 0; m &= m - 1) {
+            int t = Long.numberOfTrailingZeros(m);
+            rent[t] = rentOf(t);
+        }
     }
 
+    /**
+     * Rent a visitor pays on {@code tile} right now: 0 if it is unowned, mortgaged or not a
+     * deed; for utilities, the multiplier applied to the dice total. Updated on ownership,
+     * building and mortgage changes only, so reading it is free.
+     */
+    public int getRentIfLanded(int tileIndex) { return rent[tileIndex]; }
+
+    private void refreshRent(int tileIndex) {
+        if (deeds == null) return;
+        DeedTable.Kind kind = deeds.getKind(tileIndex);
+        if (kind == DeedTable.Kind.STATION || kind == DeedTable.Kind.UTILITY) {
+            // the owners' counts changed, so every tile of the kind may change
+            long mask = kind == DeedTable.Kind.STATION ? deeds.getStationMask() : deeds.getUtilityMask();
+            for (long m = mask; m != 0; m &= m - 1) {
+                int t = Long.numberOfTrailingZeros(m);
+                rent[t] = rentOf(t);
+            }
+        } else {
+            rent[tileIndex] = rentOf(tileIndex);
+        }
+    }
+
+    private int rentOf(int tile) {
+        int o = owner[tile];
+        if (o == UNOWNED || isMortgaged(tile)) return 0;
+        switch (deeds.getKind(tile)) {
+            case STREET -> {
+                int b = buildings[tile]; // 0..4 houses, 5 hotel
+                if (b < 0 || b > 5) b = 0;
+                return deeds.getRent(tile, b);
+            }
+            case STATION -> {
+                return deeds.getRent(tile, Math.max(1, Math.min(4, countOwned(o, deeds.getStationMask()))) - 1);
+            }
+            case UTILITY -> {
+                return deeds.getRent(tile, countOwned(o, deeds.getUtilityMask()) >= 2 ? 1 : 0);
+            }
+            default -> {
+                return 0;
+            }
+        }
+    }
+    // ---------------------------------------------------
+
     public GameStatus getStatus() { return status; }
     public Integer getWinnerIndex() { return winnerIndex; }
 
     public void setWinner(int winnerIndex) {
+        if (journal != null) journal.record(UndoJournal.STATUS, 0, 0, this.status, this.winnerIndex);
         this.status = GameStatus.FINISHED;
         this.winnerIndex = winnerIndex;
     }
@@ -83,33 +278,48 @@ public class GameState {
 
     public boolean takeHouseFromBank() {
         if (housesRemaining <= 0) return false;
-        housesRemaining--;
+        setHousesRemaining(housesRemaining - 1);
         return true;
     }
 
     public void returnHousesToBank(int count) {
-        housesRemaining += count;
-        if (housesRemaining > 32) housesRemaining = 32;
+        setHousesRemaining(Math.min(32, housesRemaining + count));
     }
 
     public boolean takeHotelFromBank() {
         if (hotelsRemaining <= 0) return false;
-        hotelsRemaining--;
+        setHotelsRemaining(hotelsRemaining - 1);
         return true;
     }
 
     public void returnHotelToBank() {
-        hotelsRemaining++;
-        if (hotelsRemaining > 12) hotelsRemaining = 12;
+        setHotelsRemaining(Math.min(12, hotelsRemaining + 1));
+    }
+
+    public void returnHouseToBank() { setHousesRemaining(housesRemaining + 1); }
+    public void takeHousesFromBank(int n) { setHousesRemaining(housesRemaining - n); }
+
+    private void setHousesRemaining(int n) {
+        if (journal != null) journal.record(UndoJournal.HOUSES, 0, housesRemaining, null);
+        housesRemaining = n;
     }
 
-    public void returnHouseToBank() { housesRemaining++; }
-    public void takeHousesFromBank(int n) { housesRemaining -= n; }
+    private void setHotelsRemaining(int n) {
+        if (journal != null) journal.record(UndoJournal.HOTELS, 0, hotelsRemaining, null);
+        hotelsRemaining = n;
+    }
 
     public CardDeck<Card> getChanceDeck() { return chanceDeck; }
     public CardDeck<Card> getCommunityDeck() { return communityDeck; }
-    public void setChanceDeck(CardDeck<Card> chanceDeck) { this.chanceDeck = chanceDeck; }
-    public void setCommunityDeck(CardDeck<Card> communityDeck) { this.communityDeck = communityDeck; }
+    public void setChanceDeck(CardDeck<Card> chanceDeck) {
+        this.chanceDeck = chanceDeck;
+        if (journal != null) attachJournalHooks();
+    }
+
+    public void setCommunityDeck(CardDeck<Card> communityDeck) {
+        this.communityDeck = communityDeck;
+        if (journal != null) attachJournalHooks();
+    }
 
     // ------------------ AUCTION METHODS ------------------
     public boolean isAuctionInProgress() { return auctionInProgress; }
@@ -119,12 +329,17 @@ public class GameState {
     public int getAuctionCurrentBidderIndex() { return auctionCurrentBidderIndex; }
 
     public void startAuction(int tileIndex, int startingBidderIndex) {
+        if (journal != null) {
+            journal.record(UndoJournal.AUCTION, 0, packAuction(), null);
+            for (int i = 0; i < auctionActive.length; i++) journal.record(UndoJournal.AUCTION_ACTIVE, i, auctionActive[i] ? 1 : 0, null);
+        }
+        clearSealedBids();
+        clearAuctionValuations();
         this.auctionInProgress = true;
         this.auctionTileIndex = tileIndex;
         this.auctionHighBid = 0;
         this.auctionHighBidderIndex = null;
 
-        this.auctionActive = new boolean[players.size()];
         for (int i = 0; i < players.size(); i++) {
             auctionActive[i] = !players.get(i).isBankrupt();
         }
@@ -132,27 +347,30 @@ public class GameState {
     }
 
     public boolean isAuctionBidderActive(int playerIdx) {
-        return auctionActive != null && auctionActive[playerIdx];
+        return auctionInProgress && auctionActive[playerIdx];
     }
 
     public void auctionPass(int playerIdx) {
-        if (auctionActive != null) auctionActive[playerIdx] = false;
+        if (!auctionInProgress) return;
+        if (journal != null) journal.record(UndoJournal.AUCTION_ACTIVE, playerIdx, auctionActive[playerIdx] ? 1 : 0, null);
+        auctionActive[playerIdx] = false;
     }
 
     public int auctionActiveCount() {
         int c = 0;
-        if (auctionActive == null) return 0;
+        if (!auctionInProgress) return 0;
         for (boolean b : auctionActive) if (b) c++;
         return c;
     }
 
     /** Advances to next active bidder (returns index). If none active, returns -1. */
     public int advanceToNextActiveBidder() {
-        if (auctionActive == null) return -1;
+        if (!auctionInProgress) return -1;
         int n = players.size();
         for (int step = 1; step <= n; step++) {
             int idx = (auctionCurrentBidderIndex + step) % n;
             if (auctionActive[idx]) {
+                if (journal != null) journal.record(UndoJournal.AUCTION, 0, packAuction(), null);
                 auctionCurrentBidderIndex = idx;
                 return idx;
             }
@@ -161,32 +379,103 @@ public class GameState {
     }
 
     public void setAuctionHighBid(int bid, int bidderIdx) {
+        if (journal != null) journal.record(UndoJournal.AUCTION, 0, packAuction(), null);
         this.auctionHighBid = bid;
         this.auctionHighBidderIndex = bidderIdx;
     }
 
     public void endAuction() {
+        if (journal != null) {
+            journal.record(UndoJournal.AUCTION, 0, packAuction(), null);
+            for (int i = 0; i < auctionActive.length; i++) {
+                if (auctionActive[i]) journal.record(UndoJournal.AUCTION_ACTIVE, i, 1, null);
+            }
+        }
+        clearSealedBids();
+        clearAuctionValuations();
         this.auctionInProgress = false;
         this.auctionTileIndex = null;
         this.auctionHighBid = 0;
         this.auctionHighBidderIndex = null;
-        this.auctionActive = null;
+        Arrays.fill(auctionActive, false);
         this.auctionCurrentBidderIndex = 0;
     }
+
+    /**
+     * Sealed-bid auctions: the bid {@code playerIdx} submitted, or 0 if none (yet). Only
+     * the engine reads these; policies must not see each other's bids.
+     */
+    int getAuctionSealedBid(int playerIdx) {
+        return auctionSealedBids[playerIdx];
+    }
+
+    void setAuctionSealedBid(int playerIdx, int bid) {
+        if (journal != null) journal.record(UndoJournal.AUCTION_SEALED, playerIdx, auctionSealedBids[playerIdx], null);
+        auctionSealedBids[playerIdx] = bid;
+    }
+
+    private void clearSealedBids() {
+        for (int i = 0; i < auctionSealedBids.length; i++) {
+            if (auctionSealedBids[i] != 0) setAuctionSealedBid(i, 0);
+        }
+    }
+
+    /**
+     * {@code playerIdx}'s bid cap for the auction in progress, as cached by the engine,
+     * or {@link #NO_VALUATION}. Cleared when an auction starts or ends and by anything
+     * that could change a cap: an ownership change, or any change to a player (cash,
+     * bankruptcy). Not journaled: undo replays through those same paths.
+     */
+    public int getAuctionValuation(int playerIdx) {
+        return auctionInProgress ? auctionValuations[playerIdx] : NO_VALUATION;
+    }
+
+    public void setAuctionValuation(int playerIdx, int valuation) {
+        if (!auctionInProgress) return;
+        auctionValuations[playerIdx] = valuation;
+        auctionValuationsSet = true;
+    }
+
+    private void clearAuctionValuations() {
+        if (!auctionValuationsSet) return;
+        Arrays.fill(auctionValuations, NO_VALUATION);
+        auctionValuationsSet = false;
+    }
+
+    /** Auction scalars in one long: high bid | current bidder | tile + 1 | high bidder + 1 | in progress. */
+    private long packAuction() {
+        return (auctionHighBid & 0xFFFF_FFFFL)
+                | ((long) (auctionCurrentBidderIndex & 0xFF) << 32)
+                | ((long) (auctionTileIndex == null ? 0 : auctionTileIndex + 1) << 40)
+                | ((long) (auctionHighBidderIndex == null ? 0 : auctionHighBidderIndex + 1) << 48)
+                | (auctionInProgress ? 1L << 56 : 0L);
+    }
+
+    private void unpackAuction(long packed) {
+        auctionHighBid = (int) packed;
+        auctionCurrentBidderIndex = (int) (packed >>> 32) & 0xFF;
+        int tile = (int) (packed >>> 40) & 0xFF;
+        int bidder = (int) (packed >>> 48) & 0xFF;
+        auctionTileIndex = tile == 0 ? null : tile - 1;
+        auctionHighBidderIndex = bidder == 0 ? null : bidder - 1;
+        auctionInProgress = (packed & (1L << 56)) != 0;
+    }
     // ---------------------------------------------------
 
     public void advanceTurnSkippingBankrupt() {
+        int next = currentPlayerIndex;
         int attempts = 0;
         do {
-            currentPlayerIndex = (currentPlayerIndex + 1) % players.size();
+            next = (next + 1) % players.size();
             attempts++;
             if (attempts > players.size()) break;
-        } while (players.get(currentPlayerIndex).isBankrupt());
+        } while (players.get(next).isBankrupt());
 
-        phase = TurnPhase.START_TURN;
-        doublesThisTurn = 0;
-        lastRollTotal = null;
-        landedTileIndex = null;
+        setCurrentPlayerIndex(next);
+        setPhase(TurnPhase.START_TURN);
+        setDoubles(0);
+        setLastRollTotal(null);
+        setLandedTileIndex(null);
     }
 
     // Trading Dynamics ---------------
@@ -196,8 +485,11 @@ public class GameState {
 
     public monopoly.engine.trade.TradeOffer getPendingTrade() { return pendingTrade; }
     public boolean hasPendingTrade() { return pendingTrade != null; }
-    public void setPendingTrade(monopoly.engine.trade.TradeOffer offer) { this.pendingTrade = offer; }
-    public void clearPendingTrade() { this.pendingTrade = null; }
+    public void setPendingTrade(monopoly.engine.trade.TradeOffer offer) {
+        if (journal != null) journal.record(UndoJournal.PENDING_TRADE, 0, 0, this.pendingTrade);
+        this.pendingTrade = offer;
+    }
+    public void clearPendingTrade() { setPendingTrade(null); }
 
     public boolean isTradeResponseInProgress() { return tradeReturnPlayerIndex != null; }
 
@@ -206,6 +498,7 @@ public class GameState {
      * phase becomes TRADE_RESPONSE, and we remember the old phase and player.
      */
     public void beginTradeResponse(int proposerIdx, int receiverIdx) {
+        if (journal != null) journal.record(UndoJournal.TRADE_RESPONSE, 0, 0, tradeReturnPlayerIndex, phaseBeforeTrade);
         this.tradeReturnPlayerIndex = proposerIdx;
         this.phaseBeforeTrade = this.getPhase();
         this.setCurrentPlayerIndex(receiverIdx);     // you must have a setter; if not, add one
@@ -217,6 +510,7 @@ public class GameState {
      */
     public void endTradeResponse() {
         if (tradeReturnPlayerIndex == null) return;
+        if (journal != null) journal.record(UndoJournal.TRADE_RESPONSE, 0, 0, tradeReturnPlayerIndex, phaseBeforeTrade);
         int backTo = tradeReturnPlayerIndex;
         this.tradeReturnPlayerIndex = null;
         TurnPhase restore = phaseBeforeTrade != null ? phaseBeforeTrade : TurnPhase.MANAGEMENT;
@@ -226,11 +520,225 @@ public class GameState {
         this.setPhase(restore);
     }
 
-    public void setCurrentPlayerIndex(int idx) { this.currentPlayerIndex = idx; }
+    public void setCurrentPlayerIndex(int idx) {
+        if (journal != null) journal.record(UndoJournal.CURRENT_PLAYER, 0, currentPlayerIndex, null);
+        hash ^= Zobrist.current(currentPlayerIndex) ^ Zobrist.current(idx);
+        this.currentPlayerIndex = idx;
+    }
+
+    // ------------------ ZOBRIST HASH ------------------
+
+    /**
+     * 64-bit Zobrist hash of the position: player positions, cash in £50 buckets, jail
+     * status, GOJF card counts and bankruptcy; ownership, buildings and mortgages; phase,
+     * current player and doubles this turn. Not covered: exact cash, deck order, auction
+     * and trade state, last roll. Kept incrementally, including through undo and copyInto,
+     * so reading it costs O(players whose fields changed since the last read).
+     */
+    public long getZobristHash() {
+        for (long m = dirtySeats; m != 0; m &= m - 1) {
+            int s = Long.numberOfTrailingZeros(m);
+            long h = Zobrist.player(s, players.get(s));
+            hash ^= playerHash[s] ^ h;
+            playerHash[s] = h;
+        }
+        dirtySeats = 0;
+        return hash;
+    }
+
+    private long allSeats() {
+        return players.size() >= 64 ? -1L : (1L << players.size()) - 1;
+    }
 
+    // ------------------ FORK / COPY ------------------
 
+    /**
+     * Independent deep copy: players, property arrays, bank supply, deck order and
+     * circulation, auction and trade-response state. The board is shared (immutable).
+     * Deck reshuffles keep using the source decks' Random; see {@link #fork(Random)}.
+     */
+    public GameState fork() {
+        return new GameState(this, null);
+    }
 
-}
+    /** As {@link #fork()}, but the copied decks reshuffle from {@code deckRandom}. */
+    public GameState fork(Random deckRandom) {
+        return new GameState(this, deckRandom);
+    }
+
+    /**
+     * Samples one determinization of the hidden information: the unseen part of each
+     * deck is reshuffled (see {@link CardDeck#shuffleUnseen()}), while drawn cards and
+     * Get Out of Jail Free cards held by players stay where everyone knows they are.
+     * Use on a fork, never on the real game.
+     */
+    public void resampleHidden() {
+        if (chanceDeck != null) chanceDeck.shuffleUnseen();
+        if (communityDeck != null) communityDeck.shuffleUnseen();
+    }
 
+    /**
+     * Overwrites {@code target} with this state, reusing its players, arrays and decks.
+     * The target must be on the same board with the same number of players (e.g. an
+     * earlier {@link #fork()}). Allocation-free once the target's decks exist.
+     */
+    public void copyInto(GameState target) {
+        if (target == this) return;
+        if (target.board != board) throw new IllegalArgumentException("Target state is on a different board.");
+        if (target.players.size() != players.size()) throw new IllegalArgumentException("Target state has a different number of players.");
 
+        // an overwrite is not an undoable step: drop the target's history instead
+        UndoJournal targetJournal = target.journal;
+        target.journal = null;
 
+        for (int i = 0; i < players.size(); i++) {
+            target.players.get(i).copyFrom(players.get(i));
+        }
+
+        target.currentPlayerIndex = currentPlayerIndex;
+        target.phase = phase;
+        target.doublesThisTurn = doublesThisTurn;
+        target.lastRollTotal = lastRollTotal;
+        target.landedTileIndex = landedTileIndex;
+
+        System.arraycopy(owner, 0, target.owner, 0, owner.length);
+        System.arraycopy(buildings, 0, target.buildings, 0, buildings.length);
+        System.arraycopy(ownedMask, 0, target.ownedMask, 0, ownedMask.length);
+        target.mortgagedMask = mortgagedMask;
+        target.deeds = deeds;
+        System.arraycopy(rent, 0, target.rent, 0, rent.length);
+
+        target.hash = hash;
+        System.arraycopy(playerHash, 0, target.playerHash, 0, playerHash.length);
+        target.dirtySeats = dirtySeats;
+
+        target.status = status;
+        target.winnerIndex = winnerIndex;
+        target.housesRemaining = housesRemaining;
+        target.hotelsRemaining = hotelsRemaining;
+
+        target.chanceDeck = copyDeck(chanceDeck, target.chanceDeck);
+        target.communityDeck = copyDeck(communityDeck, target.communityDeck);
+
+        target.auctionInProgress = auctionInProgress;
+        target.auctionTileIndex = auctionTileIndex;
+        target.auctionHighBid = auctionHighBid;
+        target.auctionHighBidderIndex = auctionHighBidderIndex;
+        System.arraycopy(auctionActive, 0, target.auctionActive, 0, auctionActive.length);
+        target.auctionCurrentBidderIndex = auctionCurrentBidderIndex;
+        System.arraycopy(auctionSealedBids, 0, target.auctionSealedBids, 0, auctionSealedBids.length);
+        System.arraycopy(auctionValuations, 0, target.auctionValuations, 0, auctionValuations.length);
+        target.auctionValuationsSet = auctionValuationsSet;
+
+        target.pendingTrade = pendingTrade;  // TradeOffer is immutable
+        target.tradeReturnPlayerIndex = tradeReturnPlayerIndex;
+        target.phaseBeforeTrade = phaseBeforeTrade;
+
+        if (targetJournal != null) {
+            targetJournal.clear();
+            target.journal = targetJournal;
+        }
+    }
+
+    private static CardDeck<Card> copyDeck(CardDeck<Card> source, CardDeck<Card> target) {
+        if (source == null) return null;
+        if (target == null) return source.copy();
+        target.copyFrom(source);
+        return target;
+    }
+
+    // ------------------ UNDO JOURNAL ------------------
+
+    /**
+     * Starts recording every mutation (idempotent). Forks and copies do not inherit it.
+     * Only through {@link GameEngine#enableUndo}, which binds the engine the journal
+     * restores the last drawn card into.
+     */
+    UndoJournal enableJournal() {
+        if (journal == null) {
+            journal = new UndoJournal(this);
+            attachJournalHooks();
+        }
+        return journal;
+    }
+
+    public void disableJournal() {
+        journal = null;
+        if (chanceDeck != null) chanceDeck.setChangeListener(null);
+        if (communityDeck != null) communityDeck.setChangeListener(null);
+    }
+
+    /** The active journal, or null. */
+    public UndoJournal getJournal() { return journal; }
+
+    /** Players always report changes: the hash needs them even without a journal. */
+    private void attachPlayerHooks() {
+        for (int i = 0; i < players.size(); i++) players.get(i).setChangeListener(hooks, i);
+    }
+
+    private void attachJournalHooks() {
+        if (chanceDeck != null) chanceDeck.setChangeListener(hooks);
+        if (communityDeck != null) communityDeck.setChangeListener(hooks);
+    }
+
+    /** Replays one journal entry through the normal write paths (the journal ignores them). */
+    @SuppressWarnings("unchecked")
+    void restore(byte kind, int index, long value, Object ref, Object ref2) {
+        switch (kind) {
+            case UndoJournal.CURRENT_PLAYER -> setCurrentPlayerIndex((int) value);
+            case UndoJournal.PHASE -> setPhase((TurnPhase) ref);
+            case UndoJournal.DOUBLES -> setDoubles((int) value);
+            case UndoJournal.LAST_ROLL -> setLastRollTotal((Integer) ref);
+            case UndoJournal.LANDED_TILE -> setLandedTileIndex((Integer) ref);
+            case UndoJournal.OWNER -> setOwner(index, (int) value);
+            case UndoJournal.BUILDINGS -> setBuildings(index, (int) value);
+            case UndoJournal.MORTGAGED -> setMortgaged(index, value != 0);
+            case UndoJournal.STATUS -> {
+                status = (GameStatus) ref;
+                winnerIndex = (Integer) ref2;
+            }
+            case UndoJournal.HOUSES -> setHousesRemaining((int) value);
+            case UndoJournal.HOTELS -> setHotelsRemaining((int) value);
+            case UndoJournal.AUCTION -> {
+                // may bring back an earlier auction, whose caps were not these
+                clearAuctionValuations();
+                unpackAuction(value);
+            }
+            case UndoJournal.AUCTION_ACTIVE -> auctionActive[index] = value != 0;
+            case UndoJournal.AUCTION_SEALED -> setAuctionSealedBid(index, (int) value);
+            case UndoJournal.PENDING_TRADE -> setPendingTrade((monopoly.engine.trade.TradeOffer) ref);
+            case UndoJournal.TRADE_RESPONSE -> {
+                tradeReturnPlayerIndex = (Integer) ref;
+                phaseBeforeTrade = (TurnPhase) ref2;
+            }
+            case UndoJournal.PLAYER -> players.get(index).restoreScalars(value);
+            case UndoJournal.PLAYER_CARDS -> players.get(index).restoreCards((Card[]) ref);
+            case UndoJournal.DECK_DRAW -> ((CardDeck<Card>) ref).undoDraw((int) value);
+            case UndoJournal.DECK_SNAPSHOT -> ((CardDeck<Card>) ref).copyFrom((CardDeck<Card>) ref2);
+            default -> throw new IllegalStateException("Unknown journal entry kind " + kind);
+        }
+    }
+
+    /** Marks changed seats for the hash and forwards player and deck changes into the journal. */
+    private final class ChangeHooks implements Player.ChangeListener, CardDeck.ChangeListener {
+        @Override
+        public void beforeChange(int seat, Player player, boolean cards) {
+            dirtySeats |= 1L << seat;
+            clearAuctionValuations();
+            if (journal == null || !journal.isRecording()) return;
+            journal.record(UndoJournal.PLAYER, seat, player.saveScalars(), null);
+            if (cards) journal.record(UndoJournal.PLAYER_CARDS, seat, 0, player.saveCards());
+        }
+
+        @Override
+        public void beforeDraw(CardDeck<?> deck) {
+            if (journal != null) journal.record(UndoJournal.DECK_DRAW, 0, deck.unseenCount(), deck);
+        }
+
+        @Override
+        public void beforeReorder(CardDeck<?> deck) {
+            if (journal == null || !journal.isRecording()) return;
+            journal.record(UndoJournal.DECK_SNAPSHOT, 0, 0, deck, deck.copy());
+        }
+    }
+}
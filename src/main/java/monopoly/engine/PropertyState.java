@@ -1,21 +1,37 @@
 package monopoly.engine;
 
+/**
+ * Per-tile view over the property arrays held by {@link GameState}.
+ * Kept for callers written against the old object-per-tile API; hot paths
+ * should use the primitive accessors on GameState directly.
+ */
 public class PropertyState {
-    private Integer ownerPlayerIndex; // null = unowned
-    private boolean mortgaged;
-    private int buildings; // 0..4 houses, 5 = hotel
+    private final GameState state;
+    private final int tileIndex;
 
-    public Integer getOwnerPlayerIndex() { return ownerPlayerIndex; }
-    public void setOwnerPlayerIndex(Integer ownerPlayerIndex) { this.ownerPlayerIndex = ownerPlayerIndex; }
+    PropertyState(GameState state, int tileIndex) {
+        this.state = state;
+        this.tileIndex = tileIndex;
+    }
 
-    public boolean isMortgaged() { return mortgaged; }
-    public void setMortgaged(boolean mortgaged) { this.mortgaged = mortgaged; }
+    public int getTileIndex() { return tileIndex; }
 
-    public int getBuildings() { return buildings; }
-    public void setBuildings(int buildings) { this.buildings = buildings; }
+    public Integer getOwnerPlayerIndex() {
+        int owner = state.getOwner(tileIndex);
+        return owner == GameState.UNOWNED ? null : owner;
+    }
+    public void setOwnerPlayerIndex(Integer ownerPlayerIndex) {
+        state.setOwner(tileIndex, ownerPlayerIndex == null ? GameState.UNOWNED : ownerPlayerIndex);
+    }
 
-    public int getHouses() { return Math.min(buildings, 4); }
-    public boolean hasHotel() { return buildings == 5; }
+    public boolean isMortgaged() { return state.isMortgaged(tileIndex); }
+    public void setMortgaged(boolean mortgaged) { state.setMortgaged(tileIndex, mortgaged); }
+
+    public int getBuildings() { return state.getBuildings(tileIndex); }
+    public void setBuildings(int buildings) { state.setBuildings(tileIndex, buildings); }
+
+    public int getHouses() { return state.getHouses(tileIndex); }
+    public boolean hasHotel() { return state.hasHotel(tileIndex); }
 }
 
 
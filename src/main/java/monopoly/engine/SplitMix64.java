@@ -0,0 +1,19 @@
+package monopoly.engine;
+
+/**
+ * The SplitMix64 finaliser, for seeds and hash keys derived from a few small numbers:
+ * callers add their inputs, scaled by odd constants such as {@link #GAMMA}, and mix.
+ */
+public final class SplitMix64 {
+
+    /** SplitMix64's increment, 2^64 over the golden ratio. */
+    public static final long GAMMA = 0x9E3779B97F4A7C15L;
+
+    private SplitMix64() {}
+
+    public static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
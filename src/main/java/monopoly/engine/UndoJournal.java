@@ -0,0 +1,151 @@
+package monopoly.engine;
+
+import java.util.Arrays;
+
+/**
+ * Make/unmake log for one GameState (and its engine).
+ *
+ * While attached, every field write records the value it overwrites as one entry
+ * (kind, index, old value, old reference). {@link #undoTo(int)} pops entries back to
+ * a mark and restores them through the same write paths, so derived data such as
+ * the ownership bitboards stays consistent. Cost is O(entries undone); entry arrays
+ * grow once and are reused, so a warm journal does not allocate.
+ *
+ * Random streams (dice, reshuffles) are not rewound: after an undo the game state is
+ * exactly as before, but the next roll is a fresh draw.
+ */
+public final class UndoJournal {
+
+    // ------------------ Entry kinds ------------------
+    static final byte CURRENT_PLAYER = 0;
+    static final byte PHASE = 1;
+    static final byte DOUBLES = 2;
+    static final byte LAST_ROLL = 3;
+    static final byte LANDED_TILE = 4;
+    static final byte OWNER = 5;
+    static final byte BUILDINGS = 6;
+    static final byte MORTGAGED = 7;
+    static final byte STATUS = 8;            // status + winner
+    static final byte HOUSES = 9;
+    static final byte HOTELS = 10;
+    static final byte AUCTION = 11;          // in-progress flag, tile, high bid, high bidder, current bidder
+    static final byte AUCTION_ACTIVE = 12;
+    static final byte PENDING_TRADE = 13;
+    static final byte TRADE_RESPONSE = 14;   // return player + phase before trade
+    static final byte PLAYER = 15;           // packed scalars, see Player.saveScalars
+    static final byte PLAYER_CARDS = 16;
+    static final byte DECK_DRAW = 17;
+    static final byte DECK_SNAPSHOT = 18;
+    static final byte LAST_DRAWN_CARD = 19;
+    static final byte AUCTION_SEALED = 20;   // one seat's sealed bid
+    // --------------------------------------------------
+
+    private final GameState state;
+    private GameEngine engine;
+
+    private byte[] kind = new byte[256];
+    private int[] index = new int[256];
+    private long[] value = new long[256];
+    private Object[] ref = new Object[256];
+    private Object[] ref2 = new Object[256];
+    private int size = 0;
+
+    private int[] steps = new int[64];      // entry count at the start of each engine step
+    private int stepCount = 0;
+
+    private boolean replaying = false;
+
+    UndoJournal(GameState state) {
+        this.state = state;
+    }
+
+    void bindEngine(GameEngine engine) {
+        this.engine = engine;
+    }
+
+    /** Current position; pass to {@link #undoTo(int)} to roll back everything after it. */
+    public int mark() {
+        return size;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /** Restores the state as it was when {@code mark} was taken. */
+    public void undoTo(int mark) {
+        if (mark < 0 || mark > size) throw new IllegalArgumentException("Invalid journal mark " + mark + " (size " + size + ").");
+        replaying = true;
+        try {
+            while (size > mark) {
+                int i = --size;
+                if (kind[i] == LAST_DRAWN_CARD) {
+                    engine.restoreLastDrawnCard((Card) ref[i]);
+                } else {
+                    state.restore(kind[i], index[i], value[i], ref[i], ref2[i]);
+                }
+                ref[i] = null;
+                ref2[i] = null;
+            }
+        } finally {
+            replaying = false;
+        }
+        while (stepCount > 0 && steps[stepCount - 1] > size) stepCount--;
+    }
+
+    /** Forgets all history (the current state becomes the base). */
+    public void clear() {
+        Arrays.fill(ref, 0, size, null);
+        Arrays.fill(ref2, 0, size, null);
+        size = 0;
+        stepCount = 0;
+    }
+
+    // ------------------ Engine steps ------------------
+
+    void beginStep() {
+        if (stepCount == steps.length) steps = Arrays.copyOf(steps, stepCount * 2);
+        steps[stepCount++] = size;
+    }
+
+    boolean undoStep() {
+        if (stepCount == 0) return false;
+        // pop first: a step that changed nothing starts at size and undoTo would keep it
+        undoTo(steps[--stepCount]);
+        return true;
+    }
+
+    int stepCount() {
+        return stepCount;
+    }
+
+    // ------------------ Recording ------------------
+
+    boolean isRecording() {
+        return !replaying;
+    }
+
+    void record(byte k, int idx, long v, Object r) {
+        record(k, idx, v, r, null);
+    }
+
+    void record(byte k, int idx, long v, Object r, Object r2) {
+        if (replaying) return;
+        if (size == kind.length) grow();
+        kind[size] = k;
+        index[size] = idx;
+        value[size] = v;
+        ref[size] = r;
+        ref2[size] = r2;
+        size++;
+    }
+
+    private void grow() {
+        int n = kind.length * 2;
+        kind = Arrays.copyOf(kind, n);
+        index = Arrays.copyOf(index, n);
+        value = Arrays.copyOf(value, n);
+        ref = Arrays.copyOf(ref, n);
+        ref2 = Arrays.copyOf(ref2, n);
+    }
+}
@@ -0,0 +1,78 @@
+package monopoly.engine;
+
+import monopoly.model.Player;
+
+/**
+ * Zobrist keys for {@link GameState#getZobristHash()}.
+ *
+ * Keys are not stored in tables: each is a SplitMix64 finaliser over (feature, a, b),
+ * so the same feature always gets the same key, in every state, JVM and player count.
+ * A component whose value is "empty" (unowned, no buildings, not in jail...) has no
+ * key, so a fresh board hashes to the phase and current player alone.
+ */
+final class Zobrist {
+
+    /** Cash is hashed in £50 buckets; everything at or above the last one shares it. */
+    static final int CASH_BUCKET = 50;
+    static final int CASH_BUCKETS = 128;
+
+    private static final int OWNER = 1;
+    private static final int BUILDINGS = 2;
+    private static final int MORTGAGED = 3;
+    private static final int PHASE = 4;
+    private static final int CURRENT = 5;
+    private static final int DOUBLES = 6;
+    private static final int POSITION = 7;
+    private static final int CASH = 8;
+    private static final int JAIL = 9;
+    private static final int JAIL_CARDS = 10;
+    private static final int BANKRUPT = 11;
+
+    private Zobrist() { }
+
+    static long owner(int tile, int playerIdx) {
+        return playerIdx == GameState.UNOWNED ? 0 : key(OWNER, tile, playerIdx);
+    }
+
+    static long buildings(int tile, int count) {
+        return count == 0 ? 0 : key(BUILDINGS, tile, count);
+    }
+
+    static long mortgaged(int tile, boolean mortgaged) {
+        return mortgaged ? key(MORTGAGED, tile, 0) : 0;
+    }
+
+    static long phase(TurnPhase phase) {
+        return key(PHASE, phase.ordinal(), 0);
+    }
+
+    static long current(int playerIdx) {
+        return key(CURRENT, playerIdx, 0);
+    }
+
+    static long doubles(int doubles) {
+        return doubles == 0 ? 0 : key(DOUBLES, doubles, 0);
+    }
+
+    /** Everything hashed about one seat: position, cash bucket, jail, GOJF cards, bankruptcy. */
+    static long player(int seat, Player p) {
+        long h = key(POSITION, seat, p.getPosition());
+        h ^= key(CASH, seat, cashBucket(p.getCash()));
+        if (p.isInJail()) h ^= key(JAIL, seat, p.getJailTurnsRemaining());
+        int cards = p.getOutOfJailFreeCount();
+        if (cards > 0) h ^= key(JAIL_CARDS, seat, cards);
+        if (p.isBankrupt()) h ^= key(BANKRUPT, seat, 0);
+        return h;
+    }
+
+    /** 0 for debt, then one bucket per £50 up to the last. */
+    static int cashBucket(int cash) {
+        if (cash < 0) return 0;
+        return Math.min(CASH_BUCKETS - 1, 1 + cash / CASH_BUCKET);
+    }
+
+    private static long key(int feature, int a, int b) {
+        long z = ((long) feature << 48) ^ ((long) a << 24) ^ (b & 0xFF_FFFFL);
+        return SplitMix64.mix(z + SplitMix64.GAMMA);
+    }
+}
@@ -1,10 +1,8 @@
 package monopoly.engine.trade;
 
 import monopoly.engine.GameState;
-import monopoly.engine.PropertyState;
+import monopoly.rules.DeedTable;
 import monopoly.setup.ColourGroup;
-import monopoly.setup.DeedProfiles;
-import monopoly.setup.DeedProfiles.StreetDeed;
 
 import java.util.*;
 
@@ -14,41 +12,27 @@ public final class TradeAdvisor {
      * Suggest a few simple trades aimed at completing colour sets.
      * v1: proposes cash-for-property deals (no swaps).
      */
-    public static List<TradeOffer> suggestTradesForCurrentPlayer(GameState state, Map<Integer, Object> deedsByIndex) {
+    public static List<TradeOffer> suggestTradesForCurrentPlayer(GameState state, DeedTable deeds) {
         int me = state.getCurrentPlayerIndex();
 
-        // Find "nearly complete" groups: I own all but 1 street in a group
-        Map<ColourGroup, List<StreetDeed>> groupToStreets = streetsByGroup(deedsByIndex);
-
         List<TradeOffer> offers = new ArrayList<>();
+        long mine = state.getOwnedMask(me);
 
-        for (var entry : groupToStreets.entrySet()) {
-            ColourGroup g = entry.getKey();
-            List<StreetDeed> streets = entry.getValue();
-
-            int ownedByMe = 0;
-            List<Integer> missing = new ArrayList<>();
-
-            for (StreetDeed sd : streets) {
-                PropertyState ps = state.getPropertyState(sd.index);
-                Integer owner = ps.getOwnerPlayerIndex();
-                if (owner != null && owner == me) ownedByMe++;
-                else missing.add(sd.index);
-            }
+        // Find "nearly complete" groups: I own all but 1 street in a group
+        for (ColourGroup g : ColourGroup.values()) {
+            long missing = deeds.getGroupMask(g) & ~mine;
 
-            if (ownedByMe == streets.size() - 1 && missing.size() == 1) {
-                int wantedTile = missing.get(0);
-                PropertyState psWanted = state.getPropertyState(wantedTile);
-                Integer otherOwner = psWanted.getOwnerPlayerIndex();
-                if (otherOwner == null) continue; // unowned: buy/auction, not trade
+            if (Long.bitCount(missing) == 1) {
+                int wantedTile = Long.numberOfTrailingZeros(missing);
+                int otherOwner = state.getOwner(wantedTile);
+                if (otherOwner == GameState.UNOWNED) continue; // unowned: buy/auction, not trade
 
                 // v1 restriction alignment: don't suggest if mortgaged or has buildings
-                if (psWanted.isMortgaged()) continue;
-                if (psWanted.getBuildings() > 0) continue;
+                if (state.isMortgaged(wantedTile)) continue;
+                if (state.getBuildings(wantedTile) > 0) continue;
 
                 // Offer: cash roughly based on purchase price (or mortgage) with a premium
-                Object deed = deedsByIndex.get(wantedTile);
-                int basePrice = getPurchasePrice(deed);
+                int basePrice = deeds.getPrice(wantedTile);
 
                 int premium = Math.max(25, basePrice / 4); // simple premium
                 int offerCash = basePrice + premium;
@@ -84,23 +68,6 @@ public final class TradeAdvisor {
         return offers.size() > 5 ? offers.subList(0, 5) : offers;
     }
 
-    private static Map<ColourGroup, List<StreetDeed>> streetsByGroup(Map<Integer, Object> deedsByIndex) {
-        Map<ColourGroup, List<StreetDeed>> m = new EnumMap<>(ColourGroup.class);
-        for (Object v : deedsByIndex.values()) {
-            if (v instanceof StreetDeed sd) {
-                m.computeIfAbsent(sd.group, k -> new ArrayList<>()).add(sd);
-            }
-        }
-        return m;
-    }
-
-    private static int getPurchasePrice(Object deed) {
-        if (deed instanceof DeedProfiles.StreetDeed sd) return sd.price;
-        if (deed instanceof DeedProfiles.RailroadDeed rd) return rd.price;
-        if (deed instanceof DeedProfiles.UtilityDeed ud) return ud.price;
-        return 0;
-    }
-
     private TradeAdvisor() {}
 }
 
@@ -1,12 +1,18 @@
 package monopoly.model;
 
-import monopoly.engine.Card;
 import monopoly.engine.Card;
 import java.util.ArrayList;
 import java.util.List;
 
 
 public class Player {
+
+    /** Called before any mutation; GameState uses it to journal the old values and update its hash. */
+    public interface ChangeListener {
+        /** {@code cards} is true when the GOJF card list is about to change. */
+        void beforeChange(int seat, Player player, boolean cards);
+    }
+
     private final String name;
     private int position; // 0..39
     private int cash;     // in £
@@ -15,6 +21,9 @@ public class Player {
     private final List<Card> getOutOfJailFreeCards = new ArrayList<>();
     private boolean bankrupt;
 
+    private ChangeListener listener;
+    private int seat;
+
     public Player(String name, int startingCash) {
         this.name = name;
         this.cash = startingCash;
@@ -34,14 +43,17 @@ public class Player {
     }
 
     public void setPosition(int position) {
+        touch(false);
         this.position = position;
     }
 
     public void addCash(int amount) {
+        touch(false);
         this.cash += amount;
     }
 
     public void subtractCash(int amount) {
+        touch(false);
         this.cash -= amount;
         // later: handle bankruptcy if cash < 0
     }
@@ -51,12 +63,14 @@ public class Player {
     }
 
     public void sendToJail(int jailTurns) {
+        touch(false);
         this.inJail = true;
         this.jailTurnsRemaining = jailTurns;
         this.position = 10; // standard Jail index (you can config later)
     }
 
     public void releaseFromJail() {
+        touch(false);
         this.inJail = false;
         this.jailTurnsRemaining = 0;
     }
@@ -66,20 +80,28 @@ public class Player {
     }
 
     public void decrementJailTurn() {
-        if (jailTurnsRemaining > 0) jailTurnsRemaining--;
+        if (jailTurnsRemaining <= 0) return;
+        touch(false);
+        jailTurnsRemaining--;
     }
 
     public boolean hasGetOutOfJailFreeCard() {
         return !getOutOfJailFreeCards.isEmpty();
     }
 
+    public int getOutOfJailFreeCount() {
+        return getOutOfJailFreeCards.size();
+    }
+
     public void addGetOutOfJailFreeCard(Card card) {
+        touch(true);
         getOutOfJailFreeCards.add(card);
     }
 
 
     public Card useGetOutOfJailFreeCard() {
         if (getOutOfJailFreeCards.isEmpty()) return null;
+        touch(true);
         return getOutOfJailFreeCards.remove(0);
     }
 
@@ -95,6 +117,7 @@ public class Player {
         for (int i = 0; i < getOutOfJailFreeCards.size(); i++) {  // adjust list name
             var card = getOutOfJailFreeCards.get(i);
             if (card.getType() == type) {
+                touch(true);
                 getOutOfJailFreeCards.remove(i);
                 return card;
             }
@@ -103,6 +126,72 @@ public class Player {
     }
 
     public boolean isBankrupt() { return bankrupt; }
-    public void setBankrupt(boolean b) { bankrupt = b; }
+    public void setBankrupt(boolean b) {
+        touch(false);
+        bankrupt = b;
+    }
+
+    // ------------------ CHANGE TRACKING ------------------
+
+    public void setChangeListener(ChangeListener listener, int seat) {
+        this.listener = listener;
+        this.seat = seat;
+    }
+
+    private void touch(boolean cards) {
+        if (listener != null) listener.beforeChange(seat, this, cards);
+    }
+
+    /** Position, cash, jail and bankruptcy packed into one long (for undo journals). */
+    public long saveScalars() {
+        return (cash & 0xFFFF_FFFFL)
+                | ((long) (position & 0xFF) << 32)
+                | ((long) (jailTurnsRemaining & 0xFF) << 40)
+                | (inJail ? 1L << 48 : 0L)
+                | (bankrupt ? 1L << 49 : 0L);
+    }
+
+    public void restoreScalars(long packed) {
+        touch(false);
+        this.cash = (int) packed;
+        this.position = (int) (packed >>> 32) & 0xFF;
+        this.jailTurnsRemaining = (int) (packed >>> 40) & 0xFF;
+        this.inJail = (packed & (1L << 48)) != 0;
+        this.bankrupt = (packed & (1L << 49)) != 0;
+    }
+
+    public Card[] saveCards() {
+        return getOutOfJailFreeCards.toArray(new Card[0]);
+    }
+
+    public void restoreCards(Card[] cards) {
+        touch(true);
+        getOutOfJailFreeCards.clear();
+        for (Card c : cards) getOutOfJailFreeCards.add(c);
+    }
+
+    // ------------------ COPY ------------------
+
+    public Player copy() {
+        Player p = new Player(name, cash);
+        p.copyFrom(this);
+        return p;
+    }
+
+    /**
+     * Overwrites every mutable field with {@code other}'s (the name stays).
+     * GOJF cards are shared references; cards are immutable.
+     */
+    public void copyFrom(Player other) {
+        this.position = other.position;
+        this.cash = other.cash;
+        this.inJail = other.inJail;
+        this.jailTurnsRemaining = other.jailTurnsRemaining;
+        this.bankrupt = other.bankrupt;
+        getOutOfJailFreeCards.clear();
+        for (int i = 0; i < other.getOutOfJailFreeCards.size(); i++) {
+            getOutOfJailFreeCards.add(other.getOutOfJailFreeCards.get(i));
+        }
+    }
 
 }
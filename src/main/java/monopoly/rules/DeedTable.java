@@ -0,0 +1,121 @@
+package monopoly.rules;
+
+import monopoly.model.Board;
+import monopoly.setup.ColourGroup;
+import monopoly.setup.DeedProfiles;
+import monopoly.setup.DeedProfiles.Deed;
+import monopoly.setup.DeedProfiles.RailroadDeed;
+import monopoly.setup.DeedProfiles.StreetDeed;
+import monopoly.setup.DeedProfiles.UtilityDeed;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Deed economics compiled into flat arrays indexed by board position.
+ *
+ * Rent lookups are a single array read: {@code getRent(tile, level)} where level is
+ * <ul>
+ *   <li>streets: buildings on the tile (0 = site .. 4 houses, 5 = hotel)</li>
+ *   <li>stations: stations owned by the owner, minus one (0..3)</li>
+ *   <li>utilities: 0 = one utility owned, 1 = both (the value is the dice multiplier)</li>
+ * </ul>
+ * Non-deed tiles have kind NONE and zero everywhere. Immutable once compiled.
+ */
+public final class DeedTable {
+
+    public enum Kind { NONE, STREET, STATION, UTILITY }
+
+    public static final int RENT_LEVELS = 6;
+
+    private final Deed[] deeds = new Deed[Board.SIZE];
+    private final Kind[] kind = new Kind[Board.SIZE];
+    private final ColourGroup[] group = new ColourGroup[Board.SIZE];
+    private final int[] price = new int[Board.SIZE];
+    private final int[] mortgage = new int[Board.SIZE];
+    private final int[] houseCost = new int[Board.SIZE];
+    private final int[] rent = new int[Board.SIZE * RENT_LEVELS];
+
+    // tile bitmasks (bit i = board index i)
+    private final long[] groupMask = new long[ColourGroup.values().length];
+    private long streetMask;
+    private long stationMask;
+    private long utilityMask;
+
+    private DeedTable(Map<Integer, ? extends Deed> byIndex) {
+        Arrays.fill(kind, Kind.NONE);
+
+        for (Map.Entry<Integer, ? extends Deed> e : byIndex.entrySet()) {
+            int idx = e.getKey();
+            Deed deed = e.getValue();
+            if (idx < 0 || idx >= Board.SIZE) throw new IllegalArgumentException("Deed index out of range: " + idx);
+            if (deed.getIndex() != idx) throw new IllegalArgumentException("Deed for tile " + deed.getIndex() + " keyed under " + idx);
+
+            deeds[idx] = deed;
+            price[idx] = deed.getPrice();
+            mortgage[idx] = deed.getMortgage();
+            int base = idx * RENT_LEVELS;
+
+            // the only instanceof dispatch on deeds; everything downstream reads the arrays
+            if (deed instanceof StreetDeed sd) {
+                kind[idx] = Kind.STREET;
+                group[idx] = sd.group;
+                houseCost[idx] = sd.houseCost;
+                System.arraycopy(sd.rents, 0, rent, base, 6);
+                groupMask[sd.group.ordinal()] |= 1L << idx;
+                streetMask |= 1L << idx;
+            } else if (deed instanceof RailroadDeed rd) {
+                kind[idx] = Kind.STATION;
+                System.arraycopy(rd.rentByCount, 0, rent, base, 4);
+                stationMask |= 1L << idx;
+            } else if (deed instanceof UtilityDeed ud) {
+                kind[idx] = Kind.UTILITY;
+                rent[base] = ud.multiplierIfOne;
+                rent[base + 1] = ud.multiplierIfTwo;
+                utilityMask |= 1L << idx;
+            }
+        }
+    }
+
+    public static DeedTable compile(Map<Integer, ? extends Deed> byIndex) {
+        return new DeedTable(byIndex);
+    }
+
+    /** Compiles the UK classic deed profiles. */
+    public static DeedTable ukClassic2017() {
+        return compile(DeedProfiles.ukClassic2017ByIndex());
+    }
+
+    // ------------------ Per-tile lookups ------------------
+
+    public boolean isDeed(int tile) { return tile >= 0 && tile < Board.SIZE && kind[tile] != Kind.NONE; }
+    public boolean isStreet(int tile) { return tile >= 0 && tile < Board.SIZE && kind[tile] == Kind.STREET; }
+    public Kind getKind(int tile) { return kind[tile]; }
+
+    /** The source deed, or null for non-deed tiles. */
+    public Deed getDeed(int tile) { return deeds[tile]; }
+
+    public int getPrice(int tile) { return price[tile]; }
+    public int getMortgage(int tile) { return mortgage[tile]; }
+    public int getHouseCost(int tile) { return houseCost[tile]; }
+
+    /** Colour group of a street, or null for any other tile. */
+    public ColourGroup getGroup(int tile) { return group[tile]; }
+
+    public int getRent(int tile, int level) { return rent[tile * RENT_LEVELS + level]; }
+
+    // ------------------ Masks ------------------
+
+    public long getGroupMask(ColourGroup g) { return groupMask[g.ordinal()]; }
+
+    /** Mask of the tile's colour group, or 0 if it is not a street. */
+    public long getGroupMaskOf(int tile) {
+        ColourGroup g = group[tile];
+        return g == null ? 0L : groupMask[g.ordinal()];
+    }
+
+    public long getStreetMask() { return streetMask; }
+    public long getStationMask() { return stationMask; }
+    public long getUtilityMask() { return utilityMask; }
+    public long getDeedMask() { return streetMask | stationMask | utilityMask; }
+}
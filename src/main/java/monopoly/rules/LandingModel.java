@@ -0,0 +1,484 @@
+package monopoly.rules;
+
+import monopoly.engine.Card;
+import monopoly.engine.GameConfig;
+import monopoly.model.Board;
+import monopoly.model.Player;
+import monopoly.model.TileType;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static monopoly.setup.BoardDestinations.JAIL;
+
+/**
+ * Where players land, as a Markov chain over turn starts.
+ *
+ * A state is a square (0..39, 10 = just visiting) or "in jail with r attempts left"
+ * (r = jailMaxTurns..1). One turn from a state enumerates every dice outcome:
+ * - doubles roll again; a third double goes straight to jail without moving,
+ * - GO_TO_JAIL squares and jail cards end the turn in jail,
+ * - Chance / Community Chest draw uniformly from the rule set's deck and follow
+ *   {@link Card#getMove()} (landing again where the card sends the player),
+ * - in jail: doubles leave and move (no extra roll); otherwise one attempt is used,
+ *   and after the last one the fine is paid and a fresh roll moves the player.
+ *
+ * Get Out of Jail Free cards are assumed kept (players roll), and decks are treated
+ * as memoryless draws.
+ *
+ * The chain knows nothing of ownership or cash, so it differs from the engine in one
+ * way: the engine only grants the roll after a double when the landing ends in
+ * MANAGEMENT. A double onto an unowned deed (buy or auction) or one that leaves the
+ * player owing money ends the turn there. The model always rolls again, which is
+ * exact once every deed is owned and rent can be paid, the part of the game where
+ * these figures matter most. Early on it slightly overstates the squares just past
+ * unowned deeds.
+ *
+ * The stationary distribution of that chain gives {@link #landingProbability(int)}:
+ * expected landings on a square per turn of one player. For the next few turns from
+ * where a player stands, {@link #hitProbability} and {@link #expectedVisits} read
+ * tables for every horizon up to {@link #MAX_HORIZON}, filled in at construction:
+ * - expected visits within k turns: sum of T^j L for j < k (T = turn matrix,
+ *   L = landings per turn from each state),
+ * - hit within k turns, per target t: h_k = a_t + Q_t h_(k-1), where a_t is the chance
+ *   of landing on t during one turn and Q_t the turn matrix restricted to turns that
+ *   avoid t (a taboo solve, rerun for every target).
+ *
+ * Models are immutable, built once per rule set and shared through {@link #of}.
+ */
+public final class LandingModel {
+
+    /** Longest horizon, in turns, answered by the finite-horizon queries. */
+    public static final int MAX_HORIZON = 20;
+
+    private static final int SQUARES = Board.SIZE;
+    private static final int MAX_ITERATIONS = 10_000;
+    private static final double TOLERANCE = 1e-13;
+
+    private record Key(Board board, List<Card> chance, List<Card> community, int jailMaxTurns) {}
+
+    private static final Map<Key, LandingModel> CACHE = new ConcurrentHashMap<>();
+
+    private final Board board;
+    private final List<Card> chance;
+    private final List<Card> community;
+    private final int jailMaxTurns;
+    private final int states;
+
+    // outcome of drawing a card on each Chance / Community Chest square (null elsewhere)
+    private final CardDraw[] draws;
+
+    // one turn from each state: next-state distribution and expected landings per square
+    private final double[][] turn;
+    private final double[][] landings;
+
+    private final double[] stationary;
+    private final double[] landingPerTurn;
+
+    // [k][state * 40 + tile] for k = 0..MAX_HORIZON
+    private final double[][] hitWithin;
+    private final double[][] visitsWithin;
+
+    // ------------------ Cache ------------------
+
+    public static LandingModel of(Rules rules, GameConfig config) {
+        return of(rules.getBoard(), rules.getChanceCards(), rules.getCommunityChestCards(), config.getJailMaxTurns());
+    }
+
+    public static LandingModel of(Board board, List<Card> chance, List<Card> community, int jailMaxTurns) {
+        if (jailMaxTurns < 1) throw new IllegalArgumentException("jailMaxTurns must be at least 1.");
+        Key key = new Key(board, List.copyOf(chance), List.copyOf(community), jailMaxTurns);
+        return CACHE.computeIfAbsent(key, k -> new LandingModel(k.board(), k.chance(), k.community(), k.jailMaxTurns()));
+    }
+
+    private LandingModel(Board board, List<Card> chance, List<Card> community, int jailMaxTurns) {
+        this.board = board;
+        this.chance = chance;
+        this.community = community;
+        this.jailMaxTurns = jailMaxTurns;
+        this.states = SQUARES + jailMaxTurns;
+        this.turn = new double[states][states];
+        this.landings = new double[states][SQUARES];
+
+        this.draws = new CardDraw[SQUARES];
+        for (int t = 0; t < SQUARES; t++) {
+            TileType type = board.tileAt(t).getType();
+            List<Card> deck = type == TileType.CHANCE ? chance : type == TileType.COMMUNITY_CHEST ? community : null;
+            if (deck != null && !deck.isEmpty()) draws[t] = CardDraw.of(t, deck);
+        }
+
+        TurnSolver solver = new TurnSolver(-1);
+        for (int s = 0; s < states; s++) {
+            double[] v = solver.from(s);
+            System.arraycopy(v, 0, turn[s], 0, states);
+            System.arraycopy(v, states, landings[s], 0, SQUARES);
+        }
+
+        this.stationary = solveStationary();
+        this.landingPerTurn = new double[SQUARES];
+        for (int s = 0; s < states; s++) {
+            for (int t = 0; t < SQUARES; t++) landingPerTurn[t] += stationary[s] * landings[s][t];
+        }
+
+        this.visitsWithin = solveVisits();
+        this.hitWithin = solveHits();
+    }
+
+    // ------------------ Queries ------------------
+
+    /** Expected landings on {@code tile} per turn of one player, in the long run. */
+    public double landingProbability(int tile) {
+        return landingPerTurn[Math.floorMod(tile, SQUARES)];
+    }
+
+    public double[] landingProbabilities() {
+        return landingPerTurn.clone();
+    }
+
+    /** Long-run probability that a turn starts on {@code tile} (not in jail; 10 = just visiting). */
+    public double occupancy(int tile) {
+        return stationary[Math.floorMod(tile, SQUARES)];
+    }
+
+    /** Long-run probability that a turn starts in jail. */
+    public double jailProbability() {
+        double p = 0;
+        for (int s = SQUARES; s < states; s++) p += stationary[s];
+        return p;
+    }
+
+    public int getJailMaxTurns() { return jailMaxTurns; }
+
+    // ------------------ Finite horizon ------------------
+
+    /** Chance of landing on {@code tile} at least once in the next {@code turns} turns from {@code state}. */
+    public double hitProbability(int state, int turns, int tile) {
+        return hitWithin[checkHorizon(turns)][checkState(state) * SQUARES + Math.floorMod(tile, SQUARES)];
+    }
+
+    /** {@link #hitProbability} for every tile, copied into {@code out} (length 40). */
+    public void hitProbabilities(int state, int turns, double[] out) {
+        System.arraycopy(hitWithin[checkHorizon(turns)], checkState(state) * SQUARES, out, 0, SQUARES);
+    }
+
+    public double[] hitProbabilities(int state, int turns) {
+        double[] out = new double[SQUARES];
+        hitProbabilities(state, turns, out);
+        return out;
+    }
+
+    /** Expected landings on {@code tile} over the next {@code turns} turns from {@code state}. */
+    public double expectedVisits(int state, int turns, int tile) {
+        return visitsWithin[checkHorizon(turns)][checkState(state) * SQUARES + Math.floorMod(tile, SQUARES)];
+    }
+
+    /** {@link #expectedVisits} for every tile, copied into {@code out} (length 40). */
+    public void expectedVisits(int state, int turns, double[] out) {
+        System.arraycopy(visitsWithin[checkHorizon(turns)], checkState(state) * SQUARES, out, 0, SQUARES);
+    }
+
+    public double[] expectedVisits(int state, int turns) {
+        double[] out = new double[SQUARES];
+        expectedVisits(state, turns, out);
+        return out;
+    }
+
+    private static int checkHorizon(int turns) {
+        if (turns < 0 || turns > MAX_HORIZON) {
+            throw new IllegalArgumentException("Horizon must be 0.." + MAX_HORIZON + " turns, got " + turns + ".");
+        }
+        return turns;
+    }
+
+    private int checkState(int state) {
+        if (state < 0 || state >= states) throw new IllegalArgumentException("Invalid state " + state + ".");
+        return state;
+    }
+
+    // ------------------ State indexing ------------------
+
+    /** Number of chain states: 40 squares, then one per jail attempt left. */
+    public int stateCount() { return states; }
+
+    /** State for a turn starting on {@code tile}, or in jail with {@code jailTurnsLeft} attempts (0 = not in jail). */
+    public int stateOf(int tile, int jailTurnsLeft) {
+        if (jailTurnsLeft <= 0) return Math.floorMod(tile, SQUARES);
+        return SQUARES + jailMaxTurns - Math.min(jailTurnsLeft, jailMaxTurns);
+    }
+
+    /** State for the start of {@code player}'s next turn. */
+    public int stateOf(Player player) {
+        return stateOf(player.getPosition(), player.isInJail() ? player.getJailTurnsRemaining() : 0);
+    }
+
+    private int jailTurnsLeft(int state) {
+        return jailMaxTurns - (state - SQUARES);
+    }
+
+    private int jailState() {
+        return stateOf(0, jailMaxTurns);
+    }
+
+    // ------------------ One turn ------------------
+
+    /**
+     * One turn as a linear function of where it starts. A result vector holds the
+     * end-state distribution [0, states), expected landings per square
+     * [states, states + 40) and, with a {@code taboo} square, the chance of landing
+     * there [hitIndex]; walks stop at their first taboo landing.
+     *
+     * Sub-results only depend on (square, doubles so far), so they are memoised:
+     * a turn costs O(40 * 4) vector sums instead of one branch per dice sequence.
+     */
+    private final class TurnSolver {
+        private final int taboo;
+        private final int width = states + SQUARES + 1;
+        private final int hitIndex = states + SQUARES;
+
+        // [doubles + 1][square]; doubles = -1 means the turn ends after this landing
+        private final double[][][] landMemo = new double[4][SQUARES][];
+        private final double[][][] rollMemo = new double[3][SQUARES][];
+        private final boolean[][] resolving = new boolean[4][SQUARES];
+
+        TurnSolver(int taboo) {
+            this.taboo = taboo;
+        }
+
+        double[] from(int state) {
+            if (state < SQUARES) return roll(state, 0);
+
+            // in jail: doubles leave and move with no extra roll; otherwise one attempt is used
+            double[] v = new double[width];
+            for (int d = 1; d <= 6; d++) add(v, land(JAIL + 2 * d, -1), 1 / 36.0);
+            int turnsLeft = jailTurnsLeft(state);
+            if (turnsLeft > 1) {
+                v[stateOf(0, turnsLeft - 1)] += 30 / 36.0;
+            } else {
+                // out of attempts: pay the fine, then a fresh roll moves the player
+                for (int e = 2; e <= 12; e++) add(v, land(JAIL + e, -1), 30 / 36.0 * ways(e) / 36.0);
+            }
+            return v;
+        }
+
+        /** Rolls from {@code pos} having thrown {@code doubles} doubles this turn. */
+        private double[] roll(int pos, int doubles) {
+            double[] memo = rollMemo[doubles][pos];
+            if (memo != null) return memo;
+
+            double[] v = new double[width];
+            // one branch per total, split into its double (even totals) and non-double rolls
+            for (int total = 2; total <= 12; total++) {
+                int dbl = total % 2 == 0 ? 1 : 0;
+                int plain = ways(total) - dbl;
+                int to = (pos + total) % SQUARES;
+                if (plain > 0) add(v, land(to, -1), plain / 36.0);
+                if (dbl == 0) continue;
+                if (doubles + 1 >= 3) {
+                    v[jailState()] += 1 / 36.0;
+                } else {
+                    add(v, land(to, doubles + 1), 1 / 36.0);
+                }
+            }
+            rollMemo[doubles][pos] = v;
+            return v;
+        }
+
+        /**
+         * Lands on {@code tile} and resolves it. {@code doubles} is the doubles count if the
+         * player rolls again afterwards, or -1 if the turn ends here.
+         */
+        private double[] land(int tile, int doubles) {
+            double[] memo = landMemo[doubles + 1][tile];
+            if (memo != null) return memo;
+            if (resolving[doubles + 1][tile]) {
+                throw new IllegalStateException("Card movement loops through tile " + tile + ".");
+            }
+            resolving[doubles + 1][tile] = true;
+
+            double[] v = new double[width];
+            if (tile == taboo) {
+                v[hitIndex] = 1;
+            } else {
+                v[states + tile] += 1;
+                CardDraw draw = draws[tile];
+                if (board.tileAt(tile).getType() == TileType.GO_TO_JAIL) {
+                    v[jailState()] += 1;
+                } else if (draw == null) {
+                    settle(v, tile, doubles, 1);
+                } else {
+                    if (draw.stay > 0) settle(v, tile, doubles, draw.stay);
+                    v[jailState()] += draw.jail;
+                    for (int i = 0; i < draw.dest.length; i++) add(v, land(draw.dest[i], doubles), draw.weight[i]);
+                }
+            }
+
+            resolving[doubles + 1][tile] = false;
+            landMemo[doubles + 1][tile] = v;
+            return v;
+        }
+
+        /** The player stays on {@code tile}: the turn ends there, or they roll again after doubles. */
+        private void settle(double[] v, int tile, int doubles, double p) {
+            if (doubles < 0) {
+                v[tile] += p;
+            } else {
+                add(v, roll(tile, doubles), p);
+            }
+        }
+
+        private void add(double[] into, double[] v, double scale) {
+            for (int i = 0; i < width; i++) into[i] += scale * v[i];
+        }
+    }
+
+    /**
+     * A draw from one deck on one square, with cards that end in the same place merged:
+     * stay put, go to jail, or move on to {@code dest[i]} (and land there again).
+     */
+    private record CardDraw(double stay, double jail, int[] dest, double[] weight) {
+
+        static CardDraw of(int tile, List<Card> deck) {
+            double each = 1.0 / deck.size();
+            double stay = 0;
+            double jail = 0;
+            double[] to = new double[SQUARES];
+            for (Card card : deck) {
+                Card.Move move = card.getMove();
+                switch (move.kind()) {
+                    case NONE -> stay += each;
+                    case RELATIVE -> to[Math.floorMod(tile + move.value(), SQUARES)] += each;
+                    case ABSOLUTE -> to[Math.floorMod(move.value(), SQUARES)] += each;
+                    case NEAREST -> to[nearestForward(tile, move.tiles())] += each;
+                    case JAIL -> jail += each;
+                    case JAIL_BELOW_ROLL -> {
+                        double jailed = 0;
+                        for (int e = 2; e < Math.min(move.value(), 13); e++) jailed += ways(e) / 36.0;
+                        jail += each * jailed;
+                        stay += each * (1 - jailed);
+                    }
+                }
+            }
+            // a card that "moves" to its own square lands there again, like the engine
+            int n = 0;
+            for (double w : to) if (w > 0) n++;
+            int[] dest = new int[n];
+            double[] weight = new double[n];
+            n = 0;
+            for (int t = 0; t < SQUARES; t++) {
+                if (to[t] > 0) {
+                    dest[n] = t;
+                    weight[n++] = to[t];
+                }
+            }
+            return new CardDraw(stay, jail, dest, weight);
+        }
+    }
+
+    private static int nearestForward(int start, int[] candidates) {
+        int best = candidates[0];
+        int bestDist = Integer.MAX_VALUE;
+        for (int c : candidates) {
+            int dist = (c - start + SQUARES) % SQUARES;
+            if (dist == 0) dist = SQUARES;
+            if (dist < bestDist) {
+                bestDist = dist;
+                best = c;
+            }
+        }
+        return best;
+    }
+
+    /** Ways to roll {@code total} with 2d6. */
+    private static int ways(int total) {
+        return 6 - Math.abs(total - 7);
+    }
+
+    // ------------------ Stationary distribution ------------------
+
+    private double[] solveStationary() {
+        double[] pi = new double[states];
+        double[] next = new double[states];
+        Arrays.fill(pi, 1.0 / states);
+        for (int it = 0; it < MAX_ITERATIONS; it++) {
+            Arrays.fill(next, 0);
+            for (int s = 0; s < states; s++) {
+                double ps = pi[s];
+                if (ps == 0) continue;
+                double[] row = turn[s];
+                for (int t = 0; t < states; t++) next[t] += ps * row[t];
+            }
+            double diff = 0;
+            for (int s = 0; s < states; s++) diff += Math.abs(next[s] - pi[s]);
+            double[] swap = pi;
+            pi = next;
+            next = swap;
+            if (diff < TOLERANCE) break;
+        }
+        return pi;
+    }
+
+    // ------------------ Horizon tables ------------------
+
+    /** visits[k] = visits[k-1] + T^(k-1) L, carrying the distribution row T^(k-1) per start state. */
+    private double[][] solveVisits() {
+        double[][] visits = new double[MAX_HORIZON + 1][states * SQUARES];
+        double[][] dist = new double[states][states];
+        for (int s = 0; s < states; s++) dist[s][s] = 1.0;
+        double[] step = new double[states];
+
+        for (int k = 1; k <= MAX_HORIZON; k++) {
+            double[] prev = visits[k - 1];
+            double[] cur = visits[k];
+            for (int s = 0; s < states; s++) {
+                double[] d = dist[s];
+                int row = s * SQUARES;
+                for (int t = 0; t < SQUARES; t++) cur[row + t] = prev[row + t];
+                for (int u = 0; u < states; u++) {
+                    double du = d[u];
+                    if (du == 0) continue;
+                    double[] l = landings[u];
+                    for (int t = 0; t < SQUARES; t++) cur[row + t] += du * l[t];
+                }
+                // advance this start state's distribution by one turn
+                Arrays.fill(step, 0);
+                for (int u = 0; u < states; u++) {
+                    double du = d[u];
+                    if (du == 0) continue;
+                    double[] r = turn[u];
+                    for (int v = 0; v < states; v++) step[v] += du * r[v];
+                }
+                System.arraycopy(step, 0, d, 0, states);
+            }
+        }
+        return visits;
+    }
+
+    /** hits[k][s][t] = a_t[s] + sum_u Q_t[s][u] hits[k-1][u][t], from one taboo solve per target. */
+    private double[][] solveHits() {
+        double[][] hits = new double[MAX_HORIZON + 1][states * SQUARES];
+        double[][] avoid = new double[states][states];
+        double[] once = new double[states];
+
+        for (int t = 0; t < SQUARES; t++) {
+            TurnSolver solver = new TurnSolver(t);
+            for (int s = 0; s < states; s++) {
+                double[] v = solver.from(s);
+                System.arraycopy(v, 0, avoid[s], 0, states);
+                once[s] = v[states + SQUARES];
+            }
+            for (int k = 1; k <= MAX_HORIZON; k++) {
+                double[] prev = hits[k - 1];
+                double[] cur = hits[k];
+                for (int s = 0; s < states; s++) {
+                    double h = once[s];
+                    double[] q = avoid[s];
+                    for (int u = 0; u < states; u++) h += q[u] * prev[u * SQUARES + t];
+                    cur[s * SQUARES + t] = h;
+                }
+            }
+        }
+        return hits;
+    }
+}
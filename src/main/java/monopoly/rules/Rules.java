@@ -0,0 +1,61 @@
+package monopoly.rules;
+
+import monopoly.engine.Card;
+import monopoly.engine.CardDeck;
+import monopoly.engine.GameState;
+import monopoly.model.Board;
+import monopoly.model.Player;
+import monopoly.setup.CardFactory;
+import monopoly.setup.StandardBoardFactory;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Immutable rule set: board layout, compiled deed table and card definitions.
+ *
+ * Built once and shared by every game that uses it. Cards are stateless (their
+ * effects act on the engine passed in), so only the decks' order is per game;
+ * {@link #newGameState} allocates just that mutable part.
+ */
+public final class Rules {
+
+    private static final Rules UK_CLASSIC = new Rules(
+            StandardBoardFactory.createBasic40TileBoard(),
+            DeedTable.ukClassic2017(),
+            CardFactory.chanceCards(),
+            CardFactory.communityChestCards()
+    );
+
+    private final Board board;
+    private final DeedTable deeds;
+    private final List<Card> chanceCards;
+    private final List<Card> communityChestCards;
+
+    public Rules(Board board, DeedTable deeds, List<Card> chanceCards, List<Card> communityChestCards) {
+        if (board == null || deeds == null) throw new IllegalArgumentException("Board and deeds are required.");
+        this.board = board;
+        this.deeds = deeds;
+        this.chanceCards = List.copyOf(chanceCards);
+        this.communityChestCards = List.copyOf(communityChestCards);
+    }
+
+    /** Shared UK classic rules (placeholder board, 2017 deed economics, Durham card text). */
+    public static Rules ukClassic() {
+        return UK_CLASSIC;
+    }
+
+    public Board getBoard() { return board; }
+    public DeedTable getDeeds() { return deeds; }
+    public List<Card> getChanceCards() { return chanceCards; }
+    public List<Card> getCommunityChestCards() { return communityChestCards; }
+
+    /** Fresh game on this board with both decks shuffled from {@code rng}. */
+    public GameState newGameState(List<Player> players, Random rng) {
+        GameState state = new GameState(board, players);
+        state.setDeeds(deeds);
+        state.setChanceDeck(new CardDeck<>(chanceCards, rng));
+        state.setCommunityDeck(new CardDeck<>(communityChestCards, rng));
+        return state;
+    }
+}
@@ -13,37 +13,37 @@ public final class CardFactory {
         List<Card> cards = new ArrayList<>();
 
         cards.add(new Card(CardType.CHANCE, "Go back 3 spaces", engine ->
-                engine.moveCurrentPlayerRelative(-3, true), false));
+                engine.moveCurrentPlayerRelative(-3, true), false, Card.Move.relative(-3)));
 
         cards.add(new Card(CardType.CHANCE, "Assignment overdue - Go to Billy B. Do not pass LOAN DROP, DO NOT COLLECT £200",
-                engine -> engine.goToJailNoGoSalary(), false));
+                engine -> engine.goToJailNoGoSalary(), false, Card.Move.jail()));
 
         cards.add(new Card(CardType.CHANCE, "Extension earnt! Get out of Billy B Free",
                 engine -> engine.awardGetOutOfJailFree(engine.getLastDrawnCard()), true));
 
         cards.add(new Card(CardType.CHANCE, "Advance to the nearest Night Club (Station). If unowned, you may buy it. If owned, pay double rent.",
-                engine -> engine.advanceToNearestStationDoubleRent(), false));
+                engine -> engine.advanceToNearestStationDoubleRent(), false, Card.Move.nearest(STATIONS)));
 
         cards.add(new Card(CardType.CHANCE, "Damp! For each house pay £25, for each hotel pay £100",
                 engine -> engine.payPerBuilding(25, 100), false));
 
         cards.add(new Card(CardType.CHANCE, "Penance - Advance to Durham Cathedral. If unowned you may buy it.",
-                engine -> engine.advanceToAbsolute(DURHAM_CATHEDRAL, true), false));
+                engine -> engine.advanceToAbsolute(DURHAM_CATHEDRAL, true), false, Card.Move.to(DURHAM_CATHEDRAL)));
 
         cards.add(new Card(CardType.CHANCE, "Travel to Klute. If you pass LOAN DROP collect £200",
-                engine -> engine.advanceToAbsolute(5, true), false));
+                engine -> engine.advanceToAbsolute(5, true), false, Card.Move.to(5)));
 
         cards.add(new Card(CardType.CHANCE, "Advance to University College. If you pass LOAN DROP you may collect £200",
-                engine -> engine.advanceToAbsolute(UNIVERSITY_COLLEGE, true), false));
+                engine -> engine.advanceToAbsolute(UNIVERSITY_COLLEGE, true), false, Card.Move.to(UNIVERSITY_COLLEGE)));
 
         cards.add(new Card(CardType.CHANCE, "Convert to the Darkside - Advance and spend the night in Hatfield",
-                engine -> engine.advanceToAbsolute(HATFIELD, true), false));
+                engine -> engine.advanceToAbsolute(HATFIELD, true), false, Card.Move.to(HATFIELD)));
 
         cards.add(new Card(CardType.CHANCE, "Your Friend competes at Fight Night - Donate £15",
                 engine -> engine.payBank(15), false));
 
         cards.add(new Card(CardType.CHANCE, "Advance to LOAN DROP",
-                engine -> engine.advanceToAbsolute(GO, true), false));
+                engine -> engine.advanceToAbsolute(GO, true), false, Card.Move.to(GO)));
 
         cards.add(new Card(CardType.CHANCE, "You land an internship - Receive £200",
                 engine -> engine.receiveBank(200), false));
@@ -52,7 +52,7 @@ public final class CardFactory {
                 engine -> engine.payEachOtherPlayer(50), false));
 
         cards.add(new Card(CardType.CHANCE, "Advance to Utilities. If unowned, you may buy it. If owned, pay 10x dice.",
-                engine -> engine.advanceToNearestUtilitySpecialRent(), false));
+                engine -> engine.advanceToNearestUtilitySpecialRent(), false, Card.Move.nearest(UTILITIES)));
 
         cards.add(new Card(CardType.CHANCE, "Your roof falls through and your landlord agrees to compensate you… Collect £150",
                 engine -> engine.receiveBank(150), false));
@@ -71,9 +71,9 @@ public final class CardFactory {
                 engine -> engine.awardGetOutOfJailFree(engine.getLastDrawnCard()), true));
         cards.add(new Card(CardType.COMMUNITY_CHEST, "Win a DU Poker Evening - Collect £10 from every player", engine -> engine.collectFromEachOtherPlayer(10), false));
         cards.add(new Card(CardType.COMMUNITY_CHEST, "Tickets June Ball - Pay £120", engine -> engine.payBank(120), false));
-        cards.add(new Card(CardType.COMMUNITY_CHEST, "Assignment overdue - Go to Billy B. Do not pass LOAN DROP, DO NOT COLLECT £200", engine -> engine.goToJailNoGoSalary(), false));
+        cards.add(new Card(CardType.COMMUNITY_CHEST, "Assignment overdue - Go to Billy B. Do not pass LOAN DROP, DO NOT COLLECT £200", engine -> engine.goToJailNoGoSalary(), false, Card.Move.jail()));
         cards.add(new Card(CardType.COMMUNITY_CHEST, "You book DUCFS tickets. Pay £50", engine -> engine.payBank(50), false));
-        cards.add(new Card(CardType.COMMUNITY_CHEST, "Advance to your LOAN DROP", engine -> engine.advanceToAbsolute(GO, true), false));
+        cards.add(new Card(CardType.COMMUNITY_CHEST, "Advance to your LOAN DROP", engine -> engine.advanceToAbsolute(GO, true), false, Card.Move.to(GO)));
 
         cards.add(new Card(CardType.COMMUNITY_CHEST,
                 "Your pipes burst. Pay for repairs: £40 per house, £115 per hotel",
@@ -88,7 +88,7 @@ public final class CardFactory {
 
         cards.add(new Card(CardType.COMMUNITY_CHEST,
                 "You embezzle alumni money - Roll 7+, win £100; else pay £150 and go straight to Billy B",
-                engine -> engine.gambleThenMaybeJail(7, 100, 150), false));
+                engine -> engine.gambleThenMaybeJail(7, 100, 150), false, Card.Move.jailBelowRoll(7)));
 
         cards.add(new Card(CardType.COMMUNITY_CHEST, "You get a bunk mate and save on heating - Collect £50", engine -> engine.receiveBank(50), false));
 
@@ -5,8 +5,15 @@ import java.util.Map;
 
 public final class DeedProfiles {
 
+    /** Any buyable tile. Sealed so a switch over deed kinds is exhaustive. */
+    public sealed interface Deed permits StreetDeed, RailroadDeed, UtilityDeed {
+        int getIndex();
+        int getPrice();
+        int getMortgage();
+    }
+
     /** Rents array: [site, 1 house, 2 houses, 3 houses, 4 houses, hotel] */
-    public static final class StreetDeed {
+    public static final class StreetDeed implements Deed {
         public final int index;
         public final ColourGroup group;
         public final int price;
@@ -23,9 +30,13 @@ public final class DeedProfiles {
             if (rents.length != 6) throw new IllegalArgumentException("Street rents must have 6 entries.");
             this.rents = rents;
         }
+
+        @Override public int getIndex() { return index; }
+        @Override public int getPrice() { return price; }
+        @Override public int getMortgage() { return mortgage; }
     }
 
-    public static final class RailroadDeed {
+    public static final class RailroadDeed implements Deed {
         public final int index;
         public final int price;
         public final int mortgage;
@@ -39,9 +50,13 @@ public final class DeedProfiles {
             if (rentByCount.length != 4) throw new IllegalArgumentException("Railroad rents must have 4 entries.");
             this.rentByCount = rentByCount;
         }
+
+        @Override public int getIndex() { return index; }
+        @Override public int getPrice() { return price; }
+        @Override public int getMortgage() { return mortgage; }
     }
 
-    public static final class UtilityDeed {
+    public static final class UtilityDeed implements Deed {
         public final int index;
         public final int price;
         public final int mortgage;
@@ -56,11 +71,15 @@ public final class DeedProfiles {
             this.multiplierIfOne = multiplierIfOne;
             this.multiplierIfTwo = multiplierIfTwo;
         }
+
+        @Override public int getIndex() { return index; }
+        @Override public int getPrice() { return price; }
+        @Override public int getMortgage() { return mortgage; }
     }
 
     /** UK/London board economics (indexed by board position 0..39). */
-    public static Map<Integer, Object> ukClassic2017ByIndex() {
-        Map<Integer, Object> m = new LinkedHashMap<>();
+    public static Map<Integer, Deed> ukClassic2017ByIndex() {
+        Map<Integer, Deed> m = new LinkedHashMap<>();
 
         // --- Streets (index, group, price, mortgage, houseCost, rents[site,1,2,3,4,hotel]) ---
 
@@ -0,0 +1,299 @@
+package monopoly.sim;
+
+import monopoly.ai.AuctionPolicy;
+import monopoly.ai.SealedBidPolicy;
+import monopoly.ai.TradePolicy;
+import monopoly.ai.TurnPolicy;
+import monopoly.engine.ActionResult;
+import monopoly.engine.AuctionFormat;
+import monopoly.engine.GameAction;
+import monopoly.engine.GameActionType;
+import monopoly.engine.GameEngine;
+import monopoly.engine.GameState;
+import monopoly.engine.GameStatus;
+import monopoly.engine.TurnPhase;
+import monopoly.engine.trade.TradeOffer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Plays whole turns of one game for per-seat policies, with no output of its own.
+ *
+ * Each step asks the engine for the legal actions. A step with a single legal action
+ * is applied without asking anyone (as in {@link GameEngine#advanceUntilDecision});
+ * otherwise the deciding seat's {@link TurnPolicy} chooses, or its {@link TradePolicy}
+ * answers a pending trade. Once per turn, before managing, the current player's trade
+ * policy may propose a trade.
+ *
+ * A choice the engine rejects is replaced by END_TURN (or the first legal action), and
+ * after {@link #MAX_DECISIONS_PER_TURN} decisions the driver ends the turn itself, so a
+ * faulty policy cannot stall the game. In debt (MUST_RESOLVE_DEBT) the replacement is a
+ * sale or mortgage while one is legal, since END_TURN there declares bankruptcy.
+ *
+ * Auctions are played bid by bid by default. In {@link AuctionMode#CLOSED_FORM} the
+ * driver instead asks each active bidder's {@link AuctionPolicy} for its maximum once
+ * and settles the auction with {@link GameEngine#resolveAuction}, which ends exactly as
+ * the bid-by-bid protocol with {@link #BID_STEP} raises would; seats whose turn policy
+ * is not an AuctionPolicy keep the auction interactive.
+ *
+ * Sealed-bid auctions ({@link GameEngine#setAuctionFormat}) need one answer per bidder,
+ * so the driver collects every active bidder's {@link SealedBidPolicy#sealedBid} in one
+ * round and submits them in turn order. With {@link #setBidExecutor} the bidders are
+ * asked concurrently, on a fork of the game, and a bid not in by the deadline is a pass.
+ *
+ * Reuses one action buffer; no allocation per turn beyond what the policies do.
+ */
+public final class GameDriver {
+
+    public static final int MAX_DECISIONS_PER_TURN = 500;
+    public static final int BID_STEP = 10;
+
+    // buildings first: a mortgage that leaves the seat in debt with nothing more to
+    // mortgage bankrupts it, even if houses could still be sold
+    private static final GameActionType[] DEBT_FALLBACKS = {
+            GameActionType.SELL_HOTEL, GameActionType.SELL_HOUSE, GameActionType.MORTGAGE
+    };
+
+    public enum AuctionMode {
+        /** Every bid and pass is a separate decision (needed for human bidders). */
+        INCREMENTAL,
+        /** Reservation prices are collected once and the auction is resolved in one step. */
+        CLOSED_FORM
+    }
+
+    /** Sees every step the driver runs; {@code action} is null for a turn start or a resolved auction. */
+    public interface Listener {
+        void onStep(GameState state, GameAction action, ActionResult result);
+    }
+
+    private final GameEngine engine;
+    private final GameState state;
+    private final TurnPolicy[] turnPolicies;
+    private final TradePolicy[] tradePolicies;
+    private final GameAction[] buf;
+    private final int[] maxBids;
+
+    private Listener listener;
+    private AuctionMode auctionMode = AuctionMode.INCREMENTAL;
+    private ExecutorService bidExecutor;
+    private long bidDeadlineMillis;
+    private long actions;
+    private int turns;
+
+    public GameDriver(GameEngine engine, TurnPolicy[] turnPolicies, TradePolicy[] tradePolicies) {
+        int seats = engine.getState().getPlayers().size();
+        if (turnPolicies.length != seats) throw new IllegalArgumentException("Need one TurnPolicy per seat (" + seats + ").");
+        if (tradePolicies.length != seats) throw new IllegalArgumentException("Need one TradePolicy per seat (" + seats + ").");
+        this.engine = engine;
+        this.state = engine.getState();
+        this.turnPolicies = turnPolicies.clone();
+        this.tradePolicies = tradePolicies.clone();
+        this.buf = new GameAction[engine.maxLegalActions()];
+        this.maxBids = new int[seats];
+    }
+
+    /** Null for none. */
+    public void setListener(Listener listener) { this.listener = listener; }
+
+    public void setAuctionMode(AuctionMode auctionMode) { this.auctionMode = auctionMode; }
+
+    public AuctionMode getAuctionMode() { return auctionMode; }
+
+    /**
+     * Sealed-bid auctions: ask the bidders concurrently on {@code executor}, giving up on
+     * those not done within {@code deadlineMillis}. Null (the default) asks them one by
+     * one on the driver's thread, with no deadline. The executor is not shut down here.
+     */
+    public void setBidExecutor(ExecutorService executor, long deadlineMillis) {
+        if (executor != null && deadlineMillis <= 0) throw new IllegalArgumentException("deadlineMillis must be positive.");
+        this.bidExecutor = executor;
+        this.bidDeadlineMillis = deadlineMillis;
+    }
+
+    /**
+     * Plays until the game ends or {@code maxTurns} more turns have been played; returns
+     * the number played.
+     */
+    public int playGame(int maxTurns) {
+        int played = 0;
+        while (played < maxTurns && playTurn()) played++;
+        return played;
+    }
+
+    /**
+     * Plays the current player's turn until it passes to the next player (or the game
+     * ends). A bankrupt seat's turn is just skipped. Returns false if the game was
+     * already over.
+     */
+    public boolean playTurn() {
+        if (state.getStatus() != GameStatus.RUNNING) return false;
+        turns++;
+
+        if (state.getPhase() == TurnPhase.START_TURN) {
+            ActionResult started = engine.startTurnIfNeeded();
+            if (listener != null) listener.onStep(state, null, started);
+        }
+
+        int decisions = 0;
+        boolean offered = false;
+        while (state.getStatus() == GameStatus.RUNNING && state.getPhase() != TurnPhase.START_TURN) {
+            TurnPhase phase = state.getPhase();
+
+            if (!offered && (phase == TurnPhase.MANAGEMENT || phase == TurnPhase.TURN_END) && !state.hasPendingTrade()) {
+                offered = true;
+                TradeOffer offer = tradePolicies[state.getCurrentPlayerIndex()].maybePropose(state, engine);
+                if (offer != null) {
+                    apply(GameAction.withPayload(GameActionType.PROPOSE_TRADE, offer));
+                    continue;
+                }
+            }
+
+            if (phase == TurnPhase.AUCTION_ACTIVE) {
+                boolean settled = engine.getAuctionFormat().isSealed()
+                        ? collectSealedBids()
+                        : auctionMode == AuctionMode.CLOSED_FORM && resolveAuction();
+                if (settled) continue;
+            }
+
+            int n = engine.legalActions(buf);
+            if (n == 0) break; // nothing the engine would accept; leave the state to the caller
+
+            GameAction action;
+            if (n == 1) {
+                action = buf[0];
+            } else if (decisions++ >= MAX_DECISIONS_PER_TURN) {
+                action = fallback(n);
+            } else if (phase == TurnPhase.TRADE_RESPONSE) {
+                int responder = state.getCurrentPlayerIndex();
+                action = tradePolicies[responder].respond(state, state.getPendingTrade(), engine);
+            } else {
+                action = turnPolicies[engine.decidingPlayerIndex()].chooseAction(state, engine);
+            }
+
+            // a rejected action leaves the state (and so buf) unchanged
+            if (!apply(action).isOk()) apply(fallback(n));
+        }
+        return true;
+    }
+
+    /** Engine calls made so far, rejected ones included. */
+    public long getActions() { return actions; }
+
+    /** Turns played so far (bankrupt seats' skipped turns included). */
+    public int getTurns() { return turns; }
+
+    public GameEngine getEngine() { return engine; }
+
+    private ActionResult apply(GameAction action) {
+        actions++;
+        ActionResult r = engine.apply(action);
+        if (listener != null) listener.onStep(state, action, r);
+        return r;
+    }
+
+    /** False if some active bidder has no AuctionPolicy (nothing applied) or the engine refused. */
+    private boolean resolveAuction() {
+        int tileIdx = state.getAuctionTileIndex();
+        for (int i = 0; i < maxBids.length; i++) {
+            if (!state.isAuctionBidderActive(i)) continue;
+            if (!(turnPolicies[i] instanceof AuctionPolicy bidder)) return false;
+            maxBids[i] = bidder.maxBid(state, engine, i, tileIdx);
+        }
+        actions++;
+        ActionResult r = engine.resolveAuction(maxBids, BID_STEP);
+        if (listener != null) listener.onStep(state, null, r);
+        return r.isOk();
+    }
+
+    /**
+     * Submits every active bidder's sealed bid (a refused one becomes a pass). False if
+     * some active bidder has no SealedBidPolicy (nothing applied) or the engine refused a pass.
+     */
+    private boolean collectSealedBids() {
+        for (int i = 0; i < maxBids.length; i++) {
+            if (state.isAuctionBidderActive(i) && !(turnPolicies[i] instanceof SealedBidPolicy)) return false;
+        }
+        if (bidExecutor == null) {
+            AuctionFormat format = engine.getAuctionFormat();
+            int tileIdx = state.getAuctionTileIndex();
+            for (int i = 0; i < maxBids.length; i++) {
+                if (state.isAuctionBidderActive(i)) maxBids[i] = ((SealedBidPolicy) turnPolicies[i]).sealedBid(state, engine, i, tileIdx, format);
+            }
+        } else {
+            askBiddersConcurrently();
+        }
+
+        while (state.getPhase() == TurnPhase.AUCTION_ACTIVE && state.isAuctionInProgress()) {
+            int bidder = state.getAuctionCurrentBidderIndex();
+            int bid = maxBids[bidder];
+            if (bid > 0 && apply(GameAction.bid(bid)).isOk()) continue;
+            // a refused bid may already have passed a bankrupt bidder
+            if (state.getAuctionCurrentBidderIndex() == bidder && state.isAuctionBidderActive(bidder)
+                    && !apply(GameAction.simple(GameActionType.AUCTION_PASS)).isOk()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Fills maxBids for the active bidders; missing, late or failed answers are 0 (pass). */
+    private void askBiddersConcurrently() {
+        // a bidder still running after the deadline keeps reading this fork, not the game
+        // (its dice are never rolled here)
+        GameEngine view = engine.fork(new Random(0));
+        GameState viewState = view.getState();
+        AuctionFormat format = engine.getAuctionFormat();
+        int tileIdx = state.getAuctionTileIndex();
+
+        List<Callable<Integer>> tasks = new ArrayList<>(maxBids.length);
+        int[] seats = new int[maxBids.length];
+        for (int i = 0; i < maxBids.length; i++) {
+            maxBids[i] = 0;
+            if (!state.isAuctionBidderActive(i)) continue;
+            SealedBidPolicy policy = (SealedBidPolicy) turnPolicies[i];
+            int seat = i;
+            seats[tasks.size()] = seat;
+            tasks.add(() -> policy.sealedBid(viewState, view, seat, tileIdx, format));
+        }
+
+        try {
+            List<Future<Integer>> answers = bidExecutor.invokeAll(tasks, bidDeadlineMillis, TimeUnit.MILLISECONDS);
+            for (int k = 0; k < answers.size(); k++) {
+                Future<Integer> answer = answers.get(k);
+                if (answer.isCancelled()) continue;
+                try {
+                    maxBids[seats[k]] = answer.get();
+                } catch (ExecutionException e) {
+                    // a failing bidder passes, like one that misses the deadline
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * The driver's own choice among the {@code n} legal actions in buf. In debt END_TURN
+     * declares bankruptcy, so a sale or mortgage comes first there.
+     */
+    private GameAction fallback(int n) {
+        if (state.getPhase() == TurnPhase.MUST_RESOLVE_DEBT) {
+            for (GameActionType raise : DEBT_FALLBACKS) {
+                for (int i = 0; i < n; i++) {
+                    if (buf[i].type() == raise) return buf[i];
+                }
+            }
+        }
+        for (int i = 0; i < n; i++) {
+            if (buf[i].type() == GameActionType.END_TURN) return buf[i];
+        }
+        return buf[0];
+    }
+}
@@ -0,0 +1,16 @@
+package monopoly.sim;
+
+/** Outcome of a single simulated game. */
+final class GameResult {
+    final int winnerIndex;   // -1 = hit the turn cap with no winner
+    final int turns;
+    final int bankruptMask;  // bit i set = player i went bankrupt
+    final int actions;       // engine.apply calls made
+
+    GameResult(int winnerIndex, int turns, int bankruptMask, int actions) {
+        this.winnerIndex = winnerIndex;
+        this.turns = turns;
+        this.bankruptMask = bankruptMask;
+        this.actions = actions;
+    }
+}
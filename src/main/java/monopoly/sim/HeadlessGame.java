@@ -0,0 +1,59 @@
+package monopoly.sim;
+
+import monopoly.ai.HeuristicTurnPolicy;
+import monopoly.ai.RejectingTradePolicy;
+import monopoly.ai.TradePolicy;
+import monopoly.ai.TurnPolicy;
+import monopoly.engine.*;
+import monopoly.model.Player;
+import monopoly.rules.Rules;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * One complete bot-vs-bot game with no console output: a {@link GameDriver} with the
+ * {@link HeuristicTurnPolicy} at every seat and no trading. Every random choice (dice,
+ * deck shuffles, panic builds) comes from a single seeded Random, so a game is fully
+ * determined by its seed.
+ */
+final class HeadlessGame {
+
+    private final GameState state;
+    private final GameDriver driver;
+    private final int maxTurns;
+
+    HeadlessGame(GameConfig config, Rules rules, int playerCount, int maxTurns, long seed) {
+        Random rng = new Random(seed);
+        this.maxTurns = maxTurns;
+
+        List<Player> players = new ArrayList<>(playerCount);
+        for (int i = 0; i < playerCount; i++) {
+            players.add(new Player("P" + (i + 1), config.getStartingCash()));
+        }
+
+        this.state = rules.newGameState(players, rng);
+        GameEngine engine = new GameEngine(config, new Dice(rng), state, rules);
+        engine.setQuiet(true); // results are only checked for ok/fail
+
+        TurnPolicy[] turnPolicies = new TurnPolicy[playerCount];
+        Arrays.fill(turnPolicies, new HeuristicTurnPolicy(rng));
+        TradePolicy[] tradePolicies = new TradePolicy[playerCount];
+        Arrays.fill(tradePolicies, RejectingTradePolicy.INSTANCE);
+        this.driver = new GameDriver(engine, turnPolicies, tradePolicies);
+        driver.setAuctionMode(GameDriver.AuctionMode.CLOSED_FORM);
+    }
+
+    GameResult play() {
+        int turns = driver.playGame(maxTurns);
+
+        int bankruptMask = 0;
+        for (int i = 0; i < state.getPlayers().size(); i++) {
+            if (state.getPlayers().get(i).isBankrupt()) bankruptMask |= 1 << i;
+        }
+        int winner = state.getStatus() == GameStatus.FINISHED ? state.getWinnerIndex() : -1;
+        return new GameResult(winner, turns, bankruptMask, (int) driver.getActions());
+    }
+}
@@ -0,0 +1,87 @@
+package monopoly.sim;
+
+/**
+ * Aggregate results of a batch of simulated games.
+ * All fields are sums/min/max, so merging partial reports gives the same
+ * totals whatever order (or thread) the games ran in.
+ */
+public final class SimulationReport {
+    private final int players;
+    private final int[] wins;
+    private final int[] bankruptcies;
+
+    private int games;
+    private int unfinished;
+    private long totalTurns;
+    private long totalActions;
+    private int minTurns = Integer.MAX_VALUE;
+    private int maxTurns = 0;
+
+    SimulationReport(int players) {
+        this.players = players;
+        this.wins = new int[players];
+        this.bankruptcies = new int[players];
+    }
+
+    void add(GameResult r) {
+        games++;
+        if (r.winnerIndex >= 0) wins[r.winnerIndex]++;
+        else unfinished++;
+
+        for (int i = 0; i < players; i++) {
+            if ((r.bankruptMask & (1 << i)) != 0) bankruptcies[i]++;
+        }
+
+        totalTurns += r.turns;
+        totalActions += r.actions;
+        minTurns = Math.min(minTurns, r.turns);
+        maxTurns = Math.max(maxTurns, r.turns);
+    }
+
+    SimulationReport merge(SimulationReport other) {
+        games += other.games;
+        unfinished += other.unfinished;
+        totalTurns += other.totalTurns;
+        totalActions += other.totalActions;
+        minTurns = Math.min(minTurns, other.minTurns);
+        maxTurns = Math.max(maxTurns, other.maxTurns);
+        for (int i = 0; i < players; i++) {
+            wins[i] += other.wins[i];
+            bankruptcies[i] += other.bankruptcies[i];
+        }
+        return this;
+    }
+
+    public int getPlayers() { return players; }
+    public int getGames() { return games; }
+    public int getUnfinishedGames() { return unfinished; }
+    public int getWins(int playerIndex) { return wins[playerIndex]; }
+    public int getBankruptcies(int playerIndex) { return bankruptcies[playerIndex]; }
+    public long getTotalTurns() { return totalTurns; }
+    public long getTotalActions() { return totalActions; }
+    public int getMinTurns() { return games == 0 ? 0 : minTurns; }
+    public int getMaxTurns() { return maxTurns; }
+
+    public double getAverageTurns() {
+        return games == 0 ? 0.0 : (double) totalTurns / games;
+    }
+
+    public double getWinRate(int playerIndex) {
+        return games == 0 ? 0.0 : (double) wins[playerIndex] / games;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Games: ").append(games)
+                .append(" (finished ").append(games - unfinished)
+                .append(", hit turn cap ").append(unfinished).append(")\n");
+        sb.append(String.format("Turns: avg %.1f, min %d, max %d%n", getAverageTurns(), getMinTurns(), maxTurns));
+        sb.append("Actions: ").append(totalActions).append('\n');
+        for (int i = 0; i < players; i++) {
+            sb.append(String.format("  P%d | wins %d (%.1f%%) | bankrupt %d%n",
+                    i + 1, wins[i], 100.0 * getWinRate(i), bankruptcies[i]));
+        }
+        return sb.toString();
+    }
+}
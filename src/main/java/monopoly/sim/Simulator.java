@@ -0,0 +1,143 @@
+package monopoly.sim;
+
+import monopoly.engine.GameConfig;
+import monopoly.engine.SplitMix64;
+import monopoly.rules.Rules;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Headless batch runner: plays N complete bot-vs-bot games across a fork-join pool.
+ *
+ * Every game owns its GameState, GameEngine, Dice and CardDecks, seeded from
+ * (masterSeed, gameIndex) only; the board, deed table and card definitions come
+ * from one shared {@link Rules} instance. Results are therefore identical for a given
+ * master seed no matter how many threads run them.
+ */
+public final class Simulator {
+
+    private final GameConfig config;
+    private final Rules rules;
+    private final int playersPerGame;
+    private final int maxTurnsPerGame;
+
+    public Simulator(GameConfig config, int playersPerGame, int maxTurnsPerGame) {
+        this(config, Rules.ukClassic(), playersPerGame, maxTurnsPerGame);
+    }
+
+    public Simulator(GameConfig config, Rules rules, int playersPerGame, int maxTurnsPerGame) {
+        if (playersPerGame < 2 || playersPerGame > 31) throw new IllegalArgumentException("Need 2..31 players per game.");
+        if (maxTurnsPerGame <= 0) throw new IllegalArgumentException("maxTurnsPerGame must be > 0.");
+        this.config = config;
+        this.rules = rules;
+        this.playersPerGame = playersPerGame;
+        this.maxTurnsPerGame = maxTurnsPerGame;
+    }
+
+    /** Runs games on all available cores. */
+    public SimulationReport run(int games, long masterSeed) {
+        return run(games, masterSeed, Runtime.getRuntime().availableProcessors());
+    }
+
+    public SimulationReport run(int games, long masterSeed, int parallelism) {
+        if (games < 0) throw new IllegalArgumentException("games must be >= 0.");
+        if (parallelism <= 0) throw new IllegalArgumentException("parallelism must be > 0.");
+
+        // ~8 chunks per worker keeps the pool busy without much splitting overhead
+        int batch = Math.max(1, games / (parallelism * 8));
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            return pool.invoke(new Batch(masterSeed, 0, games, batch));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /** Plays exactly one game; useful for replaying a single seed from a batch. */
+    public SimulationReport runSingle(long masterSeed, int gameIndex) {
+        SimulationReport r = new SimulationReport(playersPerGame);
+        r.add(playGame(masterSeed, gameIndex));
+        return r;
+    }
+
+    private GameResult playGame(long masterSeed, int gameIndex) {
+        return new HeadlessGame(config, rules, playersPerGame, maxTurnsPerGame, gameSeed(masterSeed, gameIndex)).play();
+    }
+
+    /** SplitMix64 finaliser over (master, index): independent, well-mixed seed per game. */
+    static long gameSeed(long masterSeed, int gameIndex) {
+        return SplitMix64.mix(masterSeed + (gameIndex + 1L) * SplitMix64.GAMMA);
+    }
+
+    @SuppressWarnings("serial") // never serialized
+    private final class Batch extends RecursiveTask<SimulationReport> {
+        private final long masterSeed;
+        private final int from;
+        private final int to;
+        private final int batch;
+
+        Batch(long masterSeed, int from, int to, int batch) {
+            this.masterSeed = masterSeed;
+            this.from = from;
+            this.to = to;
+            this.batch = batch;
+        }
+
+        @Override
+        protected SimulationReport compute() {
+            if (to - from <= batch) {
+                SimulationReport r = new SimulationReport(playersPerGame);
+                for (int g = from; g < to; g++) {
+                    r.add(playGame(masterSeed, g));
+                }
+                return r;
+            }
+
+            int mid = (from + to) >>> 1;
+            Batch left = new Batch(masterSeed, from, mid, batch);
+            Batch right = new Batch(masterSeed, mid, to, batch);
+            left.fork();
+            SimulationReport rightResult = right.compute();
+            return left.join().merge(rightResult);
+        }
+    }
+
+    // ------------------ CLI ------------------
+
+    /**
+     * Usage: Simulator [--games N] [--players P] [--seed S] [--threads T] [--max-turns M]
+     */
+    public static void main(String[] args) {
+        int games = 10_000;
+        int players = 4;
+        long seed = 42L;
+        int threads = Runtime.getRuntime().availableProcessors();
+        int maxTurns = 1000;
+
+        for (int i = 0; i < args.length; i++) {
+            String key = args[i];
+            if (i + 1 >= args.length) throw new IllegalArgumentException("Missing value for " + key);
+            String value = args[++i];
+            switch (key) {
+                case "--games" -> games = Integer.parseInt(value);
+                case "--players" -> players = Integer.parseInt(value);
+                case "--seed" -> seed = Long.parseLong(value);
+                case "--threads" -> threads = Integer.parseInt(value);
+                case "--max-turns" -> maxTurns = Integer.parseInt(value);
+                default -> throw new IllegalArgumentException("Unknown option " + key);
+            }
+        }
+
+        Simulator sim = new Simulator(GameConfig.ukDefaults(), players, maxTurns);
+
+        long t0 = System.nanoTime();
+        SimulationReport report = sim.run(games, seed, threads);
+        double secs = (System.nanoTime() - t0) / 1e9;
+
+        System.out.println("Seed " + seed + ", " + players + " players, " + threads + " threads, max " + maxTurns + " turns");
+        System.out.print(report);
+        System.out.printf("Elapsed %.2fs (%.0f games/sec)%n", secs, games / Math.max(secs, 1e-9));
+    }
+}
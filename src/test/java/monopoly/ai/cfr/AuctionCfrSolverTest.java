@@ -0,0 +1,69 @@
+package monopoly.ai.cfr;
+
+import monopoly.ai.cfr.AuctionStrategyTable.Payment;
+import org.junit.jupiter.api.Test;
+
+import static monopoly.ai.cfr.AuctionStrategyTable.BID_LEVELS;
+import static monopoly.ai.cfr.AuctionStrategyTable.MAX_BIDDERS;
+import static monopoly.ai.cfr.AuctionStrategyTable.MIN_BIDDERS;
+import static monopoly.ai.cfr.AuctionStrategyTable.VALUE_BUCKETS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AuctionCfrSolverTest {
+
+    @Test
+    void exploitabilityFallsWithIterations() {
+        AuctionCfrSolver few = new AuctionCfrSolver(5);
+        AuctionCfrSolver more = new AuctionCfrSolver(200);
+        few.solve(2);
+        more.solve(2);
+
+        for (Payment payment : Payment.values()) {
+            for (int bidders = MIN_BIDDERS; bidders <= MAX_BIDDERS; bidders++) {
+                double exploitability = more.exploitability(payment, bidders);
+                assertTrue(exploitability >= 0 && exploitability < 0.005,
+                        payment + " x" + bidders + ": " + exploitability);
+                assertTrue(exploitability < few.exploitability(payment, bidders), payment + " x" + bidders);
+            }
+        }
+    }
+
+    @Test
+    void everyRowIsADistributionOverAffordableLevels() {
+        AuctionStrategyTable table = new AuctionCfrSolver(50).solve(2);
+        for (Payment payment : Payment.values()) {
+            for (int bidders = MIN_BIDDERS; bidders <= MAX_BIDDERS; bidders++) {
+                for (int value = 0; value < VALUE_BUCKETS; value++) {
+                    for (int cash = 0; cash < BID_LEVELS; cash++) {
+                        double sum = 0;
+                        for (int level = 0; level <= cash; level++) {
+                            double p = table.probability(payment, bidders, value, cash, level);
+                            assertTrue(p >= 0, "negative probability");
+                            sum += p;
+                        }
+                        assertEquals(1.0, sum, 1e-9);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void tablesDoNotDependOnParallelism() {
+        AuctionStrategyTable one = new AuctionCfrSolver(50).solve(1);
+        AuctionStrategyTable four = new AuctionCfrSolver(50).solve(4);
+        for (Payment payment : Payment.values()) {
+            for (int bidders = MIN_BIDDERS; bidders <= MAX_BIDDERS; bidders++) {
+                for (int value = 0; value < VALUE_BUCKETS; value++) {
+                    for (int cash = 0; cash < BID_LEVELS; cash++) {
+                        for (int level = 0; level < BID_LEVELS; level++) {
+                            assertEquals(one.probability(payment, bidders, value, cash, level),
+                                    four.probability(payment, bidders, value, cash, level), 0.0);
+                        }
+                    }
+                }
+            }
+        }
+    }
+}
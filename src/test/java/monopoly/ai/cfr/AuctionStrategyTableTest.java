@@ -0,0 +1,94 @@
+package monopoly.ai.cfr;
+
+import monopoly.ai.cfr.AuctionStrategyTable.Payment;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+
+import static monopoly.ai.cfr.AuctionStrategyTable.BID_LEVELS;
+import static monopoly.ai.cfr.AuctionStrategyTable.MAX_BIDDERS;
+import static monopoly.ai.cfr.AuctionStrategyTable.MIN_BIDDERS;
+import static monopoly.ai.cfr.AuctionStrategyTable.VALUE_BUCKETS;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AuctionStrategyTableTest {
+
+    @Test
+    void tableSurvivesWriteAndRead() throws IOException {
+        AuctionStrategyTable table = new AuctionCfrSolver(50).solve(2);
+        byte[] written = bytes(table);
+        AuctionStrategyTable read = AuctionStrategyTable.read(new ByteArrayInputStream(written));
+
+        assertArrayEquals(written, bytes(read));
+        for (Payment payment : Payment.values()) {
+            for (int bidders = MIN_BIDDERS; bidders <= MAX_BIDDERS; bidders++) {
+                for (int value = 0; value < VALUE_BUCKETS; value++) {
+                    for (int cash = 0; cash < BID_LEVELS; cash++) {
+                        for (int level = 0; level < BID_LEVELS; level++) {
+                            assertEquals(table.probability(payment, bidders, value, cash, level),
+                                    read.probability(payment, bidders, value, cash, level), 0.0);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void readRejectsAnotherFormat() {
+        byte[] written = bytes(new AuctionStrategyTable(new byte[AuctionStrategyTable.SIZE]));
+        written[7]++; // version
+        assertThrows(IOException.class, () -> AuctionStrategyTable.read(new ByteArrayInputStream(written)));
+    }
+
+    @Test
+    void levelNeverExceedsCashLevel() {
+        // arbitrary bytes, not only well-formed distributions: the cap must not rely on the solver
+        byte[] noise = new byte[AuctionStrategyTable.SIZE];
+        new Random(3).nextBytes(noise);
+        AuctionStrategyTable[] tables = { new AuctionCfrSolver(50).solve(2), new AuctionStrategyTable(noise) };
+
+        for (AuctionStrategyTable table : tables) {
+            for (Payment payment : Payment.values()) {
+                for (int bidders = 1; bidders <= MAX_BIDDERS + 2; bidders++) {
+                    for (int value = 0; value < VALUE_BUCKETS; value++) {
+                        for (int cash = 0; cash < BID_LEVELS; cash++) {
+                            for (int draw = 0; draw < 255; draw++) {
+                                int level = table.level(payment, bidders, value, cash, draw);
+                                assertTrue(level >= 0 && level <= cash,
+                                        "level " + level + " above cash level " + cash);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void cashLevelIsAffordable() {
+        for (int price : new int[] { 60, 150, 200, 400 }) {
+            for (int cash = -50; cash <= 2 * price; cash++) {
+                int level = AuctionStrategyTable.cashLevel(cash, price);
+                assertTrue(AuctionStrategyTable.amount(level, price) <= Math.max(0, cash));
+                if (level < BID_LEVELS - 1) assertTrue(AuctionStrategyTable.amount(level + 1, price) > cash);
+            }
+        }
+    }
+
+    private static byte[] bytes(AuctionStrategyTable table) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            table.write(out);
+        } catch (IOException e) {
+            throw new AssertionError(e);
+        }
+        return out.toByteArray();
+    }
+}
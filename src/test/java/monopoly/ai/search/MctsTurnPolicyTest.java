@@ -0,0 +1,91 @@
+package monopoly.ai.search;
+
+import monopoly.engine.GameAction;
+import monopoly.engine.GameEngine;
+import monopoly.engine.GameState;
+import monopoly.engine.GameStatus;
+import monopoly.engine.TurnPhase;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static monopoly.engine.TestGames.newEngine;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MctsTurnPolicyTest {
+
+    @Test
+    void rootStatisticsAreMergedByActionNotIndex() {
+        GameEngine root = decisionWithChoices(new Random(5));
+        GameAction[] legal = new GameAction[root.maxLegalActions()];
+        int n = root.legalActions(legal);
+
+        // a worker that starts after the root was published sees a hint the first did not
+        TranspositionTable table = new TranspositionTable(1 << 10);
+        table.store(root.getState().getZobristHash(), 0f, n - 1, 10);
+        SearchTree early = new SearchTree(root, new Random(1), MctsTurnPolicy.DEFAULT_EXPLORATION, 4, null);
+        SearchTree late = new SearchTree(root, new Random(2), MctsTurnPolicy.DEFAULT_EXPLORATION, 4, table);
+        assertNotEquals(early.rootActions()[0], late.rootActions()[0]);
+        for (int i = 0; i < 300; i++) {
+            early.playout();
+            late.playout();
+        }
+
+        long[] visits = new long[n];
+        double[] reward = new double[n];
+        for (SearchTree tree : List.of(early, late)) {
+            for (int i = 0; i < tree.rootActions().length; i++) {
+                for (int a = 0; a < n; a++) {
+                    if (legal[a].equals(tree.rootActions()[i])) {
+                        visits[a] += tree.rootVisits(i);
+                        reward[a] += tree.rootReward(i);
+                    }
+                }
+            }
+        }
+        int best = 0;
+        for (int a = 1; a < n; a++) {
+            if (visits[a] > visits[best] || (visits[a] == visits[best] && reward[a] > reward[best])) best = a;
+        }
+        assertEquals(legal[best], MctsTurnPolicy.mostVisited(legal, n, List.of(early, late)));
+    }
+
+    @Test
+    void interruptEndsTheSearch() throws Exception {
+        GameEngine engine = decisionWithChoices(new Random(5));
+        ExecutorService caller = Executors.newSingleThreadExecutor();
+        try (MctsTurnPolicy mcts = new MctsTurnPolicy(SearchBudget.playouts(Integer.MAX_VALUE), 1)) {
+            Future<GameAction> late = caller.submit(() -> mcts.chooseAction(engine.getState(), engine));
+            Thread.sleep(50);
+            late.cancel(true);
+            // the caller's thread is free again long before the budget would run out
+            assertTrue(caller.submit(() -> true).get(10, TimeUnit.SECONDS));
+        } finally {
+            caller.shutdownNow();
+        }
+    }
+
+    /** A random game played on until the current player has at least four legal actions. */
+    private static GameEngine decisionWithChoices(Random rng) {
+        GameEngine engine = newEngine(3, rng);
+        GameState state = engine.getState();
+        GameAction[] buf = new GameAction[engine.maxLegalActions()];
+        while (state.getStatus() == GameStatus.RUNNING) {
+            if (state.getPhase() == TurnPhase.START_TURN) {
+                engine.startTurnIfNeeded();
+                continue;
+            }
+            int n = engine.legalActions(buf);
+            if (n >= 4) return engine;
+            engine.apply(buf[rng.nextInt(n)]);
+        }
+        throw new AssertionError("game ended before a decision with four choices");
+    }
+}
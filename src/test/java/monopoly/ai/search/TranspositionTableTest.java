@@ -0,0 +1,56 @@
+package monopoly.ai.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class TranspositionTableTest {
+
+    // a 4-entry table is a single bucket, so every key competes for the same slots
+    private static TranspositionTable oneBucket() {
+        TranspositionTable table = new TranspositionTable(TranspositionTable.BUCKET);
+        assertEquals(TranspositionTable.BUCKET, table.capacity());
+        return table;
+    }
+
+    @Test
+    void shallowEntryTakesAnEmptySlotBehindADeepOne() {
+        TranspositionTable table = oneBucket();
+        table.store(1, 0.5f, 3, 10);
+        table.store(2, 0.25f, 7, 1);
+
+        long hit = table.probe(2);
+        assertNotEquals(0L, hit);
+        assertEquals(7, TranspositionTable.bestAction(hit));
+        assertEquals(1, TranspositionTable.depth(hit));
+        assertEquals(10, TranspositionTable.depth(table.probe(1)));
+    }
+
+    @Test
+    void keyIsRefreshedEvenBehindDeeperEntries() {
+        TranspositionTable table = oneBucket();
+        table.store(1, 0.5f, 3, 10);
+        table.store(2, 0.25f, 7, 5);
+        table.store(2, 0.75f, 9, 1);
+
+        long hit = table.probe(2);
+        assertEquals(9, TranspositionTable.bestAction(hit));
+        assertEquals(1, TranspositionTable.depth(hit));
+        assertEquals(0.75f, TranspositionTable.value(hit));
+    }
+
+    @Test
+    void fullBucketEvictsTheShallowestOnlyForADeeperEntry() {
+        TranspositionTable table = oneBucket();
+        for (int k = 1; k <= 4; k++) table.store(k, 0, k, 10 + k);
+
+        table.store(5, 0, 5, 3);
+        assertEquals(0L, table.probe(5));
+
+        table.store(6, 0, 6, 12);
+        assertNotEquals(0L, table.probe(6));
+        assertEquals(0L, table.probe(1));
+        for (int k = 2; k <= 4; k++) assertNotEquals(0L, table.probe(k));
+    }
+}
@@ -0,0 +1,98 @@
+package monopoly.ai.trade;
+
+import monopoly.ai.trade.TradeSearch.ScoredTrade;
+import monopoly.engine.GameAction;
+import monopoly.engine.GameActionType;
+import monopoly.engine.GameEngine;
+import monopoly.engine.GameState;
+import monopoly.engine.trade.TradeOffer;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static monopoly.engine.TestGames.describe;
+import static monopoly.engine.TestGames.newEngine;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TradeSearchTest {
+
+    @Test
+    void swapThatCompletesBothSetsIsOfferedAndLegal() {
+        GameEngine engine = newEngine(4, new Random(1));
+        GameState state = engine.getState();
+        engine.startTurnIfNeeded();
+        int me = state.getCurrentPlayerIndex();
+        int them = (me + 1) % 4;
+
+        // each side holds one tile of the other's set: Trafalgar Square for Vine Street completes both
+        state.setOwner(16, me);
+        state.setOwner(18, me);
+        state.setOwner(21, me);
+        state.setOwner(19, them);
+        state.setOwner(23, them);
+        state.setOwner(24, them);
+        String before = describe(state);
+
+        List<ScoredTrade> found;
+        try (TradeSearch search = new TradeSearch(new RentPotentialEvaluator(), 1, 0)) {
+            found = search.search(engine, Integer.MAX_VALUE);
+            assertEquals(before, describe(state), "the search changed the game");
+            for (ScoredTrade t : found) {
+                assertTrue(t.proposerGain() >= search.getMargin(), t.toString());
+                assertTrue(t.responderGain() >= search.getMargin(), t.toString());
+            }
+        }
+
+        TradeOffer swap = found.stream()
+                .map(ScoredTrade::offer)
+                .filter(o -> o.getTilesFromAtoB().equals(Set.of(21)) && o.getTilesFromBtoA().equals(Set.of(19)))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("no one-for-one swap in " + found));
+        assertEquals(me, swap.getFromPlayerIndex());
+        assertEquals(them, swap.getToPlayerIndex());
+
+        assertTrue(engine.apply(GameAction.withPayload(GameActionType.PROPOSE_TRADE, swap)).isOk());
+        assertTrue(engine.apply(GameAction.simple(GameActionType.ACCEPT_TRADE)).isOk());
+        assertEquals(me, state.getOwner(19));
+        assertEquals(them, state.getOwner(21));
+    }
+
+    @Test
+    void resultDoesNotDependOnThreadsWithoutABudget() {
+        for (int seed = 0; seed < 4; seed++) {
+            GameEngine engine = scatteredDeeds(4, new Random(seed));
+            try (TradeSearch one = new TradeSearch(new RentPotentialEvaluator(), 1, 0);
+                 TradeSearch four = new TradeSearch(new RentPotentialEvaluator(), 4, 0)) {
+                List<ScoredTrade> sequential = one.search(engine, Integer.MAX_VALUE);
+                List<ScoredTrade> parallel = four.search(engine, Integer.MAX_VALUE);
+
+                assertTrue(one.getLastCandidates() > 4, "too few candidates to share out");
+                assertEquals(one.getLastCandidates(), one.getLastEvaluated());
+                assertEquals(four.getLastCandidates(), four.getLastEvaluated());
+                assertEquals(sequential.size(), parallel.size());
+                for (int i = 0; i < sequential.size(); i++) {
+                    ScoredTrade a = sequential.get(i);
+                    ScoredTrade b = parallel.get(i);
+                    assertEquals(a.offer().toString(), b.offer().toString());
+                    assertEquals(a.proposerGain(), b.proposerGain(), 0.0);
+                    assertEquals(a.responderGain(), b.responderGain(), 0.0);
+                }
+            }
+        }
+    }
+
+    /** A game at its first decision with every deed dealt out at random, so most seats hold half a set. */
+    private static GameEngine scatteredDeeds(int players, Random rng) {
+        GameEngine engine = newEngine(players, new Random(rng.nextLong()));
+        GameState state = engine.getState();
+        engine.startTurnIfNeeded();
+        long deeds = engine.getDeeds().getDeedMask();
+        for (long m = deeds; m != 0; m &= m - 1) {
+            state.setOwner(Long.numberOfTrailingZeros(m), rng.nextInt(players));
+        }
+        return engine;
+    }
+}
@@ -0,0 +1,115 @@
+package monopoly.engine;
+
+import monopoly.model.Player;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static monopoly.engine.TestGames.describe;
+import static monopoly.engine.TestGames.newEngine;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/** {@link CardDeck#shuffleUnseen} and {@link GameState#resampleHidden} only move what nobody has seen. */
+class DeterminizationTest {
+
+    @Test
+    void shuffleUnseenPermutesOnlyTheUnseenTop() {
+        List<Integer> cards = new ArrayList<>();
+        for (int i = 0; i < 10; i++) cards.add(i);
+        CardDeck<Integer> deck = new CardDeck<>(cards, new Random(3));
+        for (int i = 0; i < 4; i++) deck.drawTop();
+        deck.removeFromDeck(top(deck).get(1));   // held by a player, out of circulation
+
+        List<Integer> before = top(deck);
+        int unseen = deck.unseenCount();
+        assertEquals(5, unseen);
+        Set<Integer> tops = new HashSet<>();
+        for (int trial = 0; trial < 200; trial++) {
+            deck.shuffleUnseen();
+            List<Integer> after = top(deck);
+            assertEquals(unseen, deck.unseenCount());
+            assertEquals(before.subList(unseen, before.size()), after.subList(unseen, after.size()), "seen cards moved");
+            assertEquals(new HashSet<>(before.subList(0, unseen)), new HashSet<>(after.subList(0, unseen)));
+            tops.add(after.get(0));
+        }
+        assertEquals(new HashSet<>(before.subList(0, unseen)), tops, "every unseen card should reach the top");
+    }
+
+    @Test
+    void resampleHiddenKeepsEverythingThePlayersHaveSeen() {
+        GameEngine engine = gameWithHeldCard(new Random(11));
+        GameState state = engine.getState();
+        String visible = visible(state);
+        List<Card> chance = top(state.getChanceDeck());
+        List<Card> community = top(state.getCommunityDeck());
+        int chanceUnseen = state.getChanceDeck().unseenCount();
+        int communityUnseen = state.getCommunityDeck().unseenCount();
+
+        boolean moved = false;
+        for (int trial = 0; trial < 50; trial++) {
+            GameState fork = state.fork(new Random(trial));
+            fork.resampleHidden();
+            assertEquals(visible, visible(fork));
+            moved |= !chance.equals(top(fork.getChanceDeck())) || !community.equals(top(fork.getCommunityDeck()));
+            assertOnlyUnseenMoved(chance, chanceUnseen, fork.getChanceDeck());
+            assertOnlyUnseenMoved(community, communityUnseen, fork.getCommunityDeck());
+        }
+        assertTrue(moved, "resampling never changed an unseen order");
+        assertEquals(visible, visible(state), "resampling a fork changed the game");
+    }
+
+    private static void assertOnlyUnseenMoved(List<Card> before, int unseen, CardDeck<Card> deck) {
+        List<Card> after = top(deck);
+        assertEquals(unseen, deck.unseenCount());
+        assertEquals(before.size(), after.size());
+        assertEquals(before.subList(unseen, before.size()), after.subList(unseen, after.size()), "drawn cards moved");
+        assertEquals(new HashSet<>(before.subList(0, unseen)), new HashSet<>(after.subList(0, unseen)));
+    }
+
+    /** A random game played until a seat holds a Get Out of Jail Free card and both decks have drawn cards. */
+    private static GameEngine gameWithHeldCard(Random rng) {
+        for (int attempt = 0; ; attempt++) {
+            GameEngine engine = newEngine(3, rng);
+            GameState state = engine.getState();
+            GameAction[] buf = new GameAction[engine.maxLegalActions()];
+            for (int step = 0; step < 3000 && state.getStatus() == GameStatus.RUNNING; step++) {
+                boolean held = false;
+                for (Player p : state.getPlayers()) held |= p.getOutOfJailFreeCount() > 0;
+                if (held && hasSeenAndUnseen(state.getChanceDeck()) && hasSeenAndUnseen(state.getCommunityDeck())) {
+                    return engine;
+                }
+                if (state.getPhase() == TurnPhase.START_TURN) {
+                    engine.startTurnIfNeeded();
+                    continue;
+                }
+                int n = engine.legalActions(buf);
+                if (n == 0) break;
+                engine.apply(buf[rng.nextInt(n)]);
+            }
+            assertFalse(attempt > 50, "no game reached a held card");
+        }
+    }
+
+    private static boolean hasSeenAndUnseen(CardDeck<Card> deck) {
+        return deck.unseenCount() >= 2 && deck.unseenCount() < deck.size();
+    }
+
+    /** Everything but the decks' order: players (held cards included), board, phase. */
+    private static String visible(GameState s) {
+        String d = describe(s);
+        return d.substring(0, d.indexOf(" | chance "));
+    }
+
+    private static <T> List<T> top(CardDeck<T> deck) {
+        CardDeck<T> copy = deck.copy();
+        List<T> out = new ArrayList<>();
+        for (int i = 0, n = copy.size(); i < n; i++) out.add(copy.drawTop());
+        return out;
+    }
+}
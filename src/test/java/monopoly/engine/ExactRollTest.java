@@ -0,0 +1,172 @@
+package monopoly.engine;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static monopoly.engine.TestGames.describe;
+import static monopoly.engine.TestGames.newEngine;
+import static monopoly.engine.TestGames.order;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/** {@link GameEngine#applyRoll}, {@link GameEngine#cardDrawnBy} and {@link GameEngine#nextCardOutcomes} against plain play. */
+class ExactRollTest {
+
+    @Test
+    void outcomesCoverTwoDiceWithProbabilitiesSummingToOne() {
+        assertEquals(21, Dice.OUTCOMES.length);
+        double sum = 0;
+        for (Dice.Roll roll : Dice.OUTCOMES) sum += Dice.probability(roll);
+        assertEquals(1.0, sum, 1e-12);
+
+        // each of the 36 ordered rolls is one outcome, counted as often as its probability says
+        for (Dice.Roll outcome : Dice.OUTCOMES) {
+            int ways = 0;
+            for (int d1 = 1; d1 <= 6; d1++) {
+                for (int d2 = 1; d2 <= 6; d2++) {
+                    if (Math.min(d1, d2) == outcome.die1() && Math.max(d1, d2) == outcome.die2()) ways++;
+                }
+            }
+            assertEquals(ways / 36.0, Dice.probability(outcome), 1e-12, outcome.toString());
+        }
+    }
+
+    @Test
+    void applyRollMatchesARollDiceWithTheSameDice() {
+        int cardRolls = 0;
+        for (long seed = 1; seed <= 12; seed++) {
+            Random rng = new Random(seed);
+            GameEngine engine = newEngine(2 + (int) (seed % 3), rng);
+            for (int step = 0; step < 200 && engine.getState().getStatus() == GameStatus.RUNNING; step++) {
+                if (canRoll(engine)) {
+                    for (Dice.Roll roll : Dice.OUTCOMES) cardRolls += compareRoll(engine, roll, seed * 1000 + step);
+                }
+                randomStep(engine, rng);
+            }
+        }
+        assertTrue(cardRolls > 0, "no roll drew a card");
+    }
+
+    @Test
+    void nextCardOutcomesAreExactlyTheUnseenCards() {
+        for (long seed = 1; seed <= 20; seed++) {
+            Random rng = new Random(seed);
+            GameEngine engine = newEngine(3, rng);
+            Card[] out = new Card[32];
+            for (int step = 0; step < 400 && engine.getState().getStatus() == GameStatus.RUNNING; step++) {
+                for (CardType type : new CardType[] {CardType.CHANCE, CardType.COMMUNITY_CHEST}) {
+                    CardDeck<Card> deck = type == CardType.CHANCE ? engine.getState().getChanceDeck() : engine.getState().getCommunityDeck();
+                    int n = engine.nextCardOutcomes(type, out);
+                    List<Card> top = topCards(deck, Math.max(1, deck.unseenCount()));
+                    assertEquals(new HashSet<>(top), new HashSet<>(Arrays.asList(out).subList(0, n)), "seed " + seed + ", step " + step);
+                    assertEquals(top.size(), n);
+
+                    // every candidate can be drawn next, and nothing else can
+                    Set<Card> candidates = new HashSet<>(top);
+                    for (Card c : topCards(deck, deck.size())) {
+                        CardDeck<Card> copy = deck.copy();
+                        if (candidates.contains(c)) {
+                            copy.stackOnTop(c);
+                            assertSame(c, copy.drawTop());
+                        } else {
+                            assertThrows(IllegalArgumentException.class, () -> copy.stackOnTop(c));
+                        }
+                    }
+                }
+                randomStep(engine, rng);
+            }
+        }
+    }
+
+    /**
+     * Plays {@code roll} with {@link GameEngine#applyRoll} and as a ROLL_DICE whose dice
+     * are scripted to it, for no card or each possible next card; returns how many drew one.
+     */
+    private static int compareRoll(GameEngine engine, Dice.Roll roll, long seed) {
+        CardType type = engine.cardDrawnBy(roll);
+        if (type == null) {
+            GameEngine exact = engine.fork(new Random(seed));
+            GameEngine played = engine.fork(scripted(roll, seed));
+            String decks = deckOrders(exact.getState());
+            exact.applyRoll(roll, null);
+            assertTrue(played.apply(GameAction.simple(GameActionType.ROLL_DICE)).isOk());
+            assertEquals(describe(played.getState()), describe(exact.getState()), roll.toString());
+            if (!engine.getState().getCurrentPlayer().isInJail()) {
+                assertEquals(decks, deckOrders(exact.getState()), "drew a card after " + roll);
+            }
+            return 0;
+        }
+
+        Card[] cards = new Card[32];
+        int n = engine.nextCardOutcomes(type, cards);
+        for (int i = 0; i < n; i++) {
+            Card card = cards[i];
+            GameEngine exact = engine.fork(new Random(seed));
+            GameEngine played = engine.fork(scripted(roll, seed));
+            exact.applyRoll(roll, card);
+            CardDeck<Card> deck = type == CardType.CHANCE ? played.getState().getChanceDeck() : played.getState().getCommunityDeck();
+            deck.stackOnTop(card);
+            assertTrue(played.apply(GameAction.simple(GameActionType.ROLL_DICE)).isOk());
+            assertEquals(describe(played.getState()), describe(exact.getState()), roll + " drawing " + card.getText());
+
+            // the predicted deck was drawn from; only a Chance card moving back onto Community Chest draws again
+            Card last = exact.getLastDrawnCard();
+            if (last != card) {
+                assertEquals(CardType.CHANCE, type);
+                assertEquals(Card.Move.Kind.RELATIVE, card.getMove().kind());
+                assertTrue(card.getMove().value() < 0);
+            }
+        }
+        return n;
+    }
+
+    /** The first two dice are {@code roll}, then the same stream as {@code new Random(seed)}. */
+    private static Random scripted(Dice.Roll roll, long seed) {
+        return new Random(seed) {
+            private int forced;
+
+            @Override
+            public int nextInt(int bound) {
+                if (forced < 2 && bound == 6) return (forced++ == 0 ? roll.die1() : roll.die2()) - 1;
+                return super.nextInt(bound);
+            }
+        };
+    }
+
+    private static boolean canRoll(GameEngine engine) {
+        GameAction[] buf = new GameAction[engine.maxLegalActions()];
+        int n = engine.legalActions(buf);
+        for (int i = 0; i < n; i++) {
+            if (buf[i].type() == GameActionType.ROLL_DICE) return true;
+        }
+        return false;
+    }
+
+    private static void randomStep(GameEngine engine, Random rng) {
+        if (engine.getState().getPhase() == TurnPhase.START_TURN) {
+            engine.startTurnIfNeeded();
+            return;
+        }
+        GameAction[] buf = new GameAction[engine.maxLegalActions()];
+        int n = engine.legalActions(buf);
+        if (n > 0) engine.apply(buf[rng.nextInt(n)]);
+    }
+
+    private static String deckOrders(GameState s) {
+        return order(s.getChanceDeck()) + " | " + order(s.getCommunityDeck());
+    }
+
+    private static List<Card> topCards(CardDeck<Card> deck, int n) {
+        CardDeck<Card> copy = deck.copy();
+        Card[] top = new Card[n];
+        for (int i = 0; i < n; i++) top[i] = copy.drawTop();
+        return Arrays.asList(top);
+    }
+}
@@ -0,0 +1,111 @@
+package monopoly.engine;
+
+import monopoly.engine.trade.MortgageTransferChoice;
+import monopoly.engine.trade.TradeOffer;
+import monopoly.model.Board;
+import monopoly.setup.DeedProfiles;
+import monopoly.setup.DeedProfiles.Deed;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static monopoly.engine.TestGames.newEngine;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/** The rent vector {@link GameState} keeps up to date, against a recomputation from the deeds. */
+class RentVectorTest {
+
+    private static final Map<Integer, Deed> DEEDS = DeedProfiles.ukClassic2017ByIndex();
+
+    @Test
+    void rentMatchesARecomputationAfterEveryStep() {
+        int trades = 0;
+        int bankruptcies = 0;
+        for (long seed = 1; seed <= 15; seed++) {
+            Random rng = new Random(seed);
+            GameEngine engine = newEngine(3 + (int) (seed % 2), rng);
+            GameState state = engine.getState();
+            GameAction[] buf = new GameAction[engine.maxLegalActions()];
+            for (int step = 0; step < 3000 && state.getStatus() == GameStatus.RUNNING; step++) {
+                assertRents(state, "seed " + seed + ", step " + step);
+
+                if (state.getPhase() == TurnPhase.START_TURN) {
+                    engine.startTurnIfNeeded();
+                } else if (state.getPhase() == TurnPhase.MANAGEMENT && rng.nextInt(4) == 0 && proposeSwap(engine, rng)) {
+                    assertRents(state, "seed " + seed + ", step " + step + " (proposed)");
+                    if (engine.apply(GameAction.simple(GameActionType.ACCEPT_TRADE)).isOk()) trades++;
+                } else {
+                    int n = engine.legalActions(buf);
+                    if (n == 0) break;
+                    engine.apply(buf[rng.nextInt(n)]);
+                }
+            }
+            assertRents(state, "seed " + seed + ", end");
+            for (int i = 0; i < state.getPlayers().size(); i++) {
+                if (state.getPlayers().get(i).isBankrupt()) bankruptcies++;
+            }
+        }
+        assertTrue(trades > 0, "no trade moved a deed");
+        assertTrue(bankruptcies > 0, "no seat went bankrupt");
+    }
+
+    /** Proposes one deed each way (or a deed for cash) with a random live rival; false if none fits. */
+    private static boolean proposeSwap(GameEngine engine, Random rng) {
+        GameState state = engine.getState();
+        int me = state.getCurrentPlayerIndex();
+        List<Integer> rivals = new ArrayList<>();
+        for (int i = 0; i < state.getPlayers().size(); i++) {
+            if (i != me && !state.getPlayers().get(i).isBankrupt()) rivals.add(i);
+        }
+        if (rivals.isEmpty()) return false;
+        int them = rivals.get(rng.nextInt(rivals.size()));
+        Integer mine = randomDeed(state, me, rng);
+        Integer theirs = randomDeed(state, them, rng);
+        if (theirs == null) return false;
+
+        Map<Integer, MortgageTransferChoice> keep = new HashMap<>();
+        for (int t = 0; t < Board.SIZE; t++) keep.put(t, MortgageTransferChoice.KEEP_MORTGAGED);
+        TradeOffer offer = new TradeOffer(me, them,
+                mine == null ? Set.of() : Set.of(mine), Set.of(theirs),
+                mine == null ? Math.min(50, Math.max(0, state.getPlayers().get(me).getCash())) : 0, 0,
+                0, 0, 0, 0, keep, keep);
+        return engine.apply(GameAction.withPayload(GameActionType.PROPOSE_TRADE, offer)).isOk()
+                && state.getPhase() == TurnPhase.TRADE_RESPONSE;
+    }
+
+    /** A deed {@code seat} owns with no buildings on it, or null. */
+    private static Integer randomDeed(GameState state, int seat, Random rng) {
+        List<Integer> owned = new ArrayList<>();
+        for (int t = 0; t < Board.SIZE; t++) {
+            if (state.getOwner(t) == seat && state.getBuildings(t) == 0) owned.add(t);
+        }
+        return owned.isEmpty() ? null : owned.get(rng.nextInt(owned.size()));
+    }
+
+    private static void assertRents(GameState state, String where) {
+        for (int t = 0; t < Board.SIZE; t++) {
+            assertEquals(expectedRent(state, t), state.getRentIfLanded(t), where + ", tile " + t);
+        }
+    }
+
+    /** From the deed profiles: street rent by buildings, station rent by stations owned, utility multiplier by utilities owned. */
+    private static int expectedRent(GameState state, int tile) {
+        Deed deed = DEEDS.get(tile);
+        int owner = state.getOwner(tile);
+        if (deed == null || owner == GameState.UNOWNED || state.isMortgaged(tile)) return 0;
+        if (deed instanceof DeedProfiles.StreetDeed street) return street.rents[state.getBuildings(tile)];
+        int sameKind = 0;
+        for (Map.Entry<Integer, Deed> e : DEEDS.entrySet()) {
+            if (e.getValue().getClass() == deed.getClass() && state.getOwner(e.getKey()) == owner) sameKind++;
+        }
+        if (deed instanceof DeedProfiles.RailroadDeed station) return station.rentByCount[sameKind - 1];
+        DeedProfiles.UtilityDeed utility = (DeedProfiles.UtilityDeed) deed;
+        return sameKind >= 2 ? utility.multiplierIfTwo : utility.multiplierIfOne;
+    }
+}
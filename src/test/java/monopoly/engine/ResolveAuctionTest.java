@@ -0,0 +1,81 @@
+package monopoly.engine;
+
+import monopoly.model.Player;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static monopoly.engine.TestGames.describe;
+import static monopoly.engine.TestGames.newEngine;
+import static monopoly.engine.TestGames.reachAuctionDecision;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/** {@link GameEngine#resolveAuction} against the bid-by-bid protocol it replaces. */
+class ResolveAuctionTest {
+
+    private static final int TRIALS = 3000;
+
+    @Test
+    void matchesIncrementalBidding() {
+        Random r = new Random(7);
+        int checked = 0;
+        int bankruptSeats = 0;
+        int shortOfCash = 0;
+
+        for (int g = 0; checked < TRIALS; g++) {
+            Random rng = new Random(g);
+            int seats = 2 + r.nextInt(5);
+            GameEngine engine = newEngine(seats, rng);
+            GameState state = engine.getState();
+            if (!reachAuctionDecision(engine, r)) continue;
+
+            // cash and bankruptcy are settled before bidding starts, as in a real game
+            for (int i = 0; i < seats; i++) {
+                Player p = state.getPlayers().get(i);
+                p.addCash(r.nextInt(700) - p.getCash());
+                if (i != state.getCurrentPlayerIndex() && seats > 2 && r.nextInt(6) == 0) {
+                    p.setBankrupt(true);
+                    bankruptSeats++;
+                }
+            }
+            assertTrue(engine.apply(GameAction.simple(GameActionType.START_AUCTION)).isOk());
+
+            int[] max = new int[seats];
+            for (int i = 0; i < seats; i++) {
+                max[i] = r.nextInt(8) == 0 ? -5 : r.nextInt(900);
+                if (state.isAuctionBidderActive(i) && max[i] > state.getPlayers().get(i).getCash()) shortOfCash++;
+            }
+            int increment = r.nextInt(3) == 0 ? 1 + r.nextInt(25) : 10;
+
+            engine.enableUndo();
+            String start = describe(state);
+
+            bidIncrementally(engine, max, increment);
+            String incremental = describe(state);
+            while (engine.undo()) { }
+            assertEquals(start, describe(state));
+
+            assertTrue(engine.resolveAuction(max, increment).isOk());
+            assertEquals(incremental, describe(state), "game " + g + ", increment " + increment);
+
+            assertTrue(engine.undo());
+            assertEquals(start, describe(state));
+            checked++;
+        }
+        assertTrue(bankruptSeats > 0 && shortOfCash > 0, "both edge cases must be exercised");
+    }
+
+    /** Each bidder raises by {@code increment} while within its maximum; refused bids (over cash) pass. */
+    private static void bidIncrementally(GameEngine engine, int[] max, int increment) {
+        GameState state = engine.getState();
+        while (state.getPhase() == TurnPhase.AUCTION_ACTIVE) {
+            int bidder = state.getAuctionCurrentBidderIndex();
+            int next = state.getAuctionHighBid() + increment;
+            GameAction action = next <= max[bidder] ? GameAction.bid(next) : GameAction.simple(GameActionType.AUCTION_PASS);
+            if (!engine.apply(action).isOk()) {
+                assertTrue(engine.apply(GameAction.simple(GameActionType.AUCTION_PASS)).isOk());
+            }
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package monopoly.engine;
+
+import monopoly.model.Player;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static monopoly.engine.TestGames.describe;
+import static monopoly.engine.TestGames.newEngine;
+import static monopoly.engine.TestGames.reachAuctionDecision;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/** Settlement of {@link AuctionFormat#SEALED_FIRST_PRICE} and {@link AuctionFormat#SEALED_SECOND_PRICE} auctions. */
+class SealedAuctionTest {
+
+    private static final int CASH = 1000;
+
+    @Test
+    void firstPriceWinnerPaysOwnBid() {
+        GameEngine engine = auction(AuctionFormat.SEALED_FIRST_PRICE);
+        int c = engine.getState().getCurrentPlayerIndex();
+        int tile = engine.getState().getAuctionTileIndex();
+
+        submit(engine, bids(c, 120, 300, 250));
+        assertSold(engine, tile, (c + 1) % 3, 300);
+    }
+
+    @Test
+    void secondPriceWinnerPaysSecondHighestBid() {
+        GameEngine engine = auction(AuctionFormat.SEALED_SECOND_PRICE);
+        int c = engine.getState().getCurrentPlayerIndex();
+        int tile = engine.getState().getAuctionTileIndex();
+
+        submit(engine, bids(c, 120, 300, 250));
+        assertSold(engine, tile, (c + 1) % 3, 250);
+    }
+
+    @Test
+    void secondPriceLoneBidderPaysTheOpeningPrice() {
+        GameEngine engine = auction(AuctionFormat.SEALED_SECOND_PRICE);
+        engine.setLegalBidIncrements(50, 25, 100);
+        int c = engine.getState().getCurrentPlayerIndex();
+        int tile = engine.getState().getAuctionTileIndex();
+
+        submit(engine, bids(c, 0, 0, 200));
+        assertSold(engine, tile, (c + 2) % 3, 25);
+    }
+
+    @Test
+    void secondPriceNeverChargesMoreThanTheWinningBid() {
+        GameEngine engine = auction(AuctionFormat.SEALED_SECOND_PRICE);
+        engine.setLegalBidIncrements(50);
+        int c = engine.getState().getCurrentPlayerIndex();
+        int tile = engine.getState().getAuctionTileIndex();
+
+        submit(engine, bids(c, 30, 0, 0));
+        assertSold(engine, tile, c, 30);
+    }
+
+    @Test
+    void tieGoesToTheEarliestSeatFromTheCurrentPlayer() {
+        for (AuctionFormat format : new AuctionFormat[] {AuctionFormat.SEALED_FIRST_PRICE, AuctionFormat.SEALED_SECOND_PRICE}) {
+            GameEngine engine = auction(format);
+            int c = engine.getState().getCurrentPlayerIndex();
+            int tile = engine.getState().getAuctionTileIndex();
+
+            submit(engine, bids(c, 0, 180, 180));
+            assertSold(engine, tile, (c + 1) % 3, 180);
+        }
+    }
+
+    @Test
+    void noBidsMeansNoSale() {
+        GameEngine engine = auction(AuctionFormat.SEALED_FIRST_PRICE);
+        GameState state = engine.getState();
+        int tile = state.getAuctionTileIndex();
+
+        submit(engine, new int[3]);
+        assertEquals(GameState.UNOWNED, state.getOwner(tile));
+        assertEquals(TurnPhase.MANAGEMENT, state.getPhase());
+        for (Player p : state.getPlayers()) assertEquals(CASH, p.getCash());
+    }
+
+    @Test
+    void forkSettlesOnGuessesNotOnRivalsBids() {
+        GameEngine engine = auction(AuctionFormat.SEALED_SECOND_PRICE);
+        GameState state = engine.getState();
+        int first = state.getAuctionCurrentBidderIndex();
+        int viewer = (first + 1) % 3;
+        int last = (first + 2) % 3;
+        int tile = state.getAuctionTileIndex();
+        assertTrue(engine.apply(GameAction.bid(300)).isOk());
+
+        // the viewer's search forks the game after the first bid went in
+        GameEngine fork = engine.fork(new Random(1));
+        fork.hideSealedBids(viewer, seat -> 42);
+        String real = describe(state);
+        assertTrue(fork.apply(GameAction.bid(100)).isOk());
+        assertTrue(fork.apply(GameAction.simple(GameActionType.AUCTION_PASS)).isOk());
+        assertSold(fork, tile, viewer, 42);
+        assertEquals(real, describe(state), "the fork must not touch the game");
+
+        // the game itself still settles on the real bid
+        assertTrue(engine.apply(GameAction.bid(100)).isOk());
+        assertTrue(engine.apply(GameAction.simple(GameActionType.AUCTION_PASS)).isOk());
+        assertSold(engine, tile, first, 100);
+        assertEquals(CASH, state.getPlayers().get(last).getCash());
+    }
+
+    @Test
+    void hidingLeavesTheViewersBidAndOpenSeatsAlone() {
+        GameEngine engine = auction(AuctionFormat.SEALED_FIRST_PRICE);
+        GameState state = engine.getState();
+        int first = state.getAuctionCurrentBidderIndex();
+        int tile = state.getAuctionTileIndex();
+        assertTrue(engine.apply(GameAction.bid(150)).isOk());
+
+        // hiding for the seat that bid keeps its own bid; seats still to bid get no guess
+        GameEngine fork = engine.fork(new Random(1));
+        fork.hideSealedBids(first, seat -> 500);
+        assertTrue(fork.apply(GameAction.simple(GameActionType.AUCTION_PASS)).isOk());
+        assertTrue(fork.apply(GameAction.simple(GameActionType.AUCTION_PASS)).isOk());
+        assertSold(fork, tile, first, 150);
+    }
+
+    @Test
+    void hidingOutsideASealedAuctionDoesNothing() {
+        GameEngine engine = auction(AuctionFormat.ENGLISH);
+        GameState state = engine.getState();
+        assertTrue(engine.apply(GameAction.bid(150)).isOk());
+        String before = describe(state);
+        engine.hideSealedBids(state.getAuctionCurrentBidderIndex(), seat -> 500);
+        assertEquals(before, describe(state));
+    }
+
+    /** Three seats with {@value #CASH} each, in an auction of the tile the current player declined. */
+    private static GameEngine auction(AuctionFormat format) {
+        for (long seed = 1; ; seed++) {
+            Random rng = new Random(seed);
+            GameEngine engine = newEngine(3, rng);
+            if (!reachAuctionDecision(engine, rng)) continue;
+            GameState state = engine.getState();
+            if (state.getPlayers().stream().anyMatch(Player::isBankrupt)) continue;
+            for (Player p : state.getPlayers()) p.addCash(CASH - p.getCash());
+            engine.setAuctionFormat(format);
+            assertTrue(engine.apply(GameAction.simple(GameActionType.START_AUCTION)).isOk());
+            return engine;
+        }
+    }
+
+    /** Bids by seat for the current player {@code c} and the two after it. */
+    private static int[] bids(int c, int fromCurrent, int fromNext, int fromLast) {
+        int[] bids = new int[3];
+        bids[c] = fromCurrent;
+        bids[(c + 1) % 3] = fromNext;
+        bids[(c + 2) % 3] = fromLast;
+        return bids;
+    }
+
+    /** Submits each seat's bid when its turn comes; 0 passes. */
+    private static void submit(GameEngine engine, int[] bids) {
+        GameState state = engine.getState();
+        while (state.getPhase() == TurnPhase.AUCTION_ACTIVE) {
+            int bid = bids[state.getAuctionCurrentBidderIndex()];
+            GameAction action = bid > 0 ? GameAction.bid(bid) : GameAction.simple(GameActionType.AUCTION_PASS);
+            assertTrue(engine.apply(action).isOk());
+        }
+    }
+
+    private static void assertSold(GameEngine engine, int tile, int winner, int price) {
+        GameState state = engine.getState();
+        assertEquals(winner, state.getOwner(tile), "winner");
+        assertEquals(TurnPhase.MANAGEMENT, state.getPhase());
+        for (int i = 0; i < 3; i++) {
+            assertEquals(i == winner ? CASH - price : CASH, state.getPlayers().get(i).getCash(), "cash of seat " + i);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package monopoly.engine;
+
+import monopoly.model.Player;
+import monopoly.rules.Rules;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/** Engines on the UK board for tests, and a dump of everything a step can change. */
+public final class TestGames {
+
+    private TestGames() {}
+
+    /** A quiet engine with {@code players} seats at the starting cash; {@code rng} drives dice and decks. */
+    public static GameEngine newEngine(int players, Random rng) {
+        GameConfig config = GameConfig.ukDefaults();
+        Rules rules = Rules.ukClassic();
+        List<Player> ps = new ArrayList<>();
+        for (int i = 0; i < players; i++) ps.add(new Player("P" + i, config.getStartingCash()));
+        GameEngine engine = new GameEngine(config, new Dice(rng), rules.newGameState(ps, rng), rules);
+        engine.setQuiet(true);
+        return engine;
+    }
+
+    /** Plays random legal actions until the current player may start an auction; false if the game never gets there. */
+    public static boolean reachAuctionDecision(GameEngine engine, Random r) {
+        GameState state = engine.getState();
+        GameAction[] buf = new GameAction[engine.maxLegalActions()];
+        for (int steps = 0; steps < 2000 && state.getStatus() == GameStatus.RUNNING; steps++) {
+            if (state.getPhase() == TurnPhase.START_TURN) {
+                engine.startTurnIfNeeded();
+                continue;
+            }
+            int n = engine.legalActions(buf);
+            if (n == 0) return false;
+            for (int i = 0; i < n; i++) {
+                if (buf[i].type() == GameActionType.START_AUCTION && r.nextInt(3) == 0) return true;
+            }
+            GameAction pick = buf[r.nextInt(n)];
+            if (pick.type() == GameActionType.START_AUCTION) continue;
+            engine.apply(pick);
+        }
+        return false;
+    }
+
+    /** Everything a step can change, including both decks' order and the hash. */
+    public static String describe(GameState s) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(s.getStatus()).append(' ').append(s.getWinnerIndex())
+                .append(" | ").append(s.getPhase()).append(' ').append(s.getCurrentPlayerIndex())
+                .append(' ').append(s.getDoublesThisTurn()).append(' ').append(s.getLastRollTotal())
+                .append(' ').append(s.getLandedTileIndex())
+                .append(" | ").append(s.getHousesRemaining()).append('/').append(s.getHotelsRemaining());
+        sb.append(" | auction ").append(s.isAuctionInProgress()).append(' ').append(s.getAuctionTileIndex())
+                .append(' ').append(s.getAuctionHighBid()).append(' ').append(s.getAuctionHighBidderIndex())
+                .append(' ').append(s.getAuctionCurrentBidderIndex());
+        sb.append(" | trade ").append(s.getPendingTrade()).append(' ').append(s.isTradeResponseInProgress());
+        for (int i = 0; i < s.getPlayers().size(); i++) {
+            Player p = s.getPlayers().get(i);
+            sb.append(" | P").append(i).append(' ').append(Long.toHexString(p.saveScalars()))
+                    .append(' ').append(p.getOutOfJailFreeCount());
+            if (s.isAuctionInProgress()) sb.append(' ').append(s.isAuctionBidderActive(i));
+        }
+        sb.append(" | tiles");
+        for (int t = 0; t < 40; t++) {
+            sb.append(' ').append(s.getOwner(t)).append(':').append(s.getBuildings(t))
+                    .append(s.isMortgaged(t) ? "m" : "").append(':').append(s.getRentIfLanded(t));
+        }
+        sb.append(" | chance ").append(order(s.getChanceDeck()))
+                .append(" | community ").append(order(s.getCommunityDeck()));
+        sb.append(" | hash ").append(Long.toHexString(s.getZobristHash()));
+        return sb.toString();
+    }
+
+    /** The deck's cards from the top, without drawing from it. */
+    public static String order(CardDeck<Card> deck) {
+        CardDeck<Card> copy = deck.copy();
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0, n = copy.size(); i < n; i++) sb.append(copy.drawTop()).append(',');
+        return sb.toString();
+    }
+}
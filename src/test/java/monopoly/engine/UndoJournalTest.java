@@ -0,0 +1,68 @@
+package monopoly.engine;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static monopoly.engine.TestGames.describe;
+import static monopoly.engine.TestGames.newEngine;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UndoJournalTest {
+
+    private static final int STEPS = 600;
+
+    @Test
+    void undoRestoresEveryEarlierStateExactly() {
+        for (long seed = 1; seed <= 20; seed++) {
+            Random rng = new Random(seed);
+            GameEngine engine = newEngine(2 + (int) (seed % 4), rng);
+            engine.enableUndo();
+
+            // a fork per step is the reference for "the state before that step"
+            List<String> before = new ArrayList<>();
+            GameAction[] buf = new GameAction[engine.maxLegalActions()];
+            GameState state = engine.getState();
+            for (int i = 0; i < STEPS && state.getStatus() == GameStatus.RUNNING; i++) {
+                String expected = describe(engine.fork(new Random(seed)).getState());
+                assertEquals(expected, describe(state), "fork differs from its source at step " + i);
+                before.add(expected);
+
+                if (state.getPhase() == TurnPhase.START_TURN) {
+                    engine.startTurnIfNeeded();
+                } else {
+                    int n = engine.legalActions(buf);
+                    if (n == 0) {
+                        before.remove(before.size() - 1);
+                        break;
+                    }
+                    engine.apply(buf[rng.nextInt(n)]);
+                }
+            }
+
+            for (int i = before.size() - 1; i >= 0; i--) {
+                assertTrue(engine.undo(), "nothing to undo at step " + i);
+                assertEquals(before.get(i), describe(state), "seed " + seed + ", step " + i);
+            }
+            assertFalse(engine.canUndo());
+            assertFalse(engine.undo());
+        }
+    }
+
+    @Test
+    void stepThatChangesNothingIsStillOneStep() {
+        GameEngine engine = newEngine(2, new Random(3));
+        engine.startTurnIfNeeded();
+        engine.enableUndo();
+        String start = describe(engine.getState());
+
+        assertFalse(engine.apply(GameAction.simple(GameActionType.AUCTION_PASS)).isOk());
+        assertTrue(engine.undo());
+        assertFalse(engine.undo());
+        assertEquals(start, describe(engine.getState()));
+    }
+}
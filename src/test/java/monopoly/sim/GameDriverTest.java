@@ -0,0 +1,345 @@
+package monopoly.sim;
+
+import monopoly.ai.AuctionPolicy;
+import monopoly.ai.RejectingTradePolicy;
+import monopoly.ai.SealedBidPolicy;
+import monopoly.ai.TradePolicy;
+import monopoly.ai.TurnPolicy;
+import monopoly.engine.AuctionFormat;
+import monopoly.engine.GameAction;
+import monopoly.engine.GameActionType;
+import monopoly.engine.GameEngine;
+import monopoly.engine.GameState;
+import monopoly.engine.TurnPhase;
+import monopoly.model.Player;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static monopoly.engine.TestGames.describe;
+import static monopoly.engine.TestGames.newEngine;
+import static monopoly.engine.TestGames.reachAuctionDecision;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GameDriverTest {
+
+    private static final int CASH = 1000;
+
+    @Test
+    void lateSealedBidCountsAsAPass() throws Exception {
+        GameEngine engine = sealedAuctionDecision();
+        int c = engine.getState().getCurrentPlayerIndex();
+        Bidder[] seats = bidders(c, new Bidder(0, 0), new Bidder(300, 5_000), new Bidder(100, 0));
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            GameDriver driver = driver(engine, seats);
+            driver.setBidExecutor(executor, 200);
+
+            long start = System.nanoTime();
+            int[] settled = playToSettlement(driver);
+            assertTrue(System.nanoTime() - start < 4_000_000_000L, "the driver waited for the late bidder");
+            assertEquals((c + 2) % 3, settled[0]);
+            assertEquals(CASH - 100, settled[1 + (c + 2) % 3]);
+
+            // cancelling the late bid interrupts it, so its thread is free again
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(2, TimeUnit.SECONDS));
+            assertTrue(seats[(c + 1) % 3].interrupted);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void failingSealedBidCountsAsAPass() {
+        GameEngine engine = sealedAuctionDecision();
+        int c = engine.getState().getCurrentPlayerIndex();
+        Bidder[] seats = bidders(c, new Bidder(50, 0), new Bidder(-1, 0), new Bidder(0, 0));
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            GameDriver driver = driver(engine, seats);
+            driver.setBidExecutor(executor, 1_000);
+            int[] settled = playToSettlement(driver);
+            assertEquals(c, settled[0]);
+            assertEquals(CASH - 50, settled[1 + c]);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void concurrentBiddersReadAForkAndMatchTheSequentialResult() {
+        int[] sequential;
+        {
+            GameEngine engine = sealedAuctionDecision();
+            int c = engine.getState().getCurrentPlayerIndex();
+            Bidder[] seats = bidders(c, new Bidder(120, 0), new Bidder(200, 0), new Bidder(200, 0));
+            sequential = playToSettlement(driver(engine, seats));
+            for (Bidder b : seats) assertSame(engine.getState(), b.seen);
+        }
+
+        GameEngine engine = sealedAuctionDecision();
+        int c = engine.getState().getCurrentPlayerIndex();
+        Bidder[] seats = bidders(c, new Bidder(120, 0), new Bidder(200, 0), new Bidder(200, 0));
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            GameDriver driver = driver(engine, seats);
+            driver.setBidExecutor(executor, 1_000);
+            assertArrayEquals(sequential, playToSettlement(driver));
+            for (Bidder b : seats) assertNotSame(engine.getState(), b.seen);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void singleLegalActionsAreNotAskedFor() {
+        GameEngine engine = newEngine(3, new Random(4));
+        Scripted[] seats = {new Scripted(), new Scripted(), new Scripted()};
+        GameDriver driver = driver(engine, seats);
+        assertEquals(30, driver.playGame(30));
+
+        int asked = 0;
+        for (Scripted s : seats) {
+            asked += s.calls;
+            assertTrue(s.fewestChoices >= 2, "a policy was asked with fewer than two legal actions");
+        }
+        assertTrue(asked > 0 && driver.getActions() > asked, "forced steps should outnumber the policies' choices");
+    }
+
+    @Test
+    void rejectedChoicesFallBackToEndingTheTurn() {
+        GameEngine engine = newEngine(3, new Random(6));
+        Rejecting[] seats = {new Rejecting(), new Rejecting(), new Rejecting()};
+        GameDriver driver = driver(engine, seats);
+        GameAction[] previous = new GameAction[1];
+        driver.setListener((state, action, result) -> {
+            // after a rejected choice the driver applies its own, which is legal
+            if (previous[0] != null && previous[0].type() == GameActionType.BUILD_HOTEL) {
+                assertTrue(action != null && result.isOk(), "fallback after " + previous[0]);
+            }
+            previous[0] = action;
+        });
+
+        assertEquals(40, driver.playGame(40));
+        assertTrue(seats[0].calls + seats[1].calls + seats[2].calls > 0);
+    }
+
+    @Test
+    void rejectedChoiceInDebtRaisesCashBeforeEndingTheTurn() {
+        GameEngine engine = newEngine(2, new Random(8));
+        GameState state = engine.getState();
+        engine.startTurnIfNeeded();
+        int me = state.getCurrentPlayerIndex();
+        Player p = state.getPlayers().get(me);
+
+        // two houses on the browns: nothing can be mortgaged, so END_TURN is legal and bankrupts
+        state.setOwner(1, me);
+        state.setOwner(3, me);
+        state.setPhase(TurnPhase.MANAGEMENT);
+        assertTrue(engine.apply(GameAction.onTile(GameActionType.BUILD_HOUSE, 1)).isOk());
+        assertTrue(engine.apply(GameAction.onTile(GameActionType.BUILD_HOUSE, 3)).isOk());
+        p.subtractCash(p.getCash() + 100);
+        state.setPhase(TurnPhase.MUST_RESOLVE_DEBT);
+
+        driver(engine, new TurnPolicy[] {new Rejecting(), new Rejecting()}).playTurn();
+        assertFalse(p.isBankrupt(), "the fallback declared bankruptcy while houses could be sold");
+        assertTrue(p.getCash() >= 0);
+        assertEquals(0, state.getBuildings(1) + state.getBuildings(3));
+    }
+
+    @Test
+    void decisionCapEndsATurnThatNeverWouldEnd() {
+        GameEngine engine = newEngine(2, new Random(9));
+        GameState state = engine.getState();
+        engine.startTurnIfNeeded();
+        int me = state.getCurrentPlayerIndex();
+        state.setOwner(39, me);
+        state.getPlayers().get(me).addCash(100_000);
+
+        // mortgages and unmortgages forever once it may manage
+        Scripted stubborn = new Scripted(GameActionType.ROLL_DICE, GameActionType.BUY_PROPERTY,
+                GameActionType.MORTGAGE, GameActionType.UNMORTGAGE);
+        Scripted[] seats = new Scripted[2];
+        seats[me] = stubborn;
+        seats[1 - me] = new Scripted();
+        GameDriver driver = driver(engine, seats);
+
+        driver.playTurn();
+        assertEquals(GameDriver.MAX_DECISIONS_PER_TURN, stubborn.calls);
+        assertTrue(state.getCurrentPlayerIndex() != me || state.getPhase() == TurnPhase.START_TURN, "the turn did not end");
+    }
+
+    @Test
+    void closedFormAuctionsEndAsIncrementalOnes() {
+        for (long seed = 1; seed <= 8; seed++) {
+            String[] ends = new String[2];
+            int auctions = 0;
+            for (GameDriver.AuctionMode mode : GameDriver.AuctionMode.values()) {
+                GameEngine engine = newEngine(3, new Random(seed));
+                Scripted[] seats = {new Scripted(), new Scripted(), new Scripted()};
+                GameDriver driver = driver(engine, seats);
+                driver.setAuctionMode(mode);
+                driver.playGame(60);
+                ends[mode.ordinal()] = describe(engine.getState());
+                for (Scripted s : seats) auctions += s.maxBids;
+            }
+            assertTrue(auctions > 0, "no auction was resolved in closed form");
+            assertEquals(ends[0], ends[1], "seed " + seed);
+        }
+    }
+
+    /** Three seats with {@value #CASH} each; the current player may start a sealed first-price auction. */
+    private static GameEngine sealedAuctionDecision() {
+        for (long seed = 1; ; seed++) {
+            Random rng = new Random(seed);
+            GameEngine engine = newEngine(3, rng);
+            if (!reachAuctionDecision(engine, rng)) continue;
+            GameState state = engine.getState();
+            if (state.getPlayers().stream().anyMatch(Player::isBankrupt)) continue;
+            for (Player p : state.getPlayers()) p.addCash(CASH - p.getCash());
+            engine.setAuctionFormat(AuctionFormat.SEALED_FIRST_PRICE);
+            return engine;
+        }
+    }
+
+    /** Seats for the current player {@code c} and the two after it. */
+    private static Bidder[] bidders(int c, Bidder current, Bidder next, Bidder last) {
+        Bidder[] seats = new Bidder[3];
+        seats[c] = current;
+        seats[(c + 1) % 3] = next;
+        seats[(c + 2) % 3] = last;
+        return seats;
+    }
+
+    private static GameDriver driver(GameEngine engine, TurnPolicy[] seats) {
+        TradePolicy[] trades = new TradePolicy[seats.length];
+        Arrays.fill(trades, RejectingTradePolicy.INSTANCE);
+        return new GameDriver(engine, seats, trades);
+    }
+
+    /** Plays the turn; the auctioned tile's owner, then every seat's cash, right after the first auction. */
+    private static int[] playToSettlement(GameDriver driver) {
+        GameState state = driver.getEngine().getState();
+        int tile = state.getLandedTileIndex();
+        int[] settled = new int[1 + state.getPlayers().size()];
+        boolean[] seen = new boolean[2];   // auction started, auction settled
+        driver.setListener((s, action, result) -> {
+            if (s.isAuctionInProgress()) seen[0] = true;
+            else if (seen[0] && !seen[1]) {
+                seen[1] = true;
+                settled[0] = s.getOwner(tile);
+                for (int i = 0; i < s.getPlayers().size(); i++) settled[1 + i] = s.getPlayers().get(i).getCash();
+            }
+        });
+        driver.playTurn();
+        assertTrue(seen[1], "no auction was settled");
+        return settled;
+    }
+
+    /**
+     * Takes the first legal action of the listed types (by default: start auctions, roll,
+     * end the turn) and, in English auctions, raises by {@link GameDriver#BID_STEP} up to a
+     * fixed maximum per seat and tile, the same one it gives as an AuctionPolicy.
+     */
+    private static final class Scripted implements TurnPolicy, AuctionPolicy {
+        final GameActionType[] preference;
+        int calls;
+        int maxBids;
+        int fewestChoices = Integer.MAX_VALUE;
+
+        Scripted(GameActionType... preference) {
+            this.preference = preference.length > 0 ? preference
+                    : new GameActionType[] {GameActionType.START_AUCTION, GameActionType.ROLL_DICE, GameActionType.END_TURN};
+        }
+
+        @Override
+        public GameAction chooseAction(GameState state, GameEngine engine) {
+            calls++;
+            GameAction[] legal = new GameAction[engine.maxLegalActions()];
+            int n = engine.legalActions(legal);
+            fewestChoices = Math.min(fewestChoices, n);
+            if (state.getPhase() == TurnPhase.AUCTION_ACTIVE) {
+                int bidder = state.getAuctionCurrentBidderIndex();
+                int next = state.getAuctionHighBid() + GameDriver.BID_STEP;
+                return next <= limit(bidder, state.getAuctionTileIndex())
+                        ? GameAction.bid(next) : GameAction.simple(GameActionType.AUCTION_PASS);
+            }
+            for (GameActionType type : preference) {
+                for (int i = 0; i < n; i++) {
+                    if (legal[i].type() == type) return legal[i];
+                }
+            }
+            return legal[0];
+        }
+
+        @Override
+        public int maxBid(GameState state, GameEngine engine, int bidderIdx, int tileIdx) {
+            maxBids++;
+            return limit(bidderIdx, tileIdx);
+        }
+
+        private static int limit(int seat, int tile) {
+            return 40 + (seat * 53 + tile * 29) % 220;
+        }
+    }
+
+    /** Always asks for something the engine refuses. */
+    private static final class Rejecting implements TurnPolicy {
+        int calls;
+
+        @Override
+        public GameAction chooseAction(GameState state, GameEngine engine) {
+            calls++;
+            return GameAction.onTile(GameActionType.BUILD_HOTEL, 0);
+        }
+    }
+
+    /** Starts every auction it can, then ends the turn; bids {@code bid} (negative: throws) after {@code sleepMillis}. */
+    private static final class Bidder implements TurnPolicy, SealedBidPolicy {
+        final int bid;
+        final long sleepMillis;
+        volatile boolean interrupted;
+        volatile GameState seen;
+
+        Bidder(int bid, long sleepMillis) {
+            this.bid = bid;
+            this.sleepMillis = sleepMillis;
+        }
+
+        @Override
+        public GameAction chooseAction(GameState state, GameEngine engine) {
+            GameAction[] legal = new GameAction[engine.maxLegalActions()];
+            int n = engine.legalActions(legal);
+            for (GameActionType type : new GameActionType[] {GameActionType.START_AUCTION, GameActionType.END_TURN}) {
+                for (int i = 0; i < n; i++) {
+                    if (legal[i].type() == type) return legal[i];
+                }
+            }
+            return legal[0];
+        }
+
+        @Override
+        public int sealedBid(GameState state, GameEngine engine, int bidderIdx, int tileIdx, AuctionFormat format) {
+            seen = state;
+            if (sleepMillis > 0) {
+                try {
+                    Thread.sleep(sleepMillis);
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (bid < 0) throw new IllegalStateException("bidder failed");
+            return bid;
+        }
+    }
+}